@@ -0,0 +1,103 @@
+// Carga nos endpoints principais de /api/bens: leitura (listagem paginada e busca por id)
+// e escrita (criação seguida de atualização), com taxa de chegada fixa para comparar vazão e
+// p99 entre os modos de threads. Uso: ver loadtest/README.md.
+//
+//   k6 run -e BASE_URL=http://localhost:8080 -e USUARIO=admin -e SENHA=... loadtest/bens.js
+
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const DURACAO = __ENV.DURACAO || '2m';
+const TAXA_LEITURA = Number(__ENV.TAXA_LEITURA || 400);
+const TAXA_ESCRITA = Number(__ENV.TAXA_ESCRITA || 50);
+const CATEGORIA_ID = Number(__ENV.CATEGORIA_ID || 1);
+const LOCALIZACAO_ID = Number(__ENV.LOCALIZACAO_ID || 1);
+
+export const options = {
+    scenarios: {
+        leitura: {
+            executor: 'constant-arrival-rate',
+            exec: 'leitura',
+            rate: TAXA_LEITURA,
+            timeUnit: '1s',
+            duration: DURACAO,
+            preAllocatedVUs: 200,
+            maxVUs: 2000,
+        },
+        escrita: {
+            executor: 'constant-arrival-rate',
+            exec: 'escrita',
+            rate: TAXA_ESCRITA,
+            timeUnit: '1s',
+            duration: DURACAO,
+            preAllocatedVUs: 50,
+            maxVUs: 500,
+        },
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+    // Sem limites de verdade: só fazem o k6 exportar as métricas por endpoint no resumo
+    thresholds: Object.fromEntries(['listar', 'buscar', 'criar', 'atualizar'].flatMap((endpoint) => [
+        [`http_req_duration{endpoint:${endpoint}}`, ['p(99)>=0']],
+        [`http_reqs{endpoint:${endpoint}}`, ['count>=0']],
+    ])),
+};
+
+export function setup() {
+    const resposta = http.post(`${BASE_URL}/api/v1/auth/login`, {
+        username: __ENV.USUARIO || 'admin',
+        password: __ENV.SENHA || 'admin123',
+    });
+    check(resposta, { 'login': (r) => r.status === 200 });
+    const token = resposta.json('token');
+
+    const pagina = http.get(`${BASE_URL}/api/bens?size=200`, cabecalhos(token));
+    const ids = pagina.json('content').map((bem) => bem.id);
+    return { token, ids };
+}
+
+export function leitura(dados) {
+    if (Math.random() < 0.5 || dados.ids.length === 0) {
+        const pagina = Math.floor(Math.random() * 10);
+        const resposta = http.get(`${BASE_URL}/api/bens?page=${pagina}&size=20`,
+            cabecalhos(dados.token, 'listar'));
+        check(resposta, { 'listar 200': (r) => r.status === 200 });
+    } else {
+        const id = dados.ids[Math.floor(Math.random() * dados.ids.length)];
+        const resposta = http.get(`${BASE_URL}/api/bens/${id}`, cabecalhos(dados.token, 'buscar'));
+        check(resposta, { 'buscar 200': (r) => r.status === 200 });
+    }
+}
+
+export function escrita(dados) {
+    const sufixo = `${__VU}-${__ITER}-${Date.now()}`;
+    const bem = {
+        nome: `Notebook carga ${sufixo}`,
+        numeroSerie: `CARGA-${sufixo}`,
+        dataAquisicao: '2024-01-15',
+        valorAquisicao: 4500.00,
+        status: 'ATIVO',
+        condicao: 'BOM',
+        categoriaId: CATEGORIA_ID,
+        localizacaoAtualId: LOCALIZACAO_ID,
+    };
+    const criado = http.post(`${BASE_URL}/api/bens`, JSON.stringify(bem), cabecalhos(dados.token, 'criar'));
+    if (!check(criado, { 'criar 201': (r) => r.status === 201 })) {
+        return;
+    }
+
+    bem.observacoes = 'Atualizado pelo teste de carga';
+    const atualizado = http.put(`${BASE_URL}/api/bens/${criado.json('id')}`, JSON.stringify(bem),
+        cabecalhos(dados.token, 'atualizar'));
+    check(atualizado, { 'atualizar 200': (r) => r.status === 200 });
+}
+
+function cabecalhos(token, endpoint) {
+    return {
+        headers: {
+            Authorization: `Bearer ${token}`,
+            'Content-Type': 'application/json',
+        },
+        tags: endpoint ? { endpoint } : {},
+    };
+}
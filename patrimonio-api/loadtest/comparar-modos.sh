@@ -0,0 +1,52 @@
+#!/usr/bin/env bash
+# Roda loadtest/bens.js contra a aplicação em threads de plataforma e depois em threads
+# virtuais, com o mesmo banco, e imprime vazão e p99 por endpoint de cada modo.
+#
+# Requer: Postgres e Redis no ar (docker-compose up -d postgres redis), k6 e jq.
+# Variáveis: USUARIO, SENHA, DURACAO, TAXA_LEITURA, TAXA_ESCRITA, PATRIMONIO_DB_POOL.
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+RESULTADOS=loadtest/resultados
+mkdir -p "$RESULTADOS"
+
+mvn -B -q -DskipTests package
+JAR=$(ls target/sistema-patrimonio-robusto-*.jar | grep -v original | head -1)
+
+for MODO in plataforma virtual; do
+    VIRTUAL=false
+    JAVA_OPTS=""
+    if [ "$MODO" = virtual ]; then
+        VIRTUAL=true
+        # Registra no log toda thread virtual presa à carrier (synchronized com I/O, código nativo)
+        JAVA_OPTS="-Djdk.tracePinnedThreads=short"
+    fi
+
+    PATRIMONIO_VIRTUAL_THREADS=$VIRTUAL java $JAVA_OPTS -jar "$JAR" > "$RESULTADOS/$MODO.log" 2>&1 &
+    APP=$!
+    trap 'kill $APP 2>/dev/null || true' EXIT
+
+    until curl -sf http://localhost:8080/actuator/health > /dev/null; do
+        kill -0 $APP 2>/dev/null || { echo "Aplicação não subiu; veja $RESULTADOS/$MODO.log"; exit 1; }
+        sleep 2
+    done
+
+    k6 run --quiet --summary-export "$RESULTADOS/$MODO.json" loadtest/bens.js
+
+    kill $APP
+    wait $APP 2>/dev/null || true
+    trap - EXIT
+done
+
+printf '\n%-12s %-10s %10s %10s %10s\n' modo endpoint 'req/s' 'p50 (ms)' 'p99 (ms)'
+for MODO in plataforma virtual; do
+    for ENDPOINT in listar buscar criar atualizar; do
+        jq -r --arg m "$MODO" --arg e "$ENDPOINT" '
+            .metrics["http_req_duration{endpoint:" + $e + "}"] as $d
+            | .metrics["http_reqs{endpoint:" + $e + "}"] as $r
+            | [$m, $e, ($r.rate | floor), ($d["p(50)"] | . * 10 | round / 10), ($d["p(99)"] | . * 10 | round / 10)]
+            | @tsv' "$RESULTADOS/$MODO.json" | awk -F'\t' '{ printf "%-12s %-10s %10s %10s %10s\n", $1, $2, $3, $4, $5 }'
+    done
+done
+echo
+echo "Threads presas à carrier no modo virtual: $(grep -c '<== monitors' "$RESULTADOS/virtual.log" || true)"
@@ -0,0 +1,248 @@
+package com.manus.patrimonio.auditoria;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.manus.patrimonio.model.Auditoria;
+import com.manus.patrimonio.model.EntidadeBase;
+import com.manus.patrimonio.security.ResolvedorEnderecoCliente;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.servlet.http.HttpServletRequest;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitInsertEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Captura inserções, alterações e exclusões de entidades depois do commit e as
+ * envia ao {@link BufferAuditoria}. Nas alterações, grava apenas as propriedades
+ * modificadas (valor anterior e novo). Associações são registradas pelo ID e
+ * coleções são ignoradas, para não disparar carregamento lazy.
+ */
+@Component
+@ConditionalOnProperty(prefix = "patrimonio.audit", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class AuditoriaEntityListener implements PostCommitInsertEventListener,
+        PostCommitUpdateEventListener, PostCommitDeleteEventListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(AuditoriaEntityListener.class);
+
+    private static final String VALOR_OCULTO = "***";
+
+    // Mudam em toda alteração e só poluiriam o diff
+    private static final Set<String> PROPRIEDADES_IGNORADAS_NO_DIFF = Set.of("versao", "dataAtualizacao");
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final BufferAuditoria buffer;
+    private final ObjectMapper objectMapper;
+    private final ResolvedorEnderecoCliente resolvedorEnderecoCliente;
+    private final Set<String> entidadesIgnoradas;
+
+    public AuditoriaEntityListener(EntityManagerFactory entityManagerFactory, BufferAuditoria buffer,
+                                   ObjectMapper objectMapper, ResolvedorEnderecoCliente resolvedorEnderecoCliente,
+                                   AuditoriaProperties properties) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.buffer = buffer;
+        this.objectMapper = objectMapper;
+        this.resolvedorEnderecoCliente = resolvedorEnderecoCliente;
+        this.entidadesIgnoradas = Set.copyOf(properties.getEntidadesIgnoradas());
+    }
+
+    @PostConstruct
+    public void registrar() {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry().getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_COMMIT_INSERT, this);
+        registry.appendListeners(EventType.POST_COMMIT_UPDATE, this);
+        registry.appendListeners(EventType.POST_COMMIT_DELETE, this);
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return auditavel(persister.getMappedClass());
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        if (!auditavel(event.getEntity().getClass())) {
+            return;
+        }
+        RegistroAuditoria registro = novoRegistro(event.getEntity(), event.getId(), "CREATE");
+        registro.setDadosNovos(json(estado(event.getPersister(), event.getState())));
+        enviar(registro);
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        if (!auditavel(event.getEntity().getClass())) {
+            return;
+        }
+        String[] nomes = event.getPersister().getPropertyNames();
+        Object[] anterior = event.getOldState();
+        Object[] atual = event.getState();
+        Map<String, Object> dadosAnteriores = new LinkedHashMap<>();
+        Map<String, Object> dadosNovos = new LinkedHashMap<>();
+        for (int i : indicesAlterados(event, nomes.length)) {
+            if (PROPRIEDADES_IGNORADAS_NO_DIFF.contains(nomes[i])) {
+                continue;
+            }
+            Object valorAnterior = anterior != null ? normalizar(nomes[i], anterior[i]) : null;
+            Object valorNovo = normalizar(nomes[i], atual[i]);
+            if (valorNovo == Omitido.INSTANCIA || Objects.equals(valorAnterior, valorNovo)) {
+                continue;
+            }
+            dadosAnteriores.put(nomes[i], valorAnterior);
+            dadosNovos.put(nomes[i], valorNovo);
+        }
+        if (dadosNovos.isEmpty()) {
+            return;
+        }
+        RegistroAuditoria registro = novoRegistro(event.getEntity(), event.getId(), "UPDATE");
+        registro.setDadosAnteriores(json(dadosAnteriores));
+        registro.setDadosNovos(json(dadosNovos));
+        enviar(registro);
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        if (!auditavel(event.getEntity().getClass())) {
+            return;
+        }
+        RegistroAuditoria registro = novoRegistro(event.getEntity(), event.getId(), "DELETE");
+        registro.setDadosAnteriores(json(estado(event.getPersister(), event.getDeletedState())));
+        enviar(registro);
+    }
+
+    @Override
+    public void onPostInsertCommitFailed(PostInsertEvent event) {
+        // Transação desfeita: nada a auditar
+    }
+
+    @Override
+    public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+        // Transação desfeita: nada a auditar
+    }
+
+    @Override
+    public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+        // Transação desfeita: nada a auditar
+    }
+
+    private boolean auditavel(Class<?> classe) {
+        return EntidadeBase.class.isAssignableFrom(classe)
+                && !Auditoria.class.isAssignableFrom(classe)
+                && !entidadesIgnoradas.contains(classe.getSimpleName());
+    }
+
+    private int[] indicesAlterados(PostUpdateEvent event, int total) {
+        if (event.getDirtyProperties() != null) {
+            return event.getDirtyProperties();
+        }
+        int[] todos = new int[total];
+        for (int i = 0; i < total; i++) {
+            todos[i] = i;
+        }
+        return todos;
+    }
+
+    private Map<String, Object> estado(EntityPersister persister, Object[] valores) {
+        Map<String, Object> mapa = new LinkedHashMap<>();
+        if (valores == null) {
+            return mapa;
+        }
+        String[] nomes = persister.getPropertyNames();
+        for (int i = 0; i < nomes.length; i++) {
+            Object valor = normalizar(nomes[i], valores[i]);
+            if (valor != Omitido.INSTANCIA) {
+                mapa.put(nomes[i], valor);
+            }
+        }
+        return mapa;
+    }
+
+    private Object normalizar(String propriedade, Object valor) {
+        if (valor == null) {
+            return null;
+        }
+        if (valor instanceof Collection<?> || valor instanceof Map<?, ?>) {
+            return Omitido.INSTANCIA;
+        }
+        if (propriedade.toLowerCase().contains("senha")) {
+            return VALOR_OCULTO;
+        }
+        if (valor instanceof EntidadeBase entidade) {
+            return entidade.getId();
+        }
+        if (valor instanceof Enum<?> enumeracao) {
+            return enumeracao.name();
+        }
+        if (valor instanceof Number || valor instanceof Boolean || valor instanceof String) {
+            return valor;
+        }
+        return valor.toString();
+    }
+
+    private RegistroAuditoria novoRegistro(Object entidade, Object id, String acao) {
+        RegistroAuditoria registro = new RegistroAuditoria(entidade.getClass().getSimpleName(),
+                id instanceof Number numero ? numero.longValue() : null, acao);
+
+        Authentication autenticacao = SecurityContextHolder.getContext().getAuthentication();
+        if (autenticacao != null && autenticacao.isAuthenticated()) {
+            registro.setUsername(autenticacao.getName());
+        }
+
+        RequestAttributes atributos = RequestContextHolder.getRequestAttributes();
+        if (atributos instanceof ServletRequestAttributes servlet) {
+            HttpServletRequest request = servlet.getRequest();
+            registro.setIpAddress(resolvedorEnderecoCliente.resolver(request));
+            registro.setUserAgent(request.getHeader("User-Agent"));
+            registro.setMetodoHttp(request.getMethod());
+            registro.setUrlRequisicao(request.getRequestURI());
+            registro.setSessaoId(request.getRequestedSessionId());
+        }
+        return registro;
+    }
+
+    private String json(Map<String, Object> dados) {
+        try {
+            return objectMapper.writeValueAsString(dados);
+        } catch (JsonProcessingException e) {
+            logger.warn("Não foi possível serializar dados de auditoria: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void enviar(RegistroAuditoria registro) {
+        if (registro.getEntidadeId() == null) {
+            return;
+        }
+        buffer.registrar(registro);
+    }
+
+    /**
+     * Marca valores que não entram no registro (coleções).
+     */
+    private enum Omitido {
+        INSTANCIA
+    }
+}
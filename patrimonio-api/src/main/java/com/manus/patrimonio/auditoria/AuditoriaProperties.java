@@ -0,0 +1,195 @@
+package com.manus.patrimonio.auditoria;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Configuração da trilha de auditoria ({@code patrimonio.audit}).
+ */
+@ConfigurationProperties(prefix = "patrimonio.audit")
+public class AuditoriaProperties {
+
+    private boolean enabled = true;
+
+    private int retentionDays = 2555;
+
+    /**
+     * Entidades (nome simples da classe) que não geram registros de auditoria.
+     * A própria {@code Auditoria} nunca é auditada.
+     */
+    private List<String> entidadesIgnoradas = new ArrayList<>();
+
+    private Buffer buffer = new Buffer();
+
+    private Particoes particoes = new Particoes();
+
+    // Getters e Setters
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getRetentionDays() {
+        return retentionDays;
+    }
+
+    public void setRetentionDays(int retentionDays) {
+        this.retentionDays = retentionDays;
+    }
+
+    public List<String> getEntidadesIgnoradas() {
+        return entidadesIgnoradas;
+    }
+
+    public void setEntidadesIgnoradas(List<String> entidadesIgnoradas) {
+        this.entidadesIgnoradas = entidadesIgnoradas;
+    }
+
+    public Buffer getBuffer() {
+        return buffer;
+    }
+
+    public void setBuffer(Buffer buffer) {
+        this.buffer = buffer;
+    }
+
+    public Particoes getParticoes() {
+        return particoes;
+    }
+
+    public void setParticoes(Particoes particoes) {
+        this.particoes = particoes;
+    }
+
+    /**
+     * O que fazer quando o buffer está cheio.
+     */
+    public enum Politica {
+        /** Descarta o registro que está chegando; a requisição nunca espera. */
+        DESCARTAR_NOVO,
+        /** Descarta o registro mais antigo do buffer para abrir espaço. */
+        DESCARTAR_ANTIGO,
+        /** Espera até {@code timeout-bloqueio} por espaço e então descarta o novo. */
+        BLOQUEAR
+    }
+
+    /**
+     * Destino das partições mensais que passaram de {@code retention-days}.
+     */
+    public enum ModoRetencao {
+        /** Desanexa a partição e a apaga. */
+        REMOVER,
+        /** Desanexa a partição e a move para o schema {@code auditoria_arquivo}. */
+        ARQUIVAR
+    }
+
+    /**
+     * Dimensionamento do buffer em memória e do gravador em lote.
+     */
+    public static class Buffer {
+
+        private int capacidade = 10_000;
+        private int tamanhoLote = 500;
+        private Duration intervaloFlush = Duration.ofMillis(500);
+        private Politica politica = Politica.DESCARTAR_NOVO;
+        private Duration timeoutBloqueio = Duration.ofMillis(50);
+        private Duration timeoutDesligamento = Duration.ofSeconds(10);
+
+        public int getCapacidade() {
+            return capacidade;
+        }
+
+        public void setCapacidade(int capacidade) {
+            this.capacidade = capacidade;
+        }
+
+        public int getTamanhoLote() {
+            return tamanhoLote;
+        }
+
+        public void setTamanhoLote(int tamanhoLote) {
+            this.tamanhoLote = tamanhoLote;
+        }
+
+        public Duration getIntervaloFlush() {
+            return intervaloFlush;
+        }
+
+        public void setIntervaloFlush(Duration intervaloFlush) {
+            this.intervaloFlush = intervaloFlush;
+        }
+
+        public Politica getPolitica() {
+            return politica;
+        }
+
+        public void setPolitica(Politica politica) {
+            this.politica = politica;
+        }
+
+        public Duration getTimeoutBloqueio() {
+            return timeoutBloqueio;
+        }
+
+        public void setTimeoutBloqueio(Duration timeoutBloqueio) {
+            this.timeoutBloqueio = timeoutBloqueio;
+        }
+
+        public Duration getTimeoutDesligamento() {
+            return timeoutDesligamento;
+        }
+
+        public void setTimeoutDesligamento(Duration timeoutDesligamento) {
+            this.timeoutDesligamento = timeoutDesligamento;
+        }
+    }
+
+    /**
+     * Manutenção agendada das partições mensais da tabela {@code auditoria}.
+     */
+    public static class Particoes {
+
+        private boolean enabled = true;
+        private String cron = "0 30 2 * * ?";
+        private int mesesAFrente = 3;
+        private ModoRetencao modoRetencao = ModoRetencao.ARQUIVAR;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public String getCron() {
+            return cron;
+        }
+
+        public void setCron(String cron) {
+            this.cron = cron;
+        }
+
+        public int getMesesAFrente() {
+            return mesesAFrente;
+        }
+
+        public void setMesesAFrente(int mesesAFrente) {
+            this.mesesAFrente = mesesAFrente;
+        }
+
+        public ModoRetencao getModoRetencao() {
+            return modoRetencao;
+        }
+
+        public void setModoRetencao(ModoRetencao modoRetencao) {
+            this.modoRetencao = modoRetencao;
+        }
+    }
+}
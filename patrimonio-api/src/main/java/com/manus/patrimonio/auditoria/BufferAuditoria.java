@@ -0,0 +1,120 @@
+package com.manus.patrimonio.auditoria;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Buffer circular e limitado entre as threads de requisição, que produzem registros
+ * de auditoria, e o {@link GravadorAuditoria}, que os consome em lote. Quando cheio,
+ * aplica a política configurada em {@code patrimonio.audit.buffer.politica}; a
+ * requisição nunca espera mais que {@code timeout-bloqueio}.
+ */
+@Component
+@ConditionalOnProperty(prefix = "patrimonio.audit", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class BufferAuditoria {
+
+    private static final Logger logger = LoggerFactory.getLogger(BufferAuditoria.class);
+
+    private final BlockingQueue<RegistroAuditoria> fila;
+    private final AuditoriaProperties.Politica politica;
+    private final Duration timeoutBloqueio;
+    private final Counter descartados;
+
+    public BufferAuditoria(AuditoriaProperties properties, MeterRegistry meterRegistry) {
+        AuditoriaProperties.Buffer buffer = properties.getBuffer();
+        this.fila = new ArrayBlockingQueue<>(buffer.getCapacidade());
+        this.politica = buffer.getPolitica();
+        this.timeoutBloqueio = buffer.getTimeoutBloqueio();
+
+        Gauge.builder("patrimonio.auditoria.fila", fila, BlockingQueue::size)
+                .description("Registros de auditoria aguardando gravação")
+                .register(meterRegistry);
+        Gauge.builder("patrimonio.auditoria.fila.capacidade", fila, f -> f.size() + f.remainingCapacity())
+                .register(meterRegistry);
+        this.descartados = Counter.builder("patrimonio.auditoria.descartados")
+                .description("Registros de auditoria descartados por buffer cheio")
+                .tag("politica", politica.name())
+                .register(meterRegistry);
+    }
+
+    /**
+     * Enfileira o registro segundo a política de backpressure.
+     *
+     * @return {@code true} se o registro foi aceito
+     */
+    public boolean registrar(RegistroAuditoria registro) {
+        if (fila.offer(registro)) {
+            return true;
+        }
+        switch (politica) {
+            case DESCARTAR_ANTIGO -> {
+                while (!fila.offer(registro)) {
+                    if (fila.poll() != null) {
+                        descartar();
+                    }
+                }
+                return true;
+            }
+            case BLOQUEAR -> {
+                try {
+                    if (fila.offer(registro, timeoutBloqueio.toMillis(), TimeUnit.MILLISECONDS)) {
+                        return true;
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                descartar();
+                return false;
+            }
+            default -> {
+                descartar();
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Espera até {@code espera} pelo primeiro registro e leva junto os que já estiverem
+     * no buffer, até {@code maximo}.
+     *
+     * @return quantidade de registros adicionados a {@code destino}
+     */
+    public int drenar(List<RegistroAuditoria> destino, int maximo, Duration espera) throws InterruptedException {
+        RegistroAuditoria primeiro = fila.poll(espera.toMillis(), TimeUnit.MILLISECONDS);
+        if (primeiro == null) {
+            return 0;
+        }
+        destino.add(primeiro);
+        return 1 + fila.drainTo(destino, maximo - 1);
+    }
+
+    /**
+     * Retira sem esperar os registros disponíveis, até {@code maximo}.
+     */
+    public int drenarDisponiveis(List<RegistroAuditoria> destino, int maximo) {
+        return fila.drainTo(destino, maximo);
+    }
+
+    public int tamanho() {
+        return fila.size();
+    }
+
+    private void descartar() {
+        descartados.increment();
+        if (logger.isDebugEnabled()) {
+            logger.debug("Buffer de auditoria cheio ({} registros); registro descartado pela política {}",
+                    fila.size(), politica);
+        }
+    }
+}
@@ -0,0 +1,231 @@
+package com.manus.patrimonio.auditoria;
+
+import com.manus.patrimonio.cache.GeracoesCache;
+import com.manus.patrimonio.util.ReservaIds;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.NonTransientDataAccessResourceException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Consome o {@link BufferAuditoria} em uma thread dedicada e grava os registros com
+ * um único INSERT de várias linhas por lote, fora das transações das requisições.
+ * Um lote recusado pelo banco é regravado registro a registro, para que uma linha
+ * inválida não descarte as outras.
+ * No desligamento da aplicação, esvazia o buffer antes de o pool de conexões fechar.
+ * Cada lote gravado avança a geração {@link #DIMENSAO_AUDITORIAS}, que compõe a chave
+ * das páginas de auditoria em cache: os registros novos aparecem sem esperar o TTL.
+ */
+@Component
+@ConditionalOnProperty(prefix = "patrimonio.audit", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class GravadorAuditoria implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(GravadorAuditoria.class);
+
+    public static final String DIMENSAO_AUDITORIAS = "auditorias:todas";
+
+    static final String INSERT = "INSERT INTO auditoria (id, entidade, entidade_id, acao, usuario_id, "
+            + "dados_anteriores, dados_novos, ip_address, user_agent, data_acao, sessao_id, metodo_http, "
+            + "url_requisicao, data_criacao, versao) VALUES ";
+
+    // O ID do usuário é resolvido no próprio INSERT, sem consulta na thread da requisição
+    static final String LINHA = "(?, ?, ?, ?, (SELECT u.id FROM usuarios u WHERE u.username = ?), "
+            + "CAST(? AS jsonb), CAST(? AS jsonb), ?, ?, ?, ?, ?, ?, ?, 0)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final BufferAuditoria buffer;
+    private final AuditoriaProperties.Buffer configuracao;
+    private final GeracoesCache geracoesCache;
+    private final Counter gravados;
+    private final Counter falhas;
+    private final Timer tempoLote;
+
+    private volatile boolean executando;
+    private Thread thread;
+
+    public GravadorAuditoria(JdbcTemplate jdbcTemplate, BufferAuditoria buffer,
+                             AuditoriaProperties properties, GeracoesCache geracoesCache,
+                             MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.buffer = buffer;
+        this.configuracao = properties.getBuffer();
+        this.geracoesCache = geracoesCache;
+        this.gravados = Counter.builder("patrimonio.auditoria.gravados")
+                .description("Registros de auditoria gravados")
+                .register(meterRegistry);
+        this.falhas = Counter.builder("patrimonio.auditoria.falhas")
+                .description("Registros de auditoria perdidos por erro na gravação")
+                .register(meterRegistry);
+        this.tempoLote = Timer.builder("patrimonio.auditoria.lote")
+                .description("Tempo de gravação de um lote de auditoria")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void start() {
+        executando = true;
+        thread = new Thread(this::executar, "auditoria-gravador");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @Override
+    public void stop() {
+        executando = false;
+        if (thread != null) {
+            try {
+                // A espera do drenar() é curta, então a thread sai sem precisar de interrupt
+                thread.join(configuracao.getTimeoutDesligamento().toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            if (thread.isAlive()) {
+                logger.warn("Gravador de auditoria não terminou em {}; esvaziando o buffer mesmo assim",
+                        configuracao.getTimeoutDesligamento());
+            }
+        }
+        descarregar();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return executando;
+    }
+
+    /**
+     * Grava tudo o que estiver no buffer, na thread chamadora.
+     */
+    public void descarregar() {
+        List<RegistroAuditoria> lote = new ArrayList<>(configuracao.getTamanhoLote());
+        while (buffer.drenarDisponiveis(lote, configuracao.getTamanhoLote()) > 0) {
+            gravar(lote);
+            lote.clear();
+        }
+    }
+
+    private void executar() {
+        List<RegistroAuditoria> lote = new ArrayList<>(configuracao.getTamanhoLote());
+        while (executando) {
+            try {
+                if (buffer.drenar(lote, configuracao.getTamanhoLote(), configuracao.getIntervaloFlush()) > 0) {
+                    gravar(lote);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                logger.error("Erro inesperado no gravador de auditoria", e);
+            } finally {
+                lote.clear();
+            }
+        }
+    }
+
+    void gravar(List<RegistroAuditoria> lote) {
+        StringBuilder sql = new StringBuilder(INSERT.length() + lote.size() * (LINHA.length() + 2)).append(INSERT);
+        List<Object> parametros = new ArrayList<>(lote.size() * 14);
+        long[] ids;
+        try {
+            ids = ReservaIds.reservar(jdbcTemplate, "auditoria_id_seq", lote.size());
+        } catch (DataAccessException e) {
+            falhas.increment(lote.size());
+            logger.error("Falha ao reservar IDs para {} registros de auditoria: {}", lote.size(), e.getMessage());
+            return;
+        }
+        for (int i = 0; i < lote.size(); i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(LINHA);
+            adicionarParametros(parametros, ids[i], lote.get(i));
+        }
+
+        try {
+            tempoLote.record(() -> jdbcTemplate.update(sql.toString(), parametros.toArray()));
+            gravados.increment(lote.size());
+        } catch (NonTransientDataAccessResourceException e) {
+            // Sem banco, gravar linha a linha só multiplicaria as falhas
+            falhas.increment(lote.size());
+            logger.error("Falha ao gravar lote de {} registros de auditoria: {}", lote.size(), e.getMessage());
+            return;
+        } catch (DataAccessException e) {
+            if (gravarUmPorUm(lote, ids, e) == 0) {
+                return;
+            }
+        }
+        avancarGeracao();
+    }
+
+    /**
+     * Regrava um lote recusado registro a registro, para que uma linha inválida não leve
+     * as demais junto. Devolve quantos registros foram gravados.
+     */
+    private int gravarUmPorUm(List<RegistroAuditoria> lote, long[] ids, DataAccessException erroLote) {
+        if (lote.size() == 1) {
+            falhas.increment();
+            logger.error("Falha ao gravar registro de auditoria: {}", erroLote.getMessage());
+            return 0;
+        }
+        logger.warn("Lote de {} registros de auditoria recusado ({}); gravando um a um",
+                lote.size(), erroLote.getMessage());
+        int gravadosNoLote = 0;
+        for (int i = 0; i < lote.size(); i++) {
+            RegistroAuditoria registro = lote.get(i);
+            List<Object> parametros = new ArrayList<>(14);
+            adicionarParametros(parametros, ids[i], registro);
+            try {
+                jdbcTemplate.update(INSERT + LINHA, parametros.toArray());
+                gravados.increment();
+                gravadosNoLote++;
+            } catch (DataAccessException e) {
+                falhas.increment();
+                logger.error("Falha ao gravar auditoria de {} {}: {}",
+                        registro.getEntidade(), registro.getEntidadeId(), e.getMessage());
+            }
+        }
+        return gravadosNoLote;
+    }
+
+    // Os textos vêm de cabeçalhos da requisição e são cortados no tamanho das colunas
+    private static void adicionarParametros(List<Object> parametros, long id, RegistroAuditoria registro) {
+        Timestamp dataAcao = Timestamp.valueOf(registro.getDataAcao());
+        parametros.add(id);
+        parametros.add(truncar(registro.getEntidade(), 100));
+        parametros.add(registro.getEntidadeId());
+        parametros.add(truncar(registro.getAcao(), 50));
+        parametros.add(registro.getUsername());
+        parametros.add(registro.getDadosAnteriores());
+        parametros.add(registro.getDadosNovos());
+        parametros.add(truncar(registro.getIpAddress(), 45));
+        parametros.add(registro.getUserAgent());
+        parametros.add(dataAcao);
+        parametros.add(truncar(registro.getSessaoId(), 255));
+        parametros.add(truncar(registro.getMetodoHttp(), 10));
+        parametros.add(registro.getUrlRequisicao());
+        parametros.add(dataAcao);
+    }
+
+    private static String truncar(String valor, int tamanho) {
+        return valor == null || valor.length() <= tamanho ? valor : valor.substring(0, tamanho);
+    }
+
+    private void avancarGeracao() {
+        try {
+            geracoesCache.avancar(DIMENSAO_AUDITORIAS, "");
+        } catch (RuntimeException e) {
+            // As páginas em cache expiram pelo TTL; o lote já está gravado
+            logger.warn("Falha ao avançar a geração das páginas de auditoria: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.manus.patrimonio.auditoria;
+
+import org.quartz.DisallowConcurrentExecution;
+import org.quartz.JobExecutionContext;
+import org.quartz.JobExecutionException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.quartz.QuartzJobBean;
+
+import java.time.LocalDate;
+
+/**
+ * Job do Quartz que cria as partições futuras da auditoria e aplica a retenção.
+ * Agendado em {@code patrimonio.audit.particoes.cron} pelo {@code AuditoriaConfig}.
+ */
+@DisallowConcurrentExecution
+public class ManutencaoParticoesAuditoriaJob extends QuartzJobBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(ManutencaoParticoesAuditoriaJob.class);
+
+    @Autowired
+    private ParticoesAuditoria particoesAuditoria;
+
+    @Override
+    protected void executeInternal(JobExecutionContext context) throws JobExecutionException {
+        LocalDate hoje = LocalDate.now();
+        try {
+            // Cria antes de retirar: uma falha na retenção não deixa o próximo mês sem partição
+            particoesAuditoria.criarParticoesFuturas(hoje);
+            particoesAuditoria.aplicarRetencao(hoje);
+        } catch (DataAccessException e) {
+            logger.error("Falha na manutenção das partições de auditoria: {}", e.getMessage());
+            throw new JobExecutionException(e);
+        }
+    }
+}
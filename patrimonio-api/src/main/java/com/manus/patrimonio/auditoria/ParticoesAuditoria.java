@@ -0,0 +1,96 @@
+package com.manus.patrimonio.auditoria;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Mantém as partições mensais da tabela {@code auditoria} (ver migração V16): cria
+ * as dos próximos meses e retira as que passaram de {@code retention-days}, sempre
+ * uma partição inteira por vez, sem DELETE.
+ */
+@Component
+@ConditionalOnProperty(prefix = "patrimonio.audit", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ParticoesAuditoria {
+
+    private static final Logger logger = LoggerFactory.getLogger(ParticoesAuditoria.class);
+
+    static final String SCHEMA_ARQUIVO = "auditoria_arquivo";
+
+    private static final Pattern NOME_PARTICAO = Pattern.compile("auditoria_p(\\d{6})");
+    private static final DateTimeFormatter FORMATO_MES = DateTimeFormatter.ofPattern("yyyyMM");
+
+    static final String LISTAR_PARTICOES = "SELECT c.relname FROM pg_inherits i "
+            + "JOIN pg_class c ON c.oid = i.inhrelid WHERE i.inhparent = 'auditoria'::regclass";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final AuditoriaProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    public ParticoesAuditoria(JdbcTemplate jdbcTemplate, AuditoriaProperties properties,
+                              MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Garante as partições do mês de {@code hoje} e dos {@code meses-a-frente} seguintes.
+     */
+    public void criarParticoesFuturas(LocalDate hoje) {
+        YearMonth mes = YearMonth.from(hoje);
+        for (int i = 0; i <= properties.getParticoes().getMesesAFrente(); i++) {
+            jdbcTemplate.queryForObject("SELECT criar_particao_auditoria(?)", String.class,
+                    Date.valueOf(mes.plusMonths(i).atDay(1)));
+        }
+    }
+
+    /**
+     * Retira as partições cujo último dia é anterior a {@code hoje - retention-days}.
+     *
+     * @return nomes das partições retiradas
+     */
+    public List<String> aplicarRetencao(LocalDate hoje) {
+        LocalDate limite = hoje.minusDays(properties.getRetentionDays());
+        AuditoriaProperties.ModoRetencao modo = properties.getParticoes().getModoRetencao();
+
+        List<String> retiradas = new ArrayList<>();
+        for (String particao : jdbcTemplate.queryForList(LISTAR_PARTICOES, String.class)) {
+            YearMonth mes = mesDaParticao(particao);
+            // Só sai a partição cujo mês inteiro já venceu
+            if (mes == null || mes.plusMonths(1).atDay(1).isAfter(limite)) {
+                continue;
+            }
+            jdbcTemplate.execute("ALTER TABLE auditoria DETACH PARTITION " + particao);
+            if (modo == AuditoriaProperties.ModoRetencao.ARQUIVAR) {
+                jdbcTemplate.execute("ALTER TABLE " + particao + " SET SCHEMA " + SCHEMA_ARQUIVO);
+            } else {
+                jdbcTemplate.execute("DROP TABLE " + particao);
+            }
+            meterRegistry.counter("patrimonio.auditoria.particoes.retiradas", "modo", modo.name()).increment();
+            logger.info("Partição de auditoria {} retirada ({}); retenção até {}", particao, modo, limite);
+            retiradas.add(particao);
+        }
+        return retiradas;
+    }
+
+    /**
+     * Mês de uma partição mensal, ou {@code null} para as demais (ex.: a DEFAULT).
+     */
+    static YearMonth mesDaParticao(String nome) {
+        Matcher matcher = NOME_PARTICAO.matcher(nome);
+        return matcher.matches() ? YearMonth.parse(matcher.group(1), FORMATO_MES) : null;
+    }
+}
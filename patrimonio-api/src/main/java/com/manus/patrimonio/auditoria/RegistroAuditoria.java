@@ -0,0 +1,131 @@
+package com.manus.patrimonio.auditoria;
+
+import java.time.LocalDateTime;
+
+/**
+ * Registro de auditoria capturado na thread da requisição e ainda não gravado.
+ * Guarda o nome do usuário em vez do ID; o gravador resolve o ID no próprio INSERT.
+ */
+public class RegistroAuditoria {
+
+    private String entidade;
+    private Long entidadeId;
+    private String acao;
+    private String username;
+    private String dadosAnteriores;
+    private String dadosNovos;
+    private String ipAddress;
+    private String userAgent;
+    private LocalDateTime dataAcao;
+    private String sessaoId;
+    private String metodoHttp;
+    private String urlRequisicao;
+
+    public RegistroAuditoria() {
+        this.dataAcao = LocalDateTime.now();
+    }
+
+    public RegistroAuditoria(String entidade, Long entidadeId, String acao) {
+        this();
+        this.entidade = entidade;
+        this.entidadeId = entidadeId;
+        this.acao = acao;
+    }
+
+    // Getters e Setters
+    public String getEntidade() {
+        return entidade;
+    }
+
+    public void setEntidade(String entidade) {
+        this.entidade = entidade;
+    }
+
+    public Long getEntidadeId() {
+        return entidadeId;
+    }
+
+    public void setEntidadeId(Long entidadeId) {
+        this.entidadeId = entidadeId;
+    }
+
+    public String getAcao() {
+        return acao;
+    }
+
+    public void setAcao(String acao) {
+        this.acao = acao;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public void setUsername(String username) {
+        this.username = username;
+    }
+
+    public String getDadosAnteriores() {
+        return dadosAnteriores;
+    }
+
+    public void setDadosAnteriores(String dadosAnteriores) {
+        this.dadosAnteriores = dadosAnteriores;
+    }
+
+    public String getDadosNovos() {
+        return dadosNovos;
+    }
+
+    public void setDadosNovos(String dadosNovos) {
+        this.dadosNovos = dadosNovos;
+    }
+
+    public String getIpAddress() {
+        return ipAddress;
+    }
+
+    public void setIpAddress(String ipAddress) {
+        this.ipAddress = ipAddress;
+    }
+
+    public String getUserAgent() {
+        return userAgent;
+    }
+
+    public void setUserAgent(String userAgent) {
+        this.userAgent = userAgent;
+    }
+
+    public LocalDateTime getDataAcao() {
+        return dataAcao;
+    }
+
+    public void setDataAcao(LocalDateTime dataAcao) {
+        this.dataAcao = dataAcao;
+    }
+
+    public String getSessaoId() {
+        return sessaoId;
+    }
+
+    public void setSessaoId(String sessaoId) {
+        this.sessaoId = sessaoId;
+    }
+
+    public String getMetodoHttp() {
+        return metodoHttp;
+    }
+
+    public void setMetodoHttp(String metodoHttp) {
+        this.metodoHttp = metodoHttp;
+    }
+
+    public String getUrlRequisicao() {
+        return urlRequisicao;
+    }
+
+    public void setUrlRequisicao(String urlRequisicao) {
+        this.urlRequisicao = urlRequisicao;
+    }
+}
@@ -0,0 +1,195 @@
+package com.manus.patrimonio.cache;
+
+import com.manus.patrimonio.enums.StatusBem;
+import com.manus.patrimonio.model.Bem;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Invalidação direcionada do cache de bens.
+ * Remove apenas as entradas do bem alterado (por ID e número de série) e avança as
+ * gerações das dimensões de filtro afetadas (todos, status, categoria e localização),
+ * tanto do estado anterior quanto do novo. A invalidação ocorre após o commit.
+ */
+@Component
+public class BemCache {
+
+    public static final String CACHE_BENS = "bens";
+
+    public static final String DIMENSAO_TODOS = "bens:todos";
+    public static final String DIMENSAO_STATUS = "bens:status";
+    public static final String DIMENSAO_CATEGORIA = "bens:categoria";
+    public static final String DIMENSAO_LOCALIZACAO = "bens:localizacao";
+
+    // Separam os espaços de chave: sem eles, o número de série "10" colidiria com o ID 10
+    private static final String PREFIXO_ID = "id:";
+    private static final String PREFIXO_NUMERO_SERIE = "serie:";
+
+    private final CacheManager cacheManager;
+    private final GeracoesCache geracoesCache;
+    private final Counter evictions;
+
+    public BemCache(CacheManager cacheManager, GeracoesCache geracoesCache, MeterRegistry meterRegistry) {
+        this.cacheManager = cacheManager;
+        this.geracoesCache = geracoesCache;
+        this.evictions = Counter.builder("patrimonio.cache.evictions")
+                .description("Entradas removidas por invalidação direcionada")
+                .tag("cache", CACHE_BENS)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Chave do bem por ID no cache "bens".
+     */
+    public static String chaveId(Long id) {
+        return PREFIXO_ID + id;
+    }
+
+    /**
+     * Chave do bem por número de série no cache "bens".
+     */
+    public static String chaveNumeroSerie(String numeroSerie) {
+        return PREFIXO_NUMERO_SERIE + numeroSerie;
+    }
+
+    /**
+     * Captura os campos do bem que determinam suas chaves e dimensões em cache.
+     * Deve ser chamado antes de alterar o bem.
+     */
+    public Estado capturar(Bem bem) {
+        return new Estado(bem.getId(), bem.getNumeroSerie(), bem.getStatus(),
+                bem.getCategoria() != null ? bem.getCategoria().getId() : null,
+                bem.getLocalizacaoAtual() != null ? bem.getLocalizacaoAtual().getId() : null);
+    }
+
+    /**
+     * Invalida as entradas de um bem criado ou excluído.
+     */
+    public void invalidar(Estado estado) {
+        invalidar(estado, estado);
+    }
+
+    /**
+     * Invalida as entradas de um bem alterado, considerando o estado anterior e o novo.
+     */
+    public void invalidar(Estado anterior, Estado atual) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    executarInvalidacao(anterior, atual);
+                }
+            });
+        } else {
+            executarInvalidacao(anterior, atual);
+        }
+    }
+
+    /**
+     * Invalida as dimensões afetadas por bens incluídos em massa. Bens novos ainda não
+     * têm entradas próprias no cache, então basta avançar as gerações, uma vez por valor.
+     */
+    public void invalidarInclusao(Set<StatusBem> status, Set<Long> categoriaIds, Set<Long> localizacaoIds) {
+        invalidarEmMassa(Set.of(), Set.of(), status, categoriaIds, localizacaoIds);
+    }
+
+    /**
+     * Invalida as entradas de bens alterados em massa: remove as chaves por ID e número
+     * de série de cada bem e avança as gerações das dimensões informadas, uma vez por valor.
+     */
+    public void invalidarEmMassa(Collection<Long> ids, Collection<String> numerosSerie, Set<StatusBem> status,
+                                 Set<Long> categoriaIds, Set<Long> localizacaoIds) {
+        Runnable invalidacao = () -> {
+            Cache cache = cacheManager.getCache(CACHE_BENS);
+            if (cache != null && !(ids.isEmpty() && numerosSerie.isEmpty())) {
+                Set<Object> chaves = new LinkedHashSet<>();
+                ids.forEach(id -> chaves.add(chaveId(id)));
+                numerosSerie.forEach(numeroSerie -> adicionarSeInformado(chaves, numeroSerie));
+                for (Object chave : chaves) {
+                    if (cache.evictIfPresent(chave)) {
+                        evictions.increment();
+                    }
+                }
+            }
+            geracoesCache.avancar(DIMENSAO_TODOS, "");
+            status.forEach(valor -> geracoesCache.avancar(DIMENSAO_STATUS, valor));
+            categoriaIds.forEach(valor -> geracoesCache.avancar(DIMENSAO_CATEGORIA, valor));
+            localizacaoIds.forEach(valor -> geracoesCache.avancar(DIMENSAO_LOCALIZACAO, valor));
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidacao.run();
+                }
+            });
+        } else {
+            invalidacao.run();
+        }
+    }
+
+    private void executarInvalidacao(Estado anterior, Estado atual) {
+        Cache cache = cacheManager.getCache(CACHE_BENS);
+        if (cache != null) {
+            Set<Object> chaves = new LinkedHashSet<>();
+            chaves.add(chaveId(atual.id));
+            adicionarSeInformado(chaves, anterior.numeroSerie);
+            adicionarSeInformado(chaves, atual.numeroSerie);
+            for (Object chave : chaves) {
+                if (cache.evictIfPresent(chave)) {
+                    evictions.increment();
+                }
+            }
+        }
+
+        geracoesCache.avancar(DIMENSAO_TODOS, "");
+        avancarDimensao(DIMENSAO_STATUS, anterior.status, atual.status);
+        avancarDimensao(DIMENSAO_CATEGORIA, anterior.categoriaId, atual.categoriaId);
+        avancarDimensao(DIMENSAO_LOCALIZACAO, anterior.localizacaoId, atual.localizacaoId);
+    }
+
+    private void avancarDimensao(String dimensao, Object valorAnterior, Object valorAtual) {
+        if (valorAnterior != null) {
+            geracoesCache.avancar(dimensao, valorAnterior);
+        }
+        if (valorAtual != null && !Objects.equals(valorAnterior, valorAtual)) {
+            geracoesCache.avancar(dimensao, valorAtual);
+        }
+    }
+
+    private static void adicionarSeInformado(Set<Object> chaves, String valor) {
+        if (valor != null && !valor.isBlank()) {
+            chaves.add(chaveNumeroSerie(valor));
+        }
+    }
+
+    /**
+     * Retrato imutável das chaves e dimensões de um bem em um dado momento.
+     */
+    public static final class Estado {
+
+        private final Long id;
+        private final String numeroSerie;
+        private final StatusBem status;
+        private final Long categoriaId;
+        private final Long localizacaoId;
+
+        private Estado(Long id, String numeroSerie, StatusBem status, Long categoriaId, Long localizacaoId) {
+            this.id = id;
+            this.numeroSerie = numeroSerie;
+            this.status = status;
+            this.categoriaId = categoriaId;
+            this.localizacaoId = localizacaoId;
+        }
+    }
+}
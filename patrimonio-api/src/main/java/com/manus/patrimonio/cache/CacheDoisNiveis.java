@@ -0,0 +1,274 @@
+package com.manus.patrimonio.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Cache em dois níveis: L1 em memória (Caffeine, limitado e com TTL curto) e
+ * L2 compartilhado (Redis). Leituras consultam o L1 e, em caso de miss, o L2,
+ * promovendo o valor encontrado. Escritas e remoções vão para o L2, atualizam
+ * o L1 local e publicam uma invalidação para que os outros nós descartem a
+ * cópia que tiverem no L1.
+ * <p>
+ * Cada alteração avança a versão da chave antes de remover as cópias. Uma carga só
+ * grava o que leu se a versão não mudou desde o início dela; se mudar durante a
+ * gravação, a carga desfaz a própria gravação. Assim um valor lido antes de uma
+ * escrita não volta ao cache depois da invalidação dessa escrita.
+ * <p>
+ * Só {@link #get(Object, Callable)} faz essa verificação, por isso os {@code @Cacheable}
+ * usam {@code sync = true}: sem ele, o Spring preenche o miss com {@link #put}, que é
+ * uma escrita, grava sem conferir a versão e publica uma invalidação para os outros nós.
+ */
+public class CacheDoisNiveis extends AbstractValueAdaptingCache {
+
+    // Versões por faixa de hash, sem guardar as chaves; duas chaves na mesma faixa só custam uma gravação a menos
+    private static final int FAIXAS_VERSAO = 1024;
+
+    private final String nome;
+    private final com.github.benmanes.caffeine.cache.Cache<Object, Object> local;
+    private final Cache remoto;
+    private final CanalInvalidacaoCache canal;
+    private final ConcurrentMap<Object, CompletableFuture<Object>> carregando = new ConcurrentHashMap<>();
+
+    private final AtomicLongArray versoes = new AtomicLongArray(FAIXAS_VERSAO);
+    // Avança nas alterações que atingem todas as chaves
+    private final AtomicLong versaoGeral = new AtomicLong();
+
+    public CacheDoisNiveis(String nome,
+                           com.github.benmanes.caffeine.cache.Cache<Object, Object> local,
+                           Cache remoto,
+                           CanalInvalidacaoCache canal,
+                           boolean permitirNulos) {
+        super(permitirNulos);
+        this.nome = nome;
+        this.local = local;
+        this.remoto = remoto;
+        this.canal = canal;
+    }
+
+    @Override
+    public String getName() {
+        return nome;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return local;
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        Object valor = local.getIfPresent(key);
+        if (valor != null) {
+            return valor;
+        }
+        return promover(key);
+    }
+
+    /**
+     * Carrega uma vez por chave e nó: quem chega durante a carga espera o mesmo resultado.
+     * A carga fica fora do {@code get} do Caffeine, que executa o loader segurando o monitor
+     * do mapa; com threads virtuais o I/O do Redis e do banco prenderia a thread à carrier.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        Object valor = local.getIfPresent(key);
+        if (valor != null) {
+            return (T) fromStoreValue(valor);
+        }
+
+        CompletableFuture<Object> carga = new CompletableFuture<>();
+        CompletableFuture<Object> emAndamento = carregando.putIfAbsent(key, carga);
+        if (emAndamento != null) {
+            return (T) fromStoreValue(aguardar(emAndamento));
+        }
+        try {
+            valor = carregar(key, valueLoader);
+            carga.complete(valor);
+        } catch (RuntimeException | Error e) {
+            carga.completeExceptionally(e);
+            throw e;
+        } finally {
+            carregando.remove(key, carga);
+        }
+        return (T) fromStoreValue(valor);
+    }
+
+    private <T> Object carregar(Object key, Callable<T> valueLoader) {
+        // Outro carregamento pode ter terminado entre a consulta ao L1 e o registro desta carga
+        Object valor = local.getIfPresent(key);
+        if (valor != null) {
+            return valor;
+        }
+        long versao = versao(key);
+        valor = promoverSemCache(key);
+        if (valor != null) {
+            gravarLocal(key, valor, versao);
+            return valor;
+        }
+        T carregado;
+        try {
+            carregado = valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+        if (carregado == null && !isAllowNullValues()) {
+            return null;
+        }
+        valor = toStoreValue(carregado);
+        if (versao(key) != versao) {
+            return valor;
+        }
+        remoto.put(key, carregado);
+        local.put(key, valor);
+        if (versao(key) != versao) {
+            // Alterado durante a gravação: a invalidação pode ter passado antes dela
+            remoto.evict(key);
+            local.invalidate(key);
+            canal.publicar(nome, key);
+        }
+        return valor;
+    }
+
+    private static Object aguardar(CompletableFuture<Object> carga) {
+        try {
+            return carga.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException causa) {
+                throw causa;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Escrita de um valor novo ({@code @CachePut} ou chamada direta), não o preenchimento
+     * de um miss: avança a versão e invalida a cópia dos outros nós.
+     */
+    @Override
+    public void put(Object key, Object value) {
+        avancarVersao(key);
+        remoto.put(key, value);
+        local.put(key, toStoreValue(value));
+        canal.publicar(nome, key);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        avancarVersao(key);
+        ValueWrapper existente = remoto.putIfAbsent(key, value);
+        if (existente != null) {
+            local.put(key, toStoreValue(existente.get()));
+            return existente;
+        }
+        local.put(key, toStoreValue(value));
+        canal.publicar(nome, key);
+        return null;
+    }
+
+    @Override
+    public void evict(Object key) {
+        avancarVersao(key);
+        remoto.evict(key);
+        local.invalidate(key);
+        canal.publicar(nome, key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        avancarVersao(key);
+        boolean removido = remoto.evictIfPresent(key);
+        local.invalidate(key);
+        canal.publicar(nome, key);
+        return removido;
+    }
+
+    @Override
+    public void clear() {
+        versaoGeral.incrementAndGet();
+        remoto.clear();
+        local.invalidateAll();
+        canal.publicar(nome, null);
+    }
+
+    @Override
+    public boolean invalidate() {
+        versaoGeral.incrementAndGet();
+        boolean tinhaEntradas = remoto.invalidate();
+        local.invalidateAll();
+        canal.publicar(nome, null);
+        return tinhaEntradas;
+    }
+
+    /**
+     * Descarta a cópia local de uma chave (ou de todas, se {@code chave} for nula)
+     * após uma alteração feita por outro nó. O L2 não é tocado.
+     */
+    public void invalidarLocal(Object chave) {
+        if (chave == null) {
+            versaoGeral.incrementAndGet();
+            local.invalidateAll();
+        } else {
+            avancarVersao(chave);
+            local.invalidate(chave);
+        }
+    }
+
+    public com.github.benmanes.caffeine.cache.Cache<Object, Object> getLocal() {
+        return local;
+    }
+
+    public Cache getRemoto() {
+        return remoto;
+    }
+
+    private Object promover(Object key) {
+        long versao = versao(key);
+        Object valor = promoverSemCache(key);
+        if (valor != null) {
+            gravarLocal(key, valor, versao);
+        }
+        return valor;
+    }
+
+    private void gravarLocal(Object key, Object valor, long versao) {
+        if (versao(key) != versao) {
+            return;
+        }
+        local.put(key, valor);
+        if (versao(key) != versao) {
+            local.invalidate(key);
+        }
+    }
+
+    // As duas parcelas só crescem: a soma muda sempre que qualquer uma delas avança
+    private long versao(Object key) {
+        return versaoGeral.get() + versoes.get(faixa(key));
+    }
+
+    private void avancarVersao(Object key) {
+        versoes.incrementAndGet(faixa(key));
+    }
+
+    private static int faixa(Object key) {
+        int h = key.hashCode();
+        return (h ^ (h >>> 16)) & (FAIXAS_VERSAO - 1);
+    }
+
+    private Object promoverSemCache(Object key) {
+        ValueWrapper wrapper = remoto.get(key);
+        if (wrapper == null || (wrapper.get() == null && !isAllowNullValues())) {
+            return null;
+        }
+        return toStoreValue(wrapper.get());
+    }
+}
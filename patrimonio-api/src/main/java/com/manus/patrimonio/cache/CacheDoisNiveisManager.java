@@ -0,0 +1,77 @@
+package com.manus.patrimonio.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * {@link CacheManager} que combina um L1 Caffeine por nó com o {@link CacheManager}
+ * remoto (Redis) compartilhado. Os limites de cada L1 vêm de
+ * {@link CacheDoisNiveisProperties}; o L2 mantém a configuração do gerenciador remoto.
+ */
+public class CacheDoisNiveisManager implements CacheManager {
+
+    private final ConcurrentMap<String, CacheDoisNiveis> caches = new ConcurrentHashMap<>();
+    private final CacheManager remoto;
+    private final CacheDoisNiveisProperties properties;
+    private final CanalInvalidacaoCache canal;
+    private final boolean permitirNulos;
+
+    public CacheDoisNiveisManager(CacheManager remoto,
+                                  CacheDoisNiveisProperties properties,
+                                  CanalInvalidacaoCache canal,
+                                  boolean permitirNulos,
+                                  Collection<String> nomesIniciais) {
+        this.remoto = remoto;
+        this.properties = properties;
+        this.canal = canal;
+        this.permitirNulos = permitirNulos;
+        nomesIniciais.forEach(this::getCache);
+        canal.assinar(this::invalidarLocal);
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        CacheDoisNiveis existente = caches.get(name);
+        if (existente != null) {
+            return existente;
+        }
+        Cache cacheRemoto = remoto.getCache(name);
+        if (cacheRemoto == null) {
+            return null;
+        }
+        return caches.computeIfAbsent(name, nome -> criar(nome, cacheRemoto));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return Collections.unmodifiableSet(caches.keySet());
+    }
+
+    /**
+     * Aplica no L1 deste nó uma invalidação recebida de outro nó.
+     */
+    public void invalidarLocal(InvalidacaoCache invalidacao) {
+        CacheDoisNiveis cache = caches.get(invalidacao.getCache());
+        if (cache != null) {
+            cache.invalidarLocal(invalidacao.getChave());
+        }
+    }
+
+    private CacheDoisNiveis criar(String nome, Cache cacheRemoto) {
+        CacheDoisNiveisProperties.Nivel nivel = properties.configuracao(nome);
+        Caffeine<Object, Object> builder = Caffeine.newBuilder().recordStats();
+        if (nivel.getTamanhoMaximo() != null) {
+            builder.maximumSize(nivel.getTamanhoMaximo());
+        }
+        if (nivel.getTtlLocal() != null) {
+            builder.expireAfterWrite(nivel.getTtlLocal());
+        }
+        return new CacheDoisNiveis(nome, builder.build(), cacheRemoto, canal, permitirNulos);
+    }
+}
@@ -0,0 +1,27 @@
+package com.manus.patrimonio.cache;
+
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.boot.actuate.metrics.cache.CacheMeterBinderProvider;
+import org.springframework.boot.actuate.metrics.cache.RedisCacheMetrics;
+import org.springframework.data.redis.cache.RedisCache;
+
+/**
+ * Expõe as métricas {@code cache.*} de cada nível, diferenciadas pela tag
+ * {@code nivel} ({@code local} para o Caffeine, {@code remoto} para o Redis).
+ */
+public class CacheDoisNiveisMeterBinderProvider implements CacheMeterBinderProvider<CacheDoisNiveis> {
+
+    @Override
+    public MeterBinder getMeterBinder(CacheDoisNiveis cache, Iterable<Tag> tags) {
+        return registry -> {
+            new CaffeineCacheMetrics<>(cache.getLocal(), cache.getName(), Tags.concat(tags, "nivel", "local"))
+                    .bindTo(registry);
+            if (cache.getRemoto() instanceof RedisCache redisCache) {
+                new RedisCacheMetrics(redisCache, Tags.concat(tags, "nivel", "remoto")).bindTo(registry);
+            }
+        };
+    }
+}
@@ -0,0 +1,121 @@
+package com.manus.patrimonio.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Configuração do cache em dois níveis ({@code patrimonio.cache}).
+ * Os valores de {@code padrao} valem para todos os caches; cada entrada de
+ * {@code caches} sobrescreve apenas os campos informados.
+ */
+@ConfigurationProperties(prefix = "patrimonio.cache")
+public class CacheDoisNiveisProperties {
+
+    /**
+     * Canal Redis pub/sub usado para invalidar o L1 dos demais nós.
+     */
+    private String canalInvalidacao = "patrimonio:cache:invalidacao";
+
+    private Nivel padrao = new Nivel(10_000L, Duration.ofMinutes(1), null);
+
+    private Map<String, Nivel> caches = new LinkedHashMap<>();
+
+    /**
+     * Cópia local dos contadores de geração (ver {@link GeracoesCache}): só
+     * {@code tamanho-maximo} e {@code ttl-local} valem, os contadores em si não expiram.
+     */
+    private Nivel geracoes = new Nivel(20_000L, Duration.ofSeconds(5), null);
+
+    /**
+     * Resolve a configuração efetiva de um cache, completando com o padrão.
+     */
+    public Nivel configuracao(String nomeCache) {
+        Nivel especifico = caches.get(nomeCache);
+        if (especifico == null) {
+            return padrao;
+        }
+        return new Nivel(
+                especifico.getTamanhoMaximo() != null ? especifico.getTamanhoMaximo() : padrao.getTamanhoMaximo(),
+                especifico.getTtlLocal() != null ? especifico.getTtlLocal() : padrao.getTtlLocal(),
+                especifico.getTtlRemoto() != null ? especifico.getTtlRemoto() : padrao.getTtlRemoto());
+    }
+
+    // Getters e Setters
+    public String getCanalInvalidacao() {
+        return canalInvalidacao;
+    }
+
+    public void setCanalInvalidacao(String canalInvalidacao) {
+        this.canalInvalidacao = canalInvalidacao;
+    }
+
+    public Nivel getPadrao() {
+        return padrao;
+    }
+
+    public void setPadrao(Nivel padrao) {
+        this.padrao = padrao;
+    }
+
+    public Nivel getGeracoes() {
+        return geracoes;
+    }
+
+    public void setGeracoes(Nivel geracoes) {
+        this.geracoes = geracoes;
+    }
+
+    public Map<String, Nivel> getCaches() {
+        return caches;
+    }
+
+    public void setCaches(Map<String, Nivel> caches) {
+        this.caches = caches;
+    }
+
+    /**
+     * Limites de um cache: tamanho e TTL do L1 (Caffeine) e TTL do L2 (Redis).
+     * Um {@code ttlRemoto} nulo usa o {@code spring.cache.redis.time-to-live}.
+     */
+    public static class Nivel {
+
+        private Long tamanhoMaximo;
+        private Duration ttlLocal;
+        private Duration ttlRemoto;
+
+        public Nivel() {}
+
+        public Nivel(Long tamanhoMaximo, Duration ttlLocal, Duration ttlRemoto) {
+            this.tamanhoMaximo = tamanhoMaximo;
+            this.ttlLocal = ttlLocal;
+            this.ttlRemoto = ttlRemoto;
+        }
+
+        public Long getTamanhoMaximo() {
+            return tamanhoMaximo;
+        }
+
+        public void setTamanhoMaximo(Long tamanhoMaximo) {
+            this.tamanhoMaximo = tamanhoMaximo;
+        }
+
+        public Duration getTtlLocal() {
+            return ttlLocal;
+        }
+
+        public void setTtlLocal(Duration ttlLocal) {
+            this.ttlLocal = ttlLocal;
+        }
+
+        public Duration getTtlRemoto() {
+            return ttlRemoto;
+        }
+
+        public void setTtlRemoto(Duration ttlRemoto) {
+            this.ttlRemoto = ttlRemoto;
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.manus.patrimonio.cache;
+
+import java.util.function.Consumer;
+
+/**
+ * Canal pelo qual os nós avisam uns aos outros que uma entrada do L1 ficou obsoleta.
+ * Implementações não devem entregar ao ouvinte as mensagens publicadas pelo próprio nó.
+ */
+public interface CanalInvalidacaoCache {
+
+    /**
+     * Publica a invalidação de uma chave (ou do cache inteiro, se {@code chave} for nula).
+     */
+    void publicar(String cache, Object chave);
+
+    /**
+     * Registra o ouvinte das invalidações vindas de outros nós.
+     */
+    void assinar(Consumer<InvalidacaoCache> ouvinte);
+}
@@ -0,0 +1,67 @@
+package com.manus.patrimonio.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Canal de invalidação sobre Redis pub/sub. Cada instância se identifica por um
+ * UUID e descarta as mensagens que ela mesma publicou.
+ */
+public class CanalInvalidacaoRedis implements CanalInvalidacaoCache, MessageListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(CanalInvalidacaoRedis.class);
+
+    private final String origem = UUID.randomUUID().toString();
+    private final List<Consumer<InvalidacaoCache>> ouvintes = new CopyOnWriteArrayList<>();
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final String canal;
+
+    public CanalInvalidacaoRedis(RedisTemplate<String, Object> redisTemplate, String canal) {
+        this.redisTemplate = redisTemplate;
+        this.canal = canal;
+    }
+
+    @Override
+    public void publicar(String cache, Object chave) {
+        try {
+            redisTemplate.convertAndSend(canal, new InvalidacaoCache(origem, cache, chave));
+        } catch (RuntimeException e) {
+            // O L1 dos outros nós expira pelo TTL local; não vale derrubar a escrita
+            logger.warn("Falha ao publicar invalidação do cache {} (chave {}): {}", cache, chave, e.getMessage());
+        }
+    }
+
+    @Override
+    public void assinar(Consumer<InvalidacaoCache> ouvinte) {
+        ouvintes.add(ouvinte);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        RedisSerializer<?> serializer = redisTemplate.getValueSerializer();
+        Object corpo;
+        try {
+            corpo = serializer.deserialize(message.getBody());
+        } catch (RuntimeException e) {
+            logger.warn("Mensagem de invalidação de cache ilegível: {}", e.getMessage());
+            return;
+        }
+        if (!(corpo instanceof InvalidacaoCache invalidacao) || origem.equals(invalidacao.getOrigem())) {
+            return;
+        }
+        ouvintes.forEach(ouvinte -> ouvinte.accept(invalidacao));
+    }
+
+    public String getCanal() {
+        return canal;
+    }
+}
@@ -0,0 +1,96 @@
+package com.manus.patrimonio.cache;
+
+import org.springframework.cache.interceptor.KeyGenerator;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HexFormat;
+
+/**
+ * Gera chaves de cache para consultas paginadas a partir de todos os parâmetros,
+ * inclusive página, tamanho e ordenação completa do {@link Pageable}. A forma
+ * canônica dos parâmetros é resumida em SHA-256, o que mantém a chave curta mesmo
+ * com listas de filtros.
+ * <p>
+ * Uso direto: {@code @Cacheable(value = "auditorias", keyGenerator = "chaveCache")}.
+ * Quando a chave precisa de partes calculadas (ex.: a geração de uma dimensão),
+ * use {@code key = "@chaveCache.chave('status', #status, #pageable)"}.
+ */
+@Component("chaveCache")
+public class ChaveCacheKeyGenerator implements KeyGenerator {
+
+    private static final int BYTES_HASH = 16;
+
+    @Override
+    public Object generate(Object target, Method method, Object... params) {
+        return chave(method.getName(), params);
+    }
+
+    /**
+     * Monta a chave {@code prefixo:hash}, em que o hash cobre todas as partes informadas.
+     */
+    public String chave(String prefixo, Object... partes) {
+        StringBuilder canonica = new StringBuilder();
+        for (Object parte : partes) {
+            canonica.append('|');
+            anexar(canonica, parte);
+        }
+        return prefixo + ":" + resumir(canonica.toString());
+    }
+
+    private static void anexar(StringBuilder canonica, Object parte) {
+        if (parte == null) {
+            canonica.append('~');
+        } else if (parte instanceof Pageable pageable) {
+            if (pageable.isUnpaged()) {
+                canonica.append("P(unpaged");
+            } else {
+                canonica.append("P(").append(pageable.getPageNumber()).append(',').append(pageable.getPageSize());
+            }
+            anexarOrdenacao(canonica, pageable.getSort());
+            canonica.append(')');
+        } else if (parte instanceof Sort sort) {
+            canonica.append("S(");
+            anexarOrdenacao(canonica, sort);
+            canonica.append(')');
+        } else if (parte instanceof Collection<?> colecao) {
+            canonica.append('[');
+            colecao.forEach(item -> {
+                anexar(canonica, item);
+                canonica.append(',');
+            });
+            canonica.append(']');
+        } else if (parte instanceof Object[] array) {
+            anexar(canonica, Arrays.asList(array));
+        } else {
+            // O tipo entra na chave para que 1L e "1" não colidam
+            canonica.append(parte.getClass().getSimpleName()).append('=').append(parte);
+        }
+    }
+
+    private static void anexarOrdenacao(StringBuilder canonica, Sort sort) {
+        for (Sort.Order order : sort) {
+            canonica.append(';').append(order.getProperty())
+                    .append(':').append(order.getDirection())
+                    .append(':').append(order.isIgnoreCase())
+                    .append(':').append(order.getNullHandling());
+        }
+    }
+
+    private static String resumir(String canonica) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(canonica.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash, 0, BYTES_HASH);
+        } catch (NoSuchAlgorithmException e) {
+            // SHA-256 é obrigatório em toda JVM
+            throw new IllegalStateException(e);
+        }
+    }
+}
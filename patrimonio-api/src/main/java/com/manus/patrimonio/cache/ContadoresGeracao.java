@@ -0,0 +1,19 @@
+package com.manus.patrimonio.cache;
+
+/**
+ * Armazenamento dos contadores de geração usados por {@link GeracoesCache}.
+ * Os contadores só avançam: não expiram nem são removidos, senão uma geração
+ * poderia voltar a um valor já usado e reabrir páginas antigas.
+ */
+public interface ContadoresGeracao {
+
+    /**
+     * Valor atual do contador (0 se nunca incrementado).
+     */
+    long ler(String chave);
+
+    /**
+     * Incrementa o contador de forma atômica e devolve o novo valor.
+     */
+    long incrementar(String chave);
+}
@@ -0,0 +1,25 @@
+package com.manus.patrimonio.cache;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Contadores em memória, para quando o cache não é compartilhado entre nós
+ * ({@code spring.cache.type} diferente de {@code redis}).
+ */
+public class ContadoresGeracaoLocal implements ContadoresGeracao {
+
+    private final ConcurrentMap<String, AtomicLong> contadores = new ConcurrentHashMap<>();
+
+    @Override
+    public long ler(String chave) {
+        AtomicLong contador = contadores.get(chave);
+        return contador != null ? contador.get() : 0L;
+    }
+
+    @Override
+    public long incrementar(String chave) {
+        return contadores.computeIfAbsent(chave, k -> new AtomicLong()).incrementAndGet();
+    }
+}
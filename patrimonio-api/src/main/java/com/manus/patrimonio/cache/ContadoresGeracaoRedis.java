@@ -0,0 +1,34 @@
+package com.manus.patrimonio.cache;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+/**
+ * Contadores no Redis, compartilhados entre os nós: o avanço é um {@code INCR},
+ * atômico mesmo com escritas simultâneas em nós diferentes, e as chaves não têm TTL.
+ */
+public class ContadoresGeracaoRedis implements ContadoresGeracao {
+
+    private static final String PREFIXO = "patrimonio:geracoes:";
+
+    private final StringRedisTemplate redisTemplate;
+
+    public ContadoresGeracaoRedis(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Override
+    public long ler(String chave) {
+        String valor = redisTemplate.opsForValue().get(PREFIXO + chave);
+        return valor != null ? Long.parseLong(valor) : 0L;
+    }
+
+    @Override
+    public long incrementar(String chave) {
+        Long valor = redisTemplate.opsForValue().increment(PREFIXO + chave);
+        if (valor == null) {
+            // Só acontece dentro de pipeline/transação, que não são usados aqui
+            throw new IllegalStateException("INCR sem resultado para a geração " + chave);
+        }
+        return valor;
+    }
+}
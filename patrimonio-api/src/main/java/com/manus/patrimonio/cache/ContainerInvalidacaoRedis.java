@@ -0,0 +1,47 @@
+package com.manus.patrimonio.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Container do canal de invalidação que não impede a subida da aplicação quando o
+ * Redis está fora: a assinatura é refeita em segundo plano até conseguir. Enquanto
+ * isso, o L1 deste nó só se renova pelo TTL local.
+ */
+public class ContainerInvalidacaoRedis extends RedisMessageListenerContainer {
+
+    private static final Logger logger = LoggerFactory.getLogger(ContainerInvalidacaoRedis.class);
+
+    private static final long INTERVALO_TENTATIVA_SEGUNDOS = 5;
+
+    private final ScheduledExecutorService agendador = Executors.newSingleThreadScheduledExecutor(tarefa -> {
+        Thread thread = new Thread(tarefa, "cache-invalidacao-reconexao");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Override
+    public void start() {
+        try {
+            super.start();
+        } catch (RuntimeException e) {
+            logger.warn("Não foi possível assinar o canal de invalidação do cache ({}); nova tentativa em {}s",
+                    e.getMessage(), INTERVALO_TENTATIVA_SEGUNDOS);
+            super.stop();
+            if (!agendador.isShutdown()) {
+                agendador.schedule(this::start, INTERVALO_TENTATIVA_SEGUNDOS, TimeUnit.SECONDS);
+            }
+        }
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        agendador.shutdownNow();
+        super.destroy();
+    }
+}
@@ -0,0 +1,105 @@
+package com.manus.patrimonio.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Contadores de geração por dimensão de filtro (ex.: {@code bens:status:ATIVO}).
+ * A geração atual compõe a chave das páginas em cache; ao avançá-la, as páginas
+ * antigas deixam de ser alcançadas e expiram pelo TTL, sem varrer o cache.
+ * <p>
+ * Os contadores ficam em {@link ContadoresGeracao} (no Redis, compartilhados entre os
+ * nós) e só avançam. Cada nó guarda uma cópia local por {@code patrimonio.cache.geracoes.ttl-local},
+ * que nunca anda para trás: leituras e avisos de outros nós só a substituem
+ * por um valor maior. O aviso de avanço sai pelo mesmo canal de invalidação do L1.
+ */
+@Component("geracoesCache")
+public class GeracoesCache {
+
+    // Nome usado nos avisos pelo canal de invalidação
+    public static final String CACHE_GERACOES = "geracoes";
+
+    private final ContadoresGeracao contadores;
+    private final CanalInvalidacaoCache canal;
+    private final MeterRegistry meterRegistry;
+    private final Cache<String, Long> local;
+
+    @Autowired
+    public GeracoesCache(ObjectProvider<ContadoresGeracao> contadores, CacheDoisNiveisProperties properties,
+                         ObjectProvider<CanalInvalidacaoCache> canal, MeterRegistry meterRegistry) {
+        this(contadores.getIfAvailable(ContadoresGeracaoLocal::new), properties, canal.getIfAvailable(),
+                meterRegistry);
+    }
+
+    public GeracoesCache(ContadoresGeracao contadores, CacheDoisNiveisProperties properties,
+                         CanalInvalidacaoCache canal, MeterRegistry meterRegistry) {
+        this.contadores = contadores;
+        this.canal = canal;
+        this.meterRegistry = meterRegistry;
+        CacheDoisNiveisProperties.Nivel nivel = properties.getGeracoes();
+        Caffeine<Object, Object> builder = Caffeine.newBuilder();
+        if (nivel.getTamanhoMaximo() != null) {
+            builder.maximumSize(nivel.getTamanhoMaximo());
+        }
+        if (nivel.getTtlLocal() != null) {
+            builder.expireAfterWrite(nivel.getTtlLocal());
+        }
+        this.local = builder.build();
+        if (canal != null) {
+            canal.assinar(this::aoAvancarEmOutroNo);
+        }
+    }
+
+    /**
+     * Retorna a geração atual da dimensão (0 se nunca avançada).
+     */
+    public long atual(String dimensao, Object valor) {
+        String chave = chave(dimensao, valor);
+        Long geracao = local.getIfPresent(chave);
+        if (geracao != null) {
+            return geracao;
+        }
+        // Leitura fora do compute do Caffeine, que prenderia threads virtuais durante o I/O
+        return registrar(chave, contadores.ler(chave));
+    }
+
+    /**
+     * Avança a geração da dimensão, invalidando logicamente as páginas associadas.
+     */
+    public void avancar(String dimensao, Object valor) {
+        String chave = chave(dimensao, valor);
+        registrar(chave, contadores.incrementar(chave));
+        if (canal != null) {
+            canal.publicar(CACHE_GERACOES, chave);
+        }
+        meterRegistry.counter("patrimonio.cache.geracoes.avancadas", "dimensao", dimensao).increment();
+    }
+
+    /**
+     * O contador já foi incrementado quando o aviso chega: relê e guarda o valor novo.
+     * Uma leitura concorrente que trouxe o valor anterior não consegue sobrescrevê-lo.
+     */
+    private void aoAvancarEmOutroNo(InvalidacaoCache invalidacao) {
+        if (!CACHE_GERACOES.equals(invalidacao.getCache())) {
+            return;
+        }
+        if (invalidacao.getChave() instanceof String chave) {
+            registrar(chave, contadores.ler(chave));
+        } else {
+            local.invalidateAll();
+        }
+    }
+
+    private long registrar(String chave, long geracao) {
+        Long atual = local.asMap().merge(chave, geracao, Math::max);
+        return atual != null ? atual : geracao;
+    }
+
+    private static String chave(String dimensao, Object valor) {
+        return dimensao + ":" + valor;
+    }
+}
@@ -0,0 +1,49 @@
+package com.manus.patrimonio.cache;
+
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+
+/**
+ * Mensagem publicada no canal de invalidação quando um nó altera o cache.
+ * Uma {@code chave} nula indica que o cache inteiro foi limpo.
+ */
+public class InvalidacaoCache {
+
+    private String origem;
+    private String cache;
+    // Tipo sempre embutido: sem ele uma chave Long voltaria como Integer e não casaria no L1
+    @JsonTypeInfo(use = JsonTypeInfo.Id.CLASS, include = JsonTypeInfo.As.WRAPPER_ARRAY)
+    private Object chave;
+
+    public InvalidacaoCache() {}
+
+    public InvalidacaoCache(String origem, String cache, Object chave) {
+        this.origem = origem;
+        this.cache = cache;
+        this.chave = chave;
+    }
+
+    // Getters e Setters
+    public String getOrigem() {
+        return origem;
+    }
+
+    public void setOrigem(String origem) {
+        this.origem = origem;
+    }
+
+    public String getCache() {
+        return cache;
+    }
+
+    public void setCache(String cache) {
+        this.cache = cache;
+    }
+
+    public Object getChave() {
+        return chave;
+    }
+
+    public void setChave(Object chave) {
+        this.chave = chave;
+    }
+}
@@ -0,0 +1,176 @@
+package com.manus.patrimonio.cache;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Página guardada em cache. Ao contrário de {@code PageImpl}, carrega só o conteúdo,
+ * a posição, o total e a ordenação, e pode ser reconstruída a partir deles, então
+ * serializa de forma compacta no Redis. Para quem consome o serviço continua sendo
+ * um {@link Page}, com a mesma representação JSON na API.
+ */
+public class PaginaCache<T> implements Page<T> {
+
+    private List<T> conteudo;
+    private boolean paginado;
+    private int numero;
+    private int tamanho;
+    private long totalElementos;
+    private List<Ordem> ordenacao;
+
+    // Usado na desserialização
+    private PaginaCache() {}
+
+    private PaginaCache(List<T> conteudo, boolean paginado, int numero, int tamanho,
+                        long totalElementos, List<Ordem> ordenacao) {
+        this.conteudo = conteudo;
+        this.paginado = paginado;
+        this.numero = numero;
+        this.tamanho = tamanho;
+        this.totalElementos = totalElementos;
+        this.ordenacao = ordenacao;
+    }
+
+    public static <T> PaginaCache<T> de(Page<T> pagina) {
+        if (pagina instanceof PaginaCache<T> paginaCache) {
+            return paginaCache;
+        }
+        Pageable pageable = pagina.getPageable();
+        List<Ordem> ordenacao = new ArrayList<>();
+        pagina.getSort().forEach(order -> ordenacao.add(new Ordem(order)));
+        return new PaginaCache<>(new ArrayList<>(pagina.getContent()), pageable.isPaged(),
+                pageable.isPaged() ? pageable.getPageNumber() : 0,
+                pageable.isPaged() ? pageable.getPageSize() : 0,
+                pagina.getTotalElements(), ordenacao);
+    }
+
+    @Override
+    public int getTotalPages() {
+        return getSize() == 0 ? 1 : (int) Math.ceil((double) totalElementos / (double) getSize());
+    }
+
+    @Override
+    public long getTotalElements() {
+        return totalElementos;
+    }
+
+    @Override
+    public <U> Page<U> map(Function<? super T, ? extends U> converter) {
+        List<U> convertido = new ArrayList<>(conteudo.size());
+        conteudo.forEach(item -> convertido.add(converter.apply(item)));
+        return new PaginaCache<>(convertido, paginado, numero, tamanho, totalElementos, ordenacao);
+    }
+
+    @Override
+    public int getNumber() {
+        return numero;
+    }
+
+    @Override
+    public int getSize() {
+        return paginado ? tamanho : conteudo.size();
+    }
+
+    @Override
+    public int getNumberOfElements() {
+        return conteudo.size();
+    }
+
+    @Override
+    public List<T> getContent() {
+        return Collections.unmodifiableList(conteudo);
+    }
+
+    @Override
+    public boolean hasContent() {
+        return !conteudo.isEmpty();
+    }
+
+    @Override
+    public Sort getSort() {
+        if (ordenacao == null || ordenacao.isEmpty()) {
+            return Sort.unsorted();
+        }
+        return Sort.by(ordenacao.stream().map(Ordem::paraOrder).toList());
+    }
+
+    @Override
+    public Pageable getPageable() {
+        return paginado ? PageRequest.of(numero, tamanho, getSort()) : Pageable.unpaged(getSort());
+    }
+
+    @Override
+    public boolean isFirst() {
+        return !hasPrevious();
+    }
+
+    @Override
+    public boolean isLast() {
+        return !hasNext();
+    }
+
+    @Override
+    public boolean hasNext() {
+        return getNumber() + 1 < getTotalPages();
+    }
+
+    @Override
+    public boolean hasPrevious() {
+        return getNumber() > 0;
+    }
+
+    @Override
+    public Pageable nextPageable() {
+        return hasNext() ? getPageable().next() : Pageable.unpaged();
+    }
+
+    @Override
+    public Pageable previousPageable() {
+        return hasPrevious() ? getPageable().previousOrFirst() : Pageable.unpaged();
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return getContent().iterator();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Página %d de %d contendo %d elementos", getNumber() + 1, getTotalPages(),
+                getNumberOfElements());
+    }
+
+    /**
+     * Critério de ordenação da página, na forma mínima para reconstruir o {@link Sort.Order}.
+     */
+    public static class Ordem {
+
+        private String propriedade;
+        private Sort.Direction direcao;
+        private boolean ignorarCaixa;
+        private Sort.NullHandling nulos;
+
+        // Usado na desserialização
+        private Ordem() {}
+
+        private Ordem(Sort.Order order) {
+            this.propriedade = order.getProperty();
+            this.direcao = order.getDirection();
+            this.ignorarCaixa = order.isIgnoreCase();
+            this.nulos = order.getNullHandling();
+        }
+
+        private Sort.Order paraOrder() {
+            Sort.Order order = new Sort.Order(direcao, propriedade, nulos);
+            return ignorarCaixa ? order.ignoreCase() : order;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.manus.patrimonio.config;
+
+import com.manus.patrimonio.auditoria.AuditoriaProperties;
+import com.manus.patrimonio.auditoria.ManutencaoParticoesAuditoriaJob;
+import org.quartz.CronScheduleBuilder;
+import org.quartz.JobBuilder;
+import org.quartz.JobDetail;
+import org.quartz.Trigger;
+import org.quartz.TriggerBuilder;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Registra a configuração da trilha de auditoria ({@code patrimonio.audit}) e agenda
+ * a manutenção das partições mensais no Quartz.
+ */
+@Configuration
+@EnableConfigurationProperties(AuditoriaProperties.class)
+public class AuditoriaConfig {
+
+    /**
+     * Só existe com a auditoria ligada, pois o job depende de {@code ParticoesAuditoria}.
+     */
+    @Configuration
+    @ConditionalOnProperty(prefix = "patrimonio.audit", name = "enabled", havingValue = "true", matchIfMissing = true)
+    static class ManutencaoParticoes {
+
+        @Bean
+        @ConditionalOnProperty(prefix = "patrimonio.audit.particoes", name = "enabled", havingValue = "true", matchIfMissing = true)
+        public JobDetail manutencaoParticoesAuditoriaJob() {
+            return JobBuilder.newJob(ManutencaoParticoesAuditoriaJob.class)
+                    .withIdentity("manutencaoParticoesAuditoria", "auditoria")
+                    .storeDurably()
+                    .build();
+        }
+
+        @Bean
+        @ConditionalOnProperty(prefix = "patrimonio.audit.particoes", name = "enabled", havingValue = "true", matchIfMissing = true)
+        public Trigger manutencaoParticoesAuditoriaTrigger(JobDetail manutencaoParticoesAuditoriaJob,
+                                                          AuditoriaProperties properties) {
+            return TriggerBuilder.newTrigger()
+                    .forJob(manutencaoParticoesAuditoriaJob)
+                    .withIdentity("manutencaoParticoesAuditoria", "auditoria")
+                    .withSchedule(CronScheduleBuilder.cronSchedule(properties.getParticoes().getCron())
+                            .withMisfireHandlingInstructionFireAndProceed())
+                    .build();
+        }
+    }
+}
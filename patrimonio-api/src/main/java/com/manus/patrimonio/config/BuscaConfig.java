@@ -0,0 +1,13 @@
+package com.manus.patrimonio.config;
+
+import com.manus.patrimonio.util.BuscaProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Registra a configuração da busca textual ({@code patrimonio.busca}).
+ */
+@Configuration
+@EnableConfigurationProperties(BuscaProperties.class)
+public class BuscaConfig {
+}
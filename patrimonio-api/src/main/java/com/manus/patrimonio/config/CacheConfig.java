@@ -0,0 +1,216 @@
+package com.manus.patrimonio.config;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
+import com.fasterxml.jackson.databind.jsontype.PolymorphicTypeValidator;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.manus.patrimonio.cache.CacheDoisNiveisManager;
+import com.manus.patrimonio.cache.CacheDoisNiveisMeterBinderProvider;
+import com.manus.patrimonio.cache.CacheDoisNiveisProperties;
+import com.manus.patrimonio.cache.CanalInvalidacaoRedis;
+import com.manus.patrimonio.cache.ContadoresGeracaoRedis;
+import com.manus.patrimonio.cache.ContainerInvalidacaoRedis;
+import com.manus.patrimonio.cache.PaginaCache;
+import org.springframework.boot.autoconfigure.cache.CacheProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CachingConfigurer;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.interceptor.CacheErrorHandler;
+import org.springframework.cache.interceptor.LoggingCacheErrorHandler;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Configuração do cache da aplicação.
+ * Habilita o processamento de {@code @Cacheable}/{@code @CacheEvict} e serializa
+ * os valores do Redis em Smile (JSON binário), já que os DTOs não são
+ * {@link java.io.Serializable}. Com {@code spring.cache.type=redis}, o cache
+ * passa a ter dois níveis: Caffeine por nó (L1) na frente do Redis (L2).
+ */
+@Configuration
+@EnableCaching
+@EnableConfigurationProperties({CacheProperties.class, CacheDoisNiveisProperties.class})
+public class CacheConfig implements CachingConfigurer {
+
+    private static final Pattern COLECOES_PERMITIDAS = Pattern.compile(
+            "java\\.util\\.(ArrayList|HashMap|LinkedHashMap|ImmutableCollections\\$\\w+)");
+
+    /**
+     * Falhas de leitura/escrita no cache são registradas em log e tratadas como miss,
+     * para que uma indisponibilidade do Redis não derrube as requisições.
+     */
+    @Override
+    public CacheErrorHandler errorHandler() {
+        return new LoggingCacheErrorHandler();
+    }
+
+    @Bean
+    public RedisCacheConfiguration redisCacheConfiguration(CacheProperties cacheProperties) {
+        CacheProperties.Redis redis = cacheProperties.getRedis();
+
+        RedisCacheConfiguration configuracao = RedisCacheConfiguration.defaultCacheConfig()
+                .serializeValuesWith(RedisSerializationContext.SerializationPair
+                        .fromSerializer(serializadorCache()));
+        if (redis.getTimeToLive() != null) {
+            configuracao = configuracao.entryTtl(redis.getTimeToLive());
+        }
+        if (redis.getKeyPrefix() != null) {
+            configuracao = configuracao.prefixCacheNameWith(redis.getKeyPrefix());
+        }
+        if (!redis.isCacheNullValues()) {
+            configuracao = configuracao.disableCachingNullValues();
+        }
+        if (!redis.isUseKeyPrefix()) {
+            configuracao = configuracao.disableKeyPrefix();
+        }
+        return configuracao;
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "spring.cache", name = "type", havingValue = "redis")
+    public CanalInvalidacaoRedis canalInvalidacaoCache(RedisConnectionFactory connectionFactory,
+                                                       CacheDoisNiveisProperties doisNiveis) {
+        RedisTemplate<String, Object> template = new RedisTemplate<>();
+        template.setConnectionFactory(connectionFactory);
+        template.setKeySerializer(StringRedisSerializer.UTF_8);
+        template.setValueSerializer(serializadorCache());
+        template.afterPropertiesSet();
+        return new CanalInvalidacaoRedis(template, doisNiveis.getCanalInvalidacao());
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "spring.cache", name = "type", havingValue = "redis")
+    public ContadoresGeracaoRedis contadoresGeracao(RedisConnectionFactory connectionFactory) {
+        return new ContadoresGeracaoRedis(new StringRedisTemplate(connectionFactory));
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "spring.cache", name = "type", havingValue = "redis")
+    public RedisMessageListenerContainer cacheInvalidacaoListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                           CanalInvalidacaoRedis canal) {
+        ContainerInvalidacaoRedis container = new ContainerInvalidacaoRedis();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(canal, new ChannelTopic(canal.getCanal()));
+        return container;
+    }
+
+    /**
+     * L2: {@link RedisCacheManager} com o TTL remoto de cada cache;
+     * L1: um Caffeine por cache, dimensionado por {@code patrimonio.cache}.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "spring.cache", name = "type", havingValue = "redis")
+    public CacheManager cacheManager(RedisConnectionFactory connectionFactory,
+                                     RedisCacheConfiguration redisCacheConfiguration,
+                                     CacheProperties cacheProperties,
+                                     CacheDoisNiveisProperties doisNiveis,
+                                     CanalInvalidacaoRedis canal) {
+        Duration ttlPadrao = doisNiveis.getPadrao().getTtlRemoto();
+        RedisCacheConfiguration padrao = ttlPadrao != null
+                ? redisCacheConfiguration.entryTtl(ttlPadrao)
+                : redisCacheConfiguration;
+
+        Map<String, RedisCacheConfiguration> porCache = new LinkedHashMap<>();
+        doisNiveis.getCaches().keySet().forEach(nome -> {
+            Duration ttl = doisNiveis.configuracao(nome).getTtlRemoto();
+            porCache.put(nome, ttl != null ? padrao.entryTtl(ttl) : padrao);
+        });
+
+        RedisCacheManager.RedisCacheManagerBuilder builder = RedisCacheManager.builder(connectionFactory)
+                .cacheDefaults(padrao)
+                .withInitialCacheConfigurations(porCache);
+        if (cacheProperties.getRedis().isEnableStatistics()) {
+            builder.enableStatistics();
+        }
+        RedisCacheManager remoto = builder.build();
+        remoto.afterPropertiesSet();
+
+        Set<String> nomes = new LinkedHashSet<>(cacheProperties.getCacheNames());
+        nomes.addAll(doisNiveis.getCaches().keySet());
+        return new CacheDoisNiveisManager(remoto, doisNiveis, canal,
+                cacheProperties.getRedis().isCacheNullValues(), nomes);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "spring.cache", name = "type", havingValue = "redis")
+    public CacheDoisNiveisMeterBinderProvider cacheDoisNiveisMeterBinderProvider() {
+        return new CacheDoisNiveisMeterBinderProvider();
+    }
+
+    /**
+     * Serializador dos valores do L2 e das mensagens de invalidação: Smile com o
+     * tipo embutido nos valores não finais, mais compacto que o JSON textual e
+     * igualmente tolerante a mudanças de campos nos DTOs.
+     */
+    public static RedisSerializer<Object> serializadorCache() {
+        return new Jackson2JsonRedisSerializer<>(objectMapperCache(), Object.class);
+    }
+
+    private static ObjectMapper objectMapperCache() {
+        ObjectMapper mapper = new ObjectMapper(new SmileFactory());
+        mapper.registerModule(new JavaTimeModule());
+        mapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        mapper.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        PolymorphicTypeValidator tiposPermitidos = tiposPermitidos();
+        mapper.setPolymorphicTypeValidator(tiposPermitidos);
+        mapper.activateDefaultTyping(tiposPermitidos, ObjectMapper.DefaultTyping.NON_FINAL, JsonTypeInfo.As.PROPERTY);
+        mapper.addMixIn(PaginaCache.class, SomenteCampos.class);
+        mapper.addMixIn(PaginaCache.Ordem.class, SomenteCampos.class);
+        return mapper;
+    }
+
+    /**
+     * Tipos que podem vir embutidos nos valores do Redis e nas mensagens de invalidação.
+     * Qualquer outro é recusado na leitura: quem escreve no Redis não escolhe a classe
+     * que a aplicação instancia. Das coleções, só as implementações que o cache de fato
+     * grava, pelo nome exato: {@code ArrayList} (conteúdo da {@link PaginaCache} e listas
+     * dos DTOs), as imutáveis de {@code List.of}/{@code toList()} e os mapas do JDK.
+     */
+    private static PolymorphicTypeValidator tiposPermitidos() {
+        return BasicPolymorphicTypeValidator.builder()
+                .allowIfSubType("com.manus.patrimonio.dto.")
+                .allowIfSubType("com.manus.patrimonio.cache.")
+                .allowIfSubType(COLECOES_PERMITIDAS)
+                .allowIfSubType(Number.class)
+                .allowIfSubType(String.class)
+                .allowIfSubType(Boolean.class)
+                .allowIfSubType("java.time.")
+                .build();
+    }
+
+    /**
+     * No Redis, a página vai só com seus campos; as propriedades derivadas de
+     * {@code Page} (totalPages, pageable, first...) continuam apenas na resposta da API.
+     */
+    @JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.ANY,
+            getterVisibility = JsonAutoDetect.Visibility.NONE,
+            isGetterVisibility = JsonAutoDetect.Visibility.NONE,
+            setterVisibility = JsonAutoDetect.Visibility.NONE)
+    private abstract static class SomenteCampos {
+    }
+}
@@ -1,15 +1,33 @@
 package com.manus.patrimonio.config;
 
+import com.manus.patrimonio.security.SenhaProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
 
+import java.util.Map;
+
+/**
+ * Hashes gravados com o prefixo do algoritmo ({@code {bcrypt}...}); os hashes antigos,
+ * sem prefixo, são bcrypt e continuam sendo aceitos até serem regravados no login.
+ */
 @Configuration
+@EnableConfigurationProperties(SenhaProperties.class)
 public class PasswordConfig {
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(SenhaProperties properties) {
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(properties.getForcaBcrypt());
+        Map<String, PasswordEncoder> codificadores = Map.of(
+                "bcrypt", bcrypt,
+                "pbkdf2", Pbkdf2PasswordEncoder.defaultsForSpringSecurity_v5_8());
+
+        DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder(properties.getAlgoritmo(), codificadores);
+        encoder.setDefaultPasswordEncoderForMatches(bcrypt);
+        return encoder;
     }
 }
@@ -0,0 +1,39 @@
+package com.manus.patrimonio.config;
+
+import com.manus.patrimonio.relatorio.LimpezaRelatoriosJob;
+import com.manus.patrimonio.relatorio.RelatorioProperties;
+import org.quartz.CronScheduleBuilder;
+import org.quartz.JobBuilder;
+import org.quartz.JobDetail;
+import org.quartz.Trigger;
+import org.quartz.TriggerBuilder;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Registra a configuração dos relatórios em segundo plano ({@code patrimonio.relatorios})
+ * e agenda a limpeza dos arquivos vencidos no Quartz.
+ */
+@Configuration
+@EnableConfigurationProperties(RelatorioProperties.class)
+public class RelatorioConfig {
+
+    @Bean
+    public JobDetail limpezaRelatoriosJob() {
+        return JobBuilder.newJob(LimpezaRelatoriosJob.class)
+                .withIdentity("limpezaRelatorios", "relatorios")
+                .storeDurably()
+                .build();
+    }
+
+    @Bean
+    public Trigger limpezaRelatoriosTrigger(JobDetail limpezaRelatoriosJob, RelatorioProperties properties) {
+        return TriggerBuilder.newTrigger()
+                .forJob(limpezaRelatoriosJob)
+                .withIdentity("limpezaRelatorios", "relatorios")
+                .withSchedule(CronScheduleBuilder.cronSchedule(properties.getCronLimpeza())
+                        .withMisfireHandlingInstructionDoNothing())
+                .build();
+    }
+}
@@ -0,0 +1,73 @@
+package com.manus.patrimonio.config;
+
+import com.manus.patrimonio.replica.MonitorReplica;
+import com.manus.patrimonio.replica.ReplicaComFallbackDataSource;
+import com.manus.patrimonio.replica.ReplicaProperties;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * Com {@code patrimonio.datasource.replica.url} definido, o {@link DataSource} da
+ * aplicação passa a rotear pelo flag somente leitura da transação: as transações
+ * {@code @Transactional(readOnly = true)} usam a réplica e as demais, o primário.
+ * <p>
+ * O {@link LazyConnectionDataSourceProxy} só obtém a conexão física no primeiro
+ * statement, depois de o gerenciador de transações marcar a conexão como somente
+ * leitura; é isso que permite escolher o pool certo. Transações que entram numa
+ * transação de escrita já aberta continuam na conexão dela, no primário.
+ * Leituras que alimentam cache usam {@link com.manus.patrimonio.replica.LeituraNoPrimario}.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "patrimonio.datasource.replica", name = "url")
+@EnableConfigurationProperties(ReplicaProperties.class)
+public class ReplicaDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource dataSourcePrimario(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primario");
+        return dataSource;
+    }
+
+    @Bean
+    public HikariDataSource dataSourceReplica(ReplicaProperties properties) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("replica");
+        dataSource.setJdbcUrl(properties.getUrl());
+        dataSource.setUsername(properties.getUsername());
+        dataSource.setPassword(properties.getPassword());
+        dataSource.setMaximumPoolSize(properties.getMaximumPoolSize());
+        dataSource.setReadOnly(true);
+        // A réplica fora do ar não pode impedir a subida: o monitor a mantém desligada até responder
+        dataSource.setInitializationFailTimeout(-1);
+        return dataSource;
+    }
+
+    @Bean
+    public MonitorReplica monitorReplica(@Qualifier("dataSourceReplica") DataSource replica,
+                                         ReplicaProperties properties, MeterRegistry meterRegistry) {
+        return new MonitorReplica(replica, properties, meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("dataSourcePrimario") DataSource primario,
+                                 @Qualifier("dataSourceReplica") DataSource replica,
+                                 MonitorReplica monitorReplica) {
+        LazyConnectionDataSourceProxy roteador = new LazyConnectionDataSourceProxy(primario);
+        roteador.setReadOnlyDataSource(new ReplicaComFallbackDataSource(replica, primario, monitorReplica));
+        return roteador;
+    }
+}
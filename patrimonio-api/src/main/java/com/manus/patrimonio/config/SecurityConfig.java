@@ -1,8 +1,13 @@
 package com.manus.patrimonio.config;
 
+import com.manus.patrimonio.security.CachePrincipaisProperties;
+import com.manus.patrimonio.security.EnderecoClienteProperties;
 import com.manus.patrimonio.security.JwtAuthenticationFilter;
+import com.manus.patrimonio.security.JwtProperties;
+import com.manus.patrimonio.security.TentativasLoginProperties;
 import com.manus.patrimonio.security.JwtAuthenticationEntryPoint;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -14,6 +19,8 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 
 @Configuration
 @EnableWebSecurity
+@EnableConfigurationProperties({CachePrincipaisProperties.class, EnderecoClienteProperties.class, JwtProperties.class,
+        TentativasLoginProperties.class})
 public class SecurityConfig {
 
     @Autowired
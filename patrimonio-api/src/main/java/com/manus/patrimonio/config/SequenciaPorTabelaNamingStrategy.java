@@ -0,0 +1,40 @@
+package com.manus.patrimonio.config;
+
+import org.hibernate.boot.model.naming.Identifier;
+import org.hibernate.boot.model.relational.QualifiedName;
+import org.hibernate.boot.model.relational.QualifiedSequenceName;
+import org.hibernate.id.PersistentIdentifierGenerator;
+import org.hibernate.id.enhanced.ImplicitDatabaseObjectNamingStrategy;
+import org.hibernate.id.enhanced.StandardNamingStrategy;
+import org.hibernate.internal.util.config.ConfigurationHelper;
+import org.hibernate.service.ServiceRegistry;
+
+import java.util.Map;
+
+/**
+ * Nomeia a sequência implícita de cada entidade como {@code <tabela>_id_seq},
+ * o mesmo nome da sequência criada pelo BIGSERIAL das migrações. Assim o Hibernate
+ * e os INSERTs feitos direto via JDBC (que reservam blocos com
+ * {@link com.manus.patrimonio.util.ReservaIds}) compartilham a mesma sequência, sem
+ * colisão de IDs.
+ */
+public class SequenciaPorTabelaNamingStrategy implements ImplicitDatabaseObjectNamingStrategy {
+
+    private final StandardNamingStrategy padrao = new StandardNamingStrategy();
+
+    @Override
+    public QualifiedName determineSequenceName(Identifier catalogName, Identifier schemaName,
+                                               Map<?, ?> configValues, ServiceRegistry serviceRegistry) {
+        String tabela = ConfigurationHelper.getString(PersistentIdentifierGenerator.TABLE, configValues);
+        if (tabela == null) {
+            return padrao.determineSequenceName(catalogName, schemaName, configValues, serviceRegistry);
+        }
+        return new QualifiedSequenceName(catalogName, schemaName, Identifier.toIdentifier(tabela + "_id_seq"));
+    }
+
+    @Override
+    public QualifiedName determineTableName(Identifier catalogName, Identifier schemaName,
+                                            Map<?, ?> configValues, ServiceRegistry serviceRegistry) {
+        return padrao.determineTableName(catalogName, schemaName, configValues, serviceRegistry);
+    }
+}
@@ -0,0 +1,49 @@
+package com.manus.patrimonio.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.quartz.QuartzProperties;
+import org.springframework.boot.autoconfigure.quartz.SchedulerFactoryBeanCustomizer;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+
+import java.util.Properties;
+
+/**
+ * Modo de threads virtuais ({@code spring.threads.virtual.enabled}). O Spring Boot já
+ * passa o Tomcat e o {@code applicationTaskExecutor} para threads virtuais; aqui o mesmo
+ * vale para os jobs do Quartz, que por padrão rodam no {@code SimpleThreadPool}.
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class ThreadsVirtuaisConfig {
+
+    private static final String PREFIXO_THREAD_POOL = "org.quartz.threadPool.";
+    private static final String THREAD_COUNT = PREFIXO_THREAD_POOL + "threadCount";
+
+    /**
+     * Executa os jobs em threads virtuais, com o mesmo limite de jobs simultâneos do
+     * {@code threadCount} configurado. As propriedades {@code threadPool.*} saem da
+     * configuração do Quartz: com um executor próprio ele usa o
+     * {@code LocalTaskExecutorThreadPool}, que não as aceita.
+     */
+    @Bean
+    public SchedulerFactoryBeanCustomizer quartzEmThreadsVirtuais(QuartzProperties quartzProperties) {
+        return schedulerFactoryBean -> {
+            Properties propriedades = new Properties();
+            quartzProperties.getProperties().forEach((chave, valor) -> {
+                if (!chave.startsWith(PREFIXO_THREAD_POOL)) {
+                    propriedades.setProperty(chave, valor);
+                }
+            });
+            schedulerFactoryBean.setQuartzProperties(propriedades);
+
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("quartz-");
+            executor.setVirtualThreads(true);
+            executor.setConcurrencyLimit(Integer.parseInt(
+                    quartzProperties.getProperties().getOrDefault(THREAD_COUNT, "10")));
+            schedulerFactoryBean.setTaskExecutor(executor);
+        };
+    }
+}
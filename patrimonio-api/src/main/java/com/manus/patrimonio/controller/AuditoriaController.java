@@ -1,14 +1,20 @@
 package com.manus.patrimonio.controller;
 
 import com.manus.patrimonio.dto.AuditoriaDTO;
+import com.manus.patrimonio.dto.AuditoriaResumoDTO;
+import com.manus.patrimonio.exportacao.FormatoExportacao;
 import com.manus.patrimonio.service.AuditoriaService;
+import com.manus.patrimonio.service.ExportacaoService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -21,6 +27,9 @@ public class AuditoriaController {
     @Autowired
     private AuditoriaService auditoriaService;
 
+    @Autowired
+    private ExportacaoService exportacaoService;
+
     @GetMapping("/{id}")
     @Operation(summary = "Buscar auditoria por ID", description = "Retorna um registro de auditoria específico")
     public ResponseEntity<AuditoriaDTO> buscarPorId(@PathVariable Long id) {
@@ -35,6 +44,13 @@ public class AuditoriaController {
         return ResponseEntity.ok(auditorias);
     }
 
+    @GetMapping("/resumo")
+    @Operation(summary = "Listar resumo das auditorias",
+               description = "Retorna lista paginada sem os dados anteriores/novos de cada registro")
+    public ResponseEntity<Page<AuditoriaResumoDTO>> listarResumos(Pageable pageable) {
+        return ResponseEntity.ok(auditoriaService.buscarResumos(pageable));
+    }
+
     @GetMapping("/entidade/{entidade}")
     @Operation(summary = "Buscar por entidade", description = "Busca auditorias por entidade")
     public ResponseEntity<Page<AuditoriaDTO>> buscarPorEntidade(@PathVariable String entidade, Pageable pageable) {
@@ -74,6 +90,20 @@ public class AuditoriaController {
         return ResponseEntity.ok(auditorias);
     }
 
+    @GetMapping("/exportar")
+    @Operation(summary = "Exportar auditorias", description = "Exporta as auditorias do período em CSV ou NDJSON, enviadas à medida que são lidas do banco")
+    public ResponseEntity<StreamingResponseBody> exportar(@RequestParam LocalDateTime dataInicio,
+                                                          @RequestParam LocalDateTime dataFim,
+                                                          @RequestParam(defaultValue = "csv") String formato) {
+        FormatoExportacao formatoExportacao = FormatoExportacao.de(formato);
+        StreamingResponseBody corpo = saida -> exportacaoService.exportarAuditoria(formatoExportacao, dataInicio, dataFim, saida);
+        return ResponseEntity.ok()
+                .contentType(formatoExportacao.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("auditoria." + formatoExportacao.getExtensao()).build().toString())
+                .body(corpo);
+    }
+
     @GetMapping("/entidade/{entidade}/periodo")
     @Operation(summary = "Buscar por entidade e período", description = "Busca auditorias por entidade e período")
     public ResponseEntity<Page<AuditoriaDTO>> buscarPorEntidadeEPeriodo(@PathVariable String entidade,
@@ -1,6 +1,8 @@
 package com.manus.patrimonio.controller;
 
+import com.manus.patrimonio.security.ResolvedorEnderecoCliente;
 import com.manus.patrimonio.service.AuthenticationService;
+import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -14,6 +16,9 @@ public class AuthenticationController {
     @Autowired
     private AuthenticationService authenticationService;
 
+    @Autowired
+    private ResolvedorEnderecoCliente resolvedorEnderecoCliente;
+
     @GetMapping("/ping")
     public String ping() {
         return "pong";
@@ -25,14 +30,16 @@ public class AuthenticationController {
     }
 
     @PostMapping("/login")
-    public ResponseEntity<Map<String, Object>> login(@RequestParam String username, @RequestParam String password) {
+    public ResponseEntity<Map<String, Object>> login(@RequestParam String username, @RequestParam String password,
+                                                     HttpServletRequest request) {
         try {
             if (username == null || password == null) {
                 return ResponseEntity.badRequest()
                     .body(Map.of("status", 400, "erro", "Dados inválidos", "mensagem", "Username e password são obrigatórios"));
             }
             
-            Map<String, Object> response = authenticationService.authenticateUser(username, password);
+            Map<String, Object> response = authenticationService.authenticateUser(username, password,
+                    resolvedorEnderecoCliente.resolver(request));
             return ResponseEntity.ok(response);
             
         } catch (Exception e) {
@@ -42,7 +49,8 @@ public class AuthenticationController {
     }
 
     @GetMapping("/login")
-    public ResponseEntity<Map<String, Object>> loginGet(@RequestParam String username, @RequestParam String password) {
-        return login(username, password);
+    public ResponseEntity<Map<String, Object>> loginGet(@RequestParam String username, @RequestParam String password,
+                                                        HttpServletRequest request) {
+        return login(username, password, request);
     }
 }
@@ -1,16 +1,22 @@
 package com.manus.patrimonio.controller;
 
 import com.manus.patrimonio.dto.BaixaDTO;
+import com.manus.patrimonio.exportacao.FormatoExportacao;
 import com.manus.patrimonio.service.BaixaService;
+import com.manus.patrimonio.service.ExportacaoService;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -24,6 +30,9 @@ public class BaixaController {
     @Autowired
     private BaixaService baixaService;
 
+    @Autowired
+    private ExportacaoService exportacaoService;
+
     @PostMapping
     @Operation(summary = "Criar baixa", description = "Cria uma nova baixa de bem")
     public ResponseEntity<BaixaDTO> criar(@Valid @RequestBody BaixaDTO baixaDTO) {
@@ -31,6 +40,19 @@ public class BaixaController {
         return ResponseEntity.status(HttpStatus.CREATED).body(baixaCriada);
     }
 
+    @GetMapping("/exportar")
+    @Operation(summary = "Exportar baixas", description = "Exporta todas as baixas em CSV, NDJSON ou XLSX, lidas do banco por cursor")
+    public ResponseEntity<StreamingResponseBody> exportar(
+            @Parameter(description = "Formato do arquivo: csv, ndjson ou xlsx") @RequestParam(defaultValue = "xlsx") String formato) {
+        FormatoExportacao formatoExportacao = FormatoExportacao.de(formato);
+        StreamingResponseBody corpo = saida -> exportacaoService.exportarBaixas(formatoExportacao, saida);
+        return ResponseEntity.ok()
+                .contentType(formatoExportacao.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("baixas." + formatoExportacao.getExtensao()).build().toString())
+                .body(corpo);
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "Buscar baixa por ID", description = "Retorna uma baixa específica")
     public ResponseEntity<BaixaDTO> buscarPorId(@PathVariable Long id) {
@@ -1,9 +1,16 @@
 package com.manus.patrimonio.controller;
 
 import com.manus.patrimonio.dto.BemDTO;
+import com.manus.patrimonio.dto.BemResumoDTO;
+import com.manus.patrimonio.dto.DashboardBensDTO;
+import com.manus.patrimonio.dto.PaginaCursorDTO;
+import com.manus.patrimonio.dto.ResultadoImportacaoDTO;
 import com.manus.patrimonio.enums.CondicaoBem;
 import com.manus.patrimonio.enums.StatusBem;
+import com.manus.patrimonio.exportacao.FormatoExportacao;
 import com.manus.patrimonio.service.BemService;
+import com.manus.patrimonio.service.ExportacaoService;
+import com.manus.patrimonio.service.ImportacaoBemService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -15,10 +22,18 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
@@ -31,6 +46,12 @@ public class BemController {
     @Autowired
     private BemService bemService;
 
+    @Autowired
+    private ExportacaoService exportacaoService;
+
+    @Autowired
+    private ImportacaoBemService importacaoBemService;
+
     @Operation(summary = "Listar todos os bens", description = "Retorna uma lista paginada de todos os bens patrimoniais")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Lista de bens retornada com sucesso")
@@ -42,6 +63,17 @@ public class BemController {
         return ResponseEntity.ok(bens);
     }
 
+    @Operation(summary = "Listar resumo dos bens",
+               description = "Retorna uma lista paginada só com os campos exibidos na listagem, sem carregar o bem completo")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Lista de bens retornada com sucesso")
+    })
+    @GetMapping("/resumo")
+    public ResponseEntity<Page<BemResumoDTO>> listarResumos(
+            @PageableDefault(size = 20, sort = "nome") Pageable pageable) {
+        return ResponseEntity.ok(bemService.buscarResumos(pageable));
+    }
+
     @Operation(summary = "Buscar bem por ID", description = "Retorna um bem específico pelo seu ID")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Bem encontrado"),
@@ -114,7 +146,7 @@ public class BemController {
         return ResponseEntity.ok(bens);
     }
 
-    @Operation(summary = "Buscar bens por texto", description = "Busca bens que contenham o texto no nome, descrição, número de série ou observações")
+    @Operation(summary = "Buscar bens por texto", description = "Busca bens que contenham o texto no nome, descrição, número de série ou observações. No PostgreSQL os resultados vêm ordenados por relevância e o parâmetro sort é ignorado")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Busca realizada com sucesso")
     })
@@ -152,15 +184,15 @@ public class BemController {
         return ResponseEntity.ok(bens);
     }
 
-    @Operation(summary = "Buscar bens com filtros", description = "Busca bens aplicando múltiplos filtros")
+    @Operation(summary = "Buscar bens com filtros", description = "Busca bens aplicando múltiplos filtros; categoria e status aceitam múltiplos valores e a ordenação é livre via sort")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Busca realizada com sucesso")
     })
     @GetMapping("/filtros")
     public ResponseEntity<Page<BemDTO>> buscarComFiltros(
-            @Parameter(description = "ID da categoria") @RequestParam(required = false) Long categoriaId,
+            @Parameter(description = "IDs das categorias") @RequestParam(name = "categoriaId", required = false) List<Long> categoriaIds,
             @Parameter(description = "ID da localização") @RequestParam(required = false) Long localizacaoId,
-            @Parameter(description = "Status do bem") @RequestParam(required = false) StatusBem status,
+            @Parameter(description = "Status do bem (aceita múltiplos valores)") @RequestParam(required = false) List<StatusBem> status,
             @Parameter(description = "Condição do bem") @RequestParam(required = false) CondicaoBem condicao,
             @Parameter(description = "Valor mínimo") @RequestParam(required = false) BigDecimal valorMinimo,
             @Parameter(description = "Valor máximo") @RequestParam(required = false) BigDecimal valorMaximo,
@@ -168,11 +200,146 @@ public class BemController {
             @Parameter(description = "Data de fim") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dataFim,
             @PageableDefault(size = 20, sort = "nome") Pageable pageable) {
         
-        Page<BemDTO> bens = bemService.buscarComFiltros(categoriaId, localizacaoId, status, condicao,
+        Page<BemDTO> bens = bemService.buscarComFiltros(categoriaIds, localizacaoId, status, condicao,
                                                        valorMinimo, valorMaximo, dataInicio, dataFim, pageable);
         return ResponseEntity.ok(bens);
     }
 
+    @Operation(summary = "Exportar todos os bens", description = "Exporta o cadastro completo de bens em CSV, NDJSON ou XLSX, lido do banco por cursor")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Exportação iniciada"),
+        @ApiResponse(responseCode = "400", description = "Formato inválido")
+    })
+    @GetMapping("/exportar")
+    public ResponseEntity<StreamingResponseBody> exportar(
+            @Parameter(description = "Formato do arquivo: csv, ndjson ou xlsx") @RequestParam(defaultValue = "csv") String formato) {
+        FormatoExportacao formatoExportacao = FormatoExportacao.de(formato);
+        StreamingResponseBody corpo = saida -> exportacaoService.exportarBens(formatoExportacao, saida);
+        return ResponseEntity.ok()
+                .contentType(formatoExportacao.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("bens." + formatoExportacao.getExtensao()).build().toString())
+                .body(corpo);
+    }
+
+    @Operation(summary = "Exportar relatório de depreciação", description = "Exporta a depreciação linear acumulada e o valor contábil de cada bem até hoje")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Exportação iniciada"),
+        @ApiResponse(responseCode = "400", description = "Formato inválido")
+    })
+    @GetMapping("/exportar/depreciacao")
+    public ResponseEntity<StreamingResponseBody> exportarDepreciacao(
+            @Parameter(description = "Formato do arquivo: csv, ndjson ou xlsx") @RequestParam(defaultValue = "xlsx") String formato) {
+        FormatoExportacao formatoExportacao = FormatoExportacao.de(formato);
+        StreamingResponseBody corpo = saida -> exportacaoService.exportarDepreciacao(formatoExportacao, saida);
+        return ResponseEntity.ok()
+                .contentType(formatoExportacao.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("depreciacao." + formatoExportacao.getExtensao()).build().toString())
+                .body(corpo);
+    }
+
+    @Operation(summary = "Importar bens", description = "Cadastra em massa os bens de um arquivo CSV ou XLSX com as colunas da exportação; linhas inválidas são rejeitadas e listadas no resultado")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Importação processada"),
+        @ApiResponse(responseCode = "400", description = "Arquivo em formato não suportado")
+    })
+    @PostMapping(value = "/importar", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ResultadoImportacaoDTO> importar(
+            @Parameter(description = "Arquivo .csv ou .xlsx") @RequestParam("arquivo") MultipartFile arquivo,
+            @Parameter(description = "Apenas validar, sem gravar") @RequestParam(defaultValue = "false") boolean simular,
+            Authentication autenticacao) throws IOException {
+        try (InputStream entrada = arquivo.getInputStream()) {
+            ResultadoImportacaoDTO resultado = importacaoBemService.importar(arquivo.getOriginalFilename(), entrada,
+                    simular, autenticacao != null ? autenticacao.getName() : null);
+            return ResponseEntity.ok(resultado);
+        }
+    }
+
+    @Operation(summary = "Listar bens por cursor", description = "Retorna bens paginados por cursor (keyset), ordenados por nome, sem contagem total salvo quando solicitada")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Lista de bens retornada com sucesso"),
+        @ApiResponse(responseCode = "400", description = "Cursor ou tamanho inválido")
+    })
+    @GetMapping("/cursor")
+    public ResponseEntity<PaginaCursorDTO<BemDTO>> listarPorCursor(
+            @Parameter(description = "Cursor retornado na página anterior") @RequestParam(required = false) String after,
+            @Parameter(description = "Quantidade de registros por página") @RequestParam(defaultValue = "20") int tamanho,
+            @Parameter(description = "Incluir total de registros") @RequestParam(defaultValue = "false") boolean incluirTotal) {
+        PaginaCursorDTO<BemDTO> bens = bemService.buscarTodosPorCursor(after, tamanho, incluirTotal);
+        return ResponseEntity.ok(bens);
+    }
+
+    @Operation(summary = "Buscar bens por status por cursor", description = "Retorna bens filtrados por status paginados por cursor")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Busca realizada com sucesso"),
+        @ApiResponse(responseCode = "400", description = "Cursor ou tamanho inválido")
+    })
+    @GetMapping("/status/{status}/cursor")
+    public ResponseEntity<PaginaCursorDTO<BemDTO>> buscarPorStatusPorCursor(
+            @Parameter(description = "Status do bem") @PathVariable StatusBem status,
+            @Parameter(description = "Cursor retornado na página anterior") @RequestParam(required = false) String after,
+            @Parameter(description = "Quantidade de registros por página") @RequestParam(defaultValue = "20") int tamanho,
+            @Parameter(description = "Incluir total de registros") @RequestParam(defaultValue = "false") boolean incluirTotal) {
+        PaginaCursorDTO<BemDTO> bens = bemService.buscarPorStatusPorCursor(status, after, tamanho, incluirTotal);
+        return ResponseEntity.ok(bens);
+    }
+
+    @Operation(summary = "Buscar bens por categoria por cursor", description = "Retorna bens de uma categoria paginados por cursor")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Busca realizada com sucesso"),
+        @ApiResponse(responseCode = "400", description = "Cursor ou tamanho inválido")
+    })
+    @GetMapping("/categoria/{categoriaId}/cursor")
+    public ResponseEntity<PaginaCursorDTO<BemDTO>> buscarPorCategoriaPorCursor(
+            @Parameter(description = "ID da categoria") @PathVariable Long categoriaId,
+            @Parameter(description = "Cursor retornado na página anterior") @RequestParam(required = false) String after,
+            @Parameter(description = "Quantidade de registros por página") @RequestParam(defaultValue = "20") int tamanho,
+            @Parameter(description = "Incluir total de registros") @RequestParam(defaultValue = "false") boolean incluirTotal) {
+        PaginaCursorDTO<BemDTO> bens = bemService.buscarPorCategoriaPorCursor(categoriaId, after, tamanho, incluirTotal);
+        return ResponseEntity.ok(bens);
+    }
+
+    @Operation(summary = "Buscar bens por localização por cursor", description = "Retorna bens de uma localização paginados por cursor")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Busca realizada com sucesso"),
+        @ApiResponse(responseCode = "400", description = "Cursor ou tamanho inválido")
+    })
+    @GetMapping("/localizacao/{localizacaoId}/cursor")
+    public ResponseEntity<PaginaCursorDTO<BemDTO>> buscarPorLocalizacaoPorCursor(
+            @Parameter(description = "ID da localização") @PathVariable Long localizacaoId,
+            @Parameter(description = "Cursor retornado na página anterior") @RequestParam(required = false) String after,
+            @Parameter(description = "Quantidade de registros por página") @RequestParam(defaultValue = "20") int tamanho,
+            @Parameter(description = "Incluir total de registros") @RequestParam(defaultValue = "false") boolean incluirTotal) {
+        PaginaCursorDTO<BemDTO> bens = bemService.buscarPorLocalizacaoPorCursor(localizacaoId, after, tamanho, incluirTotal);
+        return ResponseEntity.ok(bens);
+    }
+
+    @Operation(summary = "Buscar bens com filtros por cursor", description = "Busca bens aplicando múltiplos filtros, paginados por cursor")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Busca realizada com sucesso"),
+        @ApiResponse(responseCode = "400", description = "Cursor ou tamanho inválido")
+    })
+    @GetMapping("/filtros/cursor")
+    public ResponseEntity<PaginaCursorDTO<BemDTO>> buscarComFiltrosPorCursor(
+            @Parameter(description = "IDs das categorias") @RequestParam(name = "categoriaId", required = false) List<Long> categoriaIds,
+            @Parameter(description = "ID da localização") @RequestParam(required = false) Long localizacaoId,
+            @Parameter(description = "Status do bem (aceita múltiplos valores)") @RequestParam(required = false) List<StatusBem> status,
+            @Parameter(description = "Condição do bem") @RequestParam(required = false) CondicaoBem condicao,
+            @Parameter(description = "Valor mínimo") @RequestParam(required = false) BigDecimal valorMinimo,
+            @Parameter(description = "Valor máximo") @RequestParam(required = false) BigDecimal valorMaximo,
+            @Parameter(description = "Data de início") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dataInicio,
+            @Parameter(description = "Data de fim") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dataFim,
+            @Parameter(description = "Cursor retornado na página anterior") @RequestParam(required = false) String after,
+            @Parameter(description = "Quantidade de registros por página") @RequestParam(defaultValue = "20") int tamanho,
+            @Parameter(description = "Incluir total de registros") @RequestParam(defaultValue = "false") boolean incluirTotal) {
+
+        PaginaCursorDTO<BemDTO> bens = bemService.buscarComFiltrosPorCursor(categoriaIds, localizacaoId, status, condicao,
+                                                                           valorMinimo, valorMaximo, dataInicio, dataFim,
+                                                                           after, tamanho, incluirTotal);
+        return ResponseEntity.ok(bens);
+    }
+
     @Operation(summary = "Criar novo bem", description = "Cria um novo bem patrimonial")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "201", description = "Bem criado com sucesso"),
@@ -224,6 +391,17 @@ public class BemController {
         return ResponseEntity.noContent().build();
     }
 
+    @Operation(summary = "Dashboard de bens",
+               description = "Retorna quantidade e valores dos bens no total e por status, condição, categoria e localização")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Dashboard montado com sucesso")
+    })
+    @GetMapping("/estatisticas/dashboard")
+    public ResponseEntity<DashboardBensDTO> buscarDashboard() {
+        DashboardBensDTO dashboard = bemService.buscarDashboard();
+        return ResponseEntity.ok(dashboard);
+    }
+
     @Operation(summary = "Contar bens por status", description = "Retorna a quantidade de bens por status")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Contagem realizada com sucesso")
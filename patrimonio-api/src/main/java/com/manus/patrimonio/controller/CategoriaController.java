@@ -61,7 +61,7 @@ public class CategoriaController {
         return ResponseEntity.ok(categoria);
     }
 
-    @Operation(summary = "Buscar categorias por texto", description = "Busca categorias que contenham o texto no nome ou descrição")
+    @Operation(summary = "Buscar categorias por texto", description = "Busca categorias que contenham o texto no nome ou descrição. No PostgreSQL os resultados vêm ordenados por relevância e o parâmetro sort é ignorado")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Busca realizada com sucesso")
     })
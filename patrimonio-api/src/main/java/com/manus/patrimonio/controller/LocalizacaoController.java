@@ -61,7 +61,7 @@ public class LocalizacaoController {
         return ResponseEntity.ok(localizacao);
     }
 
-    @Operation(summary = "Buscar localizações por texto", description = "Busca localizações que contenham o texto no nome, endereço, responsável ou descrição")
+    @Operation(summary = "Buscar localizações por texto", description = "Busca localizações que contenham o texto no nome, endereço, responsável ou descrição. No PostgreSQL os resultados vêm ordenados por relevância e o parâmetro sort é ignorado")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Busca realizada com sucesso")
     })
@@ -1,7 +1,12 @@
 package com.manus.patrimonio.controller;
 
 import com.manus.patrimonio.dto.MovimentacaoDTO;
+import com.manus.patrimonio.dto.MovimentacaoResumoDTO;
+import com.manus.patrimonio.dto.MovimentacaoLoteDTO;
+import com.manus.patrimonio.dto.ResultadoMovimentacaoLoteDTO;
 import com.manus.patrimonio.enums.TipoMovimentacao;
+import com.manus.patrimonio.exportacao.FormatoExportacao;
+import com.manus.patrimonio.service.ExportacaoService;
 import com.manus.patrimonio.service.MovimentacaoService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -13,11 +18,17 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import jakarta.validation.Valid;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
@@ -28,6 +39,9 @@ public class MovimentacaoController {
     @Autowired
     private MovimentacaoService movimentacaoService;
 
+    @Autowired
+    private ExportacaoService exportacaoService;
+
     @GetMapping
     @Operation(summary = "Listar movimentações", description = "Retorna uma lista paginada de todas as movimentações")
     @ApiResponses(value = {
@@ -42,6 +56,39 @@ public class MovimentacaoController {
         return ResponseEntity.ok(movimentacoes);
     }
 
+    @GetMapping("/resumo")
+    @Operation(summary = "Listar resumo das movimentações",
+               description = "Retorna uma lista paginada só com os campos exibidos na listagem")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Movimentações listadas com sucesso"),
+        @ApiResponse(responseCode = "401", description = "Não autorizado"),
+        @ApiResponse(responseCode = "403", description = "Acesso negado")
+    })
+    public ResponseEntity<Page<MovimentacaoResumoDTO>> listarResumos(
+            @Parameter(description = "Configurações de paginação") Pageable pageable) {
+        return ResponseEntity.ok(movimentacaoService.buscarResumos(pageable));
+    }
+
+    @GetMapping("/exportar")
+    @Operation(summary = "Exportar movimentações",
+               description = "Exporta todas as movimentações em CSV, NDJSON ou XLSX, lidas do banco por cursor")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Exportação iniciada"),
+        @ApiResponse(responseCode = "400", description = "Formato inválido"),
+        @ApiResponse(responseCode = "401", description = "Não autorizado"),
+        @ApiResponse(responseCode = "403", description = "Acesso negado")
+    })
+    public ResponseEntity<StreamingResponseBody> exportar(
+            @Parameter(description = "Formato do arquivo: csv, ndjson ou xlsx") @RequestParam(defaultValue = "csv") String formato) {
+        FormatoExportacao formatoExportacao = FormatoExportacao.de(formato);
+        StreamingResponseBody corpo = saida -> exportacaoService.exportarMovimentacoes(formatoExportacao, saida);
+        return ResponseEntity.ok()
+                .contentType(formatoExportacao.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("movimentacoes." + formatoExportacao.getExtensao()).build().toString())
+                .body(corpo);
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "Buscar movimentação por ID", description = "Retorna uma movimentação específica pelo ID")
     @ApiResponses(value = {
@@ -72,6 +119,24 @@ public class MovimentacaoController {
         return ResponseEntity.status(HttpStatus.CREATED).body(movimentacaoCriada);
     }
 
+    @PostMapping("/lote")
+    @Operation(summary = "Movimentar bens em lote", description = "Move para uma localização os bens informados por ID ou todos os bens de uma localização de origem, numa única transação; bens que não podem ser movimentados são listados no resultado")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Movimentação em lote processada",
+                    content = @Content(schema = @Schema(implementation = ResultadoMovimentacaoLoteDTO.class))),
+        @ApiResponse(responseCode = "400", description = "Dados inválidos"),
+        @ApiResponse(responseCode = "404", description = "Localização de destino não encontrada"),
+        @ApiResponse(responseCode = "401", description = "Não autorizado"),
+        @ApiResponse(responseCode = "403", description = "Acesso negado")
+    })
+    public ResponseEntity<ResultadoMovimentacaoLoteDTO> moverEmLote(
+            @Parameter(description = "Bens e localização de destino") @Valid @RequestBody MovimentacaoLoteDTO pedido,
+            Authentication autenticacao) {
+        ResultadoMovimentacaoLoteDTO resultado = movimentacaoService.moverEmLote(pedido,
+                autenticacao != null ? autenticacao.getName() : null);
+        return ResponseEntity.ok(resultado);
+    }
+
     @PutMapping("/{id}")
     @Operation(summary = "Atualizar movimentação", description = "Atualiza uma movimentação existente")
     @ApiResponses(value = {
@@ -144,4 +209,41 @@ public class MovimentacaoController {
         List<MovimentacaoDTO> movimentacoes = movimentacaoService.buscarPorResponsavel(responsavel);
         return ResponseEntity.ok(movimentacoes);
     }
+
+    @GetMapping("/filtros")
+    @Operation(summary = "Buscar movimentações com filtros", description = "Busca movimentações aplicando apenas os filtros informados; tipo aceita múltiplos valores e a ordenação é livre via sort")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Movimentações encontradas com sucesso",
+                    content = @Content(schema = @Schema(implementation = Page.class))),
+        @ApiResponse(responseCode = "401", description = "Não autorizado"),
+        @ApiResponse(responseCode = "403", description = "Acesso negado")
+    })
+    public ResponseEntity<Page<MovimentacaoDTO>> buscarComFiltros(
+            @Parameter(description = "ID do bem") @RequestParam(required = false) Long bemId,
+            @Parameter(description = "Tipos da movimentação") @RequestParam(name = "tipo", required = false) List<TipoMovimentacao> tipos,
+            @Parameter(description = "ID da localização de origem") @RequestParam(required = false) Long localizacaoOrigemId,
+            @Parameter(description = "ID da localização de destino") @RequestParam(required = false) Long localizacaoDestinoId,
+            @Parameter(description = "Data de início") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime dataInicio,
+            @Parameter(description = "Data de fim") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime dataFim,
+            @Parameter(description = "Nome do responsável") @RequestParam(required = false) String responsavel,
+            @Parameter(description = "Configurações de paginação") Pageable pageable) {
+        Page<MovimentacaoDTO> movimentacoes = movimentacaoService.buscarComFiltros(bemId, tipos, localizacaoOrigemId,
+                localizacaoDestinoId, dataInicio, dataFim, responsavel, pageable);
+        return ResponseEntity.ok(movimentacoes);
+    }
+
+    @GetMapping("/buscar")
+    @Operation(summary = "Buscar movimentações por texto", description = "Busca movimentações pelo responsável ou observações. No PostgreSQL os resultados vêm ordenados por relevância e o parâmetro sort é ignorado")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Movimentações encontradas com sucesso",
+                    content = @Content(schema = @Schema(implementation = Page.class))),
+        @ApiResponse(responseCode = "401", description = "Não autorizado"),
+        @ApiResponse(responseCode = "403", description = "Acesso negado")
+    })
+    public ResponseEntity<Page<MovimentacaoDTO>> buscarPorTexto(
+            @Parameter(description = "Termo de busca") @RequestParam String termo,
+            @Parameter(description = "Configurações de paginação") Pageable pageable) {
+        Page<MovimentacaoDTO> movimentacoes = movimentacaoService.buscarPorTexto(termo, pageable);
+        return ResponseEntity.ok(movimentacoes);
+    }
 }
@@ -0,0 +1,77 @@
+package com.manus.patrimonio.controller;
+
+import com.manus.patrimonio.dto.SolicitacaoRelatorioDTO;
+import com.manus.patrimonio.enums.TipoRelatorio;
+import com.manus.patrimonio.exportacao.FormatoExportacao;
+import com.manus.patrimonio.service.RelatorioService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.Resource;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+import java.net.URI;
+import java.time.LocalDateTime;
+
+@RestController
+@RequestMapping("/api/relatorios")
+@Tag(name = "Relatórios", description = "API para geração de relatórios em segundo plano")
+public class RelatorioController {
+
+    @Autowired
+    private RelatorioService relatorioService;
+
+    @PostMapping
+    @Operation(summary = "Solicitar relatório", description = "Agenda a geração de um relatório e retorna o código para acompanhar o status")
+    public ResponseEntity<SolicitacaoRelatorioDTO> solicitar(
+            @Parameter(description = "Tipo do relatório") @RequestParam TipoRelatorio tipo,
+            @Parameter(description = "Formato do arquivo: csv, ndjson ou xlsx") @RequestParam(defaultValue = "xlsx") String formato,
+            @Parameter(description = "Início do período (obrigatório para auditoria)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime dataInicio,
+            @Parameter(description = "Fim do período (obrigatório para auditoria)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime dataFim,
+            Authentication autenticacao) {
+        SolicitacaoRelatorioDTO solicitacao = relatorioService.solicitar(tipo, FormatoExportacao.de(formato),
+                dataInicio, dataFim, autenticacao != null ? autenticacao.getName() : null);
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/relatorios/" + solicitacao.getCodigo()))
+                .body(solicitacao);
+    }
+
+    @GetMapping
+    @Operation(summary = "Listar meus relatórios", description = "Retorna os relatórios solicitados pelo usuário autenticado, mais recentes primeiro")
+    public ResponseEntity<Page<SolicitacaoRelatorioDTO>> listar(Authentication autenticacao, Pageable pageable) {
+        Page<SolicitacaoRelatorioDTO> relatorios = relatorioService.buscarPorSolicitante(
+                autenticacao != null ? autenticacao.getName() : null, pageable);
+        return ResponseEntity.ok(relatorios);
+    }
+
+    @GetMapping("/{codigo}")
+    @Operation(summary = "Consultar relatório", description = "Retorna o status de um relatório solicitado; relatórios de outros usuários respondem 404, exceto para administradores")
+    public ResponseEntity<SolicitacaoRelatorioDTO> buscarPorCodigo(@PathVariable String codigo, Authentication autenticacao) {
+        SolicitacaoRelatorioDTO solicitacao = relatorioService.buscarPorCodigo(codigo, autenticacao);
+        return ResponseEntity.ok(solicitacao);
+    }
+
+    @GetMapping("/{codigo}/arquivo")
+    @Operation(summary = "Baixar relatório", description = "Retorna o arquivo de um relatório concluído; relatórios de outros usuários respondem 404, exceto para administradores")
+    public ResponseEntity<Resource> baixar(@PathVariable String codigo, Authentication autenticacao) {
+        SolicitacaoRelatorioDTO solicitacao = relatorioService.buscarPorCodigo(codigo, autenticacao);
+        Resource arquivo = relatorioService.abrirArquivo(codigo, autenticacao);
+        String nome = solicitacao.getTipo().name().toLowerCase() + "-" + codigo + "."
+                + solicitacao.getFormato().getExtensao();
+        return ResponseEntity.ok()
+                .contentType(solicitacao.getFormato().getMediaType())
+                .contentLength(solicitacao.getTamanhoBytes())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(nome).build().toString())
+                .body(arquivo);
+    }
+}
@@ -0,0 +1,88 @@
+package com.manus.patrimonio.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Linha enxuta da listagem de auditoria, sem os snapshots JSON (dados anteriores/novos)
+ * nem o user agent, que pesam mais que o resto do registro.
+ */
+public class AuditoriaResumoDTO {
+
+    private Long id;
+    private String entidade;
+    private Long entidadeId;
+    private String acao;
+    private Long usuarioId;
+    private String ipAddress;
+    private LocalDateTime dataAcao;
+
+    public AuditoriaResumoDTO() {}
+
+    public AuditoriaResumoDTO(Long id, String entidade, Long entidadeId, String acao, Long usuarioId,
+                              String ipAddress, LocalDateTime dataAcao) {
+        this.id = id;
+        this.entidade = entidade;
+        this.entidadeId = entidadeId;
+        this.acao = acao;
+        this.usuarioId = usuarioId;
+        this.ipAddress = ipAddress;
+        this.dataAcao = dataAcao;
+    }
+
+    // Getters e Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getEntidade() {
+        return entidade;
+    }
+
+    public void setEntidade(String entidade) {
+        this.entidade = entidade;
+    }
+
+    public Long getEntidadeId() {
+        return entidadeId;
+    }
+
+    public void setEntidadeId(Long entidadeId) {
+        this.entidadeId = entidadeId;
+    }
+
+    public String getAcao() {
+        return acao;
+    }
+
+    public void setAcao(String acao) {
+        this.acao = acao;
+    }
+
+    public Long getUsuarioId() {
+        return usuarioId;
+    }
+
+    public void setUsuarioId(Long usuarioId) {
+        this.usuarioId = usuarioId;
+    }
+
+    public String getIpAddress() {
+        return ipAddress;
+    }
+
+    public void setIpAddress(String ipAddress) {
+        this.ipAddress = ipAddress;
+    }
+
+    public LocalDateTime getDataAcao() {
+        return dataAcao;
+    }
+
+    public void setDataAcao(LocalDateTime dataAcao) {
+        this.dataAcao = dataAcao;
+    }
+}
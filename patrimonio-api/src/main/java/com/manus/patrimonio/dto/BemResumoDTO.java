@@ -0,0 +1,133 @@
+package com.manus.patrimonio.dto;
+
+import com.manus.patrimonio.enums.CondicaoBem;
+import com.manus.patrimonio.enums.StatusBem;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Linha enxuta da listagem de bens, montada direto pela consulta (expressão construtora)
+ * sem carregar a entidade {@code Bem}.
+ */
+public class BemResumoDTO {
+
+    private Long id;
+    private String numeroTombamento;
+    private String nome;
+    private StatusBem status;
+    private CondicaoBem condicao;
+    private LocalDate dataAquisicao;
+    private BigDecimal valorAtual;
+    private Long categoriaId;
+    private String categoriaNome;
+    private Long localizacaoAtualId;
+    private String localizacaoAtualNome;
+
+    public BemResumoDTO() {}
+
+    public BemResumoDTO(Long id, String numeroTombamento, String nome, StatusBem status, CondicaoBem condicao,
+                        LocalDate dataAquisicao, BigDecimal valorAtual, Long categoriaId, String categoriaNome,
+                        Long localizacaoAtualId, String localizacaoAtualNome) {
+        this.id = id;
+        this.numeroTombamento = numeroTombamento;
+        this.nome = nome;
+        this.status = status;
+        this.condicao = condicao;
+        this.dataAquisicao = dataAquisicao;
+        this.valorAtual = valorAtual;
+        this.categoriaId = categoriaId;
+        this.categoriaNome = categoriaNome;
+        this.localizacaoAtualId = localizacaoAtualId;
+        this.localizacaoAtualNome = localizacaoAtualNome;
+    }
+
+    // Getters e Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getNumeroTombamento() {
+        return numeroTombamento;
+    }
+
+    public void setNumeroTombamento(String numeroTombamento) {
+        this.numeroTombamento = numeroTombamento;
+    }
+
+    public String getNome() {
+        return nome;
+    }
+
+    public void setNome(String nome) {
+        this.nome = nome;
+    }
+
+    public StatusBem getStatus() {
+        return status;
+    }
+
+    public void setStatus(StatusBem status) {
+        this.status = status;
+    }
+
+    public CondicaoBem getCondicao() {
+        return condicao;
+    }
+
+    public void setCondicao(CondicaoBem condicao) {
+        this.condicao = condicao;
+    }
+
+    public LocalDate getDataAquisicao() {
+        return dataAquisicao;
+    }
+
+    public void setDataAquisicao(LocalDate dataAquisicao) {
+        this.dataAquisicao = dataAquisicao;
+    }
+
+    public BigDecimal getValorAtual() {
+        return valorAtual;
+    }
+
+    public void setValorAtual(BigDecimal valorAtual) {
+        this.valorAtual = valorAtual;
+    }
+
+    public Long getCategoriaId() {
+        return categoriaId;
+    }
+
+    public void setCategoriaId(Long categoriaId) {
+        this.categoriaId = categoriaId;
+    }
+
+    public String getCategoriaNome() {
+        return categoriaNome;
+    }
+
+    public void setCategoriaNome(String categoriaNome) {
+        this.categoriaNome = categoriaNome;
+    }
+
+    public Long getLocalizacaoAtualId() {
+        return localizacaoAtualId;
+    }
+
+    public void setLocalizacaoAtualId(Long localizacaoAtualId) {
+        this.localizacaoAtualId = localizacaoAtualId;
+    }
+
+    public String getLocalizacaoAtualNome() {
+        return localizacaoAtualNome;
+    }
+
+    public void setLocalizacaoAtualNome(String localizacaoAtualNome) {
+        this.localizacaoAtualNome = localizacaoAtualNome;
+    }
+}
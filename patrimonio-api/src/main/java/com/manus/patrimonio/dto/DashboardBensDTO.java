@@ -0,0 +1,92 @@
+package com.manus.patrimonio.dto;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Painel de bens: totais gerais e as quebras por status, condição, categoria e
+ * localização, todos lidos da tabela de agregados.
+ */
+public class DashboardBensDTO {
+
+    private long totalBens;
+    private BigDecimal valorAquisicaoTotal;
+    private BigDecimal valorAtualTotal;
+    private List<TotalBensDTO> porStatus;
+    private List<TotalBensDTO> porCondicao;
+    private List<TotalBensDTO> porCategoria;
+    private List<TotalBensDTO> porLocalizacao;
+
+    public DashboardBensDTO() {}
+
+    public DashboardBensDTO(List<TotalBensDTO> porStatus, List<TotalBensDTO> porCondicao,
+                            List<TotalBensDTO> porCategoria, List<TotalBensDTO> porLocalizacao) {
+        this.porStatus = porStatus;
+        this.porCondicao = porCondicao;
+        this.porCategoria = porCategoria;
+        this.porLocalizacao = porLocalizacao;
+        // Todo bem tem exatamente um status: a soma da quebra por status é o total geral
+        this.totalBens = porStatus.stream().mapToLong(TotalBensDTO::getQuantidade).sum();
+        this.valorAquisicaoTotal = porStatus.stream().map(TotalBensDTO::getValorAquisicao)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        this.valorAtualTotal = porStatus.stream().map(TotalBensDTO::getValorAtual)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+    }
+
+    // Getters e Setters
+    public long getTotalBens() {
+        return totalBens;
+    }
+
+    public void setTotalBens(long totalBens) {
+        this.totalBens = totalBens;
+    }
+
+    public BigDecimal getValorAquisicaoTotal() {
+        return valorAquisicaoTotal;
+    }
+
+    public void setValorAquisicaoTotal(BigDecimal valorAquisicaoTotal) {
+        this.valorAquisicaoTotal = valorAquisicaoTotal;
+    }
+
+    public BigDecimal getValorAtualTotal() {
+        return valorAtualTotal;
+    }
+
+    public void setValorAtualTotal(BigDecimal valorAtualTotal) {
+        this.valorAtualTotal = valorAtualTotal;
+    }
+
+    public List<TotalBensDTO> getPorStatus() {
+        return porStatus;
+    }
+
+    public void setPorStatus(List<TotalBensDTO> porStatus) {
+        this.porStatus = porStatus;
+    }
+
+    public List<TotalBensDTO> getPorCondicao() {
+        return porCondicao;
+    }
+
+    public void setPorCondicao(List<TotalBensDTO> porCondicao) {
+        this.porCondicao = porCondicao;
+    }
+
+    public List<TotalBensDTO> getPorCategoria() {
+        return porCategoria;
+    }
+
+    public void setPorCategoria(List<TotalBensDTO> porCategoria) {
+        this.porCategoria = porCategoria;
+    }
+
+    public List<TotalBensDTO> getPorLocalizacao() {
+        return porLocalizacao;
+    }
+
+    public void setPorLocalizacao(List<TotalBensDTO> porLocalizacao) {
+        this.porLocalizacao = porLocalizacao;
+    }
+}
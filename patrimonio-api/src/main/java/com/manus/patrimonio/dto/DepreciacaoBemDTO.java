@@ -0,0 +1,114 @@
+package com.manus.patrimonio.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Linha do relatório de depreciação: depreciação linear acumulada de um bem até a
+ * data de referência, pela taxa anual do bem ou, na falta dela, pela vida útil.
+ */
+public class DepreciacaoBemDTO {
+
+    private Long bemId;
+    private String numeroPatrimonio;
+    private String nome;
+    private String categoriaNome;
+    private LocalDate dataAquisicao;
+    private BigDecimal valorAquisicao;
+    private BigDecimal taxaAnual;
+    private Integer vidaUtilAnos;
+    private long mesesDecorridos;
+    private BigDecimal depreciacaoAcumulada;
+    private BigDecimal valorContabil;
+
+    public DepreciacaoBemDTO() {}
+
+    // Getters e Setters
+    public Long getBemId() {
+        return bemId;
+    }
+
+    public void setBemId(Long bemId) {
+        this.bemId = bemId;
+    }
+
+    public String getNumeroPatrimonio() {
+        return numeroPatrimonio;
+    }
+
+    public void setNumeroPatrimonio(String numeroPatrimonio) {
+        this.numeroPatrimonio = numeroPatrimonio;
+    }
+
+    public String getNome() {
+        return nome;
+    }
+
+    public void setNome(String nome) {
+        this.nome = nome;
+    }
+
+    public String getCategoriaNome() {
+        return categoriaNome;
+    }
+
+    public void setCategoriaNome(String categoriaNome) {
+        this.categoriaNome = categoriaNome;
+    }
+
+    public LocalDate getDataAquisicao() {
+        return dataAquisicao;
+    }
+
+    public void setDataAquisicao(LocalDate dataAquisicao) {
+        this.dataAquisicao = dataAquisicao;
+    }
+
+    public BigDecimal getValorAquisicao() {
+        return valorAquisicao;
+    }
+
+    public void setValorAquisicao(BigDecimal valorAquisicao) {
+        this.valorAquisicao = valorAquisicao;
+    }
+
+    public BigDecimal getTaxaAnual() {
+        return taxaAnual;
+    }
+
+    public void setTaxaAnual(BigDecimal taxaAnual) {
+        this.taxaAnual = taxaAnual;
+    }
+
+    public Integer getVidaUtilAnos() {
+        return vidaUtilAnos;
+    }
+
+    public void setVidaUtilAnos(Integer vidaUtilAnos) {
+        this.vidaUtilAnos = vidaUtilAnos;
+    }
+
+    public long getMesesDecorridos() {
+        return mesesDecorridos;
+    }
+
+    public void setMesesDecorridos(long mesesDecorridos) {
+        this.mesesDecorridos = mesesDecorridos;
+    }
+
+    public BigDecimal getDepreciacaoAcumulada() {
+        return depreciacaoAcumulada;
+    }
+
+    public void setDepreciacaoAcumulada(BigDecimal depreciacaoAcumulada) {
+        this.depreciacaoAcumulada = depreciacaoAcumulada;
+    }
+
+    public BigDecimal getValorContabil() {
+        return valorContabil;
+    }
+
+    public void setValorContabil(BigDecimal valorContabil) {
+        this.valorContabil = valorContabil;
+    }
+}
@@ -0,0 +1,34 @@
+package com.manus.patrimonio.dto;
+
+/**
+ * Linha rejeitada numa importação, com o motivo.
+ */
+public class ErroImportacaoDTO {
+
+    private long linha;
+    private String mensagem;
+
+    public ErroImportacaoDTO() {}
+
+    public ErroImportacaoDTO(long linha, String mensagem) {
+        this.linha = linha;
+        this.mensagem = mensagem;
+    }
+
+    // Getters e Setters
+    public long getLinha() {
+        return linha;
+    }
+
+    public void setLinha(long linha) {
+        this.linha = linha;
+    }
+
+    public String getMensagem() {
+        return mensagem;
+    }
+
+    public void setMensagem(String mensagem) {
+        this.mensagem = mensagem;
+    }
+}
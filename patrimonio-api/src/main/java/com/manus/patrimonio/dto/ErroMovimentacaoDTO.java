@@ -0,0 +1,34 @@
+package com.manus.patrimonio.dto;
+
+/**
+ * Bem recusado numa movimentação em lote, com o motivo.
+ */
+public class ErroMovimentacaoDTO {
+
+    private Long bemId;
+    private String mensagem;
+
+    public ErroMovimentacaoDTO() {}
+
+    public ErroMovimentacaoDTO(Long bemId, String mensagem) {
+        this.bemId = bemId;
+        this.mensagem = mensagem;
+    }
+
+    // Getters e Setters
+    public Long getBemId() {
+        return bemId;
+    }
+
+    public void setBemId(Long bemId) {
+        this.bemId = bemId;
+    }
+
+    public String getMensagem() {
+        return mensagem;
+    }
+
+    public void setMensagem(String mensagem) {
+        this.mensagem = mensagem;
+    }
+}
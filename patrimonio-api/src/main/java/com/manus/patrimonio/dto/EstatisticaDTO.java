@@ -0,0 +1,47 @@
+package com.manus.patrimonio.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * Linha do relatório de estatísticas: um total ({@code valor}) de um agrupamento
+ * ({@code grupo}, ex.: "status") para uma de suas chaves (ex.: "ATIVO").
+ */
+public class EstatisticaDTO {
+
+    private String grupo;
+    private String chave;
+    private BigDecimal valor;
+
+    public EstatisticaDTO() {}
+
+    public EstatisticaDTO(String grupo, String chave, BigDecimal valor) {
+        this.grupo = grupo;
+        this.chave = chave;
+        this.valor = valor;
+    }
+
+    // Getters e Setters
+    public String getGrupo() {
+        return grupo;
+    }
+
+    public void setGrupo(String grupo) {
+        this.grupo = grupo;
+    }
+
+    public String getChave() {
+        return chave;
+    }
+
+    public void setChave(String chave) {
+        this.chave = chave;
+    }
+
+    public BigDecimal getValor() {
+        return valor;
+    }
+
+    public void setValor(BigDecimal valor) {
+        this.valor = valor;
+    }
+}
@@ -0,0 +1,80 @@
+package com.manus.patrimonio.dto;
+
+import com.manus.patrimonio.enums.TipoMovimentacao;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * Pedido de movimentação em lote. Os bens são informados por ID ({@code bemIds}) ou
+ * selecionados por localização de origem ({@code localizacaoOrigemId}), nunca pelos dois.
+ */
+public class MovimentacaoLoteDTO {
+
+    private List<Long> bemIds;
+
+    private Long localizacaoOrigemId;
+
+    @NotNull(message = "Localização de destino é obrigatória")
+    private Long localizacaoDestinoId;
+
+    private TipoMovimentacao tipoMovimentacao;
+
+    @Size(min = 2, max = 100, message = "Nome do responsável deve ter entre 2 e 100 caracteres")
+    private String responsavelMovimentacao;
+
+    @Size(max = 1000, message = "Observações devem ter no máximo 1000 caracteres")
+    private String observacoes;
+
+    public MovimentacaoLoteDTO() {}
+
+    // Getters e Setters
+    public List<Long> getBemIds() {
+        return bemIds;
+    }
+
+    public void setBemIds(List<Long> bemIds) {
+        this.bemIds = bemIds;
+    }
+
+    public Long getLocalizacaoOrigemId() {
+        return localizacaoOrigemId;
+    }
+
+    public void setLocalizacaoOrigemId(Long localizacaoOrigemId) {
+        this.localizacaoOrigemId = localizacaoOrigemId;
+    }
+
+    public Long getLocalizacaoDestinoId() {
+        return localizacaoDestinoId;
+    }
+
+    public void setLocalizacaoDestinoId(Long localizacaoDestinoId) {
+        this.localizacaoDestinoId = localizacaoDestinoId;
+    }
+
+    public TipoMovimentacao getTipoMovimentacao() {
+        return tipoMovimentacao;
+    }
+
+    public void setTipoMovimentacao(TipoMovimentacao tipoMovimentacao) {
+        this.tipoMovimentacao = tipoMovimentacao;
+    }
+
+    public String getResponsavelMovimentacao() {
+        return responsavelMovimentacao;
+    }
+
+    public void setResponsavelMovimentacao(String responsavelMovimentacao) {
+        this.responsavelMovimentacao = responsavelMovimentacao;
+    }
+
+    public String getObservacoes() {
+        return observacoes;
+    }
+
+    public void setObservacoes(String observacoes) {
+        this.observacoes = observacoes;
+    }
+}
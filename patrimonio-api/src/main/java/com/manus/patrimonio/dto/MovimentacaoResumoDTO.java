@@ -0,0 +1,122 @@
+package com.manus.patrimonio.dto;
+
+import com.manus.patrimonio.enums.TipoMovimentacao;
+
+import java.time.LocalDateTime;
+
+/**
+ * Linha enxuta da listagem de movimentações, montada direto pela consulta
+ * sem carregar a entidade {@code Movimentacao} nem o bem.
+ */
+public class MovimentacaoResumoDTO {
+
+    private Long id;
+    private Long bemId;
+    private String bemNome;
+    private LocalDateTime dataMovimentacao;
+    private TipoMovimentacao tipoMovimentacao;
+    private Long localizacaoOrigemId;
+    private String localizacaoOrigemNome;
+    private Long localizacaoDestinoId;
+    private String localizacaoDestinoNome;
+    private String responsavelMovimentacao;
+
+    public MovimentacaoResumoDTO() {}
+
+    public MovimentacaoResumoDTO(Long id, Long bemId, String bemNome, LocalDateTime dataMovimentacao,
+                                 TipoMovimentacao tipoMovimentacao, Long localizacaoOrigemId,
+                                 String localizacaoOrigemNome, Long localizacaoDestinoId,
+                                 String localizacaoDestinoNome, String responsavelMovimentacao) {
+        this.id = id;
+        this.bemId = bemId;
+        this.bemNome = bemNome;
+        this.dataMovimentacao = dataMovimentacao;
+        this.tipoMovimentacao = tipoMovimentacao;
+        this.localizacaoOrigemId = localizacaoOrigemId;
+        this.localizacaoOrigemNome = localizacaoOrigemNome;
+        this.localizacaoDestinoId = localizacaoDestinoId;
+        this.localizacaoDestinoNome = localizacaoDestinoNome;
+        this.responsavelMovimentacao = responsavelMovimentacao;
+    }
+
+    // Getters e Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getBemId() {
+        return bemId;
+    }
+
+    public void setBemId(Long bemId) {
+        this.bemId = bemId;
+    }
+
+    public String getBemNome() {
+        return bemNome;
+    }
+
+    public void setBemNome(String bemNome) {
+        this.bemNome = bemNome;
+    }
+
+    public LocalDateTime getDataMovimentacao() {
+        return dataMovimentacao;
+    }
+
+    public void setDataMovimentacao(LocalDateTime dataMovimentacao) {
+        this.dataMovimentacao = dataMovimentacao;
+    }
+
+    public TipoMovimentacao getTipoMovimentacao() {
+        return tipoMovimentacao;
+    }
+
+    public void setTipoMovimentacao(TipoMovimentacao tipoMovimentacao) {
+        this.tipoMovimentacao = tipoMovimentacao;
+    }
+
+    public Long getLocalizacaoOrigemId() {
+        return localizacaoOrigemId;
+    }
+
+    public void setLocalizacaoOrigemId(Long localizacaoOrigemId) {
+        this.localizacaoOrigemId = localizacaoOrigemId;
+    }
+
+    public String getLocalizacaoOrigemNome() {
+        return localizacaoOrigemNome;
+    }
+
+    public void setLocalizacaoOrigemNome(String localizacaoOrigemNome) {
+        this.localizacaoOrigemNome = localizacaoOrigemNome;
+    }
+
+    public Long getLocalizacaoDestinoId() {
+        return localizacaoDestinoId;
+    }
+
+    public void setLocalizacaoDestinoId(Long localizacaoDestinoId) {
+        this.localizacaoDestinoId = localizacaoDestinoId;
+    }
+
+    public String getLocalizacaoDestinoNome() {
+        return localizacaoDestinoNome;
+    }
+
+    public void setLocalizacaoDestinoNome(String localizacaoDestinoNome) {
+        this.localizacaoDestinoNome = localizacaoDestinoNome;
+    }
+
+    public String getResponsavelMovimentacao() {
+        return responsavelMovimentacao;
+    }
+
+    public void setResponsavelMovimentacao(String responsavelMovimentacao) {
+        this.responsavelMovimentacao = responsavelMovimentacao;
+    }
+}
@@ -0,0 +1,69 @@
+package com.manus.patrimonio.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+
+/**
+ * Resposta paginada por cursor (keyset). Não carrega o total de registros,
+ * exceto quando solicitado explicitamente.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class PaginaCursorDTO<T> {
+
+    private List<T> conteudo;
+    private int tamanho;
+    private boolean temProximo;
+    private String proximoCursor;
+    private Long totalElementos;
+
+    public PaginaCursorDTO() {}
+
+    public PaginaCursorDTO(List<T> conteudo, int tamanho, boolean temProximo, String proximoCursor) {
+        this.conteudo = conteudo;
+        this.tamanho = tamanho;
+        this.temProximo = temProximo;
+        this.proximoCursor = proximoCursor;
+    }
+
+    // Getters e Setters
+    public List<T> getConteudo() {
+        return conteudo;
+    }
+
+    public void setConteudo(List<T> conteudo) {
+        this.conteudo = conteudo;
+    }
+
+    public int getTamanho() {
+        return tamanho;
+    }
+
+    public void setTamanho(int tamanho) {
+        this.tamanho = tamanho;
+    }
+
+    public boolean isTemProximo() {
+        return temProximo;
+    }
+
+    public void setTemProximo(boolean temProximo) {
+        this.temProximo = temProximo;
+    }
+
+    public String getProximoCursor() {
+        return proximoCursor;
+    }
+
+    public void setProximoCursor(String proximoCursor) {
+        this.proximoCursor = proximoCursor;
+    }
+
+    public Long getTotalElementos() {
+        return totalElementos;
+    }
+
+    public void setTotalElementos(Long totalElementos) {
+        this.totalElementos = totalElementos;
+    }
+}
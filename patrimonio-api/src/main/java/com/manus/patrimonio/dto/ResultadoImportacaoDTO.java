@@ -0,0 +1,69 @@
+package com.manus.patrimonio.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Resumo de uma importação em massa. Os erros listados são limitados; {@code rejeitados}
+ * traz o total de linhas recusadas mesmo quando nem todas aparecem em {@code erros}.
+ */
+public class ResultadoImportacaoDTO {
+
+    private long linhas;
+    private long importados;
+    private long rejeitados;
+    private boolean simulacao;
+    private long tempoMs;
+    private List<ErroImportacaoDTO> erros = new ArrayList<>();
+
+    public ResultadoImportacaoDTO() {}
+
+    // Getters e Setters
+    public long getLinhas() {
+        return linhas;
+    }
+
+    public void setLinhas(long linhas) {
+        this.linhas = linhas;
+    }
+
+    public long getImportados() {
+        return importados;
+    }
+
+    public void setImportados(long importados) {
+        this.importados = importados;
+    }
+
+    public long getRejeitados() {
+        return rejeitados;
+    }
+
+    public void setRejeitados(long rejeitados) {
+        this.rejeitados = rejeitados;
+    }
+
+    public boolean isSimulacao() {
+        return simulacao;
+    }
+
+    public void setSimulacao(boolean simulacao) {
+        this.simulacao = simulacao;
+    }
+
+    public long getTempoMs() {
+        return tempoMs;
+    }
+
+    public void setTempoMs(long tempoMs) {
+        this.tempoMs = tempoMs;
+    }
+
+    public List<ErroImportacaoDTO> getErros() {
+        return erros;
+    }
+
+    public void setErros(List<ErroImportacaoDTO> erros) {
+        this.erros = erros;
+    }
+}
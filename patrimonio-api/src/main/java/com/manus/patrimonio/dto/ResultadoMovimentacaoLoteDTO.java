@@ -0,0 +1,69 @@
+package com.manus.patrimonio.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Resumo de uma movimentação em lote. Os erros listados são limitados; {@code rejeitados}
+ * traz o total de bens recusados mesmo quando nem todos aparecem em {@code erros}.
+ */
+public class ResultadoMovimentacaoLoteDTO {
+
+    private long solicitados;
+    private long movimentados;
+    private long rejeitados;
+    private Long localizacaoDestinoId;
+    private long tempoMs;
+    private List<ErroMovimentacaoDTO> erros = new ArrayList<>();
+
+    public ResultadoMovimentacaoLoteDTO() {}
+
+    // Getters e Setters
+    public long getSolicitados() {
+        return solicitados;
+    }
+
+    public void setSolicitados(long solicitados) {
+        this.solicitados = solicitados;
+    }
+
+    public long getMovimentados() {
+        return movimentados;
+    }
+
+    public void setMovimentados(long movimentados) {
+        this.movimentados = movimentados;
+    }
+
+    public long getRejeitados() {
+        return rejeitados;
+    }
+
+    public void setRejeitados(long rejeitados) {
+        this.rejeitados = rejeitados;
+    }
+
+    public Long getLocalizacaoDestinoId() {
+        return localizacaoDestinoId;
+    }
+
+    public void setLocalizacaoDestinoId(Long localizacaoDestinoId) {
+        this.localizacaoDestinoId = localizacaoDestinoId;
+    }
+
+    public long getTempoMs() {
+        return tempoMs;
+    }
+
+    public void setTempoMs(long tempoMs) {
+        this.tempoMs = tempoMs;
+    }
+
+    public List<ErroMovimentacaoDTO> getErros() {
+        return erros;
+    }
+
+    public void setErros(List<ErroMovimentacaoDTO> erros) {
+        this.erros = erros;
+    }
+}
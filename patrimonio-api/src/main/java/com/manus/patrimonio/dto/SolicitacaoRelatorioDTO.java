@@ -0,0 +1,157 @@
+package com.manus.patrimonio.dto;
+
+import com.manus.patrimonio.enums.StatusRelatorio;
+import com.manus.patrimonio.enums.TipoRelatorio;
+import com.manus.patrimonio.exportacao.FormatoExportacao;
+
+import java.time.LocalDateTime;
+
+/**
+ * Situação de um relatório solicitado. {@code urlDownload} só é preenchida quando o
+ * arquivo está pronto.
+ */
+public class SolicitacaoRelatorioDTO {
+
+    private String codigo;
+
+    private TipoRelatorio tipo;
+
+    private FormatoExportacao formato;
+
+    private StatusRelatorio status;
+
+    private LocalDateTime dataInicioPeriodo;
+
+    private LocalDateTime dataFimPeriodo;
+
+    private String solicitadoPor;
+
+    private LocalDateTime dataSolicitacao;
+
+    private LocalDateTime dataInicioExecucao;
+
+    private LocalDateTime dataConclusao;
+
+    private Long registros;
+
+    private Long tamanhoBytes;
+
+    private String mensagemErro;
+
+    private String urlDownload;
+
+    public SolicitacaoRelatorioDTO() {}
+
+    // Getters e Setters
+    public String getCodigo() {
+        return codigo;
+    }
+
+    public void setCodigo(String codigo) {
+        this.codigo = codigo;
+    }
+
+    public TipoRelatorio getTipo() {
+        return tipo;
+    }
+
+    public void setTipo(TipoRelatorio tipo) {
+        this.tipo = tipo;
+    }
+
+    public FormatoExportacao getFormato() {
+        return formato;
+    }
+
+    public void setFormato(FormatoExportacao formato) {
+        this.formato = formato;
+    }
+
+    public StatusRelatorio getStatus() {
+        return status;
+    }
+
+    public void setStatus(StatusRelatorio status) {
+        this.status = status;
+    }
+
+    public LocalDateTime getDataInicioPeriodo() {
+        return dataInicioPeriodo;
+    }
+
+    public void setDataInicioPeriodo(LocalDateTime dataInicioPeriodo) {
+        this.dataInicioPeriodo = dataInicioPeriodo;
+    }
+
+    public LocalDateTime getDataFimPeriodo() {
+        return dataFimPeriodo;
+    }
+
+    public void setDataFimPeriodo(LocalDateTime dataFimPeriodo) {
+        this.dataFimPeriodo = dataFimPeriodo;
+    }
+
+    public String getSolicitadoPor() {
+        return solicitadoPor;
+    }
+
+    public void setSolicitadoPor(String solicitadoPor) {
+        this.solicitadoPor = solicitadoPor;
+    }
+
+    public LocalDateTime getDataSolicitacao() {
+        return dataSolicitacao;
+    }
+
+    public void setDataSolicitacao(LocalDateTime dataSolicitacao) {
+        this.dataSolicitacao = dataSolicitacao;
+    }
+
+    public LocalDateTime getDataInicioExecucao() {
+        return dataInicioExecucao;
+    }
+
+    public void setDataInicioExecucao(LocalDateTime dataInicioExecucao) {
+        this.dataInicioExecucao = dataInicioExecucao;
+    }
+
+    public LocalDateTime getDataConclusao() {
+        return dataConclusao;
+    }
+
+    public void setDataConclusao(LocalDateTime dataConclusao) {
+        this.dataConclusao = dataConclusao;
+    }
+
+    public Long getRegistros() {
+        return registros;
+    }
+
+    public void setRegistros(Long registros) {
+        this.registros = registros;
+    }
+
+    public Long getTamanhoBytes() {
+        return tamanhoBytes;
+    }
+
+    public void setTamanhoBytes(Long tamanhoBytes) {
+        this.tamanhoBytes = tamanhoBytes;
+    }
+
+    public String getMensagemErro() {
+        return mensagemErro;
+    }
+
+    public void setMensagemErro(String mensagemErro) {
+        this.mensagemErro = mensagemErro;
+    }
+
+    public String getUrlDownload() {
+        return urlDownload;
+    }
+
+    public void setUrlDownload(String urlDownload) {
+        this.urlDownload = urlDownload;
+    }
+}
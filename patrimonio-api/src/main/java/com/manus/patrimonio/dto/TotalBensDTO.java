@@ -0,0 +1,82 @@
+package com.manus.patrimonio.dto;
+
+import com.manus.patrimonio.enums.CondicaoBem;
+import com.manus.patrimonio.enums.StatusBem;
+
+import java.math.BigDecimal;
+
+/**
+ * Total de bens de um agrupamento do dashboard: a {@code chave} é o status ou a condição,
+ * ou o nome da categoria/localização (com o {@code id} correspondente). Montado direto
+ * pela consulta sobre {@code bens_agregados}.
+ */
+public class TotalBensDTO {
+
+    private Long id;
+    private String chave;
+    private long quantidade;
+    private BigDecimal valorAquisicao;
+    private BigDecimal valorAtual;
+
+    public TotalBensDTO() {}
+
+    public TotalBensDTO(StatusBem status, Long quantidade, BigDecimal valorAquisicao, BigDecimal valorAtual) {
+        this(null, status.name(), quantidade, valorAquisicao, valorAtual);
+    }
+
+    public TotalBensDTO(CondicaoBem condicao, Long quantidade, BigDecimal valorAquisicao, BigDecimal valorAtual) {
+        this(null, condicao.name(), quantidade, valorAquisicao, valorAtual);
+    }
+
+    /**
+     * Categorias e localizações sem bens chegam do LEFT JOIN com somas nulas.
+     */
+    public TotalBensDTO(Long id, String chave, Long quantidade, BigDecimal valorAquisicao, BigDecimal valorAtual) {
+        this.id = id;
+        this.chave = chave;
+        this.quantidade = quantidade != null ? quantidade : 0L;
+        this.valorAquisicao = valorAquisicao != null ? valorAquisicao : BigDecimal.ZERO;
+        this.valorAtual = valorAtual != null ? valorAtual : BigDecimal.ZERO;
+    }
+
+    // Getters e Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getChave() {
+        return chave;
+    }
+
+    public void setChave(String chave) {
+        this.chave = chave;
+    }
+
+    public long getQuantidade() {
+        return quantidade;
+    }
+
+    public void setQuantidade(long quantidade) {
+        this.quantidade = quantidade;
+    }
+
+    public BigDecimal getValorAquisicao() {
+        return valorAquisicao;
+    }
+
+    public void setValorAquisicao(BigDecimal valorAquisicao) {
+        this.valorAquisicao = valorAquisicao;
+    }
+
+    public BigDecimal getValorAtual() {
+        return valorAtual;
+    }
+
+    public void setValorAtual(BigDecimal valorAtual) {
+        this.valorAtual = valorAtual;
+    }
+}
@@ -0,0 +1,28 @@
+package com.manus.patrimonio.enums;
+
+public enum StatusRelatorio {
+    PENDENTE("Pendente", "Aguardando uma thread livre do Quartz"),
+    EM_EXECUCAO("Em Execução", "Relatório sendo gerado"),
+    CONCLUIDO("Concluído", "Arquivo disponível para download"),
+    FALHOU("Falhou", "A geração terminou com erro");
+
+    private final String descricao;
+    private final String explicacao;
+
+    StatusRelatorio(String descricao, String explicacao) {
+        this.descricao = descricao;
+        this.explicacao = explicacao;
+    }
+
+    public String getDescricao() {
+        return descricao;
+    }
+
+    public String getExplicacao() {
+        return explicacao;
+    }
+
+    public boolean isFinalizado() {
+        return this == CONCLUIDO || this == FALHOU;
+    }
+}
@@ -0,0 +1,29 @@
+package com.manus.patrimonio.enums;
+
+public enum TipoRelatorio {
+    BENS("Bens", "Cadastro completo de bens"),
+    DEPRECIACAO("Depreciação", "Depreciação acumulada e valor contábil dos bens"),
+    BAIXAS("Baixas", "Baixas de bens"),
+    AUDITORIA("Auditoria", "Trilha de auditoria de um período"),
+    ESTATISTICAS("Estatísticas", "Totais de bens por status, condição e localização");
+
+    private final String descricao;
+    private final String explicacao;
+
+    TipoRelatorio(String descricao, String explicacao) {
+        this.descricao = descricao;
+        this.explicacao = explicacao;
+    }
+
+    public String getDescricao() {
+        return descricao;
+    }
+
+    public String getExplicacao() {
+        return explicacao;
+    }
+
+    public boolean isExigePeriodo() {
+        return this == AUDITORIA;
+    }
+}
@@ -0,0 +1,13 @@
+package com.manus.patrimonio.exportacao;
+
+import java.util.function.Function;
+
+/**
+ * Coluna de uma exportação tabular: o cabeçalho e como extrair o valor de cada item.
+ */
+public record ColunaExportacao<T>(String cabecalho, Function<T, ?> valor) {
+
+    public static <T> ColunaExportacao<T> de(String cabecalho, Function<T, ?> valor) {
+        return new ColunaExportacao<>(cabecalho, valor);
+    }
+}
@@ -0,0 +1,65 @@
+package com.manus.patrimonio.exportacao;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * CSV conforme a RFC 4180: vírgula como separador, CRLF entre linhas e aspas
+ * duplas apenas nos campos que contêm separador, aspas ou quebra de linha.
+ */
+public class EscritorCsv<T> implements EscritorExportacao<T> {
+
+    private final Writer writer;
+    private final List<ColunaExportacao<T>> colunas;
+
+    public EscritorCsv(OutputStream saida, List<ColunaExportacao<T>> colunas) throws IOException {
+        this.writer = new BufferedWriter(new OutputStreamWriter(saida, StandardCharsets.UTF_8), 64 * 1024);
+        this.colunas = colunas;
+        for (int i = 0; i < colunas.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            campo(colunas.get(i).cabecalho());
+        }
+        writer.write("\r\n");
+    }
+
+    @Override
+    public void escrever(T item) throws IOException {
+        for (int i = 0; i < colunas.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            Object valor = colunas.get(i).valor().apply(item);
+            if (valor != null) {
+                campo(valor.toString());
+            }
+        }
+        writer.write("\r\n");
+    }
+
+    @Override
+    public void descarregar() throws IOException {
+        writer.flush();
+    }
+
+    @Override
+    public void finalizar() throws IOException {
+        writer.flush();
+    }
+
+    private void campo(String valor) throws IOException {
+        if (valor.indexOf(',') < 0 && valor.indexOf('"') < 0 && valor.indexOf('\n') < 0 && valor.indexOf('\r') < 0) {
+            writer.write(valor);
+            return;
+        }
+        writer.write('"');
+        writer.write(valor.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
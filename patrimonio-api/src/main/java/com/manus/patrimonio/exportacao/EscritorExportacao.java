@@ -0,0 +1,30 @@
+package com.manus.patrimonio.exportacao;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Escreve os itens de uma exportação, um por vez, sem acumulá-los em memória.
+ */
+public interface EscritorExportacao<T> extends Closeable {
+
+    void escrever(T item) throws IOException;
+
+    /**
+     * Envia ao cliente o que estiver em buffer, sem encerrar a exportação.
+     */
+    void descarregar() throws IOException;
+
+    /**
+     * Conclui o arquivo e descarrega o restante. Não fecha a saída.
+     */
+    void finalizar() throws IOException;
+
+    /**
+     * Libera recursos próprios do escritor (ex.: arquivos temporários), tenha a
+     * exportação terminado ou não. Não fecha a saída.
+     */
+    @Override
+    default void close() throws IOException {
+    }
+}
@@ -0,0 +1,53 @@
+package com.manus.patrimonio.exportacao;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * NDJSON: um objeto JSON por linha, serializado com o {@link ObjectMapper} da aplicação.
+ */
+public class EscritorNdjson<T> implements EscritorExportacao<T> {
+
+    private final Writer writer;
+    private final SequenceWriter sequencia;
+    private boolean vazio = true;
+
+    public EscritorNdjson(OutputStream saida, ObjectMapper objectMapper, Class<T> tipo) throws IOException {
+        this.writer = new BufferedWriter(new OutputStreamWriter(saida, StandardCharsets.UTF_8), 64 * 1024);
+        // Sem flush a cada objeto: quem decide quando enviar é descarregar()
+        this.sequencia = objectMapper.writerFor(tipo)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .withRootValueSeparator("\n")
+                .writeValues(writer);
+    }
+
+    @Override
+    public void escrever(T item) throws IOException {
+        sequencia.write(item);
+        vazio = false;
+    }
+
+    @Override
+    public void descarregar() throws IOException {
+        sequencia.flush();
+    }
+
+    @Override
+    public void finalizar() throws IOException {
+        sequencia.close();
+        if (!vazio) {
+            writer.write('\n');
+        }
+        writer.flush();
+    }
+}
@@ -0,0 +1,146 @@
+package com.manus.patrimonio.exportacao;
+
+import org.apache.poi.ss.SpreadsheetVersion;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Font;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Planilha XLSX gerada com o {@link SXSSFWorkbook} do POI: só as últimas
+ * {@link #JANELA_LINHAS} linhas ficam em memória e as demais vão para um arquivo
+ * temporário compactado, então o consumo de heap é fixo qualquer que seja o total.
+ * Como o XLSX é um ZIP, o arquivo só é enviado ao cliente em {@link #finalizar()}.
+ * Quando uma planilha atinge o limite de linhas do Excel, os dados continuam na seguinte.
+ */
+public class EscritorXlsx<T> implements EscritorExportacao<T> {
+
+    static final int JANELA_LINHAS = 100;
+
+    static final int LIMITE_LINHAS = SpreadsheetVersion.EXCEL2007.getMaxRows();
+
+    private static final int LIMITE_TEXTO = SpreadsheetVersion.EXCEL2007.getMaxTextLength();
+
+    private final OutputStream saida;
+    private final List<ColunaExportacao<T>> colunas;
+    private final String nomePlanilha;
+    private final int limiteLinhas;
+    private final SXSSFWorkbook workbook;
+    private final CellStyle estiloCabecalho;
+    private final CellStyle estiloData;
+    private final CellStyle estiloDataHora;
+    private final CellStyle estiloDecimal;
+
+    private SXSSFSheet planilha;
+    private int planilhas;
+    private int proximaLinha;
+
+    public EscritorXlsx(OutputStream saida, List<ColunaExportacao<T>> colunas, String nomePlanilha) {
+        this(saida, colunas, nomePlanilha, LIMITE_LINHAS);
+    }
+
+    EscritorXlsx(OutputStream saida, List<ColunaExportacao<T>> colunas, String nomePlanilha, int limiteLinhas) {
+        this.saida = saida;
+        this.colunas = colunas;
+        this.nomePlanilha = nomePlanilha;
+        this.limiteLinhas = limiteLinhas;
+        this.workbook = new SXSSFWorkbook(JANELA_LINHAS);
+        this.workbook.setCompressTempFiles(true);
+
+        // Estilos são por workbook; um estilo por célula estouraria o limite do formato
+        Font negrito = workbook.createFont();
+        negrito.setBold(true);
+        this.estiloCabecalho = workbook.createCellStyle();
+        this.estiloCabecalho.setFont(negrito);
+        this.estiloData = estiloComFormato("dd/mm/yyyy");
+        this.estiloDataHora = estiloComFormato("dd/mm/yyyy hh:mm:ss");
+        this.estiloDecimal = estiloComFormato("#,##0.00");
+        novaPlanilha();
+    }
+
+    @Override
+    public void escrever(T item) throws IOException {
+        if (proximaLinha == limiteLinhas) {
+            novaPlanilha();
+        }
+        Row linha = planilha.createRow(proximaLinha++);
+        for (int i = 0; i < colunas.size(); i++) {
+            Object valor = colunas.get(i).valor().apply(item);
+            if (valor != null) {
+                preencher(linha.createCell(i), valor);
+            }
+        }
+    }
+
+    @Override
+    public void descarregar() {
+        // As linhas fora da janela já estão no arquivo temporário; não há o que enviar antes do fim
+    }
+
+    @Override
+    public void finalizar() throws IOException {
+        workbook.write(saida);
+        saida.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        workbook.dispose();
+        workbook.close();
+    }
+
+    int getPlanilhas() {
+        return planilhas;
+    }
+
+    private void novaPlanilha() {
+        planilhas++;
+        planilha = workbook.createSheet(planilhas == 1 ? nomePlanilha : nomePlanilha + " (" + planilhas + ")");
+        planilha.createFreezePane(0, 1);
+        Row cabecalho = planilha.createRow(0);
+        for (int i = 0; i < colunas.size(); i++) {
+            String titulo = colunas.get(i).cabecalho();
+            Cell celula = cabecalho.createCell(i);
+            celula.setCellValue(titulo);
+            celula.setCellStyle(estiloCabecalho);
+            // Largura fixa pelo cabeçalho: autoSizeColumn exigiria rastrear todas as linhas
+            planilha.setColumnWidth(i, Math.max(12, titulo.length() + 4) * 256);
+        }
+        proximaLinha = 1;
+    }
+
+    private void preencher(Cell celula, Object valor) {
+        if (valor instanceof BigDecimal decimal) {
+            celula.setCellValue(decimal.doubleValue());
+            celula.setCellStyle(estiloDecimal);
+        } else if (valor instanceof Number numero) {
+            celula.setCellValue(numero.doubleValue());
+        } else if (valor instanceof Boolean booleano) {
+            celula.setCellValue(booleano);
+        } else if (valor instanceof LocalDateTime dataHora) {
+            celula.setCellValue(dataHora);
+            celula.setCellStyle(estiloDataHora);
+        } else if (valor instanceof LocalDate data) {
+            celula.setCellValue(data);
+            celula.setCellStyle(estiloData);
+        } else {
+            String texto = valor.toString();
+            celula.setCellValue(texto.length() > LIMITE_TEXTO ? texto.substring(0, LIMITE_TEXTO) : texto);
+        }
+    }
+
+    private CellStyle estiloComFormato(String formato) {
+        CellStyle estilo = workbook.createCellStyle();
+        estilo.setDataFormat(workbook.createDataFormat().getFormat(formato));
+        return estilo;
+    }
+}
@@ -0,0 +1,46 @@
+package com.manus.patrimonio.exportacao;
+
+import com.manus.patrimonio.exception.RegraDeNegocioException;
+import org.springframework.http.MediaType;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+/**
+ * Formatos aceitos pelos endpoints de exportação.
+ */
+public enum FormatoExportacao {
+
+    CSV("text/csv;charset=UTF-8", "csv"),
+    NDJSON("application/x-ndjson", "ndjson"),
+    XLSX("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet", "xlsx");
+
+    private final MediaType mediaType;
+    private final String extensao;
+
+    FormatoExportacao(String mediaType, String extensao) {
+        this.mediaType = MediaType.parseMediaType(mediaType);
+        this.extensao = extensao;
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    public String getExtensao() {
+        return extensao;
+    }
+
+    /**
+     * Converte o parâmetro da requisição, sem diferenciar maiúsculas.
+     */
+    public static FormatoExportacao de(String valor) {
+        for (FormatoExportacao formato : values()) {
+            if (formato.name().equalsIgnoreCase(valor) || formato.extensao.equalsIgnoreCase(valor)) {
+                return formato;
+            }
+        }
+        throw new RegraDeNegocioException("Formato de exportação inválido: " + valor + ". Use "
+                + Arrays.stream(values()).map(f -> f.extensao).collect(Collectors.joining(", ")));
+    }
+}
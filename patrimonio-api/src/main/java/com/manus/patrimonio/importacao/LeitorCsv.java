@@ -0,0 +1,103 @@
+package com.manus.patrimonio.importacao;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * CSV em UTF-8 no formato RFC 4180 (o mesmo gerado pelo {@code EscritorCsv}): campos entre
+ * aspas podem conter separador, aspas duplicadas e quebras de linha. O separador é
+ * vírgula ou, se o cabeçalho não tiver vírgula, ponto e vírgula (padrão do Excel em pt-BR).
+ */
+public class LeitorCsv implements LeitorImportacao {
+
+    private static final char BOM = '\uFEFF';
+
+    @Override
+    public void ler(InputStream entrada, ConsumidorLinha consumidor) throws IOException {
+        BufferedReader leitor = new BufferedReader(new InputStreamReader(entrada, StandardCharsets.UTF_8), 64 * 1024);
+        String primeira = leitor.readLine();
+        if (primeira == null) {
+            return;
+        }
+        if (!primeira.isEmpty() && primeira.charAt(0) == BOM) {
+            primeira = primeira.substring(1);
+        }
+        char separador = primeira.indexOf(',') < 0 && primeira.indexOf(';') >= 0 ? ';' : ',';
+
+        long[] linhaAtual = {1};
+        List<String> cabecalho = new ArrayList<>();
+        for (String coluna : campos(primeira, leitor, separador, linhaAtual)) {
+            cabecalho.add(LeitorImportacao.normalizarColuna(coluna));
+        }
+
+        String linha;
+        while ((linha = leitor.readLine()) != null) {
+            long numeroLinha = ++linhaAtual[0];
+            if (linha.isBlank()) {
+                continue;
+            }
+            List<String> valores = campos(linha, leitor, separador, linhaAtual);
+            Map<String, String> registro = new HashMap<>(cabecalho.size() * 2);
+            for (int i = 0; i < cabecalho.size() && i < valores.size(); i++) {
+                registro.put(cabecalho.get(i), valores.get(i));
+            }
+            consumidor.aceitar(numeroLinha, registro);
+        }
+    }
+
+    /**
+     * Separa os campos de um registro, lendo as linhas seguintes enquanto houver aspas abertas.
+     */
+    private static List<String> campos(String linha, BufferedReader leitor, char separador, long[] linhaAtual)
+            throws IOException {
+        List<String> campos = new ArrayList<>();
+        StringBuilder campo = new StringBuilder();
+        boolean entreAspas = false;
+        int i = 0;
+        while (true) {
+            if (i == linha.length()) {
+                if (!entreAspas) {
+                    break;
+                }
+                String proxima = leitor.readLine();
+                if (proxima == null) {
+                    break;
+                }
+                linhaAtual[0]++;
+                campo.append('\n');
+                linha = proxima;
+                i = 0;
+                continue;
+            }
+            char c = linha.charAt(i++);
+            if (entreAspas) {
+                if (c == '"') {
+                    if (i < linha.length() && linha.charAt(i) == '"') {
+                        campo.append('"');
+                        i++;
+                    } else {
+                        entreAspas = false;
+                    }
+                } else {
+                    campo.append(c);
+                }
+            } else if (c == '"') {
+                entreAspas = true;
+            } else if (c == separador) {
+                campos.add(campo.toString());
+                campo.setLength(0);
+            } else {
+                campo.append(c);
+            }
+        }
+        campos.add(campo.toString());
+        return campos;
+    }
+}
@@ -0,0 +1,45 @@
+package com.manus.patrimonio.importacao;
+
+import com.manus.patrimonio.exception.RegraDeNegocioException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Lê um arquivo de importação linha a linha, sem carregá-lo inteiro em memória.
+ * A primeira linha é o cabeçalho; cada linha seguinte é entregue ao consumidor como um
+ * mapa coluna → valor, com os nomes de coluna em minúsculas e sem espaços nas pontas.
+ */
+public interface LeitorImportacao {
+
+    void ler(InputStream entrada, ConsumidorLinha consumidor) throws IOException;
+
+    @FunctionalInterface
+    interface ConsumidorLinha {
+
+        /**
+         * @param numeroLinha linha no arquivo, contando o cabeçalho como linha 1
+         */
+        void aceitar(long numeroLinha, Map<String, String> valores) throws IOException;
+    }
+
+    /**
+     * Escolhe o leitor pela extensão do arquivo enviado.
+     */
+    static LeitorImportacao para(String nomeArquivo) {
+        String nome = nomeArquivo == null ? "" : nomeArquivo.toLowerCase(Locale.ROOT);
+        if (nome.endsWith(".csv")) {
+            return new LeitorCsv();
+        }
+        if (nome.endsWith(".xlsx")) {
+            return new LeitorXlsx();
+        }
+        throw new RegraDeNegocioException("Formato de importação não suportado: " + nomeArquivo + ". Use csv ou xlsx");
+    }
+
+    static String normalizarColuna(String coluna) {
+        return coluna == null ? "" : coluna.strip().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,135 @@
+package com.manus.patrimonio.importacao;
+
+import com.manus.patrimonio.exception.RegraDeNegocioException;
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
+import org.apache.poi.xssf.usermodel.XSSFComment;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+
+import javax.xml.parsers.ParserConfigurationException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Primeira planilha de um XLSX, lida pela API de eventos (SAX) do POI: as linhas são
+ * entregues à medida que o XML é percorrido, sem montar o workbook em memória. Datas
+ * chegam em ISO-8601 e números sem formatação de milhar, independentemente do formato
+ * de exibição da célula.
+ */
+public class LeitorXlsx implements LeitorImportacao {
+
+    @Override
+    public void ler(InputStream entrada, ConsumidorLinha consumidor) throws IOException {
+        // O pacote OPC precisa de acesso aleatório ao ZIP; um arquivo evita mantê-lo todo em memória
+        Path temporario = Files.createTempFile("importacao-", ".xlsx");
+        try {
+            Files.copy(entrada, temporario, StandardCopyOption.REPLACE_EXISTING);
+            try (OPCPackage pacote = OPCPackage.open(temporario.toFile(), PackageAccess.READ)) {
+                ler(pacote, consumidor);
+            }
+        } catch (OpenXML4JException | SAXException | ParserConfigurationException e) {
+            throw new RegraDeNegocioException("Arquivo XLSX inválido: " + e.getMessage());
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } finally {
+            Files.deleteIfExists(temporario);
+        }
+    }
+
+    private void ler(OPCPackage pacote, ConsumidorLinha consumidor)
+            throws IOException, OpenXML4JException, SAXException, ParserConfigurationException {
+        XSSFReader leitor = new XSSFReader(pacote);
+        Iterator<InputStream> planilhas = leitor.getSheetsData();
+        if (!planilhas.hasNext()) {
+            return;
+        }
+        ReadOnlySharedStringsTable textos = new ReadOnlySharedStringsTable(pacote, false);
+        try (InputStream planilha = planilhas.next()) {
+            XMLReader parser = XMLHelper.newXMLReader();
+            parser.setContentHandler(new XSSFSheetXMLHandler(leitor.getStylesTable(), null, textos,
+                    new ManipuladorLinhas(consumidor), new FormatadorValores(), false));
+            parser.parse(new InputSource(planilha));
+        }
+    }
+
+    private static class ManipuladorLinhas implements XSSFSheetXMLHandler.SheetContentsHandler {
+
+        private final ConsumidorLinha consumidor;
+        private final List<String> cabecalho = new ArrayList<>();
+        private Map<String, String> registro;
+        private int linhaAtual;
+
+        ManipuladorLinhas(ConsumidorLinha consumidor) {
+            this.consumidor = consumidor;
+        }
+
+        @Override
+        public void startRow(int numeroLinha) {
+            linhaAtual = numeroLinha;
+            registro = new HashMap<>(Math.max(16, cabecalho.size() * 2));
+        }
+
+        @Override
+        public void cell(String referencia, String valor, XSSFComment comentario) {
+            int coluna = new CellReference(referencia).getCol();
+            if (linhaAtual == 0) {
+                while (cabecalho.size() <= coluna) {
+                    cabecalho.add("");
+                }
+                cabecalho.set(coluna, LeitorImportacao.normalizarColuna(valor));
+            } else if (coluna < cabecalho.size()) {
+                registro.put(cabecalho.get(coluna), valor);
+            }
+        }
+
+        @Override
+        public void endRow(int numeroLinha) {
+            if (numeroLinha == 0 || registro.isEmpty()) {
+                return;
+            }
+            try {
+                consumidor.aceitar(numeroLinha + 1L, registro);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    /**
+     * Ignora o formato de exibição das células numéricas: datas viram ISO-8601 e os
+     * demais números, o valor exato sem separador de milhar.
+     */
+    private static class FormatadorValores extends DataFormatter {
+
+        @Override
+        public String formatRawCellContents(double valor, int indiceFormato, String formato, boolean data1904) {
+            if (DateUtil.isADateFormat(indiceFormato, formato) && DateUtil.isValidExcelDate(valor)) {
+                LocalDateTime dataHora = DateUtil.getLocalDateTime(valor, data1904);
+                return dataHora.toLocalTime().toSecondOfDay() == 0
+                        ? dataHora.toLocalDate().toString() : dataHora.toString();
+            }
+            return new BigDecimal(Double.toString(valor)).stripTrailingZeros().toPlainString();
+        }
+    }
+}
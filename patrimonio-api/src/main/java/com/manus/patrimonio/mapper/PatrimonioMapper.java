@@ -125,4 +125,8 @@ public interface PatrimonioMapper {
     Auditoria auditoriaDTOToAuditoria(AuditoriaDTO auditoriaDTO);
 
     List<AuditoriaDTO> auditoriasToAuditoriaDTOs(List<Auditoria> auditorias);
+
+    // Mapeamentos para SolicitacaoRelatorio
+    @Mapping(target = "urlDownload", ignore = true)
+    SolicitacaoRelatorioDTO solicitacaoRelatorioToSolicitacaoRelatorioDTO(SolicitacaoRelatorio solicitacaoRelatorio);
 }
@@ -7,9 +7,13 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 
 @Entity
+@NamedEntityGraph(name = Baixa.GRAFO_RESUMO, attributeNodes = {@NamedAttributeNode("bem")})
 @Table(name = "baixas")
 public class Baixa extends EntidadeBase {
 
+    /** Grafo das listagens: bem, lido na conversão para DTO, evitando uma consulta por linha. */
+    public static final String GRAFO_RESUMO = "Baixa.resumo";
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "bem_id", nullable = false)
     @NotNull(message = "Bem é obrigatório")
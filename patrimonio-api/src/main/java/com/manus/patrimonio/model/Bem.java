@@ -19,6 +19,7 @@ import java.util.Objects;
  * Contém todas as informações necessárias para gestão de patrimônio.
  */
 @Entity
+@NamedEntityGraph(name = Bem.GRAFO_RESUMO, attributeNodes = {@NamedAttributeNode("categoria"), @NamedAttributeNode("localizacaoAtual")})
 @Table(name = "bens", indexes = {
     @Index(name = "idx_bem_tombamento", columnList = "numero_tombamento", unique = true),
     @Index(name = "idx_bem_categoria", columnList = "categoria_id"),
@@ -29,6 +30,9 @@ import java.util.Objects;
 })
 public class Bem extends EntidadeBase {
 
+    /** Grafo das listagens: categoria e localização atual, lidas na conversão para DTO, evitando uma consulta por linha. */
+    public static final String GRAFO_RESUMO = "Bem.resumo";
+
     @NotBlank(message = "Número de tombamento é obrigatório")
     @Size(min = 3, max = 50, message = "Número de tombamento deve ter entre 3 e 50 caracteres")
     @Column(name = "numero_tombamento", nullable = false, unique = true, length = 50)
@@ -0,0 +1,114 @@
+package com.manus.patrimonio.model;
+
+import com.manus.patrimonio.enums.CondicaoBem;
+import com.manus.patrimonio.enums.StatusBem;
+import jakarta.persistence.*;
+import org.hibernate.annotations.Immutable;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.util.Objects;
+
+/**
+ * Totais de bens por status, condição, categoria e localização atual. A tabela é mantida
+ * pelos triggers de {@code bens} (migração V19) a cada INSERT, UPDATE e DELETE, inclusive
+ * os feitos fora do JPA; a aplicação só lê.
+ */
+@Entity
+@Immutable
+@IdClass(BemAgregado.Chave.class)
+@Table(name = "bens_agregados")
+public class BemAgregado {
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 50)
+    private StatusBem status;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "condicao", nullable = false, length = 50)
+    private CondicaoBem condicao;
+
+    @Id
+    @Column(name = "categoria_id", nullable = false)
+    private Long categoriaId;
+
+    @Id
+    @Column(name = "localizacao_atual_id", nullable = false)
+    private Long localizacaoAtualId;
+
+    @Column(name = "quantidade", nullable = false)
+    private Long quantidade;
+
+    @Column(name = "valor_aquisicao_total", nullable = false, precision = 19, scale = 2)
+    private BigDecimal valorAquisicaoTotal;
+
+    @Column(name = "valor_atual_total", nullable = false, precision = 19, scale = 2)
+    private BigDecimal valorAtualTotal;
+
+    protected BemAgregado() {}
+
+    // Getters
+    public StatusBem getStatus() {
+        return status;
+    }
+
+    public CondicaoBem getCondicao() {
+        return condicao;
+    }
+
+    public Long getCategoriaId() {
+        return categoriaId;
+    }
+
+    public Long getLocalizacaoAtualId() {
+        return localizacaoAtualId;
+    }
+
+    public Long getQuantidade() {
+        return quantidade;
+    }
+
+    public BigDecimal getValorAquisicaoTotal() {
+        return valorAquisicaoTotal;
+    }
+
+    public BigDecimal getValorAtualTotal() {
+        return valorAtualTotal;
+    }
+
+    /**
+     * Chave composta do agregado.
+     */
+    public static class Chave implements Serializable {
+
+        private StatusBem status;
+        private CondicaoBem condicao;
+        private Long categoriaId;
+        private Long localizacaoAtualId;
+
+        public Chave() {}
+
+        public Chave(StatusBem status, CondicaoBem condicao, Long categoriaId, Long localizacaoAtualId) {
+            this.status = status;
+            this.condicao = condicao;
+            this.categoriaId = categoriaId;
+            this.localizacaoAtualId = localizacaoAtualId;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Chave chave)) return false;
+            return status == chave.status && condicao == chave.condicao
+                    && Objects.equals(categoriaId, chave.categoriaId)
+                    && Objects.equals(localizacaoAtualId, chave.localizacaoAtualId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(status, condicao, categoriaId, localizacaoAtualId);
+        }
+    }
+}
@@ -17,8 +17,10 @@ import java.util.Objects;
 @EntityListeners(AuditingEntityListener.class)
 public abstract class EntidadeBase {
 
+    // Sequência por tabela com otimizador pooled-lo (ver SequenciaPorTabelaNamingStrategy):
+    // com IDENTITY o Hibernate executa cada INSERT na hora para obter a chave e não agrupa em lotes
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE)
     @Column(name = "id", nullable = false, updatable = false)
     private Long id;
 
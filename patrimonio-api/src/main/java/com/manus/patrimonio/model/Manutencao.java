@@ -10,9 +10,13 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
+@NamedEntityGraph(name = Manutencao.GRAFO_RESUMO, attributeNodes = {@NamedAttributeNode("bem")})
 @Table(name = "manutencoes")
 public class Manutencao extends EntidadeBase {
 
+    /** Grafo das listagens: bem, lido na conversão para DTO, evitando uma consulta por linha. */
+    public static final String GRAFO_RESUMO = "Manutencao.resumo";
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "bem_id", nullable = false)
     @NotNull(message = "Bem é obrigatório")
@@ -9,9 +9,13 @@ import jakarta.validation.constraints.Size;
 import java.time.LocalDateTime;
 
 @Entity
+@NamedEntityGraph(name = Movimentacao.GRAFO_RESUMO, attributeNodes = {@NamedAttributeNode("bem"), @NamedAttributeNode("localizacaoOrigem"), @NamedAttributeNode("localizacaoDestino")})
 @Table(name = "movimentacoes")
 public class Movimentacao extends EntidadeBase {
 
+    /** Grafo das listagens: bem e localizações de origem e destino, lidos na conversão para DTO, evitando uma consulta por linha. */
+    public static final String GRAFO_RESUMO = "Movimentacao.resumo";
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "bem_id", nullable = false)
     @NotNull(message = "Bem é obrigatório")
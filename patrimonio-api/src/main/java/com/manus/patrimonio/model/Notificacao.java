@@ -6,9 +6,13 @@ import jakarta.validation.constraints.*;
 import java.time.LocalDateTime;
 
 @Entity
+@NamedEntityGraph(name = Notificacao.GRAFO_RESUMO, attributeNodes = {@NamedAttributeNode("usuario")})
 @Table(name = "notificacoes")
 public class Notificacao extends EntidadeBase {
 
+    /** Grafo das listagens: usuário, lido na conversão para DTO, evitando uma consulta por linha. */
+    public static final String GRAFO_RESUMO = "Notificacao.resumo";
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "usuario_id", nullable = false)
     @NotNull(message = "Usuário é obrigatório")
@@ -0,0 +1,208 @@
+package com.manus.patrimonio.model;
+
+import com.manus.patrimonio.enums.StatusRelatorio;
+import com.manus.patrimonio.enums.TipoRelatorio;
+import com.manus.patrimonio.exportacao.FormatoExportacao;
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+
+import java.time.LocalDateTime;
+
+/**
+ * Pedido de geração de relatório em segundo plano. O {@code codigo} é o identificador
+ * público (também a identidade do job no Quartz); o arquivo gerado fica no
+ * armazenamento de relatórios, referenciado por {@code arquivo}.
+ */
+@Entity
+@Table(name = "solicitacoes_relatorio", indexes = {
+    @Index(name = "idx_solicitacoes_relatorio_solicitante", columnList = "solicitado_por, data_solicitacao"),
+    @Index(name = "idx_solicitacoes_relatorio_conclusao", columnList = "data_conclusao")
+})
+public class SolicitacaoRelatorio extends EntidadeBase {
+
+    @NotNull
+    @Column(name = "codigo", nullable = false, unique = true, length = 36)
+    private String codigo;
+
+    @NotNull
+    @Enumerated(EnumType.STRING)
+    @Column(name = "tipo", nullable = false, length = 30)
+    private TipoRelatorio tipo;
+
+    @NotNull
+    @Enumerated(EnumType.STRING)
+    @Column(name = "formato", nullable = false, length = 10)
+    private FormatoExportacao formato;
+
+    @NotNull
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private StatusRelatorio status = StatusRelatorio.PENDENTE;
+
+    @Column(name = "data_inicio_periodo")
+    private LocalDateTime dataInicioPeriodo;
+
+    @Column(name = "data_fim_periodo")
+    private LocalDateTime dataFimPeriodo;
+
+    @Column(name = "solicitado_por", length = 100)
+    private String solicitadoPor;
+
+    @Column(name = "data_solicitacao", nullable = false)
+    private LocalDateTime dataSolicitacao;
+
+    @Column(name = "data_inicio_execucao")
+    private LocalDateTime dataInicioExecucao;
+
+    @Column(name = "data_conclusao")
+    private LocalDateTime dataConclusao;
+
+    // Instância do Quartz que gerou o relatório (útil para diagnóstico em cluster)
+    @Column(name = "no_execucao", length = 100)
+    private String noExecucao;
+
+    @Column(name = "registros")
+    private Long registros;
+
+    @Column(name = "tamanho_bytes")
+    private Long tamanhoBytes;
+
+    @Column(name = "arquivo", length = 255)
+    private String arquivo;
+
+    @Column(name = "mensagem_erro", length = 1000)
+    private String mensagemErro;
+
+    // Construtores
+    public SolicitacaoRelatorio() {
+        this.dataSolicitacao = LocalDateTime.now();
+    }
+
+    public SolicitacaoRelatorio(String codigo, TipoRelatorio tipo, FormatoExportacao formato) {
+        this();
+        this.codigo = codigo;
+        this.tipo = tipo;
+        this.formato = formato;
+    }
+
+    // Getters e Setters
+    public String getCodigo() {
+        return codigo;
+    }
+
+    public void setCodigo(String codigo) {
+        this.codigo = codigo;
+    }
+
+    public TipoRelatorio getTipo() {
+        return tipo;
+    }
+
+    public void setTipo(TipoRelatorio tipo) {
+        this.tipo = tipo;
+    }
+
+    public FormatoExportacao getFormato() {
+        return formato;
+    }
+
+    public void setFormato(FormatoExportacao formato) {
+        this.formato = formato;
+    }
+
+    public StatusRelatorio getStatus() {
+        return status;
+    }
+
+    public void setStatus(StatusRelatorio status) {
+        this.status = status;
+    }
+
+    public LocalDateTime getDataInicioPeriodo() {
+        return dataInicioPeriodo;
+    }
+
+    public void setDataInicioPeriodo(LocalDateTime dataInicioPeriodo) {
+        this.dataInicioPeriodo = dataInicioPeriodo;
+    }
+
+    public LocalDateTime getDataFimPeriodo() {
+        return dataFimPeriodo;
+    }
+
+    public void setDataFimPeriodo(LocalDateTime dataFimPeriodo) {
+        this.dataFimPeriodo = dataFimPeriodo;
+    }
+
+    public String getSolicitadoPor() {
+        return solicitadoPor;
+    }
+
+    public void setSolicitadoPor(String solicitadoPor) {
+        this.solicitadoPor = solicitadoPor;
+    }
+
+    public LocalDateTime getDataSolicitacao() {
+        return dataSolicitacao;
+    }
+
+    public void setDataSolicitacao(LocalDateTime dataSolicitacao) {
+        this.dataSolicitacao = dataSolicitacao;
+    }
+
+    public LocalDateTime getDataInicioExecucao() {
+        return dataInicioExecucao;
+    }
+
+    public void setDataInicioExecucao(LocalDateTime dataInicioExecucao) {
+        this.dataInicioExecucao = dataInicioExecucao;
+    }
+
+    public LocalDateTime getDataConclusao() {
+        return dataConclusao;
+    }
+
+    public void setDataConclusao(LocalDateTime dataConclusao) {
+        this.dataConclusao = dataConclusao;
+    }
+
+    public String getNoExecucao() {
+        return noExecucao;
+    }
+
+    public void setNoExecucao(String noExecucao) {
+        this.noExecucao = noExecucao;
+    }
+
+    public Long getRegistros() {
+        return registros;
+    }
+
+    public void setRegistros(Long registros) {
+        this.registros = registros;
+    }
+
+    public Long getTamanhoBytes() {
+        return tamanhoBytes;
+    }
+
+    public void setTamanhoBytes(Long tamanhoBytes) {
+        this.tamanhoBytes = tamanhoBytes;
+    }
+
+    public String getArquivo() {
+        return arquivo;
+    }
+
+    public void setArquivo(String arquivo) {
+        this.arquivo = arquivo;
+    }
+
+    public String getMensagemErro() {
+        return mensagemErro;
+    }
+
+    public void setMensagemErro(String mensagemErro) {
+        this.mensagemErro = mensagemErro;
+    }
+}
@@ -47,6 +47,10 @@ public class Usuario extends EntidadeBase {
     @Column(name = "data_bloqueio")
     private LocalDateTime dataBloqueio;
 
+    // Fim do bloqueio por falhas de login; nulo num bloqueio que só o administrador desfaz
+    @Column(name = "data_fim_bloqueio")
+    private LocalDateTime dataFimBloqueio;
+
     @Column(name = "telefone")
     private String telefone;
 
@@ -171,6 +175,14 @@ public class Usuario extends EntidadeBase {
         this.dataBloqueio = dataBloqueio;
     }
 
+    public LocalDateTime getDataFimBloqueio() {
+        return dataFimBloqueio;
+    }
+
+    public void setDataFimBloqueio(LocalDateTime dataFimBloqueio) {
+        this.dataFimBloqueio = dataFimBloqueio;
+    }
+
     public String getTelefone() {
         return telefone;
     }
@@ -269,7 +281,7 @@ public class Usuario extends EntidadeBase {
     }
 
     public boolean isBloqueado() {
-        return dataBloqueio != null;
+        return dataBloqueio != null && (dataFimBloqueio == null || LocalDateTime.now().isBefore(dataFimBloqueio));
     }
 
     public boolean isSenhaExpirada() {
@@ -298,6 +310,7 @@ public class Usuario extends EntidadeBase {
         this.dataUltimoLogin = LocalDateTime.now();
         this.tentativasLoginFalha = 0;
         this.dataBloqueio = null;
+        this.dataFimBloqueio = null;
     }
 
     public void registrarLoginFalha() {
@@ -309,12 +322,14 @@ public class Usuario extends EntidadeBase {
 
     public void desbloquear() {
         this.dataBloqueio = null;
+        this.dataFimBloqueio = null;
         this.tentativasLoginFalha = 0;
     }
 
     public void ativar() {
         this.ativo = true;
         this.dataBloqueio = null;
+        this.dataFimBloqueio = null;
         this.tentativasLoginFalha = 0;
     }
 
@@ -0,0 +1,85 @@
+package com.manus.patrimonio.relatorio;
+
+import com.manus.patrimonio.exception.RecursoNaoEncontradoException;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * Arquivos dos relatórios em disco, em {@code patrimonio.relatorios.diretorio}. O
+ * relatório é escrito num arquivo {@code .parcial} e só ganha o nome definitivo ao ser
+ * publicado, então um download nunca encontra um arquivo pela metade.
+ */
+@Component
+public class ArmazenamentoRelatorios {
+
+    private static final String SUFIXO_PARCIAL = ".parcial";
+
+    private final Path diretorio;
+
+    public ArmazenamentoRelatorios(RelatorioProperties properties) {
+        this.diretorio = Paths.get(properties.getDiretorio()).toAbsolutePath().normalize();
+    }
+
+    /**
+     * Abre o arquivo parcial para escrita. O chamador fecha a saída e então chama
+     * {@link #publicar(String)} ou, em caso de erro, {@link #remover(String)}.
+     */
+    public OutputStream criar(String arquivo) throws IOException {
+        Files.createDirectories(diretorio);
+        return new BufferedOutputStream(Files.newOutputStream(resolver(arquivo + SUFIXO_PARCIAL)), 64 * 1024);
+    }
+
+    /**
+     * Dá ao arquivo parcial o nome definitivo.
+     *
+     * @return tamanho do arquivo em bytes
+     */
+    public long publicar(String arquivo) throws IOException {
+        Path destino = resolver(arquivo);
+        Files.move(resolver(arquivo + SUFIXO_PARCIAL), destino,
+                StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        return Files.size(destino);
+    }
+
+    public Resource abrir(String arquivo) {
+        Path caminho = resolver(arquivo);
+        if (!Files.isReadable(caminho)) {
+            throw new RecursoNaoEncontradoException("Arquivo do relatório não encontrado: " + arquivo);
+        }
+        return new FileSystemResource(caminho);
+    }
+
+    /**
+     * Remove o arquivo e a versão parcial, se existirem.
+     */
+    public void remover(String arquivo) {
+        try {
+            Files.deleteIfExists(resolver(arquivo));
+            Files.deleteIfExists(resolver(arquivo + SUFIXO_PARCIAL));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    Path getDiretorio() {
+        return diretorio;
+    }
+
+    private Path resolver(String arquivo) {
+        Path caminho = diretorio.resolve(arquivo).normalize();
+        if (!caminho.getParent().equals(diretorio)) {
+            throw new IllegalArgumentException("Nome de arquivo inválido: " + arquivo);
+        }
+        return caminho;
+    }
+}
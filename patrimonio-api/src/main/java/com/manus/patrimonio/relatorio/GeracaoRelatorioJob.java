@@ -0,0 +1,35 @@
+package com.manus.patrimonio.relatorio;
+
+import com.manus.patrimonio.service.RelatorioService;
+import org.quartz.JobExecutionContext;
+import org.quartz.JobExecutionException;
+import org.quartz.SchedulerException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.quartz.QuartzJobBean;
+
+/**
+ * Job do Quartz que gera um relatório solicitado. Cada solicitação agenda um job próprio,
+ * identificado pelo código do relatório, com disparo imediato; o {@code RelatorioService}
+ * registra o resultado, então o job não relança falhas da geração.
+ */
+public class GeracaoRelatorioJob extends QuartzJobBean {
+
+    public static final String GRUPO = "relatorios";
+
+    public static final String CODIGO = "codigo";
+
+    @Autowired
+    private RelatorioService relatorioService;
+
+    @Override
+    protected void executeInternal(JobExecutionContext context) throws JobExecutionException {
+        String codigo = context.getMergedJobDataMap().getString(CODIGO);
+        String instancia;
+        try {
+            instancia = context.getScheduler().getSchedulerInstanceId();
+        } catch (SchedulerException e) {
+            instancia = null;
+        }
+        relatorioService.gerar(codigo, instancia);
+    }
+}
@@ -0,0 +1,24 @@
+package com.manus.patrimonio.relatorio;
+
+import com.manus.patrimonio.service.RelatorioService;
+import org.quartz.DisallowConcurrentExecution;
+import org.quartz.JobExecutionContext;
+import org.quartz.JobExecutionException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.quartz.QuartzJobBean;
+
+/**
+ * Job do Quartz que remove os relatórios com retenção vencida.
+ * Agendado em {@code patrimonio.relatorios.cron-limpeza} pelo {@code RelatorioConfig}.
+ */
+@DisallowConcurrentExecution
+public class LimpezaRelatoriosJob extends QuartzJobBean {
+
+    @Autowired
+    private RelatorioService relatorioService;
+
+    @Override
+    protected void executeInternal(JobExecutionContext context) throws JobExecutionException {
+        relatorioService.removerExpirados();
+    }
+}
@@ -0,0 +1,50 @@
+package com.manus.patrimonio.relatorio;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuração dos relatórios gerados em segundo plano ({@code patrimonio.relatorios}).
+ */
+@ConfigurationProperties(prefix = "patrimonio.relatorios")
+public class RelatorioProperties {
+
+    /**
+     * Diretório dos arquivos gerados. Com o Quartz em cluster, qualquer nó pode gerar
+     * ou servir um relatório, então o diretório precisa ser compartilhado entre eles.
+     */
+    private String diretorio = System.getProperty("java.io.tmpdir") + "/patrimonio-relatorios";
+
+    /**
+     * Tempo, a partir da conclusão, em que o arquivo fica disponível para download.
+     */
+    private Duration retencao = Duration.ofHours(24);
+
+    private String cronLimpeza = "0 15 * * * ?";
+
+    // Getters e Setters
+    public String getDiretorio() {
+        return diretorio;
+    }
+
+    public void setDiretorio(String diretorio) {
+        this.diretorio = diretorio;
+    }
+
+    public Duration getRetencao() {
+        return retencao;
+    }
+
+    public void setRetencao(Duration retencao) {
+        this.retencao = retencao;
+    }
+
+    public String getCronLimpeza() {
+        return cronLimpeza;
+    }
+
+    public void setCronLimpeza(String cronLimpeza) {
+        this.cronLimpeza = cronLimpeza;
+    }
+}
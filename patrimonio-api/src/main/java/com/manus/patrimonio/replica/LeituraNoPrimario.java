@@ -0,0 +1,23 @@
+package com.manus.patrimonio.replica;
+
+import org.springframework.transaction.annotation.Transactional;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Transação das leituras que alimentam um cache ({@code @Cacheable}, principais do JWT).
+ * É de escrita de propósito, para ficar no primário: na réplica, uma leitura logo depois
+ * de uma alteração pode trazer o valor anterior, que iria para o cache depois da
+ * invalidação da escrita e ficaria lá até o TTL. As demais leituras continuam com
+ * {@code @Transactional(readOnly = true)}, na réplica.
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Transactional
+public @interface LeituraNoPrimario {
+}
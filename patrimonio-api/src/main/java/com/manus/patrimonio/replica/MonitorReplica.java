@@ -0,0 +1,118 @@
+package com.manus.patrimonio.replica;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mede periodicamente o atraso de replicação e decide se as transações somente leitura
+ * podem ir para a réplica. Réplica atrasada além de {@code atraso-maximo}, inacessível
+ * ou ainda não verificada conta como indisponível: as leituras ficam no primário.
+ */
+public class MonitorReplica implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(MonitorReplica.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String consultaAtraso;
+    private final Duration atrasoMaximo;
+    private final Duration intervalo;
+    private final Counter desvios;
+
+    private volatile boolean disponivel;
+    private volatile double atrasoSegundos = Double.NaN;
+    private ScheduledExecutorService agendador;
+
+    public MonitorReplica(DataSource replica, ReplicaProperties properties, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = new JdbcTemplate(replica);
+        this.consultaAtraso = properties.getConsultaAtraso();
+        this.atrasoMaximo = properties.getAtrasoMaximo();
+        this.intervalo = properties.getIntervaloVerificacao();
+
+        Gauge.builder("patrimonio.datasource.replica.atraso", this, m -> m.atrasoSegundos)
+                .description("Atraso de replicação medido na réplica de leitura, em segundos")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder("patrimonio.datasource.replica.disponivel", this, m -> m.disponivel ? 1 : 0)
+                .description("1 quando as leituras estão sendo enviadas à réplica")
+                .register(meterRegistry);
+        this.desvios = Counter.builder("patrimonio.datasource.replica.desvios")
+                .description("Conexões somente leitura servidas pelo primário por indisponibilidade da réplica")
+                .register(meterRegistry);
+    }
+
+    public boolean isDisponivel() {
+        return disponivel;
+    }
+
+    /**
+     * Consulta o atraso atual e atualiza a disponibilidade.
+     */
+    public void verificar() {
+        try {
+            Number atraso = jdbcTemplate.queryForObject(consultaAtraso, Number.class);
+            atrasoSegundos = atraso == null ? 0 : atraso.doubleValue();
+            atualizar(atrasoSegundos * 1000 <= atrasoMaximo.toMillis(),
+                    "atraso de " + atrasoSegundos + "s (máximo " + atrasoMaximo + ")");
+        } catch (RuntimeException e) {
+            atrasoSegundos = Double.NaN;
+            atualizar(false, e.getMessage());
+        }
+    }
+
+    /**
+     * Chamado quando a réplica recusa uma conexão entre duas verificações.
+     */
+    void marcarIndisponivel(Exception causa) {
+        atualizar(false, causa.getMessage());
+    }
+
+    void registrarDesvio() {
+        desvios.increment();
+    }
+
+    private void atualizar(boolean novoEstado, String motivo) {
+        if (novoEstado != disponivel) {
+            if (novoEstado) {
+                logger.info("Réplica de leitura disponível: {}", motivo);
+            } else {
+                logger.warn("Réplica de leitura indisponível, leituras voltam ao primário: {}", motivo);
+            }
+        }
+        disponivel = novoEstado;
+    }
+
+    @Override
+    public void start() {
+        agendador = Executors.newSingleThreadScheduledExecutor(tarefa -> {
+            Thread thread = new Thread(tarefa, "replica-monitor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        agendador.scheduleWithFixedDelay(this::verificar, 0, intervalo.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void stop() {
+        if (agendador != null) {
+            agendador.shutdownNow();
+            agendador = null;
+        }
+        disponivel = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return agendador != null;
+    }
+}
@@ -0,0 +1,44 @@
+package com.manus.patrimonio.replica;
+
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Destino das conexões somente leitura: a réplica enquanto o {@link MonitorReplica} a
+ * considerar em dia, senão o primário. Se a réplica recusar a conexão, a leitura segue
+ * no primário e a réplica fica fora até a próxima verificação bem-sucedida.
+ */
+public class ReplicaComFallbackDataSource extends AbstractDataSource {
+
+    private final DataSource replica;
+    private final DataSource primario;
+    private final MonitorReplica monitor;
+
+    public ReplicaComFallbackDataSource(DataSource replica, DataSource primario, MonitorReplica monitor) {
+        this.replica = replica;
+        this.primario = primario;
+        this.monitor = monitor;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (monitor.isDisponivel()) {
+            try {
+                return replica.getConnection();
+            } catch (SQLException e) {
+                monitor.marcarIndisponivel(e);
+            }
+        }
+        monitor.registrarDesvio();
+        return primario.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        // Credenciais explícitas só fazem sentido para o primário configurado em spring.datasource
+        return primario.getConnection(username, password);
+    }
+}
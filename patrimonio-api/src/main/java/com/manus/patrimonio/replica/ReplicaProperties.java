@@ -0,0 +1,93 @@
+package com.manus.patrimonio.replica;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Réplica de leitura ({@code patrimonio.datasource.replica}). Sem {@code url}, todas
+ * as transações continuam no primário.
+ */
+@ConfigurationProperties(prefix = "patrimonio.datasource.replica")
+public class ReplicaProperties {
+
+    private String url;
+
+    private String username;
+
+    private String password;
+
+    private int maximumPoolSize = 10;
+
+    /**
+     * Atraso de replicação acima do qual as leituras voltam para o primário.
+     */
+    private Duration atrasoMaximo = Duration.ofSeconds(5);
+
+    private Duration intervaloVerificacao = Duration.ofSeconds(2);
+
+    /**
+     * Consulta que devolve o atraso da réplica em segundos. O padrão considera atraso zero
+     * quando todo o WAL recebido já foi aplicado, para um primário ocioso não parecer atrasado.
+     */
+    private String consultaAtraso = "SELECT CASE WHEN NOT pg_is_in_recovery() " +
+            "OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 " +
+            "ELSE EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) END";
+
+    // Getters e Setters
+    public String getUrl() {
+        return url;
+    }
+
+    public void setUrl(String url) {
+        this.url = url;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public void setUsername(String username) {
+        this.username = username;
+    }
+
+    public String getPassword() {
+        return password;
+    }
+
+    public void setPassword(String password) {
+        this.password = password;
+    }
+
+    public int getMaximumPoolSize() {
+        return maximumPoolSize;
+    }
+
+    public void setMaximumPoolSize(int maximumPoolSize) {
+        this.maximumPoolSize = maximumPoolSize;
+    }
+
+    public Duration getAtrasoMaximo() {
+        return atrasoMaximo;
+    }
+
+    public void setAtrasoMaximo(Duration atrasoMaximo) {
+        this.atrasoMaximo = atrasoMaximo;
+    }
+
+    public Duration getIntervaloVerificacao() {
+        return intervaloVerificacao;
+    }
+
+    public void setIntervaloVerificacao(Duration intervaloVerificacao) {
+        this.intervaloVerificacao = intervaloVerificacao;
+    }
+
+    public String getConsultaAtraso() {
+        return consultaAtraso;
+    }
+
+    public void setConsultaAtraso(String consultaAtraso) {
+        this.consultaAtraso = consultaAtraso;
+    }
+}
@@ -1,15 +1,20 @@
 package com.manus.patrimonio.repository;
 
+import com.manus.patrimonio.dto.AuditoriaResumoDTO;
 import com.manus.patrimonio.model.Auditoria;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface AuditoriaRepository extends JpaRepository<Auditoria, Long> {
@@ -99,6 +104,12 @@ public interface AuditoriaRepository extends JpaRepository<Auditoria, Long> {
     // Buscar com paginação
     Page<Auditoria> findAll(Pageable pageable);
     
+    // Listagem enxuta: sem hidratar a entidade nem ler os snapshots JSONB
+    @Query(value = "SELECT new com.manus.patrimonio.dto.AuditoriaResumoDTO(a.id, a.entidade, a.entidadeId, a.acao, " +
+                   "a.usuario.id, a.ipAddress, a.dataAcao) FROM Auditoria a",
+           countQuery = "SELECT COUNT(a) FROM Auditoria a")
+    Page<AuditoriaResumoDTO> listarResumos(Pageable pageable);
+    
     // Buscar por entidade com paginação
     Page<Auditoria> findByEntidade(String entidade, Pageable pageable);
     
@@ -119,4 +130,34 @@ public interface AuditoriaRepository extends JpaRepository<Auditoria, Long> {
     
     // Buscar por usuário e ação com paginação
     Page<Auditoria> findByUsuarioIdAndAcao(Long usuarioId, String acao, Pageable pageable);
+    
+    // Buscar por entidade e período com paginação
+    @Query("SELECT a FROM Auditoria a WHERE a.entidade = :entidade AND a.dataAcao BETWEEN :dataInicio AND :dataFim ORDER BY a.dataAcao DESC")
+    Page<Auditoria> findByEntidadeAndPeriodo(@Param("entidade") String entidade, 
+                                            @Param("dataInicio") LocalDateTime dataInicio, 
+                                            @Param("dataFim") LocalDateTime dataFim, 
+                                            Pageable pageable);
+    
+    // Buscar por usuário e período com paginação
+    @Query("SELECT a FROM Auditoria a WHERE a.usuario.id = :usuarioId AND a.dataAcao BETWEEN :dataInicio AND :dataFim ORDER BY a.dataAcao DESC")
+    Page<Auditoria> findByUsuarioAndPeriodo(@Param("usuarioId") Long usuarioId, 
+                                           @Param("dataInicio") LocalDateTime dataInicio, 
+                                           @Param("dataFim") LocalDateTime dataFim, 
+                                           Pageable pageable);
+    
+    // Buscar por ação e período com paginação
+    @Query("SELECT a FROM Auditoria a WHERE a.acao = :acao AND a.dataAcao BETWEEN :dataInicio AND :dataFim ORDER BY a.dataAcao DESC")
+    Page<Auditoria> findByAcaoAndPeriodo(@Param("acao") String acao, 
+                                        @Param("dataInicio") LocalDateTime dataInicio, 
+                                        @Param("dataFim") LocalDateTime dataFim, 
+                                        Pageable pageable);
+    
+    // Auditorias do período em ordem cronológica, lidas em lotes para exportação
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT a FROM Auditoria a WHERE a.dataAcao BETWEEN :dataInicio AND :dataFim ORDER BY a.dataAcao, a.id")
+    Stream<Auditoria> streamPorPeriodoParaExportacao(@Param("dataInicio") LocalDateTime dataInicio, 
+                                                     @Param("dataFim") LocalDateTime dataFim);
 }
@@ -1,78 +1,100 @@
 package com.manus.patrimonio.repository;
 
 import com.manus.patrimonio.model.Baixa;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface BaixaRepository extends JpaRepository<Baixa, Long> {
 
     // Buscar por bem
+    @EntityGraph(Baixa.GRAFO_RESUMO)
     List<Baixa> findByBemIdOrderByDataBaixaDesc(Long bemId);
     
     // Buscar por motivo
+    @EntityGraph(Baixa.GRAFO_RESUMO)
     List<Baixa> findByMotivoContainingIgnoreCaseOrderByDataBaixaDesc(String motivo);
     
     // Buscar por responsável
+    @EntityGraph(Baixa.GRAFO_RESUMO)
     List<Baixa> findByResponsavelContainingIgnoreCaseOrderByDataBaixaDesc(String responsavel);
     
     // Buscar por período
+    @EntityGraph(Baixa.GRAFO_RESUMO)
     List<Baixa> findByDataBaixaBetweenOrderByDataBaixaDesc(LocalDate dataInicio, LocalDate dataFim);
     
     // Buscar por valor residual
+    @EntityGraph(Baixa.GRAFO_RESUMO)
     List<Baixa> findByValorResidualGreaterThanEqualOrderByValorResidualDesc(BigDecimal valorMinimo);
     
     // Buscar por valor de venda
+    @EntityGraph(Baixa.GRAFO_RESUMO)
     List<Baixa> findByValorVendaGreaterThanEqualOrderByValorVendaDesc(BigDecimal valorMinimo);
     
     // Buscar baixas aprovadas
     @Query("SELECT b FROM Baixa b WHERE b.dataAprovacao IS NOT NULL")
+    @EntityGraph(Baixa.GRAFO_RESUMO)
     List<Baixa> findBaixasAprovadas();
     
     // Buscar baixas não aprovadas
     @Query("SELECT b FROM Baixa b WHERE b.dataAprovacao IS NULL")
+    @EntityGraph(Baixa.GRAFO_RESUMO)
     List<Baixa> findBaixasNaoAprovadas();
     
     // Buscar baixas vendidas
     @Query("SELECT b FROM Baixa b WHERE b.valorVenda IS NOT NULL AND b.dataVenda IS NOT NULL")
+    @EntityGraph(Baixa.GRAFO_RESUMO)
     List<Baixa> findBaixasVendidas();
     
     // Buscar baixas não vendidas
     @Query("SELECT b FROM Baixa b WHERE b.valorVenda IS NULL OR b.dataVenda IS NULL")
+    @EntityGraph(Baixa.GRAFO_RESUMO)
     List<Baixa> findBaixasNaoVendidas();
     
     // Buscar por processo administrativo
+    @EntityGraph(Baixa.GRAFO_RESUMO)
     List<Baixa> findByProcessoAdministrativoContainingIgnoreCaseOrderByDataBaixaDesc(String processoAdministrativo);
     
     // Buscar por comprador
+    @EntityGraph(Baixa.GRAFO_RESUMO)
     List<Baixa> findByCompradorContainingIgnoreCaseOrderByDataVendaDesc(String comprador);
     
     // Buscar baixas por categoria de bem
     @Query("SELECT b FROM Baixa b JOIN b.bem bem JOIN bem.categoria c WHERE c.id = :categoriaId")
+    @EntityGraph(Baixa.GRAFO_RESUMO)
     List<Baixa> findBaixasPorCategoriaBem(@Param("categoriaId") Long categoriaId);
     
     // Buscar baixas por localização
     @Query("SELECT b FROM Baixa b JOIN b.bem bem JOIN bem.localizacaoAtual l WHERE l.id = :localizacaoId")
+    @EntityGraph(Baixa.GRAFO_RESUMO)
     List<Baixa> findBaixasPorLocalizacao(@Param("localizacaoId") Long localizacaoId);
     
     // Buscar baixas por valor de aquisição
     @Query("SELECT b FROM Baixa b JOIN b.bem bem WHERE bem.valorAquisicao >= :valorMinimo ORDER BY bem.valorAquisicao DESC")
+    @EntityGraph(Baixa.GRAFO_RESUMO)
     List<Baixa> findBaixasPorValorAquisicaoMinimo(@Param("valorMinimo") BigDecimal valorMinimo);
     
     // Buscar baixas por perda financeira
     @Query("SELECT b FROM Baixa b WHERE (b.bem.valorAquisicao - b.valorResidual) >= :perdaMinima ORDER BY (b.bem.valorAquisicao - b.valorResidual) DESC")
+    @EntityGraph(Baixa.GRAFO_RESUMO)
     List<Baixa> findBaixasPorPerdaFinanceiraMinima(@Param("perdaMinima") BigDecimal perdaMinima);
     
     // Buscar baixas por ganho financeiro
     @Query("SELECT b FROM Baixa b WHERE (b.valorVenda - b.valorResidual) >= :ganhoMinimo ORDER BY (b.valorVenda - b.valorResidual) DESC")
+    @EntityGraph(Baixa.GRAFO_RESUMO)
     List<Baixa> findBaixasPorGanhoFinanceiroMinimo(@Param("ganhoMinimo") BigDecimal ganhoMinimo);
     
     // Contar baixas por status de aprovação
@@ -92,64 +114,122 @@ public interface BaixaRepository extends JpaRepository<Baixa, Long> {
     // Contar baixas por bem
     @Query("SELECT COUNT(b) FROM Baixa b WHERE b.bem.id = :bemId")
     Long countByBemId(@Param("bemId") Long bemId);
+
+    // Contar baixas por período
+    Long countByDataBaixaBetween(LocalDate dataInicio, LocalDate dataFim);
+
+    // Soma e quantidade dos valores residuais informados, para total e média sem carregar as baixas
+    @Query("SELECT COALESCE(SUM(b.valorResidual), 0) FROM Baixa b")
+    BigDecimal somarValorResidual();
+
+    Long countByValorResidualIsNotNull();
     
     // Buscar com paginação
+    @EntityGraph(Baixa.GRAFO_RESUMO)
     Page<Baixa> findAll(Pageable pageable);
     
     // Buscar por motivo com paginação
+    @EntityGraph(Baixa.GRAFO_RESUMO)
     Page<Baixa> findByMotivoContainingIgnoreCase(String motivo, Pageable pageable);
     
     // Buscar por responsável com paginação
+    @EntityGraph(Baixa.GRAFO_RESUMO)
     Page<Baixa> findByResponsavelContainingIgnoreCase(String responsavel, Pageable pageable);
     
     // Buscar por período com paginação
+    @EntityGraph(Baixa.GRAFO_RESUMO)
     Page<Baixa> findByDataBaixaBetween(LocalDate dataInicio, LocalDate dataFim, Pageable pageable);
     
     // Buscar por valor residual com paginação
+    @EntityGraph(Baixa.GRAFO_RESUMO)
     Page<Baixa> findByValorResidualGreaterThanEqual(BigDecimal valorMinimo, Pageable pageable);
     
     // Buscar por valor de venda com paginação
+    @EntityGraph(Baixa.GRAFO_RESUMO)
     Page<Baixa> findByValorVendaGreaterThanEqual(BigDecimal valorMinimo, Pageable pageable);
     
     // Buscar baixas aprovadas com paginação
     @Query("SELECT b FROM Baixa b WHERE b.dataAprovacao IS NOT NULL")
+    @EntityGraph(Baixa.GRAFO_RESUMO)
     Page<Baixa> findBaixasAprovadas(Pageable pageable);
     
     // Buscar baixas não aprovadas com paginação
     @Query("SELECT b FROM Baixa b WHERE b.dataAprovacao IS NULL")
+    @EntityGraph(Baixa.GRAFO_RESUMO)
     Page<Baixa> findBaixasNaoAprovadas(Pageable pageable);
     
     // Buscar baixas vendidas com paginação
     @Query("SELECT b FROM Baixa b WHERE b.valorVenda IS NOT NULL AND b.dataVenda IS NOT NULL")
+    @EntityGraph(Baixa.GRAFO_RESUMO)
     Page<Baixa> findBaixasVendidas(Pageable pageable);
     
     // Buscar baixas não vendidas com paginação
     @Query("SELECT b FROM Baixa b WHERE b.valorVenda IS NULL OR b.dataVenda IS NULL")
+    @EntityGraph(Baixa.GRAFO_RESUMO)
     Page<Baixa> findBaixasNaoVendidas(Pageable pageable);
     
     // Buscar por processo administrativo com paginação
+    @EntityGraph(Baixa.GRAFO_RESUMO)
     Page<Baixa> findByProcessoAdministrativoContainingIgnoreCase(String processoAdministrativo, Pageable pageable);
     
     // Buscar por comprador com paginação
+    @EntityGraph(Baixa.GRAFO_RESUMO)
     Page<Baixa> findByCompradorContainingIgnoreCase(String comprador, Pageable pageable);
     
     // Buscar baixas por categoria de bem com paginação
     @Query("SELECT b FROM Baixa b JOIN b.bem bem JOIN bem.categoria c WHERE c.id = :categoriaId")
+    @EntityGraph(Baixa.GRAFO_RESUMO)
     Page<Baixa> findBaixasPorCategoriaBem(@Param("categoriaId") Long categoriaId, Pageable pageable);
     
     // Buscar baixas por localização com paginação
     @Query("SELECT b FROM Baixa b JOIN b.bem bem JOIN bem.localizacaoAtual l WHERE l.id = :localizacaoId")
+    @EntityGraph(Baixa.GRAFO_RESUMO)
     Page<Baixa> findBaixasPorLocalizacao(@Param("localizacaoId") Long localizacaoId, Pageable pageable);
     
     // Buscar baixas por valor de aquisição com paginação
     @Query("SELECT b FROM Baixa b JOIN b.bem bem WHERE bem.valorAquisicao >= :valorMinimo ORDER BY bem.valorAquisicao DESC")
+    @EntityGraph(Baixa.GRAFO_RESUMO)
     Page<Baixa> findBaixasPorValorAquisicaoMinimo(@Param("valorMinimo") BigDecimal valorMinimo, Pageable pageable);
     
     // Buscar baixas por perda financeira com paginação
     @Query("SELECT b FROM Baixa b WHERE (b.bem.valorAquisicao - b.valorResidual) >= :perdaMinima ORDER BY (b.bem.valorAquisicao - b.valorResidual) DESC")
+    @EntityGraph(Baixa.GRAFO_RESUMO)
     Page<Baixa> findBaixasPorPerdaFinanceiraMinima(@Param("perdaMinima") BigDecimal perdaMinima, Pageable pageable);
     
     // Buscar baixas por ganho financeiro com paginação
     @Query("SELECT b FROM Baixa b WHERE (b.valorVenda - b.valorResidual) >= :ganhoMinimo ORDER BY (b.valorVenda - b.valorResidual) DESC")
+    @EntityGraph(Baixa.GRAFO_RESUMO)
     Page<Baixa> findBaixasPorGanhoFinanceiroMinimo(@Param("ganhoMinimo") BigDecimal ganhoMinimo, Pageable pageable);
+    
+    // Buscar por bem com paginação
+    @EntityGraph(Baixa.GRAFO_RESUMO)
+    Page<Baixa> findByBemIdOrderByDataBaixaDesc(Long bemId, Pageable pageable);
+    
+    // Buscar por motivo com paginação, mais recentes primeiro
+    @EntityGraph(Baixa.GRAFO_RESUMO)
+    Page<Baixa> findByMotivoContainingIgnoreCaseOrderByDataBaixaDesc(String motivo, Pageable pageable);
+    
+    // Buscar por responsável com paginação, mais recentes primeiro
+    @EntityGraph(Baixa.GRAFO_RESUMO)
+    Page<Baixa> findByResponsavelContainingIgnoreCaseOrderByDataBaixaDesc(String responsavel, Pageable pageable);
+    
+    // Buscar por período com paginação, mais recentes primeiro
+    @EntityGraph(Baixa.GRAFO_RESUMO)
+    Page<Baixa> findByDataBaixaBetweenOrderByDataBaixaDesc(LocalDate dataInicio, LocalDate dataFim, Pageable pageable);
+    
+    // Buscar por processo administrativo com paginação, mais recentes primeiro
+    @EntityGraph(Baixa.GRAFO_RESUMO)
+    Page<Baixa> findByProcessoAdministrativoContainingIgnoreCaseOrderByDataBaixaDesc(String processoAdministrativo, Pageable pageable);
+    
+    // Buscar por destino final com paginação
+    @EntityGraph(Baixa.GRAFO_RESUMO)
+    Page<Baixa> findByDestinoFinalContainingIgnoreCase(String destinoFinal, Pageable pageable);
+    
+    // Todas as baixas com o bem, em ordem cronológica, lidas em lotes para exportação
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT b FROM Baixa b JOIN FETCH b.bem ORDER BY b.dataBaixa, b.id")
+    Stream<Baixa> streamTodasParaExportacao();
 }
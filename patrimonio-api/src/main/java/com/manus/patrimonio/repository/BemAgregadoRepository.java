@@ -0,0 +1,45 @@
+package com.manus.patrimonio.repository;
+
+import com.manus.patrimonio.dto.TotalBensDTO;
+import com.manus.patrimonio.model.BemAgregado;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Leituras do dashboard sobre {@code bens_agregados}: agrupam algumas dezenas de linhas
+ * em vez da tabela de bens inteira.
+ */
+@Repository
+public interface BemAgregadoRepository extends JpaRepository<BemAgregado, BemAgregado.Chave> {
+
+    @Query("SELECT new com.manus.patrimonio.dto.TotalBensDTO(a.status, SUM(a.quantidade), " +
+           "SUM(a.valorAquisicaoTotal), SUM(a.valorAtualTotal)) " +
+           "FROM BemAgregado a GROUP BY a.status ORDER BY a.status")
+    List<TotalBensDTO> totalizarPorStatus();
+
+    @Query("SELECT new com.manus.patrimonio.dto.TotalBensDTO(a.condicao, SUM(a.quantidade), " +
+           "SUM(a.valorAquisicaoTotal), SUM(a.valorAtualTotal)) " +
+           "FROM BemAgregado a GROUP BY a.condicao ORDER BY a.condicao")
+    List<TotalBensDTO> totalizarPorCondicao();
+
+    /**
+     * Inclui as categorias sem bens, com totais zerados.
+     */
+    @Query("SELECT new com.manus.patrimonio.dto.TotalBensDTO(c.id, c.nome, SUM(a.quantidade), " +
+           "SUM(a.valorAquisicaoTotal), SUM(a.valorAtualTotal)) " +
+           "FROM Categoria c LEFT JOIN BemAgregado a ON a.categoriaId = c.id " +
+           "GROUP BY c.id, c.nome ORDER BY c.nome")
+    List<TotalBensDTO> totalizarPorCategoria();
+
+    /**
+     * Inclui as localizações sem bens, com totais zerados.
+     */
+    @Query("SELECT new com.manus.patrimonio.dto.TotalBensDTO(l.id, l.nome, SUM(a.quantidade), " +
+           "SUM(a.valorAquisicaoTotal), SUM(a.valorAtualTotal)) " +
+           "FROM Localizacao l LEFT JOIN BemAgregado a ON a.localizacaoAtualId = l.id " +
+           "GROUP BY l.id, l.nome ORDER BY l.nome")
+    List<TotalBensDTO> totalizarPorLocalizacao();
+}
@@ -1,22 +1,51 @@
 package com.manus.patrimonio.repository;
 
+import com.manus.patrimonio.dto.BemResumoDTO;
 import com.manus.patrimonio.enums.CondicaoBem;
 import com.manus.patrimonio.enums.StatusBem;
 import com.manus.patrimonio.model.Bem;
+import com.manus.patrimonio.model.Localizacao;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface BemRepository extends JpaRepository<Bem, Long> {
+public interface BemRepository extends JpaRepository<Bem, Long>, JpaSpecificationExecutor<Bem> {
+
+    /**
+     * Lista bens paginados já com as associações lidas pelo mapper
+     */
+    @Override
+    @EntityGraph(Bem.GRAFO_RESUMO)
+    Page<Bem> findAll(Pageable pageable);
+
+    /**
+     * Lista bens filtrados já com as associações lidas pelo mapper
+     */
+    @Override
+    @EntityGraph(Bem.GRAFO_RESUMO)
+    Page<Bem> findAll(Specification<Bem> spec, Pageable pageable);
 
     /**
      * Busca bem por número de série
@@ -28,24 +57,75 @@ public interface BemRepository extends JpaRepository<Bem, Long> {
      */
     boolean existsByNumeroSerie(String numeroSerie);
 
+    /**
+     * Pares (número de tombamento, número de série) dos bens que já usam algum dos
+     * identificadores informados. Uma consulta por lote na importação em massa.
+     */
+    @Query("SELECT b.numeroTombamento, b.numeroSerie FROM Bem b " +
+           "WHERE b.numeroTombamento IN :numeros OR b.numeroSerie IN :series")
+    List<Object[]> findIdentificadoresExistentes(@Param("numeros") Collection<String> numeros,
+                                                 @Param("series") Collection<String> series);
+
+    /**
+     * Dados dos bens informados para a movimentação em lote, na forma
+     * (id, número de série, status, ativo, categoria, localização atual).
+     * Bloqueia as linhas até o fim da transação; a ordenação por ID, com os blocos enviados em
+     * ordem crescente pelo chamador, evita deadlock entre lotes concorrentes.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b.id, b.numeroSerie, b.status, b.ativo, b.categoria.id, b.localizacaoAtual.id FROM Bem b " +
+           "WHERE b.id IN :ids ORDER BY b.id")
+    List<Object[]> findParaMovimentacaoPorIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Mesmos dados de {@link #findParaMovimentacaoPorIds}, para todos os bens de uma localização.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b.id, b.numeroSerie, b.status, b.ativo, b.categoria.id, b.localizacaoAtual.id FROM Bem b " +
+           "WHERE b.localizacaoAtual.id = :localizacaoId ORDER BY b.id")
+    List<Object[]> findParaMovimentacaoPorLocalizacao(@Param("localizacaoId") Long localizacaoId);
+
+    /**
+     * Atualiza a localização atual de vários bens num único UPDATE.
+     */
+    @Modifying
+    @Query("UPDATE Bem b SET b.localizacaoAtual = :destino, b.dataAtualizacao = :agora, b.versao = b.versao + 1 " +
+           "WHERE b.id IN :ids")
+    int atualizarLocalizacao(@Param("ids") Collection<Long> ids, @Param("destino") Localizacao destino,
+                             @Param("agora") LocalDateTime agora);
+
+    /**
+     * Listagem enxuta de bens: monta {@link BemResumoDTO} direto do result set,
+     * sem hidratar a entidade nem guardar snapshot para dirty checking
+     */
+    @Query(value = "SELECT new com.manus.patrimonio.dto.BemResumoDTO(b.id, b.numeroTombamento, b.nome, b.status, " +
+                   "b.condicao, b.dataAquisicao, b.valorAtual, c.id, c.nome, l.id, l.nome) " +
+                   "FROM Bem b JOIN b.categoria c JOIN b.localizacaoAtual l",
+           countQuery = "SELECT COUNT(b) FROM Bem b")
+    Page<BemResumoDTO> listarResumos(Pageable pageable);
+
     /**
      * Busca bens por status
      */
+    @EntityGraph(Bem.GRAFO_RESUMO)
     Page<Bem> findByStatus(StatusBem status, Pageable pageable);
 
     /**
      * Busca bens por condição
      */
+    @EntityGraph(Bem.GRAFO_RESUMO)
     Page<Bem> findByCondicao(CondicaoBem condicao, Pageable pageable);
 
     /**
      * Busca bens por categoria
      */
+    @EntityGraph(Bem.GRAFO_RESUMO)
     Page<Bem> findByCategoriaId(Long categoriaId, Pageable pageable);
 
     /**
      * Busca bens por localização atual
      */
+    @EntityGraph(Bem.GRAFO_RESUMO)
     Page<Bem> findByLocalizacaoAtualId(Long localizacaoId, Pageable pageable);
 
     /**
@@ -56,83 +136,172 @@ public interface BemRepository extends JpaRepository<Bem, Long> {
            "LOWER(b.descricao) LIKE LOWER(CONCAT('%', :termo, '%')) OR " +
            "LOWER(b.numeroSerie) LIKE LOWER(CONCAT('%', :termo, '%')) OR " +
            "LOWER(b.observacoes) LIKE LOWER(CONCAT('%', :termo, '%'))")
+    @EntityGraph(Bem.GRAFO_RESUMO)
     Page<Bem> buscarPorTexto(@Param("termo") String termo, Pageable pageable);
 
+    /**
+     * Busca textual (PostgreSQL) sobre a coluna tsvector, ordenada por relevância.
+     * O {@code pageable} não pode trazer ordenação, que se somaria ao ORDER BY da consulta:
+     * use {@link com.manus.patrimonio.util.TermoBusca#porRelevancia}.
+     */
+    @Query(value = "SELECT b.* FROM bens b, to_tsquery('simple', :consulta) q " +
+                   "WHERE b.busca_texto @@ q " +
+                   "ORDER BY ts_rank(b.busca_texto, q) DESC, b.id",
+           countQuery = "SELECT COUNT(*) FROM bens b WHERE b.busca_texto @@ to_tsquery('simple', :consulta)",
+           nativeQuery = true)
+    Page<Bem> buscarPorTextoCompleto(@Param("consulta") String consulta, Pageable pageable);
+
     /**
      * Busca bens por faixa de valor
      */
+    @EntityGraph(Bem.GRAFO_RESUMO)
     Page<Bem> findByValorAquisicaoBetween(BigDecimal valorMinimo, BigDecimal valorMaximo, Pageable pageable);
 
     /**
      * Busca bens por faixa de data de aquisição
      */
+    @EntityGraph(Bem.GRAFO_RESUMO)
     Page<Bem> findByDataAquisicaoBetween(LocalDate dataInicio, LocalDate dataFim, Pageable pageable);
 
     /**
-     * Busca bens com filtros múltiplos
+     * Busca bens a partir de uma posição (nome, id) - paginação keyset
      */
     @Query("SELECT b FROM Bem b WHERE " +
-           "(:categoriaId IS NULL OR b.categoria.id = :categoriaId) AND " +
-           "(:localizacaoId IS NULL OR b.localizacaoAtual.id = :localizacaoId) AND " +
-           "(:status IS NULL OR b.status = :status) AND " +
-           "(:condicao IS NULL OR b.condicao = :condicao) AND " +
-           "(:valorMinimo IS NULL OR b.valorAquisicao >= :valorMinimo) AND " +
-           "(:valorMaximo IS NULL OR b.valorAquisicao <= :valorMaximo) AND " +
-           "(:dataInicio IS NULL OR b.dataAquisicao >= :dataInicio) AND " +
-           "(:dataFim IS NULL OR b.dataAquisicao <= :dataFim)")
-    Page<Bem> buscarComFiltros(
-            @Param("categoriaId") Long categoriaId,
-            @Param("localizacaoId") Long localizacaoId,
-            @Param("status") StatusBem status,
-            @Param("condicao") CondicaoBem condicao,
-            @Param("valorMinimo") BigDecimal valorMinimo,
-            @Param("valorMaximo") BigDecimal valorMaximo,
-            @Param("dataInicio") LocalDate dataInicio,
-            @Param("dataFim") LocalDate dataFim,
-            Pageable pageable);
-
-    /**
-     * Conta bens por status
-     */
-    @Query("SELECT b.status, COUNT(b) FROM Bem b GROUP BY b.status")
+           "(b.nome > :nome OR (b.nome = :nome AND b.id > :id)) " +
+           "ORDER BY b.nome ASC, b.id ASC")
+    @EntityGraph(Bem.GRAFO_RESUMO)
+    Slice<Bem> buscarAposCursor(@Param("nome") String nome, @Param("id") Long id, Pageable pageable);
+
+    /**
+     * Busca bens por status a partir de uma posição (nome, id) - paginação keyset
+     */
+    @Query("SELECT b FROM Bem b WHERE b.status = :status AND " +
+           "(b.nome > :nome OR (b.nome = :nome AND b.id > :id)) " +
+           "ORDER BY b.nome ASC, b.id ASC")
+    @EntityGraph(Bem.GRAFO_RESUMO)
+    Slice<Bem> buscarPorStatusAposCursor(@Param("status") StatusBem status,
+                                         @Param("nome") String nome, @Param("id") Long id,
+                                         Pageable pageable);
+
+    /**
+     * Busca bens por categoria a partir de uma posição (nome, id) - paginação keyset
+     */
+    @Query("SELECT b FROM Bem b WHERE b.categoria.id = :categoriaId AND " +
+           "(b.nome > :nome OR (b.nome = :nome AND b.id > :id)) " +
+           "ORDER BY b.nome ASC, b.id ASC")
+    @EntityGraph(Bem.GRAFO_RESUMO)
+    Slice<Bem> buscarPorCategoriaAposCursor(@Param("categoriaId") Long categoriaId,
+                                            @Param("nome") String nome, @Param("id") Long id,
+                                            Pageable pageable);
+
+    /**
+     * Busca bens por localização a partir de uma posição (nome, id) - paginação keyset
+     */
+    @Query("SELECT b FROM Bem b WHERE b.localizacaoAtual.id = :localizacaoId AND " +
+           "(b.nome > :nome OR (b.nome = :nome AND b.id > :id)) " +
+           "ORDER BY b.nome ASC, b.id ASC")
+    @EntityGraph(Bem.GRAFO_RESUMO)
+    Slice<Bem> buscarPorLocalizacaoAposCursor(@Param("localizacaoId") Long localizacaoId,
+                                              @Param("nome") String nome, @Param("id") Long id,
+                                              Pageable pageable);
+
+    /**
+     * Conta bens por status informado
+     */
+    long countByStatus(StatusBem status);
+
+    /**
+     * Conta bens por categoria
+     */
+    long countByCategoriaId(Long categoriaId);
+
+    /**
+     * Conta bens por localização atual
+     */
+    long countByLocalizacaoAtualId(Long localizacaoId);
+
+    /**
+     * Verifica se a categoria possui bens, sem carregá-los
+     */
+    boolean existsByCategoriaId(Long categoriaId);
+
+    /**
+     * Verifica se há bens atualmente na localização, sem carregá-los
+     */
+    boolean existsByLocalizacaoAtualId(Long localizacaoId);
+
+    /**
+     * Conta numa única consulta os bens de cada categoria informada (id, quantidade);
+     * categorias sem bens não aparecem no resultado
+     */
+    @Query("SELECT b.categoria.id, COUNT(b) FROM Bem b WHERE b.categoria.id IN :ids GROUP BY b.categoria.id")
+    List<Object[]> contarPorCategorias(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Conta numa única consulta os bens atualmente em cada localização informada (id, quantidade);
+     * localizações sem bens não aparecem no resultado
+     */
+    @Query("SELECT b.localizacaoAtual.id, COUNT(b) FROM Bem b WHERE b.localizacaoAtual.id IN :ids " +
+           "GROUP BY b.localizacaoAtual.id")
+    List<Object[]> contarPorLocalizacoes(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Conta bens por status (lido de {@code bens_agregados})
+     */
+    @Query("SELECT a.status, SUM(a.quantidade) FROM BemAgregado a GROUP BY a.status")
     List<Object[]> contarBensPorStatus();
 
     /**
-     * Conta bens por condição
+     * Conta bens por condição (lido de {@code bens_agregados})
      */
-    @Query("SELECT b.condicao, COUNT(b) FROM Bem b GROUP BY b.condicao")
+    @Query("SELECT a.condicao, SUM(a.quantidade) FROM BemAgregado a GROUP BY a.condicao")
     List<Object[]> contarBensPorCondicao();
 
     /**
-     * Calcula valor total dos bens por status
+     * Calcula valor total dos bens por status (lido de {@code bens_agregados})
      */
-    @Query("SELECT b.status, SUM(b.valorAquisicao) FROM Bem b GROUP BY b.status")
+    @Query("SELECT a.status, SUM(a.valorAquisicaoTotal) FROM BemAgregado a GROUP BY a.status")
     List<Object[]> somarValorPorStatus();
 
     /**
      * Busca bens ordenados por data de aquisição (mais recentes primeiro)
      */
+    @EntityGraph(Bem.GRAFO_RESUMO)
     List<Bem> findTop10ByOrderByDataAquisicaoDesc();
 
     /**
      * Busca bens com valor acima de um limite
      */
+    @EntityGraph(Bem.GRAFO_RESUMO)
     List<Bem> findByValorAquisicaoGreaterThan(BigDecimal valor);
 
     /**
      * Busca bens que nunca foram movimentados
      */
     @Query("SELECT b FROM Bem b WHERE SIZE(b.movimentacoes) = 0")
+    @EntityGraph(Bem.GRAFO_RESUMO)
     List<Bem> buscarBensSemMovimentacao();
 
     /**
      * Busca bens por categoria e status
      */
+    @EntityGraph(Bem.GRAFO_RESUMO)
     List<Bem> findByCategoriaIdAndStatus(Long categoriaId, StatusBem status);
 
     /**
      * Busca bens por localização e condição
      */
+    @EntityGraph(Bem.GRAFO_RESUMO)
     List<Bem> findByLocalizacaoAtualIdAndCondicao(Long localizacaoId, CondicaoBem condicao);
-}
 
+    /**
+     * Todos os bens em ordem de ID, lidos do banco em lotes de 500 linhas
+     * para exportação. Precisa ser consumido dentro de uma transação e fechado ao final.
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT b FROM Bem b LEFT JOIN FETCH b.categoria LEFT JOIN FETCH b.localizacaoAtual ORDER BY b.id")
+    Stream<Bem> streamTodosParaExportacao();
+}
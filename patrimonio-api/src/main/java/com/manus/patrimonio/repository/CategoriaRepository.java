@@ -32,27 +32,40 @@ public interface CategoriaRepository extends JpaRepository<Categoria, Long> {
            "LOWER(c.descricao) LIKE LOWER(CONCAT('%', :termo, '%'))")
     Page<Categoria> buscarPorNomeOuDescricao(@Param("termo") String termo, Pageable pageable);
 
+    /**
+     * Busca textual (PostgreSQL) sobre a coluna tsvector, ordenada por relevância.
+     * O {@code pageable} não pode trazer ordenação, que se somaria ao ORDER BY da consulta:
+     * use {@link com.manus.patrimonio.util.TermoBusca#porRelevancia}.
+     */
+    @Query(value = "SELECT c.* FROM categorias c, to_tsquery('simple', :consulta) q " +
+                   "WHERE c.busca_texto @@ q " +
+                   "ORDER BY ts_rank(c.busca_texto, q) DESC, c.id",
+           countQuery = "SELECT COUNT(*) FROM categorias c WHERE c.busca_texto @@ to_tsquery('simple', :consulta)",
+           nativeQuery = true)
+    Page<Categoria> buscarPorTextoCompleto(@Param("consulta") String consulta, Pageable pageable);
+
     /**
      * Busca categorias ordenadas por nome
      */
     List<Categoria> findAllByOrderByNomeAsc();
 
     /**
-     * Conta o número de bens por categoria
+     * Conta o número de bens por categoria (lido de {@code bens_agregados})
      */
-    @Query("SELECT c.nome, COUNT(b) FROM Categoria c LEFT JOIN c.bens b GROUP BY c.id, c.nome")
+    @Query("SELECT c.nome, COALESCE(SUM(a.quantidade), 0) FROM Categoria c " +
+           "LEFT JOIN BemAgregado a ON a.categoriaId = c.id GROUP BY c.id, c.nome")
     List<Object[]> contarBensPorCategoria();
 
     /**
      * Busca categorias que possuem bens
      */
-    @Query("SELECT DISTINCT c FROM Categoria c WHERE SIZE(c.bens) > 0")
+    @Query("SELECT c FROM Categoria c WHERE EXISTS (SELECT 1 FROM Bem b WHERE b.categoria = c)")
     List<Categoria> buscarCategoriasComBens();
 
     /**
      * Busca categorias que não possuem bens
      */
-    @Query("SELECT c FROM Categoria c WHERE SIZE(c.bens) = 0")
+    @Query("SELECT c FROM Categoria c WHERE NOT EXISTS (SELECT 1 FROM Bem b WHERE b.categoria = c)")
     List<Categoria> buscarCategoriasSemBens();
 }
 
@@ -34,15 +34,28 @@ public interface LocalizacaoRepository extends JpaRepository<Localizacao, Long>
            "LOWER(l.responsavel) LIKE LOWER(CONCAT('%', :termo, '%'))")
     Page<Localizacao> buscarPorTexto(@Param("termo") String termo, Pageable pageable);
 
+    /**
+     * Busca textual (PostgreSQL) sobre a coluna tsvector, ordenada por relevância.
+     * O {@code pageable} não pode trazer ordenação, que se somaria ao ORDER BY da consulta:
+     * use {@link com.manus.patrimonio.util.TermoBusca#porRelevancia}.
+     */
+    @Query(value = "SELECT l.* FROM localizacoes l, to_tsquery('simple', :consulta) q " +
+                   "WHERE l.busca_texto @@ q " +
+                   "ORDER BY ts_rank(l.busca_texto, q) DESC, l.id",
+           countQuery = "SELECT COUNT(*) FROM localizacoes l WHERE l.busca_texto @@ to_tsquery('simple', :consulta)",
+           nativeQuery = true)
+    Page<Localizacao> buscarPorTextoCompleto(@Param("consulta") String consulta, Pageable pageable);
+
     /**
      * Busca localizações ordenadas por nome
      */
     List<Localizacao> findAllByOrderByNomeAsc();
 
     /**
-     * Conta o número de bens por localização
+     * Conta o número de bens por localização (lido de {@code bens_agregados})
      */
-    @Query("SELECT l.nome, COUNT(b) FROM Localizacao l LEFT JOIN l.bensAtuais b GROUP BY l.id, l.nome")
+    @Query("SELECT l.nome, COALESCE(SUM(a.quantidade), 0) FROM Localizacao l " +
+           "LEFT JOIN BemAgregado a ON a.localizacaoAtualId = l.id GROUP BY l.id, l.nome")
     List<Object[]> contarBensPorLocalizacao();
 
     /**
@@ -58,13 +71,13 @@ public interface LocalizacaoRepository extends JpaRepository<Localizacao, Long>
     /**
      * Busca localizações que possuem bens
      */
-    @Query("SELECT DISTINCT l FROM Localizacao l WHERE SIZE(l.bensAtuais) > 0")
+    @Query("SELECT l FROM Localizacao l WHERE EXISTS (SELECT 1 FROM Bem b WHERE b.localizacaoAtual = l)")
     List<Localizacao> buscarLocalizacoesComBens();
 
     /**
      * Busca localizações que não possuem bens
      */
-    @Query("SELECT l FROM Localizacao l WHERE SIZE(l.bensAtuais) = 0")
+    @Query("SELECT l FROM Localizacao l WHERE NOT EXISTS (SELECT 1 FROM Bem b WHERE b.localizacaoAtual = l)")
     List<Localizacao> buscarLocalizacoesSemBens();
 }
 
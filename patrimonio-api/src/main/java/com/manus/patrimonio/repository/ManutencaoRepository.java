@@ -5,6 +5,7 @@ import com.manus.patrimonio.enums.TipoManutencao;
 import com.manus.patrimonio.model.Manutencao;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -17,71 +18,90 @@ import java.util.List;
 public interface ManutencaoRepository extends JpaRepository<Manutencao, Long> {
 
     // Buscar por bem
+    @EntityGraph(Manutencao.GRAFO_RESUMO)
     List<Manutencao> findByBemIdOrderByDataInicioDesc(Long bemId);
     
     // Buscar por status
+    @EntityGraph(Manutencao.GRAFO_RESUMO)
     List<Manutencao> findByStatus(StatusManutencao status);
     
     // Buscar por tipo
+    @EntityGraph(Manutencao.GRAFO_RESUMO)
     List<Manutencao> findByTipoManutencao(TipoManutencao tipoManutencao);
     
     // Buscar por responsável
+    @EntityGraph(Manutencao.GRAFO_RESUMO)
     List<Manutencao> findByResponsavelContainingIgnoreCaseOrderByDataInicioDesc(String responsavel);
     
     // Buscar por fornecedor
+    @EntityGraph(Manutencao.GRAFO_RESUMO)
     List<Manutencao> findByFornecedorContainingIgnoreCaseOrderByDataInicioDesc(String fornecedor);
     
     // Buscar manutenções ativas
     @Query("SELECT m FROM Manutencao m WHERE m.status IN ('AGENDADA', 'EM_ANDAMENTO', 'PAUSADA', 'AGUARDANDO_PECAS', 'AGUARDANDO_APROVACAO', 'EM_ANALISE', 'EM_TESTE')")
+    @EntityGraph(Manutencao.GRAFO_RESUMO)
     List<Manutencao> findManutencoesAtivas();
     
     // Buscar manutenções finalizadas
     @Query("SELECT m FROM Manutencao m WHERE m.status IN ('CONCLUIDA', 'CANCELADA', 'REPROVADA')")
+    @EntityGraph(Manutencao.GRAFO_RESUMO)
     List<Manutencao> findManutencoesFinalizadas();
     
     // Buscar por período
+    @EntityGraph(Manutencao.GRAFO_RESUMO)
     List<Manutencao> findByDataInicioBetweenOrderByDataInicioDesc(LocalDate dataInicio, LocalDate dataFim);
     
     // Buscar manutenções agendadas para uma data
+    @EntityGraph(Manutencao.GRAFO_RESUMO)
     List<Manutencao> findByDataAgendamentoBetweenOrderByDataAgendamento(LocalDate dataInicio, LocalDate dataFim);
     
     // Buscar por prioridade
+    @EntityGraph(Manutencao.GRAFO_RESUMO)
     List<Manutencao> findByPrioridadeGreaterThanEqualOrderByPrioridadeDesc(Integer prioridade);
     
     // Buscar manutenções em andamento por bem
     @Query("SELECT m FROM Manutencao m WHERE m.bem.id = :bemId AND m.status = 'EM_ANDAMENTO'")
+    @EntityGraph(Manutencao.GRAFO_RESUMO)
     List<Manutencao> findManutencoesEmAndamentoPorBem(@Param("bemId") Long bemId);
     
     // Buscar manutenções agendadas por bem
     @Query("SELECT m FROM Manutencao m WHERE m.bem.id = :bemId AND m.status = 'AGENDADA' ORDER BY m.dataAgendamento")
+    @EntityGraph(Manutencao.GRAFO_RESUMO)
     List<Manutencao> findManutencoesAgendadasPorBem(@Param("bemId") Long bemId);
     
     // Buscar manutenções preventivas
     @Query("SELECT m FROM Manutencao m WHERE m.tipoManutencao IN ('PREVENTIVA', 'PREDICTIVA', 'CALIBRACAO', 'LIMPEZA', 'INSPECAO')")
+    @EntityGraph(Manutencao.GRAFO_RESUMO)
     List<Manutencao> findManutencoesPreventivas();
     
     // Buscar manutenções corretivas
     @Query("SELECT m FROM Manutencao m WHERE m.tipoManutencao IN ('CORRETIVA', 'EMERGENCIA', 'REPARO', 'SUBSTITUICAO')")
+    @EntityGraph(Manutencao.GRAFO_RESUMO)
     List<Manutencao> findManutencoesCorretivas();
     
     // Buscar manutenções por custo
     @Query("SELECT m FROM Manutencao m WHERE m.custo >= :custoMinimo ORDER BY m.custo DESC")
+    @EntityGraph(Manutencao.GRAFO_RESUMO)
     List<Manutencao> findManutencoesPorCustoMinimo(@Param("custoMinimo") Double custoMinimo);
     
     // Buscar manutenções urgentes (prioridade alta)
     @Query("SELECT m FROM Manutencao m WHERE m.prioridade >= 8 ORDER BY m.prioridade DESC, m.dataInicio")
+    @EntityGraph(Manutencao.GRAFO_RESUMO)
     List<Manutencao> findManutencoesUrgentes();
     
     // Buscar manutenções atrasadas
     @Query("SELECT m FROM Manutencao m WHERE m.dataFim IS NULL AND m.dataInicio < :dataLimite AND m.status IN ('EM_ANDAMENTO', 'AGENDADA')")
+    @EntityGraph(Manutencao.GRAFO_RESUMO)
     List<Manutencao> findManutencoesAtrasadas(@Param("dataLimite") LocalDate dataLimite);
     
     // Buscar manutenções por categoria de bem
     @Query("SELECT m FROM Manutencao m JOIN m.bem b JOIN b.categoria c WHERE c.id = :categoriaId")
+    @EntityGraph(Manutencao.GRAFO_RESUMO)
     List<Manutencao> findManutencoesPorCategoriaBem(@Param("categoriaId") Long categoriaId);
     
     // Buscar manutenções por localização
     @Query("SELECT m FROM Manutencao m JOIN m.bem b JOIN b.localizacaoAtual l WHERE l.id = :localizacaoId")
+    @EntityGraph(Manutencao.GRAFO_RESUMO)
     List<Manutencao> findManutencoesPorLocalizacao(@Param("localizacaoId") Long localizacaoId);
     
     // Contar manutenções por status
@@ -97,40 +117,60 @@ public interface ManutencaoRepository extends JpaRepository<Manutencao, Long> {
     Long countByBemId(@Param("bemId") Long bemId);
     
     // Buscar com paginação
+    @EntityGraph(Manutencao.GRAFO_RESUMO)
     Page<Manutencao> findAll(Pageable pageable);
     
     // Buscar por status com paginação
+    @EntityGraph(Manutencao.GRAFO_RESUMO)
     Page<Manutencao> findByStatus(StatusManutencao status, Pageable pageable);
     
     // Buscar por tipo com paginação
+    @EntityGraph(Manutencao.GRAFO_RESUMO)
     Page<Manutencao> findByTipoManutencao(TipoManutencao tipoManutencao, Pageable pageable);
     
     // Buscar por responsável com paginação
+    @EntityGraph(Manutencao.GRAFO_RESUMO)
     Page<Manutencao> findByResponsavelContainingIgnoreCase(String responsavel, Pageable pageable);
     
     // Buscar por fornecedor com paginação
+    @EntityGraph(Manutencao.GRAFO_RESUMO)
     Page<Manutencao> findByFornecedorContainingIgnoreCase(String fornecedor, Pageable pageable);
     
     // Buscar por período com paginação
+    @EntityGraph(Manutencao.GRAFO_RESUMO)
     Page<Manutencao> findByDataInicioBetween(LocalDate dataInicio, LocalDate dataFim, Pageable pageable);
     
     // Buscar manutenções ativas com paginação
     @Query("SELECT m FROM Manutencao m WHERE m.status IN ('AGENDADA', 'EM_ANDAMENTO', 'PAUSADA', 'AGUARDANDO_PECAS', 'AGUARDANDO_APROVACAO', 'EM_ANALISE', 'EM_TESTE')")
+    @EntityGraph(Manutencao.GRAFO_RESUMO)
     Page<Manutencao> findManutencoesAtivas(Pageable pageable);
     
     // Buscar manutenções finalizadas com paginação
     @Query("SELECT m FROM Manutencao m WHERE m.status IN ('CONCLUIDA', 'CANCELADA', 'REPROVADA')")
+    @EntityGraph(Manutencao.GRAFO_RESUMO)
     Page<Manutencao> findManutencoesFinalizadas(Pageable pageable);
     
     // Buscar manutenções urgentes com paginação
     @Query("SELECT m FROM Manutencao m WHERE m.prioridade >= 8 ORDER BY m.prioridade DESC, m.dataInicio")
+    @EntityGraph(Manutencao.GRAFO_RESUMO)
     Page<Manutencao> findManutencoesUrgentes(Pageable pageable);
     
     // Buscar manutenções por categoria de bem com paginação
     @Query("SELECT m FROM Manutencao m JOIN m.bem b JOIN b.categoria c WHERE c.id = :categoriaId")
+    @EntityGraph(Manutencao.GRAFO_RESUMO)
     Page<Manutencao> findManutencoesPorCategoriaBem(@Param("categoriaId") Long categoriaId, Pageable pageable);
     
     // Buscar manutenções por localização com paginação
     @Query("SELECT m FROM Manutencao m JOIN m.bem b JOIN b.localizacaoAtual l WHERE l.id = :localizacaoId")
+    @EntityGraph(Manutencao.GRAFO_RESUMO)
     Page<Manutencao> findManutencoesPorLocalizacao(@Param("localizacaoId") Long localizacaoId, Pageable pageable);
+    
+    // Buscar por bem com paginação
+    @EntityGraph(Manutencao.GRAFO_RESUMO)
+    Page<Manutencao> findByBemIdOrderByDataInicioDesc(Long bemId, Pageable pageable);
+    
+    // Buscar manutenções por custo com paginação
+    @Query("SELECT m FROM Manutencao m WHERE m.custo >= :custoMinimo ORDER BY m.custo DESC")
+    @EntityGraph(Manutencao.GRAFO_RESUMO)
+    Page<Manutencao> findManutencoesPorCustoMinimo(@Param("custoMinimo") Double custoMinimo, Pageable pageable);
 }
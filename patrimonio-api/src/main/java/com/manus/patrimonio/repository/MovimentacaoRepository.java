@@ -1,76 +1,94 @@
 package com.manus.patrimonio.repository;
 
+import com.manus.patrimonio.dto.MovimentacaoResumoDTO;
 import com.manus.patrimonio.enums.TipoMovimentacao;
 import com.manus.patrimonio.model.Movimentacao;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
-public interface MovimentacaoRepository extends JpaRepository<Movimentacao, Long> {
+public interface MovimentacaoRepository extends JpaRepository<Movimentacao, Long>, JpaSpecificationExecutor<Movimentacao> {
+
+    /**
+     * Lista movimentações paginadas já com as associações lidas pelo mapper
+     */
+    @Override
+    @EntityGraph(Movimentacao.GRAFO_RESUMO)
+    Page<Movimentacao> findAll(Pageable pageable);
+
+    /**
+     * Lista movimentações filtradas já com as associações lidas pelo mapper
+     */
+    @Override
+    @EntityGraph(Movimentacao.GRAFO_RESUMO)
+    Page<Movimentacao> findAll(Specification<Movimentacao> spec, Pageable pageable);
+
+    /**
+     * Listagem enxuta de movimentações: monta {@link MovimentacaoResumoDTO} direto do result set,
+     * sem hidratar a movimentação, o bem nem as localizações
+     */
+    @Query(value = "SELECT new com.manus.patrimonio.dto.MovimentacaoResumoDTO(m.id, b.id, b.descricao, " +
+                   "m.dataMovimentacao, m.tipoMovimentacao, o.id, o.nome, d.id, d.nome, m.responsavelMovimentacao) " +
+                   "FROM Movimentacao m JOIN m.bem b LEFT JOIN m.localizacaoOrigem o LEFT JOIN m.localizacaoDestino d",
+           countQuery = "SELECT COUNT(m) FROM Movimentacao m")
+    Page<MovimentacaoResumoDTO> listarResumos(Pageable pageable);
 
     /**
      * Busca movimentações por bem
      */
+    @EntityGraph(Movimentacao.GRAFO_RESUMO)
     Page<Movimentacao> findByBemId(Long bemId, Pageable pageable);
 
     /**
      * Busca movimentações por bem ordenadas por data (mais recentes primeiro)
      */
+    @EntityGraph(Movimentacao.GRAFO_RESUMO)
     List<Movimentacao> findByBemIdOrderByDataMovimentacaoDesc(Long bemId);
 
     /**
      * Busca movimentações por tipo
      */
+    @EntityGraph(Movimentacao.GRAFO_RESUMO)
     Page<Movimentacao> findByTipoMovimentacao(TipoMovimentacao tipo, Pageable pageable);
 
     /**
      * Busca movimentações por localização de origem
      */
+    @EntityGraph(Movimentacao.GRAFO_RESUMO)
     Page<Movimentacao> findByLocalizacaoOrigemId(Long localizacaoId, Pageable pageable);
 
     /**
      * Busca movimentações por localização de destino
      */
+    @EntityGraph(Movimentacao.GRAFO_RESUMO)
     Page<Movimentacao> findByLocalizacaoDestinoId(Long localizacaoId, Pageable pageable);
 
     /**
      * Busca movimentações por responsável
      */
+    @EntityGraph(Movimentacao.GRAFO_RESUMO)
     Page<Movimentacao> findByResponsavelMovimentacaoContainingIgnoreCase(String responsavel, Pageable pageable);
 
     /**
      * Busca movimentações por período
      */
+    @EntityGraph(Movimentacao.GRAFO_RESUMO)
     Page<Movimentacao> findByDataMovimentacaoBetween(LocalDateTime dataInicio, LocalDateTime dataFim, Pageable pageable);
 
-    /**
-     * Busca movimentações com filtros múltiplos
-     */
-    @Query("SELECT m FROM Movimentacao m WHERE " +
-           "(:bemId IS NULL OR m.bem.id = :bemId) AND " +
-           "(:tipo IS NULL OR m.tipoMovimentacao = :tipo) AND " +
-           "(:localizacaoOrigemId IS NULL OR m.localizacaoOrigem.id = :localizacaoOrigemId) AND " +
-           "(:localizacaoDestinoId IS NULL OR m.localizacaoDestino.id = :localizacaoDestinoId) AND " +
-           "(:dataInicio IS NULL OR m.dataMovimentacao >= :dataInicio) AND " +
-           "(:dataFim IS NULL OR m.dataMovimentacao <= :dataFim) AND " +
-           "(:responsavel IS NULL OR LOWER(m.responsavelMovimentacao) LIKE LOWER(CONCAT('%', :responsavel, '%')))")
-    Page<Movimentacao> buscarComFiltros(
-            @Param("bemId") Long bemId,
-            @Param("tipo") TipoMovimentacao tipo,
-            @Param("localizacaoOrigemId") Long localizacaoOrigemId,
-            @Param("localizacaoDestinoId") Long localizacaoDestinoId,
-            @Param("dataInicio") LocalDateTime dataInicio,
-            @Param("dataFim") LocalDateTime dataFim,
-            @Param("responsavel") String responsavel,
-            Pageable pageable);
-
     /**
      * Conta movimentações por tipo
      */
@@ -81,12 +99,14 @@ public interface MovimentacaoRepository extends JpaRepository<Movimentacao, Long
      * Busca última movimentação de um bem
      */
     @Query("SELECT m FROM Movimentacao m WHERE m.bem.id = :bemId ORDER BY m.dataMovimentacao DESC")
+    @EntityGraph(Movimentacao.GRAFO_RESUMO)
     List<Movimentacao> buscarUltimaMovimentacao(@Param("bemId") Long bemId);
 
     /**
      * Busca movimentações recentes (últimas 24 horas)
      */
     @Query("SELECT m FROM Movimentacao m WHERE m.dataMovimentacao >= :dataLimite ORDER BY m.dataMovimentacao DESC")
+    @EntityGraph(Movimentacao.GRAFO_RESUMO)
     List<Movimentacao> buscarMovimentacaesRecentes(@Param("dataLimite") LocalDateTime dataLimite);
 
     /**
@@ -101,6 +121,31 @@ public interface MovimentacaoRepository extends JpaRepository<Movimentacao, Long
     @Query("SELECT m FROM Movimentacao m WHERE " +
            "LOWER(m.observacoes) LIKE LOWER(CONCAT('%', :termo, '%')) OR " +
            "LOWER(m.responsavelMovimentacao) LIKE LOWER(CONCAT('%', :termo, '%'))")
+    @EntityGraph(Movimentacao.GRAFO_RESUMO)
     Page<Movimentacao> buscarPorTexto(@Param("termo") String termo, Pageable pageable);
-}
 
+    /**
+     * Busca textual (PostgreSQL) sobre a coluna tsvector, ordenada por relevância.
+     * O {@code pageable} não pode trazer ordenação, que se somaria ao ORDER BY da consulta:
+     * use {@link com.manus.patrimonio.util.TermoBusca#porRelevancia}.
+     */
+    @Query(value = "SELECT m.* FROM movimentacoes m, to_tsquery('simple', :consulta) q " +
+                   "WHERE m.busca_texto @@ q " +
+                   "ORDER BY ts_rank(m.busca_texto, q) DESC, m.id",
+           countQuery = "SELECT COUNT(*) FROM movimentacoes m WHERE m.busca_texto @@ to_tsquery('simple', :consulta)",
+           nativeQuery = true)
+    Page<Movimentacao> buscarPorTextoCompleto(@Param("consulta") String consulta, Pageable pageable);
+
+    /**
+     * Todas as movimentações com o bem e as localizações de origem e destino, em ordem
+     * cronológica, lidas do banco em lotes de 500 linhas para exportação. Precisa ser
+     * consumido dentro de uma transação e fechado ao final.
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT m FROM Movimentacao m JOIN FETCH m.bem LEFT JOIN FETCH m.localizacaoOrigem " +
+           "LEFT JOIN FETCH m.localizacaoDestino ORDER BY m.dataMovimentacao, m.id")
+    Stream<Movimentacao> streamTodasParaExportacao();
+}
@@ -3,7 +3,9 @@ package com.manus.patrimonio.repository;
 import com.manus.patrimonio.model.Notificacao;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -15,81 +17,103 @@ import java.util.List;
 public interface NotificacaoRepository extends JpaRepository<Notificacao, Long> {
 
     // Buscar por usuário
+    @EntityGraph(Notificacao.GRAFO_RESUMO)
     List<Notificacao> findByUsuarioIdOrderByDataEnvioDesc(Long usuarioId);
     
     // Buscar por tipo
+    @EntityGraph(Notificacao.GRAFO_RESUMO)
     List<Notificacao> findByTipoOrderByDataEnvioDesc(String tipo);
     
     // Buscar por status de leitura
+    @EntityGraph(Notificacao.GRAFO_RESUMO)
     List<Notificacao> findByLidaOrderByDataEnvioDesc(Boolean lida);
     
     // Buscar por prioridade
+    @EntityGraph(Notificacao.GRAFO_RESUMO)
     List<Notificacao> findByPrioridadeGreaterThanEqualOrderByPrioridadeDesc(Integer prioridadeMinima);
     
     // Buscar por categoria
+    @EntityGraph(Notificacao.GRAFO_RESUMO)
     List<Notificacao> findByCategoriaContainingIgnoreCaseOrderByDataEnvioDesc(String categoria);
     
     // Buscar por entidade relacionada
+    @EntityGraph(Notificacao.GRAFO_RESUMO)
     List<Notificacao> findByEntidadeRelacionadaContainingIgnoreCaseOrderByDataEnvioDesc(String entidadeRelacionada);
     
     // Buscar por período de envio
+    @EntityGraph(Notificacao.GRAFO_RESUMO)
     List<Notificacao> findByDataEnvioBetweenOrderByDataEnvioDesc(LocalDateTime dataInicio, LocalDateTime dataFim);
     
     // Buscar por período de leitura
+    @EntityGraph(Notificacao.GRAFO_RESUMO)
     List<Notificacao> findByDataLeituraBetweenOrderByDataLeituraDesc(LocalDateTime dataInicio, LocalDateTime dataFim);
     
     // Buscar notificações não lidas por usuário
     @Query("SELECT n FROM Notificacao n WHERE n.usuario.id = :usuarioId AND n.lida = false ORDER BY n.dataEnvio DESC")
+    @EntityGraph(Notificacao.GRAFO_RESUMO)
     List<Notificacao> findNotificacoesNaoLidasPorUsuario(@Param("usuarioId") Long usuarioId);
     
     // Buscar notificações lidas por usuário
     @Query("SELECT n FROM Notificacao n WHERE n.usuario.id = :usuarioId AND n.lida = true ORDER BY n.dataLeitura DESC")
+    @EntityGraph(Notificacao.GRAFO_RESUMO)
     List<Notificacao> findNotificacoesLidasPorUsuario(@Param("usuarioId") Long usuarioId);
     
     // Buscar notificações urgentes
     @Query("SELECT n FROM Notificacao n WHERE n.prioridade >= 8 ORDER BY n.prioridade DESC, n.dataEnvio DESC")
+    @EntityGraph(Notificacao.GRAFO_RESUMO)
     List<Notificacao> findNotificacoesUrgentes();
     
     // Buscar notificações importantes
     @Query("SELECT n FROM Notificacao n WHERE n.prioridade >= 5 ORDER BY n.prioridade DESC, n.dataEnvio DESC")
+    @EntityGraph(Notificacao.GRAFO_RESUMO)
     List<Notificacao> findNotificacoesImportantes();
     
     // Buscar notificações por tipo e usuário
     @Query("SELECT n FROM Notificacao n WHERE n.usuario.id = :usuarioId AND n.tipo = :tipo ORDER BY n.dataEnvio DESC")
+    @EntityGraph(Notificacao.GRAFO_RESUMO)
     List<Notificacao> findNotificacoesPorTipoEUsuario(@Param("usuarioId") Long usuarioId, @Param("tipo") String tipo);
     
     // Buscar notificações por categoria e usuário
     @Query("SELECT n FROM Notificacao n WHERE n.usuario.id = :usuarioId AND n.categoria = :categoria ORDER BY n.dataEnvio DESC")
+    @EntityGraph(Notificacao.GRAFO_RESUMO)
     List<Notificacao> findNotificacoesPorCategoriaEUsuario(@Param("usuarioId") Long usuarioId, @Param("categoria") String categoria);
     
     // Buscar notificações por entidade relacionada e usuário
     @Query("SELECT n FROM Notificacao n WHERE n.usuario.id = :usuarioId AND n.entidadeRelacionada = :entidadeRelacionada ORDER BY n.dataEnvio DESC")
+    @EntityGraph(Notificacao.GRAFO_RESUMO)
     List<Notificacao> findNotificacoesPorEntidadeEUsuario(@Param("usuarioId") Long usuarioId, @Param("entidadeRelacionada") String entidadeRelacionada);
     
     // Buscar notificações por período e usuário
     @Query("SELECT n FROM Notificacao n WHERE n.usuario.id = :usuarioId AND n.dataEnvio BETWEEN :dataInicio AND :dataFim ORDER BY n.dataEnvio DESC")
+    @EntityGraph(Notificacao.GRAFO_RESUMO)
     List<Notificacao> findNotificacoesPorPeriodoEUsuario(@Param("usuarioId") Long usuarioId, @Param("dataInicio") LocalDateTime dataInicio, @Param("dataFim") LocalDateTime dataFim);
     
     // Buscar notificações por prioridade e usuário
     @Query("SELECT n FROM Notificacao n WHERE n.usuario.id = :usuarioId AND n.prioridade >= :prioridadeMinima ORDER BY n.prioridade DESC, n.dataEnvio DESC")
+    @EntityGraph(Notificacao.GRAFO_RESUMO)
     List<Notificacao> findNotificacoesPorPrioridadeEUsuario(@Param("usuarioId") Long usuarioId, @Param("prioridadeMinima") Integer prioridadeMinima);
     
     // Buscar notificações por status de envio
     @Query("SELECT n FROM Notificacao n WHERE n.enviadaPorEmail = :enviadaPorEmail ORDER BY n.dataEnvio DESC")
+    @EntityGraph(Notificacao.GRAFO_RESUMO)
     List<Notificacao> findNotificacoesPorStatusEmail(@Param("enviadaPorEmail") Boolean enviadaPorEmail);
     
     @Query("SELECT n FROM Notificacao n WHERE n.enviadaPorPush = :enviadaPorPush ORDER BY n.dataEnvio DESC")
+    @EntityGraph(Notificacao.GRAFO_RESUMO)
     List<Notificacao> findNotificacoesPorStatusPush(@Param("enviadaPorPush") Boolean enviadaPorPush);
     
     @Query("SELECT n FROM Notificacao n WHERE n.enviadaPorSms = :enviadaPorSms ORDER BY n.dataEnvio DESC")
+    @EntityGraph(Notificacao.GRAFO_RESUMO)
     List<Notificacao> findNotificacoesPorStatusSms(@Param("enviadaPorSms") Boolean enviadaPorSms);
     
     // Buscar notificações com erro de envio
     @Query("SELECT n FROM Notificacao n WHERE n.erroEnvio IS NOT NULL AND n.erroEnvio != '' ORDER BY n.dataUltimaTentativa DESC")
+    @EntityGraph(Notificacao.GRAFO_RESUMO)
     List<Notificacao> findNotificacoesComErroEnvio();
     
     // Buscar notificações por tentativas de envio
     @Query("SELECT n FROM Notificacao n WHERE n.tentativasEnvio >= :tentativasMinimas ORDER BY n.tentativasEnvio DESC, n.dataUltimaTentativa DESC")
+    @EntityGraph(Notificacao.GRAFO_RESUMO)
     List<Notificacao> findNotificacoesPorTentativasEnvio(@Param("tentativasMinimas") Integer tentativasMinimas);
     
     // Contar notificações por usuário
@@ -123,85 +147,132 @@ public interface NotificacaoRepository extends JpaRepository<Notificacao, Long>
     // Contar notificações por período
     @Query("SELECT COUNT(n) FROM Notificacao n WHERE n.dataEnvio BETWEEN :dataInicio AND :dataFim")
     Long countByPeriodoEnvio(@Param("dataInicio") LocalDateTime dataInicio, @Param("dataFim") LocalDateTime dataFim);
+
+    // Contar notificações cuja categoria contém o texto
+    Long countByCategoriaContainingIgnoreCase(String categoria);
+
+    /**
+     * Marca como lidas todas as notificações não lidas do usuário num único UPDATE,
+     * avançando a versão como o Hibernate faria entidade a entidade.
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Notificacao n SET n.lida = true, n.dataLeitura = :agora, n.dataAtualizacao = :agora, " +
+           "n.versao = n.versao + 1 WHERE n.usuario.id = :usuarioId AND n.lida = false")
+    int marcarTodasComoLidas(@Param("usuarioId") Long usuarioId, @Param("agora") LocalDateTime agora);
     
     // Buscar com paginação
+    @EntityGraph(Notificacao.GRAFO_RESUMO)
     Page<Notificacao> findAll(Pageable pageable);
     
     // Buscar por usuário com paginação
+    @EntityGraph(Notificacao.GRAFO_RESUMO)
     Page<Notificacao> findByUsuarioId(Long usuarioId, Pageable pageable);
     
     // Buscar por tipo com paginação
+    @EntityGraph(Notificacao.GRAFO_RESUMO)
     Page<Notificacao> findByTipo(String tipo, Pageable pageable);
     
     // Buscar por status de leitura com paginação
+    @EntityGraph(Notificacao.GRAFO_RESUMO)
     Page<Notificacao> findByLida(Boolean lida, Pageable pageable);
     
     // Buscar por prioridade com paginação
+    @EntityGraph(Notificacao.GRAFO_RESUMO)
     Page<Notificacao> findByPrioridadeGreaterThanEqual(Integer prioridadeMinima, Pageable pageable);
     
     // Buscar por categoria com paginação
+    @EntityGraph(Notificacao.GRAFO_RESUMO)
     Page<Notificacao> findByCategoriaContainingIgnoreCase(String categoria, Pageable pageable);
     
     // Buscar por entidade relacionada com paginação
+    @EntityGraph(Notificacao.GRAFO_RESUMO)
     Page<Notificacao> findByEntidadeRelacionadaContainingIgnoreCase(String entidadeRelacionada, Pageable pageable);
     
     // Buscar por período de envio com paginação
+    @EntityGraph(Notificacao.GRAFO_RESUMO)
     Page<Notificacao> findByDataEnvioBetween(LocalDateTime dataInicio, LocalDateTime dataFim, Pageable pageable);
     
     // Buscar por período de leitura com paginação
+    @EntityGraph(Notificacao.GRAFO_RESUMO)
     Page<Notificacao> findByDataLeituraBetween(LocalDateTime dataInicio, LocalDateTime dataFim, Pageable pageable);
     
     // Buscar notificações não lidas por usuário com paginação
     @Query("SELECT n FROM Notificacao n WHERE n.usuario.id = :usuarioId AND n.lida = false")
+    @EntityGraph(Notificacao.GRAFO_RESUMO)
     Page<Notificacao> findNotificacoesNaoLidasPorUsuario(@Param("usuarioId") Long usuarioId, Pageable pageable);
     
     // Buscar notificações lidas por usuário com paginação
     @Query("SELECT n FROM Notificacao n WHERE n.usuario.id = :usuarioId AND n.lida = true")
+    @EntityGraph(Notificacao.GRAFO_RESUMO)
     Page<Notificacao> findNotificacoesLidasPorUsuario(@Param("usuarioId") Long usuarioId, Pageable pageable);
     
     // Buscar notificações urgentes com paginação
     @Query("SELECT n FROM Notificacao n WHERE n.prioridade >= 8")
+    @EntityGraph(Notificacao.GRAFO_RESUMO)
     Page<Notificacao> findNotificacoesUrgentes(Pageable pageable);
     
     // Buscar notificações importantes com paginação
     @Query("SELECT n FROM Notificacao n WHERE n.prioridade >= 5")
+    @EntityGraph(Notificacao.GRAFO_RESUMO)
     Page<Notificacao> findNotificacoesImportantes(Pageable pageable);
     
     // Buscar notificações por tipo e usuário com paginação
     @Query("SELECT n FROM Notificacao n WHERE n.usuario.id = :usuarioId AND n.tipo = :tipo")
+    @EntityGraph(Notificacao.GRAFO_RESUMO)
     Page<Notificacao> findNotificacoesPorTipoEUsuario(@Param("usuarioId") Long usuarioId, @Param("tipo") String tipo, Pageable pageable);
     
     // Buscar notificações por categoria e usuário com paginação
     @Query("SELECT n FROM Notificacao n WHERE n.usuario.id = :usuarioId AND n.categoria = :categoria")
+    @EntityGraph(Notificacao.GRAFO_RESUMO)
     Page<Notificacao> findNotificacoesPorCategoriaEUsuario(@Param("usuarioId") Long usuarioId, @Param("categoria") String categoria, Pageable pageable);
     
     // Buscar notificações por entidade relacionada e usuário com paginação
     @Query("SELECT n FROM Notificacao n WHERE n.usuario.id = :usuarioId AND n.entidadeRelacionada = :entidadeRelacionada")
+    @EntityGraph(Notificacao.GRAFO_RESUMO)
     Page<Notificacao> findNotificacoesPorEntidadeEUsuario(@Param("usuarioId") Long usuarioId, @Param("entidadeRelacionada") String entidadeRelacionada, Pageable pageable);
     
     // Buscar notificações por período e usuário com paginação
     @Query("SELECT n FROM Notificacao n WHERE n.usuario.id = :usuarioId AND n.dataEnvio BETWEEN :dataInicio AND :dataFim")
+    @EntityGraph(Notificacao.GRAFO_RESUMO)
     Page<Notificacao> findNotificacoesPorPeriodoEUsuario(@Param("usuarioId") Long usuarioId, @Param("dataInicio") LocalDateTime dataInicio, @Param("dataFim") LocalDateTime dataFim, Pageable pageable);
     
     // Buscar notificações por prioridade e usuário com paginação
     @Query("SELECT n FROM Notificacao n WHERE n.usuario.id = :usuarioId AND n.prioridade >= :prioridadeMinima")
+    @EntityGraph(Notificacao.GRAFO_RESUMO)
     Page<Notificacao> findNotificacoesPorPrioridadeEUsuario(@Param("usuarioId") Long usuarioId, @Param("prioridadeMinima") Integer prioridadeMinima, Pageable pageable);
     
     // Buscar notificações por status de envio com paginação
     @Query("SELECT n FROM Notificacao n WHERE n.enviadaPorEmail = :enviadaPorEmail")
+    @EntityGraph(Notificacao.GRAFO_RESUMO)
     Page<Notificacao> findNotificacoesPorStatusEmail(@Param("enviadaPorEmail") Boolean enviadaPorEmail, Pageable pageable);
     
     @Query("SELECT n FROM Notificacao n WHERE n.enviadaPorPush = :enviadaPorPush")
+    @EntityGraph(Notificacao.GRAFO_RESUMO)
     Page<Notificacao> findNotificacoesPorStatusPush(@Param("enviadaPorPush") Boolean enviadaPorPush, Pageable pageable);
     
     @Query("SELECT n FROM Notificacao n WHERE n.enviadaPorSms = :enviadaPorSms")
+    @EntityGraph(Notificacao.GRAFO_RESUMO)
     Page<Notificacao> findNotificacoesPorStatusSms(@Param("enviadaPorSms") Boolean enviadaPorSms, Pageable pageable);
     
     // Buscar notificações com erro de envio com paginação
     @Query("SELECT n FROM Notificacao n WHERE n.erroEnvio IS NOT NULL AND n.erroEnvio != ''")
+    @EntityGraph(Notificacao.GRAFO_RESUMO)
     Page<Notificacao> findNotificacoesComErroEnvio(Pageable pageable);
     
     // Buscar notificações por tentativas de envio com paginação
-    @Query("SELECT n FROM Notificacao n WHERE n.tentativasEnvio >= :tentativasMinimas")
+    @Query("SELECT n FROM Notificacao n WHERE n.tentativasEnvio >= :tentativasMinimas ORDER BY n.tentativasEnvio DESC, n.dataUltimaTentativa DESC")
+    @EntityGraph(Notificacao.GRAFO_RESUMO)
     Page<Notificacao> findNotificacoesPorTentativasEnvio(@Param("tentativasMinimas") Integer tentativasMinimas, Pageable pageable);
+    
+    // Buscar por prioridade com paginação, mais prioritárias primeiro
+    @EntityGraph(Notificacao.GRAFO_RESUMO)
+    Page<Notificacao> findByPrioridadeGreaterThanEqualOrderByPrioridadeDesc(Integer prioridadeMinima, Pageable pageable);
+    
+    // Buscar por categoria com paginação, mais recentes primeiro
+    @EntityGraph(Notificacao.GRAFO_RESUMO)
+    Page<Notificacao> findByCategoriaContainingIgnoreCaseOrderByDataEnvioDesc(String categoria, Pageable pageable);
+    
+    // Buscar por período de envio com paginação, mais recentes primeiro
+    @EntityGraph(Notificacao.GRAFO_RESUMO)
+    Page<Notificacao> findByDataEnvioBetweenOrderByDataEnvioDesc(LocalDateTime dataInicio, LocalDateTime dataFim, Pageable pageable);
 }
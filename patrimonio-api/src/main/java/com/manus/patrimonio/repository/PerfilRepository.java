@@ -128,4 +128,10 @@ public interface PerfilRepository extends JpaRepository<Perfil, Long> {
     // Buscar perfis com nível de acesso entre valores com paginação
     @Query("SELECT p FROM Perfil p WHERE p.nivelAcesso BETWEEN :nivelMinimo AND :nivelMaximo ORDER BY p.nivelAcesso")
     Page<Perfil> findPerfisPorNivelAcesso(@Param("nivelMinimo") Integer nivelMinimo, @Param("nivelMaximo") Integer nivelMaximo, Pageable pageable);
+    
+    // Buscar perfis ativos com paginação, por nome
+    Page<Perfil> findByAtivoTrueOrderByNome(Pageable pageable);
+    
+    // Buscar perfis inativos com paginação, por nome
+    Page<Perfil> findByAtivoFalseOrderByNome(Pageable pageable);
 }
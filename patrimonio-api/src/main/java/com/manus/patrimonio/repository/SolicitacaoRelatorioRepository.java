@@ -0,0 +1,29 @@
+package com.manus.patrimonio.repository;
+
+import com.manus.patrimonio.enums.StatusRelatorio;
+import com.manus.patrimonio.model.SolicitacaoRelatorio;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface SolicitacaoRelatorioRepository extends JpaRepository<SolicitacaoRelatorio, Long> {
+
+    Optional<SolicitacaoRelatorio> findByCodigo(String codigo);
+
+    // Relatórios de um usuário, mais recentes primeiro
+    Page<SolicitacaoRelatorio> findBySolicitadoPorOrderByDataSolicitacaoDesc(String solicitadoPor, Pageable pageable);
+
+    // Relatórios finalizados antes do limite de retenção
+    List<SolicitacaoRelatorio> findByDataConclusaoBefore(LocalDateTime limite);
+
+    // Relatórios ainda em aberto solicitados antes do limite
+    List<SolicitacaoRelatorio> findByStatusInAndDataSolicitacaoBefore(Collection<StatusRelatorio> status,
+                                                                       LocalDateTime limite);
+}
@@ -4,9 +4,11 @@ import com.manus.patrimonio.model.Usuario;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -43,11 +45,11 @@ public interface UsuarioRepository extends JpaRepository<Usuario, Long> {
     List<Usuario> findByAtivoFalseOrderByNomeCompleto();
     
     // Buscar usuários bloqueados
-    @Query("SELECT u FROM Usuario u WHERE u.dataBloqueio IS NOT NULL")
+    @Query("SELECT u FROM Usuario u WHERE u.dataBloqueio IS NOT NULL AND (u.dataFimBloqueio IS NULL OR u.dataFimBloqueio > LOCAL DATETIME)")
     List<Usuario> findUsuariosBloqueados();
     
     // Buscar usuários não bloqueados
-    @Query("SELECT u FROM Usuario u WHERE u.dataBloqueio IS NULL")
+    @Query("SELECT u FROM Usuario u WHERE u.dataBloqueio IS NULL OR u.dataFimBloqueio <= LOCAL DATETIME")
     List<Usuario> findUsuariosNaoBloqueados();
     
     // Buscar usuários com senha expirada
@@ -71,7 +73,11 @@ public interface UsuarioRepository extends JpaRepository<Usuario, Long> {
     // Buscar usuários por perfil
     @Query("SELECT u FROM Usuario u JOIN u.perfis p WHERE p.id = :perfilId")
     List<Usuario> findUsuariosPorPerfil(@Param("perfilId") Long perfilId);
-    
+
+    // Usernames dos usuários de um perfil, para invalidar os principais em cache
+    @Query("SELECT u.username FROM Usuario u JOIN u.perfis p WHERE p.id = :perfilId")
+    List<String> findUsernamesPorPerfil(@Param("perfilId") Long perfilId);
+
     // Buscar usuários por nome do perfil
     @Query("SELECT u FROM Usuario u JOIN u.perfis p WHERE p.nome = :nomePerfil")
     List<Usuario> findUsuariosPorNomePerfil(@Param("nomePerfil") String nomePerfil);
@@ -99,15 +105,22 @@ public interface UsuarioRepository extends JpaRepository<Usuario, Long> {
     @Query("SELECT COUNT(u) FROM Usuario u WHERE u.ativo = false")
     Long countUsuariosInativos();
     
-    @Query("SELECT COUNT(u) FROM Usuario u WHERE u.dataBloqueio IS NOT NULL")
+    @Query("SELECT COUNT(u) FROM Usuario u WHERE u.dataBloqueio IS NOT NULL AND (u.dataFimBloqueio IS NULL OR u.dataFimBloqueio > LOCAL DATETIME)")
     Long countUsuariosBloqueados();
     
-    @Query("SELECT COUNT(u) FROM Usuario u WHERE u.dataBloqueio IS NULL")
+    @Query("SELECT COUNT(u) FROM Usuario u WHERE u.dataBloqueio IS NULL OR u.dataFimBloqueio <= LOCAL DATETIME")
     Long countUsuariosNaoBloqueados();
     
     // Contar usuários por perfil
     @Query("SELECT COUNT(u) FROM Usuario u JOIN u.perfis p WHERE p.id = :perfilId")
     Long countUsuariosPorPerfil(@Param("perfilId") Long perfilId);
+
+    // Contar usuários por nome do perfil
+    @Query("SELECT COUNT(u) FROM Usuario u JOIN u.perfis p WHERE p.nome = :nomePerfil")
+    Long countUsuariosPorNomePerfil(@Param("nomePerfil") String nomePerfil);
+
+    // Contar usuários cujo departamento contém o texto
+    Long countByDepartamentoContainingIgnoreCase(String departamento);
     
     // Verificar se username existe
     boolean existsByUsername(String username);
@@ -140,11 +153,11 @@ public interface UsuarioRepository extends JpaRepository<Usuario, Long> {
     Page<Usuario> findByAtivoFalse(Pageable pageable);
     
     // Buscar usuários bloqueados com paginação
-    @Query("SELECT u FROM Usuario u WHERE u.dataBloqueio IS NOT NULL")
+    @Query("SELECT u FROM Usuario u WHERE u.dataBloqueio IS NOT NULL AND (u.dataFimBloqueio IS NULL OR u.dataFimBloqueio > LOCAL DATETIME)")
     Page<Usuario> findUsuariosBloqueados(Pageable pageable);
     
     // Buscar usuários não bloqueados com paginação
-    @Query("SELECT u FROM Usuario u WHERE u.dataBloqueio IS NULL")
+    @Query("SELECT u FROM Usuario u WHERE u.dataBloqueio IS NULL OR u.dataFimBloqueio <= LOCAL DATETIME")
     Page<Usuario> findUsuariosNaoBloqueados(Pageable pageable);
     
     // Buscar usuários por cidade com paginação
@@ -176,4 +189,41 @@ public interface UsuarioRepository extends JpaRepository<Usuario, Long> {
     // Buscar usuários de consulta com paginação
     @Query("SELECT u FROM Usuario u JOIN u.perfis p WHERE p.nome = 'CONSULTA' OR p.nivelAcesso >= 10")
     Page<Usuario> findUsuariosConsulta(Pageable pageable);
+    
+    // Buscar usuários ativos com paginação, por nome
+    Page<Usuario> findByAtivoTrueOrderByNomeCompleto(Pageable pageable);
+    
+    // Buscar usuários inativos com paginação, por nome
+    Page<Usuario> findByAtivoFalseOrderByNomeCompleto(Pageable pageable);
+
+    /**
+     * Regrava o hash da senha só se ele ainda for o lido no login; uma troca de senha
+     * concorrente prevalece.
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE Usuario u SET u.senhaHash = :novoHash WHERE u.username = :username AND u.senhaHash = :hashAnterior")
+    int regravarSenhaHash(@Param("username") String username, @Param("hashAnterior") String hashAnterior,
+                          @Param("novoHash") String novoHash);
+
+    /**
+     * Grava o bloqueio por excesso de falhas até {@code fim} (nulo: até o desbloqueio por um
+     * administrador), se o usuário não estiver bloqueado ou se o bloqueio anterior já venceu.
+     * Não incrementa a versão: o login não disputa a linha com quem edita o usuário.
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE Usuario u SET u.dataBloqueio = :agora, u.dataFimBloqueio = :fim, u.tentativasLoginFalha = :tentativas " +
+           "WHERE u.username = :username AND (u.dataBloqueio IS NULL OR u.dataFimBloqueio <= :agora)")
+    int bloquearPorFalhas(@Param("username") String username, @Param("tentativas") int tentativas,
+                          @Param("agora") LocalDateTime agora, @Param("fim") LocalDateTime fim);
+
+    /**
+     * Registra o login bem-sucedido sem incrementar a versão.
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE Usuario u SET u.dataUltimoLogin = :agora, u.tentativasLoginFalha = 0, u.dataBloqueio = NULL, " +
+           "u.dataFimBloqueio = NULL WHERE u.username = :username")
+    int registrarLogin(@Param("username") String username, @Param("agora") LocalDateTime agora);
 }
@@ -0,0 +1,71 @@
+package com.manus.patrimonio.repository.specification;
+
+import com.manus.patrimonio.enums.CondicaoBem;
+import com.manus.patrimonio.enums.StatusBem;
+import com.manus.patrimonio.model.Bem;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Predicados dinâmicos para consultas de bens.
+ * Cada filtro só entra no WHERE quando informado, permitindo que o PostgreSQL
+ * escolha os índices adequados para a combinação real de filtros, em vez de
+ * um único plano genérico com {@code (:x IS NULL OR ...)}.
+ */
+public final class BemSpecifications {
+
+    private BemSpecifications() {}
+
+    /**
+     * Combina apenas os filtros informados (valores nulos ou coleções vazias são ignorados).
+     */
+    public static Specification<Bem> comFiltros(Collection<Long> categoriaIds, Long localizacaoId,
+                                                Collection<StatusBem> status, CondicaoBem condicao,
+                                                BigDecimal valorMinimo, BigDecimal valorMaximo,
+                                                LocalDate dataInicio, LocalDate dataFim) {
+        List<Specification<Bem>> filtros = new ArrayList<>();
+        if (categoriaIds != null && !categoriaIds.isEmpty()) {
+            filtros.add(categoriaIds.size() == 1
+                    ? (root, query, cb) -> cb.equal(root.get("categoria").get("id"), categoriaIds.iterator().next())
+                    : (root, query, cb) -> root.get("categoria").get("id").in(categoriaIds));
+        }
+        if (localizacaoId != null) {
+            filtros.add((root, query, cb) -> cb.equal(root.get("localizacaoAtual").get("id"), localizacaoId));
+        }
+        if (status != null && !status.isEmpty()) {
+            filtros.add(status.size() == 1
+                    ? (root, query, cb) -> cb.equal(root.get("status"), status.iterator().next())
+                    : (root, query, cb) -> root.get("status").in(status));
+        }
+        if (condicao != null) {
+            filtros.add((root, query, cb) -> cb.equal(root.get("condicao"), condicao));
+        }
+        if (valorMinimo != null) {
+            filtros.add((root, query, cb) -> cb.greaterThanOrEqualTo(root.get("valorAquisicao"), valorMinimo));
+        }
+        if (valorMaximo != null) {
+            filtros.add((root, query, cb) -> cb.lessThanOrEqualTo(root.get("valorAquisicao"), valorMaximo));
+        }
+        if (dataInicio != null) {
+            filtros.add((root, query, cb) -> cb.greaterThanOrEqualTo(root.get("dataAquisicao"), dataInicio));
+        }
+        if (dataFim != null) {
+            filtros.add((root, query, cb) -> cb.lessThanOrEqualTo(root.get("dataAquisicao"), dataFim));
+        }
+        return Specification.allOf(filtros);
+    }
+
+    /**
+     * Posição keyset: registros estritamente após (nome, id) na ordenação por nome e ID.
+     */
+    public static Specification<Bem> aposPosicao(String nome, Long id) {
+        return (root, query, cb) -> cb.or(
+                cb.greaterThan(root.get("nome"), nome),
+                cb.and(cb.equal(root.get("nome"), nome), cb.greaterThan(root.get("id"), id)));
+    }
+}
@@ -0,0 +1,54 @@
+package com.manus.patrimonio.repository.specification;
+
+import com.manus.patrimonio.enums.TipoMovimentacao;
+import com.manus.patrimonio.model.Movimentacao;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Predicados dinâmicos para consultas de movimentações.
+ * Apenas os filtros informados entram no WHERE.
+ */
+public final class MovimentacaoSpecifications {
+
+    private MovimentacaoSpecifications() {}
+
+    /**
+     * Combina apenas os filtros informados (valores nulos, vazios ou coleções vazias são ignorados).
+     */
+    public static Specification<Movimentacao> comFiltros(Long bemId, Collection<TipoMovimentacao> tipos,
+                                                         Long localizacaoOrigemId, Long localizacaoDestinoId,
+                                                         LocalDateTime dataInicio, LocalDateTime dataFim,
+                                                         String responsavel) {
+        List<Specification<Movimentacao>> filtros = new ArrayList<>();
+        if (bemId != null) {
+            filtros.add((root, query, cb) -> cb.equal(root.get("bem").get("id"), bemId));
+        }
+        if (tipos != null && !tipos.isEmpty()) {
+            filtros.add(tipos.size() == 1
+                    ? (root, query, cb) -> cb.equal(root.get("tipoMovimentacao"), tipos.iterator().next())
+                    : (root, query, cb) -> root.get("tipoMovimentacao").in(tipos));
+        }
+        if (localizacaoOrigemId != null) {
+            filtros.add((root, query, cb) -> cb.equal(root.get("localizacaoOrigem").get("id"), localizacaoOrigemId));
+        }
+        if (localizacaoDestinoId != null) {
+            filtros.add((root, query, cb) -> cb.equal(root.get("localizacaoDestino").get("id"), localizacaoDestinoId));
+        }
+        if (dataInicio != null) {
+            filtros.add((root, query, cb) -> cb.greaterThanOrEqualTo(root.get("dataMovimentacao"), dataInicio));
+        }
+        if (dataFim != null) {
+            filtros.add((root, query, cb) -> cb.lessThanOrEqualTo(root.get("dataMovimentacao"), dataFim));
+        }
+        if (responsavel != null && !responsavel.isBlank()) {
+            String padrao = "%" + responsavel.trim().toLowerCase() + "%";
+            filtros.add((root, query, cb) -> cb.like(cb.lower(root.get("responsavelMovimentacao")), padrao));
+        }
+        return Specification.allOf(filtros);
+    }
+}
@@ -0,0 +1,182 @@
+package com.manus.patrimonio.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.manus.patrimonio.cache.CanalInvalidacaoCache;
+import com.manus.patrimonio.cache.InvalidacaoCache;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Resolve o principal de uma requisição autenticada por JWT evitando o banco.
+ * <p>
+ * Tokens com a claim {@code perfis} emitidos depois da última alteração do usuário
+ * (ativação, perfis, senha...) valem por si: o principal sai das claims. Os demais
+ * (tokens antigos, sem perfis ou de usuário alterado depois da emissão) passam pelo
+ * {@code UserDetailsService}, com o resultado guardado num cache local limitado por
+ * tamanho e TTL.
+ * <p>
+ * As alterações ficam registradas por nó até a validade máxima de um token e são
+ * repassadas aos outros nós pelo canal de invalidação do cache, quando configurado.
+ * Como um nó não conhece as alterações anteriores à sua subida, tokens emitidos antes
+ * dela sempre passam pelo banco.
+ */
+@Component
+public class CachePrincipais {
+
+    public static final String CACHE_PRINCIPAIS = "principais";
+
+    private final Cache<String, UserDetails> principais;
+    private final Cache<String, Instant> alteracoes;
+    private final CanalInvalidacaoCache canal;
+    private final Counter resolvidosPeloToken;
+    private final Clock relogio;
+
+    // Tokens emitidos até este instante não valem por si: subida do nó ou alteração descartada do registro
+    private volatile Instant limiteConfianca;
+
+    @Autowired
+    public CachePrincipais(CachePrincipaisProperties properties,
+                           JwtProperties jwtProperties,
+                           ObjectProvider<CanalInvalidacaoCache> canal,
+                           MeterRegistry meterRegistry) {
+        this(properties, jwtProperties.getExpiration(), canal.getIfAvailable(), meterRegistry, Clock.systemUTC());
+    }
+
+    CachePrincipais(CachePrincipaisProperties properties, long validadeToken, CanalInvalidacaoCache canal,
+                    MeterRegistry meterRegistry, Clock relogio) {
+        this.relogio = relogio;
+        this.limiteConfianca = relogio.instant();
+        this.principais = Caffeine.newBuilder()
+                .maximumSize(properties.getTamanhoMaximo())
+                .expireAfterWrite(properties.getTtl())
+                .recordStats()
+                .build();
+        // Síncrono: o limite avança antes de a alteração sumir do registro
+        this.alteracoes = Caffeine.newBuilder()
+                .maximumSize(properties.getTamanhoMaximoRevogacoes())
+                .expireAfterWrite(Duration.ofMillis(validadeToken))
+                .evictionListener((String username, Instant instante, RemovalCause causa) -> {
+                    if (causa == RemovalCause.SIZE && instante != null) {
+                        avancarLimite(instante);
+                    }
+                })
+                .build();
+        this.canal = canal;
+        if (this.canal != null) {
+            this.canal.assinar(this::receber);
+        }
+
+        CaffeineCacheMetrics.monitor(meterRegistry, principais, CACHE_PRINCIPAIS);
+        this.resolvidosPeloToken = Counter.builder("patrimonio.security.principais.token")
+                .description("Requisições autenticadas com os perfis do próprio token, sem cache nem banco")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Principal do token já validado, pelas claims quando possível; senão pelo cache,
+     * recorrendo a {@code carregar} na falta.
+     */
+    public UserDetails resolver(Claims claims, Function<String, UserDetails> carregar) {
+        String username = claims.getSubject();
+        List<String> perfis = JwtTokenProvider.perfis(claims);
+        if (perfis != null && confiavel(username, claims.getIssuedAt())) {
+            resolvidosPeloToken.increment();
+            return User.withUsername(username)
+                    .password("")
+                    .authorities(perfis.toArray(String[]::new))
+                    .build();
+        }
+        UserDetails principal = principais.getIfPresent(username);
+        return principal != null ? principal : carregarForaDoCache(username, carregar);
+    }
+
+    /**
+     * Carrega fora do {@code get} do Caffeine, que executa o loader segurando o monitor do
+     * mapa: com threads virtuais a consulta ao banco prenderia a thread à carrier. O
+     * principal só entra no cache se nenhuma alteração do usuário foi registrada durante a
+     * carga; o {@code compute} serializa com o {@code invalidate} da alteração.
+     */
+    private UserDetails carregarForaDoCache(String username, Function<String, UserDetails> carregar) {
+        Instant alteracaoAntes = alteracoes.getIfPresent(username);
+        UserDetails carregado = carregar.apply(username);
+        principais.asMap().compute(username, (chave, atual) ->
+                Objects.equals(alteracoes.getIfPresent(chave), alteracaoAntes) ? carregado : atual);
+        return carregado;
+    }
+
+    /**
+     * Registra a alteração do usuário: o principal em cache é descartado e os tokens
+     * emitidos até aqui voltam a ser conferidos no banco. Ocorre após o commit, para
+     * uma leitura concorrente não recolocar no cache o estado anterior.
+     */
+    public void invalidar(String username) {
+        Runnable invalidacao = () -> {
+            registrarAlteracao(username);
+            if (canal != null) {
+                canal.publicar(CACHE_PRINCIPAIS, username);
+            }
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidacao.run();
+                }
+            });
+        } else {
+            invalidacao.run();
+        }
+    }
+
+    private void registrarAlteracao(String username) {
+        alteracoes.put(username, relogio.instant());
+        principais.invalidate(username);
+    }
+
+    private void receber(InvalidacaoCache invalidacao) {
+        if (!CACHE_PRINCIPAIS.equals(invalidacao.getCache())) {
+            return;
+        }
+        if (invalidacao.getChave() == null) {
+            avancarLimite(relogio.instant());
+            principais.invalidateAll();
+        } else {
+            registrarAlteracao(String.valueOf(invalidacao.getChave()));
+        }
+    }
+
+    // A emissão do JWT é truncada em segundos: "depois" estrito nunca aceita token anterior à alteração
+    private boolean confiavel(String username, Date emissao) {
+        if (emissao == null) {
+            return false;
+        }
+        Instant emitidoEm = emissao.toInstant();
+        Instant alteracao = alteracoes.getIfPresent(username);
+        return emitidoEm.isAfter(limiteConfianca) && (alteracao == null || emitidoEm.isAfter(alteracao));
+    }
+
+    private synchronized void avancarLimite(Instant instante) {
+        if (instante.isAfter(limiteConfianca)) {
+            limiteConfianca = instante;
+        }
+    }
+}
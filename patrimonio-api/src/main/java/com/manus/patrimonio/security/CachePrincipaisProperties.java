@@ -0,0 +1,56 @@
+package com.manus.patrimonio.security;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Cache dos principais autenticados por JWT ({@code patrimonio.security.cache-principais}).
+ */
+@ConfigurationProperties(prefix = "patrimonio.security.cache-principais")
+public class CachePrincipaisProperties {
+
+    /**
+     * Principais carregados do banco mantidos por nó.
+     */
+    private long tamanhoMaximo = 10_000;
+
+    /**
+     * Validade de um principal carregado do banco; limita o tempo em que um nó que perdeu
+     * a invalidação continua usando os perfis antigos desse principal. Não vale para os
+     * tokens resolvidos pelas próprias claims: num nó que perdeu a invalidação, eles
+     * continuam aceitos com os perfis da emissão até expirar ({@code security.jwt.expiration}).
+     */
+    private Duration ttl = Duration.ofMinutes(5);
+
+    /**
+     * Usuários alterados lembrados por nó. Ao passar do limite, os mais antigos são
+     * descartados e todos os tokens emitidos até a alteração descartada voltam ao banco.
+     */
+    private long tamanhoMaximoRevogacoes = 100_000;
+
+    // Getters e Setters
+    public long getTamanhoMaximo() {
+        return tamanhoMaximo;
+    }
+
+    public void setTamanhoMaximo(long tamanhoMaximo) {
+        this.tamanhoMaximo = tamanhoMaximo;
+    }
+
+    public Duration getTtl() {
+        return ttl;
+    }
+
+    public void setTtl(Duration ttl) {
+        this.ttl = ttl;
+    }
+
+    public long getTamanhoMaximoRevogacoes() {
+        return tamanhoMaximoRevogacoes;
+    }
+
+    public void setTamanhoMaximoRevogacoes(long tamanhoMaximoRevogacoes) {
+        this.tamanhoMaximoRevogacoes = tamanhoMaximoRevogacoes;
+    }
+}
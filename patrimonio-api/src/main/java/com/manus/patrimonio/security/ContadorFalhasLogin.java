@@ -0,0 +1,171 @@
+package com.manus.patrimonio.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * Conta logins com falha por usuário e por IP em janelas deslizantes, em memória.
+ * <p>
+ * As falhas não tocam a linha do usuário: só a transição para bloqueado, ao atingir
+ * {@code limite-usuario}, é gravada pelo chamador, com o fim do bloqueio
+ * ({@code duracao-bloqueio}). O bloqueio por IP é só em memória e
+ * cai sozinho quando as falhas saem da janela. A contagem é por nó; com vários nós atrás
+ * do balanceador, o limite efetivo por usuário pode chegar ao limite vezes o número de nós
+ * antes do bloqueio gravado valer para todos.
+ */
+@Component
+public class ContadorFalhasLogin {
+
+    private final Cache<String, JanelaFalhas> porUsuario;
+    private final Cache<String, JanelaFalhas> porIp;
+    private final int limiteUsuario;
+    private final int limiteIp;
+    private final long janelaMillis;
+    private final Clock relogio;
+    private final Counter falhas;
+    private final Counter bloqueios;
+    private final Counter recusadasPorIp;
+    private final Counter recusadasPorUsuario;
+
+    @Autowired
+    public ContadorFalhasLogin(TentativasLoginProperties properties, MeterRegistry meterRegistry) {
+        this(properties, meterRegistry, Clock.systemUTC());
+    }
+
+    ContadorFalhasLogin(TentativasLoginProperties properties, MeterRegistry meterRegistry, Clock relogio) {
+        Duration janela = properties.getJanela();
+        this.limiteUsuario = properties.getLimiteUsuario();
+        this.limiteIp = properties.getLimiteIp();
+        this.janelaMillis = janela.toMillis();
+        this.relogio = relogio;
+        // Sem acesso por uma janela inteira, nenhuma falha da entrada conta mais
+        this.porUsuario = Caffeine.newBuilder()
+                .maximumSize(properties.getTamanhoMaximo())
+                .expireAfterAccess(janela)
+                .build();
+        this.porIp = Caffeine.newBuilder()
+                .maximumSize(properties.getTamanhoMaximo())
+                .expireAfterAccess(janela)
+                .build();
+
+        this.falhas = Counter.builder("patrimonio.security.login.falhas")
+                .description("Logins com senha ou usuário inválidos")
+                .register(meterRegistry);
+        this.bloqueios = Counter.builder("patrimonio.security.login.bloqueios")
+                .description("Usuários bloqueados por excesso de falhas na janela")
+                .register(meterRegistry);
+        this.recusadasPorIp = Counter.builder("patrimonio.security.login.recusadas")
+                .description("Tentativas de login recusadas antes da verificação da senha")
+                .tag("motivo", "ip")
+                .register(meterRegistry);
+        this.recusadasPorUsuario = Counter.builder("patrimonio.security.login.recusadas")
+                .description("Tentativas de login recusadas antes da verificação da senha")
+                .tag("motivo", "usuario")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Se o IP atingiu o limite de falhas na janela; conta a tentativa recusada.
+     */
+    public boolean ipBloqueado(String ip) {
+        if (ip == null) {
+            return false;
+        }
+        JanelaFalhas janela = porIp.getIfPresent(ip);
+        if (janela != null && janela.contar(relogio.millis(), janelaMillis) >= limiteIp) {
+            recusadasPorIp.increment();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Conta uma tentativa recusada por usuário já bloqueado.
+     */
+    public void registrarUsuarioBloqueado() {
+        recusadasPorUsuario.increment();
+    }
+
+    /**
+     * Registra a falha do usuário e do IP (quando informados).
+     *
+     * @return {@code true} só para a falha que leva o usuário ao limite, quando o bloqueio
+     *         deve ser gravado
+     */
+    public boolean registrarFalha(String username, String ip) {
+        falhas.increment();
+        long agora = relogio.millis();
+        if (ip != null) {
+            porIp.get(ip, chave -> new JanelaFalhas(limiteIp)).registrar(agora, janelaMillis);
+        }
+        if (username == null) {
+            return false;
+        }
+        boolean atingiu = porUsuario.get(username, chave -> new JanelaFalhas(limiteUsuario))
+                .registrar(agora, janelaMillis);
+        if (atingiu) {
+            bloqueios.increment();
+            // A contagem recomeça: quando o bloqueio gravado vencer, são precisas outras tantas falhas
+            porUsuario.invalidate(username);
+        }
+        return atingiu;
+    }
+
+    /**
+     * Zera as falhas do usuário, após um login bem-sucedido ou um desbloqueio.
+     */
+    public void limpar(String username) {
+        porUsuario.invalidate(username);
+    }
+
+    /**
+     * Instantes das últimas falhas, em anel do tamanho do limite: basta saber se as
+     * {@code limite} mais recentes cabem na janela.
+     */
+    private static class JanelaFalhas {
+
+        private final long[] instantes;
+        private int proxima;
+        private int total;
+        private boolean atingido;
+
+        JanelaFalhas(int limite) {
+            this.instantes = new long[Math.max(1, limite)];
+        }
+
+        /**
+         * @return {@code true} se esta falha fez a janela atingir o limite; as seguintes,
+         *         com o limite ainda atingido, não contam de novo
+         */
+        synchronized boolean registrar(long agora, long janela) {
+            if (contar(agora, janela) < instantes.length) {
+                atingido = false;
+            }
+            instantes[proxima] = agora;
+            proxima = (proxima + 1) % instantes.length;
+            total = Math.min(total + 1, instantes.length);
+            if (!atingido && contar(agora, janela) >= instantes.length) {
+                atingido = true;
+                return true;
+            }
+            return false;
+        }
+
+        synchronized int contar(long agora, long janela) {
+            int dentro = 0;
+            for (int i = 0; i < total; i++) {
+                if (instantes[i] > agora - janela) {
+                    dentro++;
+                }
+            }
+            return dentro;
+        }
+    }
+}
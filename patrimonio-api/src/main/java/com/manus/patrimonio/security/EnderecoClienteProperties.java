@@ -0,0 +1,41 @@
+package com.manus.patrimonio.security;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Resolução do IP do cliente ({@code patrimonio.security.endereco-cliente}).
+ */
+@ConfigurationProperties(prefix = "patrimonio.security.endereco-cliente")
+public class EnderecoClienteProperties {
+
+    /**
+     * IPs ou faixas CIDR dos proxies reversos cujo cabeçalho de encaminhamento é aceito.
+     * Vazio: o cabeçalho é ignorado e vale o endereço da conexão.
+     */
+    private List<String> proxiesConfiaveis = new ArrayList<>();
+
+    /**
+     * Cabeçalho em que os proxies acrescentam o endereço de quem os chamou.
+     */
+    private String cabecalho = "X-Forwarded-For";
+
+    // Getters e Setters
+    public List<String> getProxiesConfiaveis() {
+        return proxiesConfiaveis;
+    }
+
+    public void setProxiesConfiaveis(List<String> proxiesConfiaveis) {
+        this.proxiesConfiaveis = proxiesConfiaveis;
+    }
+
+    public String getCabecalho() {
+        return cabecalho;
+    }
+
+    public void setCabecalho(String cabecalho) {
+        this.cabecalho = cabecalho;
+    }
+}
@@ -0,0 +1,62 @@
+package com.manus.patrimonio.security;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Chaves e validade dos tokens ({@code security.jwt}).
+ * <p>
+ * Rotação: a nova chave entra em {@code chaves} com um identificador ({@code kid}) e
+ * passa a assinar quando indicada em {@code chave-atual}; as anteriores continuam em
+ * {@code chaves} até os tokens emitidos com elas expirarem. O {@code secret} assina
+ * enquanto não houver {@code chave-atual} e valida os tokens emitidos sem {@code kid}.
+ */
+@ConfigurationProperties(prefix = "security.jwt")
+public class JwtProperties {
+
+    private String secret;
+
+    /**
+     * Validade do token, em milissegundos.
+     */
+    private long expiration = 86_400_000;
+
+    private String chaveAtual;
+
+    private Map<String, String> chaves = new LinkedHashMap<>();
+
+    // Getters e Setters
+    public String getSecret() {
+        return secret;
+    }
+
+    public void setSecret(String secret) {
+        this.secret = secret;
+    }
+
+    public long getExpiration() {
+        return expiration;
+    }
+
+    public void setExpiration(long expiration) {
+        this.expiration = expiration;
+    }
+
+    public String getChaveAtual() {
+        return chaveAtual;
+    }
+
+    public void setChaveAtual(String chaveAtual) {
+        this.chaveAtual = chaveAtual;
+    }
+
+    public Map<String, String> getChaves() {
+        return chaves;
+    }
+
+    public void setChaves(Map<String, String> chaves) {
+        this.chaves = chaves;
+    }
+}
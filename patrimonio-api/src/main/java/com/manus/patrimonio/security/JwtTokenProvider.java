@@ -2,72 +2,136 @@ package com.manus.patrimonio.security;
 
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.util.Collection;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
+/**
+ * Emissão e validação dos tokens. As chaves HMAC e o {@link JwtParser} (imutável e
+ * seguro entre threads) são montados uma vez na criação; validar um token não cria
+ * chave nem parser, só procura a chave pelo {@code kid} do cabeçalho.
+ */
 @Component
 public class JwtTokenProvider {
 
-    @Value("${security.jwt.secret}")
-    private String jwtSecret;
+    /**
+     * Claim com os perfis do usuário na emissão ({@code ROLE_*}), para o filtro montar o
+     * principal sem consultar o banco.
+     */
+    public static final String CLAIM_PERFIS = "perfis";
 
-    @Value("${security.jwt.expiration}")
-    private int jwtExpirationInMs;
+    private final long jwtExpirationInMs;
+    private final Map<String, SecretKey> chavesPorKid;
+    private final SecretKey chaveSemKid;
+    private final String kidAssinatura;
+    private final SecretKey chaveAssinatura;
+    private final JwtParser parser;
 
-    private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(jwtSecret.getBytes());
+    public JwtTokenProvider(JwtProperties properties) {
+        this.jwtExpirationInMs = properties.getExpiration();
+
+        Map<String, SecretKey> chaves = new HashMap<>();
+        properties.getChaves().forEach((kid, segredo) -> chaves.put(kid, chave(segredo)));
+        this.chavesPorKid = Map.copyOf(chaves);
+        this.chaveSemKid = properties.getSecret() != null ? chave(properties.getSecret()) : null;
+
+        this.kidAssinatura = properties.getChaveAtual();
+        if (kidAssinatura != null) {
+            this.chaveAssinatura = chavesPorKid.get(kidAssinatura);
+            if (chaveAssinatura == null) {
+                throw new IllegalStateException("security.jwt.chave-atual '" + kidAssinatura
+                        + "' não está em security.jwt.chaves");
+            }
+        } else if (chaveSemKid != null) {
+            this.chaveAssinatura = chaveSemKid;
+        } else {
+            throw new IllegalStateException("Defina security.jwt.secret ou security.jwt.chave-atual");
+        }
+
+        this.parser = Jwts.parser()
+                .keyLocator(new LocatorAdapter<Key>() {
+                    @Override
+                    protected Key locate(ProtectedHeader header) {
+                        String kid = header.getKeyId();
+                        // Chave nula: o parser rejeita o token
+                        return kid == null ? chaveSemKid : chavesPorKid.get(kid);
+                    }
+                })
+                .build();
+    }
+
+    // Keys.hmacShaKeyFor recusa segredos com menos de 256 bits: a configuração falha na subida
+    private static SecretKey chave(String segredo) {
+        return Keys.hmacShaKeyFor(segredo.getBytes(StandardCharsets.UTF_8));
     }
 
     public String generateToken(Authentication authentication) {
         UserDetails userPrincipal = (UserDetails) authentication.getPrincipal();
-        return generateTokenFromUsername(userPrincipal.getUsername());
+        return gerarToken(userPrincipal.getUsername(), userPrincipal.getAuthorities());
     }
 
     public String generateTokenFromUsername(String username) {
+        return gerarToken(username, null);
+    }
+
+    private String gerarToken(String username, Collection<? extends GrantedAuthority> perfis) {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + jwtExpirationInMs);
 
-        return Jwts.builder()
+        JwtBuilder builder = Jwts.builder();
+        if (kidAssinatura != null) {
+            builder.header().keyId(kidAssinatura).and();
+        }
+        if (perfis != null) {
+            builder.claim(CLAIM_PERFIS, perfis.stream().map(GrantedAuthority::getAuthority).toList());
+        }
+        return builder
                 .subject(username)
                 .issuedAt(now)
                 .expiration(expiryDate)
-                .signWith(getSigningKey())
+                .signWith(chaveAssinatura)
                 .compact();
     }
 
     public String getUsernameFromJWT(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-
-        return claims.getSubject();
+        return parser.parseSignedClaims(token).getPayload().getSubject();
     }
 
     public boolean validateToken(String authToken) {
+        return lerClaims(authToken).isPresent();
+    }
+
+    /**
+     * Valida assinatura e expiração e devolve as claims numa única leitura do token;
+     * vazio se o token for inválido.
+     */
+    public Optional<Claims> lerClaims(String authToken) {
         try {
-            Jwts.parser()
-                    .verifyWith(getSigningKey())
-                    .build()
-                    .parseSignedClaims(authToken);
-            return true;
-        } catch (SecurityException ex) {
-            // Invalid JWT signature
-        } catch (MalformedJwtException ex) {
-            // Invalid JWT token
-        } catch (ExpiredJwtException ex) {
-            // Expired JWT token
-        } catch (UnsupportedJwtException ex) {
-            // Unsupported JWT token
+            return Optional.of(parser.parseSignedClaims(authToken).getPayload());
+        } catch (JwtException ex) {
+            // Assinatura inválida, kid desconhecido, token malformado, expirado ou não suportado
         } catch (IllegalArgumentException ex) {
             // JWT claims string is empty
         }
-        return false;
+        return Optional.empty();
+    }
+
+    /**
+     * Perfis gravados no token, ou nulo para tokens emitidos sem eles.
+     */
+    public static List<String> perfis(Claims claims) {
+        List<?> perfis = claims.get(CLAIM_PERFIS, List.class);
+        return perfis == null ? null : perfis.stream().map(String::valueOf).toList();
     }
 }
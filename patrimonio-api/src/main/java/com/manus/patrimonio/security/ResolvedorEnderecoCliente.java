@@ -0,0 +1,83 @@
+package com.manus.patrimonio.security;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.security.web.util.matcher.IpAddressMatcher;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Resolve o IP do cliente de uma requisição. O cabeçalho de encaminhamento só é lido
+ * quando a conexão vem de um proxy configurado em
+ * {@link EnderecoClienteProperties#getProxiesConfiaveis()}, e é percorrido da direita
+ * para a esquerda: o primeiro endereço que não é de um proxy confiável é o cliente.
+ * As entradas à esquerda dele foram escritas pelo próprio cliente e são ignoradas.
+ */
+@Component
+public class ResolvedorEnderecoCliente {
+
+    // Literais IPv4 ou IPv6; qualquer outra coisa seria resolvida por DNS no IpAddressMatcher
+    private static final Pattern IPV4 = Pattern.compile("\\d{1,3}(\\.\\d{1,3}){3}");
+    private static final Pattern IPV6 = Pattern.compile("[0-9A-Fa-f:.]*:[0-9A-Fa-f:.]*");
+
+    // Tamanho de auditoria.ip_address
+    private static final int TAMANHO_MAXIMO = 45;
+
+    private final List<IpAddressMatcher> proxiesConfiaveis;
+    private final String cabecalho;
+
+    public ResolvedorEnderecoCliente(EnderecoClienteProperties properties) {
+        this.proxiesConfiaveis = properties.getProxiesConfiaveis().stream()
+                .map(String::trim)
+                .filter(proxy -> !proxy.isEmpty())
+                .map(IpAddressMatcher::new)
+                .toList();
+        this.cabecalho = properties.getCabecalho();
+    }
+
+    public String resolver(HttpServletRequest request) {
+        String endereco = request.getRemoteAddr();
+        if (!confiavel(endereco)) {
+            return endereco;
+        }
+        String encaminhado = request.getHeader(cabecalho);
+        if (encaminhado == null || encaminhado.isBlank()) {
+            return endereco;
+        }
+        String[] saltos = encaminhado.split(",");
+        for (int i = saltos.length - 1; i >= 0; i--) {
+            String salto = saltos[i].trim();
+            if (!literalIp(salto)) {
+                // Entrada malformada: nada à esquerda dela é confiável
+                return endereco;
+            }
+            endereco = salto;
+            if (!confiavel(salto)) {
+                return salto;
+            }
+        }
+        return endereco;
+    }
+
+    private boolean confiavel(String endereco) {
+        if (proxiesConfiaveis.isEmpty() || !literalIp(endereco)) {
+            return false;
+        }
+        try {
+            for (IpAddressMatcher proxy : proxiesConfiaveis) {
+                if (proxy.matches(endereco)) {
+                    return true;
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            // Parece um literal mas não é um endereço válido (ex.: 999.1.1.1)
+        }
+        return false;
+    }
+
+    private static boolean literalIp(String endereco) {
+        return endereco != null && endereco.length() <= TAMANHO_MAXIMO
+                && (IPV4.matcher(endereco).matches() || IPV6.matcher(endereco).matches());
+    }
+}
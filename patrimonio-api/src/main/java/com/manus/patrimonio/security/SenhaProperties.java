@@ -0,0 +1,98 @@
+package com.manus.patrimonio.security;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Codificação e verificação de senhas ({@code patrimonio.security.senhas}).
+ * <p>
+ * Senhas novas são gravadas com {@code algoritmo}; hashes de outro algoritmo ou de força
+ * bcrypt menor que {@code forca-bcrypt} são regravados no próximo login bem-sucedido.
+ */
+@ConfigurationProperties(prefix = "patrimonio.security.senhas")
+public class SenhaProperties {
+
+    /**
+     * Identificador do codificador das senhas novas: {@code bcrypt} ou {@code pbkdf2}.
+     */
+    private String algoritmo = "bcrypt";
+
+    /**
+     * Fator de custo do bcrypt (log2 das rodadas); cada ponto dobra o tempo de verificação.
+     */
+    private int forcaBcrypt = 10;
+
+    private Verificacao verificacao = new Verificacao();
+
+    // Getters e Setters
+    public String getAlgoritmo() {
+        return algoritmo;
+    }
+
+    public void setAlgoritmo(String algoritmo) {
+        this.algoritmo = algoritmo;
+    }
+
+    public int getForcaBcrypt() {
+        return forcaBcrypt;
+    }
+
+    public void setForcaBcrypt(int forcaBcrypt) {
+        this.forcaBcrypt = forcaBcrypt;
+    }
+
+    public Verificacao getVerificacao() {
+        return verificacao;
+    }
+
+    public void setVerificacao(Verificacao verificacao) {
+        this.verificacao = verificacao;
+    }
+
+    /**
+     * Executor dedicado às verificações de senha no login.
+     */
+    public static class Verificacao {
+
+        /**
+         * Verificações simultâneas; o hash usa CPU o tempo todo, então mais threads que
+         * núcleos só aumenta a latência.
+         */
+        private int threads = Runtime.getRuntime().availableProcessors();
+
+        /**
+         * Verificações aguardando thread; com a fila cheia o login é recusado na hora.
+         */
+        private int fila = 100;
+
+        /**
+         * Tempo máximo que a requisição espera pela verificação.
+         */
+        private Duration espera = Duration.ofSeconds(2);
+
+        public int getThreads() {
+            return threads;
+        }
+
+        public void setThreads(int threads) {
+            this.threads = threads;
+        }
+
+        public int getFila() {
+            return fila;
+        }
+
+        public void setFila(int fila) {
+            this.fila = fila;
+        }
+
+        public Duration getEspera() {
+            return espera;
+        }
+
+        public void setEspera(Duration espera) {
+            this.espera = espera;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.manus.patrimonio.security;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Contagem de logins com falha ({@code patrimonio.security.tentativas-login}).
+ */
+@ConfigurationProperties(prefix = "patrimonio.security.tentativas-login")
+public class TentativasLoginProperties {
+
+    /**
+     * Janela deslizante em que as falhas são contadas.
+     */
+    private Duration janela = Duration.ofMinutes(15);
+
+    /**
+     * Falhas do mesmo usuário dentro da janela que bloqueiam a conta por
+     * {@code duracao-bloqueio}. Quem sabe o username bloqueia a conta com poucas
+     * requisições: um limite baixo protege mais contra adivinhação de senha e facilita
+     * bloquear contas alheias; o limite por IP restringe quantas um único cliente bloqueia.
+     */
+    private int limiteUsuario = 5;
+
+    /**
+     * Duração do bloqueio por falhas; ao vencer, o login volta a ser aceito. Zero mantém o
+     * bloqueio até o desbloqueio por um administrador, o que deixa qualquer um travar
+     * qualquer conta indefinidamente.
+     */
+    private Duration duracaoBloqueio = Duration.ofMinutes(15);
+
+    /**
+     * Falhas vindas do mesmo IP dentro da janela que recusam os logins desse IP até a
+     * janela passar.
+     */
+    private int limiteIp = 20;
+
+    /**
+     * Usuários e IPs acompanhados por nó; os menos recentes são descartados.
+     */
+    private long tamanhoMaximo = 100_000;
+
+    // Getters e Setters
+    public Duration getJanela() {
+        return janela;
+    }
+
+    public void setJanela(Duration janela) {
+        this.janela = janela;
+    }
+
+    public int getLimiteUsuario() {
+        return limiteUsuario;
+    }
+
+    public void setLimiteUsuario(int limiteUsuario) {
+        this.limiteUsuario = limiteUsuario;
+    }
+
+    public Duration getDuracaoBloqueio() {
+        return duracaoBloqueio;
+    }
+
+    public void setDuracaoBloqueio(Duration duracaoBloqueio) {
+        this.duracaoBloqueio = duracaoBloqueio;
+    }
+
+    public int getLimiteIp() {
+        return limiteIp;
+    }
+
+    public void setLimiteIp(int limiteIp) {
+        this.limiteIp = limiteIp;
+    }
+
+    public long getTamanhoMaximo() {
+        return tamanhoMaximo;
+    }
+
+    public void setTamanhoMaximo(long tamanhoMaximo) {
+        this.tamanhoMaximo = tamanhoMaximo;
+    }
+}
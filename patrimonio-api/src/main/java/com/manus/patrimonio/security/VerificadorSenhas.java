@@ -0,0 +1,125 @@
+package com.manus.patrimonio.security;
+
+import com.manus.patrimonio.exception.RegraDeNegocioException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Verifica senhas num executor próprio e limitado, fora das threads de requisição.
+ * <p>
+ * O hash é caro de propósito: sem limite, uma rajada de logins ocupa toda a CPU e todas
+ * as threads do Tomcat e atrasa o restante da API. Aqui no máximo {@code threads}
+ * verificações rodam ao mesmo tempo e {@code fila} aguardam; além disso o login é recusado
+ * na hora, e a requisição nunca espera mais que {@code espera}.
+ * <p>
+ * Quando o hash gravado está desatualizado (outro algoritmo ou força menor que a
+ * configurada), a mesma tarefa já gera o hash novo para o chamador regravar.
+ */
+@Component
+public class VerificadorSenhas {
+
+    private static final String SOBRECARGA = "Muitos logins simultâneos; tente novamente em instantes";
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final Duration espera;
+    private final Timer tempoVerificacao;
+    private final Counter recusadas;
+
+    public VerificadorSenhas(PasswordEncoder passwordEncoder, SenhaProperties properties,
+                             MeterRegistry meterRegistry) {
+        SenhaProperties.Verificacao verificacao = properties.getVerificacao();
+        this.passwordEncoder = passwordEncoder;
+        this.espera = verificacao.getEspera();
+
+        AtomicInteger contador = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(verificacao.getThreads(), verificacao.getThreads(),
+                0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(verificacao.getFila()), tarefa -> {
+                    Thread thread = new Thread(tarefa, "verificacao-senha-" + contador.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.AbortPolicy());
+
+        // executor.queued, executor.active, executor.queue.remaining...
+        ExecutorServiceMetrics.monitor(meterRegistry, executor, "verificacao-senhas");
+        this.tempoVerificacao = Timer.builder("patrimonio.security.senhas.verificacao")
+                .description("Tempo de verificação de senha, sem a espera na fila")
+                .register(meterRegistry);
+        this.recusadas = Counter.builder("patrimonio.security.senhas.recusadas")
+                .description("Logins recusados por fila de verificação cheia ou espera esgotada")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Confere a senha com o hash gravado.
+     *
+     * @throws RegraDeNegocioException se a fila estiver cheia ou a verificação não terminar
+     *                                 dentro da espera configurada
+     */
+    public Resultado verificar(String senha, String hash) {
+        Future<Resultado> futuro;
+        try {
+            futuro = executor.submit(() -> tempoVerificacao.record(() -> conferir(senha, hash)));
+        } catch (RejectedExecutionException e) {
+            recusadas.increment();
+            throw new RegraDeNegocioException(SOBRECARGA);
+        }
+
+        try {
+            return futuro.get(espera.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // Ainda na fila: sai dela sem gastar CPU com um login que ninguém espera mais
+            futuro.cancel(false);
+            executor.purge();
+            recusadas.increment();
+            throw new RegraDeNegocioException(SOBRECARGA);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            futuro.cancel(false);
+            throw new RegraDeNegocioException(SOBRECARGA);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException causa) {
+                throw causa;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private Resultado conferir(String senha, String hash) {
+        if (!passwordEncoder.matches(senha, hash)) {
+            return Resultado.INVALIDA;
+        }
+        return new Resultado(true, passwordEncoder.upgradeEncoding(hash) ? passwordEncoder.encode(senha) : null);
+    }
+
+    @PreDestroy
+    public void encerrar() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Resultado da verificação.
+     *
+     * @param confere  se a senha confere com o hash
+     * @param novoHash hash no algoritmo e força atuais, quando o gravado está desatualizado
+     */
+    public record Resultado(boolean confere, String novoHash) {
+
+        static final Resultado INVALIDA = new Resultado(false, null);
+    }
+}
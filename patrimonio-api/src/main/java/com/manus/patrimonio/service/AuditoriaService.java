@@ -1,9 +1,12 @@
 package com.manus.patrimonio.service;
 
+import com.manus.patrimonio.cache.PaginaCache;
 import com.manus.patrimonio.dto.AuditoriaDTO;
+import com.manus.patrimonio.dto.AuditoriaResumoDTO;
 import com.manus.patrimonio.exception.RecursoNaoEncontradoException;
 import com.manus.patrimonio.mapper.PatrimonioMapper;
 import com.manus.patrimonio.model.Auditoria;
+import com.manus.patrimonio.replica.LeituraNoPrimario;
 import com.manus.patrimonio.repository.AuditoriaRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.cache.annotation.Cacheable;
@@ -16,7 +19,7 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 @Service
-@Transactional
+@Transactional(readOnly = true)
 public class AuditoriaService {
 
     @Autowired
@@ -26,7 +29,8 @@ public class AuditoriaService {
     private PatrimonioMapper patrimonioMapper;
 
     // CRUD Operations
-    @Cacheable(value = "auditorias", key = "#id")
+    @Cacheable(value = "auditorias", key = "#id", sync = true)
+    @LeituraNoPrimario
     public AuditoriaDTO buscarPorId(Long id) {
         Auditoria auditoria = auditoriaRepository.findById(id)
                 .orElseThrow(() -> new RecursoNaoEncontradoException("Auditoria não encontrada"));
@@ -34,10 +38,16 @@ public class AuditoriaService {
         return patrimonioMapper.auditoriaToAuditoriaDTO(auditoria);
     }
 
-    @Cacheable(value = "auditorias", key = "'page_' + #pageable.pageNumber + '_' + #pageable.pageSize")
+    // Os registros chegam em lotes pelo GravadorAuditoria, que avança a geração a cada lote
+    @Cacheable(value = "auditorias", key = "@chaveCache.chave('todas', @geracoesCache.atual('auditorias:todas', ''), #pageable)", sync = true)
+    @LeituraNoPrimario
     public Page<AuditoriaDTO> buscarTodas(Pageable pageable) {
         Page<Auditoria> auditorias = auditoriaRepository.findAll(pageable);
-        return auditorias.map(patrimonioMapper::auditoriaToAuditoriaDTO);
+        return PaginaCache.de(auditorias.map(patrimonioMapper::auditoriaToAuditoriaDTO));
+    }
+
+    public Page<AuditoriaResumoDTO> buscarResumos(Pageable pageable) {
+        return auditoriaRepository.listarResumos(pageable);
     }
 
     // Search Operations
@@ -67,33 +77,18 @@ public class AuditoriaService {
     }
 
     public Page<AuditoriaDTO> buscarPorEntidadeEPeriodo(String entidade, LocalDateTime dataInicio, LocalDateTime dataFim, Pageable pageable) {
-        List<Auditoria> auditorias = auditoriaRepository.findByEntidadeAndPeriodo(entidade, dataInicio, dataFim);
-        // Converter para Page manualmente
-        int start = (int) pageable.getOffset();
-        int end = Math.min((start + pageable.getPageSize()), auditorias.size());
-        List<Auditoria> pageContent = auditorias.subList(start, end);
-        return new org.springframework.data.domain.PageImpl<>(pageContent, pageable, auditorias.size())
-                .map(patrimonioMapper::auditoriaToAuditoriaDTO);
+        Page<Auditoria> auditorias = auditoriaRepository.findByEntidadeAndPeriodo(entidade, dataInicio, dataFim, pageable);
+        return auditorias.map(patrimonioMapper::auditoriaToAuditoriaDTO);
     }
 
     public Page<AuditoriaDTO> buscarPorUsuarioEPeriodo(Long usuarioId, LocalDateTime dataInicio, LocalDateTime dataFim, Pageable pageable) {
-        List<Auditoria> auditorias = auditoriaRepository.findByUsuarioAndPeriodo(usuarioId, dataInicio, dataFim);
-        // Converter para Page manualmente
-        int start = (int) pageable.getOffset();
-        int end = Math.min((start + pageable.getPageSize()), auditorias.size());
-        List<Auditoria> pageContent = auditorias.subList(start, end);
-        return new org.springframework.data.domain.PageImpl<>(pageContent, pageable, auditorias.size())
-                .map(patrimonioMapper::auditoriaToAuditoriaDTO);
+        Page<Auditoria> auditorias = auditoriaRepository.findByUsuarioAndPeriodo(usuarioId, dataInicio, dataFim, pageable);
+        return auditorias.map(patrimonioMapper::auditoriaToAuditoriaDTO);
     }
 
     public Page<AuditoriaDTO> buscarPorAcaoEPeriodo(String acao, LocalDateTime dataInicio, LocalDateTime dataFim, Pageable pageable) {
-        List<Auditoria> auditorias = auditoriaRepository.findByAcaoAndPeriodo(acao, dataInicio, dataFim);
-        // Converter para Page manualmente
-        int start = (int) pageable.getOffset();
-        int end = Math.min((start + pageable.getPageSize()), auditorias.size());
-        List<Auditoria> pageContent = auditorias.subList(start, end);
-        return new org.springframework.data.domain.PageImpl<>(pageContent, pageable, auditorias.size())
-                .map(patrimonioMapper::auditoriaToAuditoriaDTO);
+        Page<Auditoria> auditorias = auditoriaRepository.findByAcaoAndPeriodo(acao, dataInicio, dataFim, pageable);
+        return auditorias.map(patrimonioMapper::auditoriaToAuditoriaDTO);
     }
 
     public List<AuditoriaDTO> buscarPorIp(String ipAddress) {
@@ -1,6 +1,9 @@
 package com.manus.patrimonio.service;
 
+import com.manus.patrimonio.repository.UsuarioRepository;
+import com.manus.patrimonio.security.ContadorFalhasLogin;
 import com.manus.patrimonio.security.JwtTokenProvider;
+import com.manus.patrimonio.security.VerificadorSenhas;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -8,7 +11,7 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
 import java.util.HashMap;
@@ -21,20 +24,60 @@ public class AuthenticationService {
     private UserDetailsService userDetailsService;
 
     @Autowired
-    private PasswordEncoder passwordEncoder;
+    private VerificadorSenhas verificadorSenhas;
+
+    @Autowired
+    private UsuarioRepository usuarioRepository;
 
     @Autowired
     private JwtTokenProvider tokenProvider;
 
+    @Autowired
+    private ContadorFalhasLogin contadorFalhasLogin;
+
+    @Autowired
+    private UsuarioService usuarioService;
+
     public Map<String, Object> authenticateUser(String username, String password) {
+        return authenticateUser(username, password, null);
+    }
+
+    /**
+     * Autentica contando as falhas por usuário e pelo IP de origem; IPs e usuários
+     * bloqueados são recusados antes da verificação da senha.
+     */
+    public Map<String, Object> authenticateUser(String username, String password, String ip) {
         try {
+            if (contadorFalhasLogin.ipBloqueado(ip)) {
+                throw new RuntimeException("Muitas tentativas de login com falha; tente novamente mais tarde");
+            }
+
             // Carregar usuário do banco
-            UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+            UserDetails userDetails;
+            try {
+                userDetails = userDetailsService.loadUserByUsername(username);
+            } catch (UsernameNotFoundException e) {
+                usuarioService.registrarLoginFalha(username, ip);
+                throw e;
+            }
+
+            if (!userDetails.isAccountNonLocked()) {
+                contadorFalhasLogin.registrarUsuarioBloqueado();
+                throw new RuntimeException("Usuário bloqueado por excesso de tentativas de login");
+            }
             
-            // Verificar se a senha está correta
-            if (!passwordEncoder.matches(password, userDetails.getPassword())) {
+            // Verificar se a senha está correta, fora da thread da requisição
+            VerificadorSenhas.Resultado verificacao = verificadorSenhas.verificar(password, userDetails.getPassword());
+            if (!verificacao.confere()) {
+                usuarioService.registrarLoginFalha(userDetails.getUsername(), ip);
                 throw new RuntimeException("Credenciais inválidas");
             }
+            contadorFalhasLogin.limpar(userDetails.getUsername());
+
+            // Hash de algoritmo ou força antigos: regravar com o atual
+            if (verificacao.novoHash() != null) {
+                usuarioRepository.regravarSenhaHash(userDetails.getUsername(), userDetails.getPassword(), verificacao.novoHash());
+            }
 
             // Criar token de autenticação
             UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
@@ -1,26 +1,28 @@
 package com.manus.patrimonio.service;
 
+import com.manus.patrimonio.cache.BemCache;
+import com.manus.patrimonio.cache.PaginaCache;
 import com.manus.patrimonio.dto.BaixaDTO;
 import com.manus.patrimonio.exception.RecursoNaoEncontradoException;
 import com.manus.patrimonio.exception.RegraDeNegocioException;
 import com.manus.patrimonio.mapper.PatrimonioMapper;
 import com.manus.patrimonio.model.Baixa;
 import com.manus.patrimonio.model.Bem;
+import com.manus.patrimonio.replica.LeituraNoPrimario;
 import com.manus.patrimonio.repository.BaixaRepository;
 import com.manus.patrimonio.repository.BemRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.time.LocalDate;
 import java.util.List;
-import java.util.Objects;
 
 @Service
 @Transactional
@@ -32,6 +34,9 @@ public class BaixaService {
     @Autowired
     private BemRepository bemRepository;
 
+    @Autowired
+    private BemCache bemCache;
+
     @Autowired
     private PatrimonioMapper patrimonioMapper;
 
@@ -53,14 +58,17 @@ public class BaixaService {
         baixa.setBem(bem);
         
         // Atualizar status do bem para BAIXADO
+        BemCache.Estado estadoAnterior = bemCache.capturar(bem);
         bem.setStatus(com.manus.patrimonio.enums.StatusBem.BAIXADO);
         bemRepository.save(bem);
+        bemCache.invalidar(estadoAnterior, bemCache.capturar(bem));
         
         Baixa baixaSalva = baixaRepository.save(baixa);
         return patrimonioMapper.baixaToBaixaDTO(baixaSalva);
     }
 
-    @Cacheable(value = "baixas", key = "#id")
+    @Cacheable(value = "baixas", key = "#id", sync = true)
+    @LeituraNoPrimario
     public BaixaDTO buscarPorId(Long id) {
         Baixa baixa = baixaRepository.findById(id)
                 .orElseThrow(() -> new RecursoNaoEncontradoException("Baixa não encontrada"));
@@ -68,10 +76,11 @@ public class BaixaService {
         return patrimonioMapper.baixaToBaixaDTO(baixa);
     }
 
-    @Cacheable(value = "baixas", key = "'page_' + #pageable.pageNumber + '_' + #pageable.pageSize")
+    @Cacheable(value = "baixas", keyGenerator = "chaveCache", sync = true)
+    @LeituraNoPrimario
     public Page<BaixaDTO> buscarTodas(Pageable pageable) {
         Page<Baixa> baixas = baixaRepository.findAll(pageable);
-        return baixas.map(patrimonioMapper::baixaToBaixaDTO);
+        return PaginaCache.de(baixas.map(patrimonioMapper::baixaToBaixaDTO));
     }
 
     @CacheEvict(value = "baixas", allEntries = true)
@@ -109,8 +118,10 @@ public class BaixaService {
         // Restaurar status do bem
         if (baixa.getBem() != null) {
             Bem bem = baixa.getBem();
+            BemCache.Estado estadoAnterior = bemCache.capturar(bem);
             bem.setStatus(com.manus.patrimonio.enums.StatusBem.ATIVO);
             bemRepository.save(bem);
+            bemCache.invalidar(estadoAnterior, bemCache.capturar(bem));
         }
         
         baixaRepository.delete(baixa);
@@ -150,125 +161,93 @@ public class BaixaService {
     }
 
     // Search Operations
+    @Transactional(readOnly = true)
     public Page<BaixaDTO> buscarPorBem(Long bemId, Pageable pageable) {
-        List<Baixa> baixas = baixaRepository.findByBemIdOrderByDataBaixaDesc(bemId);
-        // Converter para Page manualmente
-        int start = (int) pageable.getOffset();
-        int end = Math.min((start + pageable.getPageSize()), baixas.size());
-        List<Baixa> pageContent = baixas.subList(start, end);
-        return new PageImpl<>(pageContent, pageable, baixas.size())
-                .map(patrimonioMapper::baixaToBaixaDTO);
+        Page<Baixa> baixas = baixaRepository.findByBemIdOrderByDataBaixaDesc(bemId, pageable);
+        return baixas.map(patrimonioMapper::baixaToBaixaDTO);
     }
 
+    @Transactional(readOnly = true)
     public Page<BaixaDTO> buscarPorMotivo(String motivo, Pageable pageable) {
-        List<Baixa> baixas = baixaRepository.findByMotivoContainingIgnoreCaseOrderByDataBaixaDesc(motivo);
-        // Converter para Page manualmente
-        int start = (int) pageable.getOffset();
-        int end = Math.min((start + pageable.getPageSize()), baixas.size());
-        List<Baixa> pageContent = baixas.subList(start, end);
-        return new PageImpl<>(pageContent, pageable, baixas.size())
-                .map(patrimonioMapper::baixaToBaixaDTO);
+        Page<Baixa> baixas = baixaRepository.findByMotivoContainingIgnoreCaseOrderByDataBaixaDesc(motivo, pageable);
+        return baixas.map(patrimonioMapper::baixaToBaixaDTO);
     }
 
+    @Transactional(readOnly = true)
     public Page<BaixaDTO> buscarPorResponsavel(String responsavel, Pageable pageable) {
-        List<Baixa> baixas = baixaRepository.findByResponsavelContainingIgnoreCaseOrderByDataBaixaDesc(responsavel);
-        // Converter para Page manualmente
-        int start = (int) pageable.getOffset();
-        int end = Math.min((start + pageable.getPageSize()), baixas.size());
-        List<Baixa> pageContent = baixas.subList(start, end);
-        return new PageImpl<>(pageContent, pageable, baixas.size())
-                .map(patrimonioMapper::baixaToBaixaDTO);
+        Page<Baixa> baixas = baixaRepository.findByResponsavelContainingIgnoreCaseOrderByDataBaixaDesc(responsavel, pageable);
+        return baixas.map(patrimonioMapper::baixaToBaixaDTO);
     }
 
+    @Transactional(readOnly = true)
     public Page<BaixaDTO> buscarPorPeriodo(LocalDate dataInicio, LocalDate dataFim, Pageable pageable) {
-        List<Baixa> baixas = baixaRepository.findByDataBaixaBetweenOrderByDataBaixaDesc(dataInicio, dataFim);
-        // Converter para Page manualmente
-        int start = (int) pageable.getOffset();
-        int end = Math.min((start + pageable.getPageSize()), baixas.size());
-        List<Baixa> pageContent = baixas.subList(start, end);
-        return new PageImpl<>(pageContent, pageable, baixas.size())
-                .map(patrimonioMapper::baixaToBaixaDTO);
+        Page<Baixa> baixas = baixaRepository.findByDataBaixaBetweenOrderByDataBaixaDesc(dataInicio, dataFim, pageable);
+        return baixas.map(patrimonioMapper::baixaToBaixaDTO);
     }
 
+    @Transactional(readOnly = true)
     public Page<BaixaDTO> buscarPorValorResidualMinimo(BigDecimal valorMinimo, Pageable pageable) {
         Page<Baixa> baixas = baixaRepository.findByValorResidualGreaterThanEqual(valorMinimo, pageable);
         return baixas.map(patrimonioMapper::baixaToBaixaDTO);
     }
 
+    @Transactional(readOnly = true)
     public Page<BaixaDTO> buscarPorProcessoAdministrativo(String processo, Pageable pageable) {
-        List<Baixa> baixas = baixaRepository.findByProcessoAdministrativoContainingIgnoreCaseOrderByDataBaixaDesc(processo);
-        // Converter para Page manualmente
-        int start = (int) pageable.getOffset();
-        int end = Math.min((start + pageable.getPageSize()), baixas.size());
-        List<Baixa> pageContent = baixas.subList(start, end);
-        return new PageImpl<>(pageContent, pageable, baixas.size())
-                .map(patrimonioMapper::baixaToBaixaDTO);
+        Page<Baixa> baixas = baixaRepository.findByProcessoAdministrativoContainingIgnoreCaseOrderByDataBaixaDesc(processo, pageable);
+        return baixas.map(patrimonioMapper::baixaToBaixaDTO);
     }
 
+    @Transactional(readOnly = true)
     public Page<BaixaDTO> buscarPorDestinoFinal(String destino, Pageable pageable) {
-        // Usar método existente e filtrar por destino
-        Page<Baixa> baixas = baixaRepository.findAll(pageable);
-        List<Baixa> baixasFiltradas = baixas.getContent().stream()
-                .filter(b -> b.getDestinoFinal() != null && b.getDestinoFinal().toLowerCase().contains(destino.toLowerCase()))
-                .toList();
-        return new PageImpl<>(baixasFiltradas, pageable, baixasFiltradas.size())
-                .map(patrimonioMapper::baixaToBaixaDTO);
+        Page<Baixa> baixas = baixaRepository.findByDestinoFinalContainingIgnoreCase(destino, pageable);
+        return baixas.map(patrimonioMapper::baixaToBaixaDTO);
     }
 
+    @Transactional(readOnly = true)
     public Page<BaixaDTO> buscarPorGanhoFinanceiroMinimo(BigDecimal ganhoMinimo, Pageable pageable) {
-        List<Baixa> baixas = baixaRepository.findBaixasPorGanhoFinanceiroMinimo(ganhoMinimo);
-        // Converter para Page manualmente
-        int start = (int) pageable.getOffset();
-        int end = Math.min((start + pageable.getPageSize()), baixas.size());
-        List<Baixa> pageContent = baixas.subList(start, end);
-        return new PageImpl<>(pageContent, pageable, baixas.size())
-                .map(patrimonioMapper::baixaToBaixaDTO);
+        Page<Baixa> baixas = baixaRepository.findBaixasPorGanhoFinanceiroMinimo(ganhoMinimo, pageable);
+        return baixas.map(patrimonioMapper::baixaToBaixaDTO);
     }
 
     // Statistics and Reports
+    @Transactional(readOnly = true)
     public BigDecimal calcularValorTotalBaixas() {
-        List<Baixa> todasBaixas = baixaRepository.findAll();
-        return todasBaixas.stream()
-                .map(Baixa::getValorResidual)
-                .filter(Objects::nonNull)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        return baixaRepository.somarValorResidual();
     }
 
+    @Transactional(readOnly = true)
     public BigDecimal calcularValorMedioBaixas() {
-        List<Baixa> todasBaixas = baixaRepository.findAll();
-        List<BigDecimal> valores = todasBaixas.stream()
-                .map(Baixa::getValorResidual)
-                .filter(Objects::nonNull)
-                .toList();
-        
-        if (valores.isEmpty()) {
+        Long quantidade = baixaRepository.countByValorResidualIsNotNull();
+        if (quantidade == null || quantidade == 0) {
             return BigDecimal.ZERO;
         }
         
-        BigDecimal soma = valores.stream().reduce(BigDecimal.ZERO, BigDecimal::add);
-        return soma.divide(BigDecimal.valueOf(valores.size()), 2, BigDecimal.ROUND_HALF_UP);
+        BigDecimal soma = baixaRepository.somarValorResidual();
+        return soma.divide(BigDecimal.valueOf(quantidade), 2, RoundingMode.HALF_UP);
     }
 
+    @Transactional(readOnly = true)
     public Long contarBaixasPorPeriodo(LocalDate dataInicio, LocalDate dataFim) {
-        List<Baixa> baixas = baixaRepository.findByDataBaixaBetweenOrderByDataBaixaDesc(dataInicio, dataFim);
-        return (long) baixas.size();
+        return baixaRepository.countByDataBaixaBetween(dataInicio, dataFim);
     }
 
+    @Transactional(readOnly = true)
     public Long contarBaixasAprovadas() {
-        List<Baixa> baixas = baixaRepository.findBaixasAprovadas();
-        return (long) baixas.size();
+        return baixaRepository.countBaixasAprovadas();
     }
 
+    @Transactional(readOnly = true)
     public Long contarBaixasVendidas() {
-        List<Baixa> baixas = baixaRepository.findBaixasVendidas();
-        return (long) baixas.size();
+        return baixaRepository.countBaixasVendidas();
     }
 
+    @Transactional(readOnly = true)
     public List<BaixaDTO> buscarBaixasPendentesAprovacao() {
         List<Baixa> baixas = baixaRepository.findBaixasNaoAprovadas();
         return patrimonioMapper.baixasToBaixaDTOs(baixas);
     }
 
+    @Transactional(readOnly = true)
     public List<BaixaDTO> buscarBaixasAprovadasPendentesVenda() {
         List<Baixa> baixas = baixaRepository.findBaixasAprovadas();
         List<Baixa> baixasPendentesVenda = baixas.stream()
@@ -1,6 +1,11 @@
 package com.manus.patrimonio.service;
 
+import com.manus.patrimonio.cache.BemCache;
+import com.manus.patrimonio.cache.PaginaCache;
 import com.manus.patrimonio.dto.BemDTO;
+import com.manus.patrimonio.dto.BemResumoDTO;
+import com.manus.patrimonio.dto.DashboardBensDTO;
+import com.manus.patrimonio.dto.PaginaCursorDTO;
 import com.manus.patrimonio.enums.CondicaoBem;
 import com.manus.patrimonio.enums.StatusBem;
 import com.manus.patrimonio.exception.RecursoNaoEncontradoException;
@@ -9,15 +14,25 @@ import com.manus.patrimonio.mapper.PatrimonioMapper;
 import com.manus.patrimonio.model.Bem;
 import com.manus.patrimonio.model.Categoria;
 import com.manus.patrimonio.model.Localizacao;
+import com.manus.patrimonio.replica.LeituraNoPrimario;
+import com.manus.patrimonio.repository.BemAgregadoRepository;
 import com.manus.patrimonio.repository.BemRepository;
 import com.manus.patrimonio.repository.CategoriaRepository;
 import com.manus.patrimonio.repository.LocalizacaoRepository;
+import com.manus.patrimonio.repository.specification.BemSpecifications;
+import com.manus.patrimonio.util.BuscaProperties;
+import com.manus.patrimonio.util.CursorCodec;
+import com.manus.patrimonio.util.TermoBusca;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -37,16 +52,23 @@ public class BemService {
     private static final Logger log = LoggerFactory.getLogger(BemService.class);
 
     private final BemRepository bemRepository;
+    private final BemAgregadoRepository bemAgregadoRepository;
     private final CategoriaRepository categoriaRepository;
     private final LocalizacaoRepository localizacaoRepository;
     private final PatrimonioMapper patrimonioMapper;
+    private final BemCache bemCache;
+    private final BuscaProperties buscaProperties;
 
-    public BemService(BemRepository bemRepository, CategoriaRepository categoriaRepository,
-                     LocalizacaoRepository localizacaoRepository, PatrimonioMapper patrimonioMapper) {
+    public BemService(BemRepository bemRepository, BemAgregadoRepository bemAgregadoRepository,
+                     CategoriaRepository categoriaRepository, LocalizacaoRepository localizacaoRepository,
+                     PatrimonioMapper patrimonioMapper, BemCache bemCache, BuscaProperties buscaProperties) {
         this.bemRepository = bemRepository;
+        this.bemAgregadoRepository = bemAgregadoRepository;
         this.categoriaRepository = categoriaRepository;
         this.localizacaoRepository = localizacaoRepository;
         this.patrimonioMapper = patrimonioMapper;
+        this.bemCache = bemCache;
+        this.buscaProperties = buscaProperties;
     }
 
     // Constantes
@@ -54,6 +76,7 @@ public class BemService {
     private static final String CATEGORIA_NAO_ENCONTRADA = "Categoria não encontrada com ID: %d";
     private static final String LOCALIZACAO_NAO_ENCONTRADA = "Localização não encontrada com ID: %d";
     private static final String TOMBAMENTO_JA_EXISTE = "Número de tombamento já existe: %s";
+    private static final int TAMANHO_MAXIMO_CURSOR = 200;
 
     /**
      * Cria um novo bem patrimonial.
@@ -62,7 +85,6 @@ public class BemService {
      * @return Bem criado
      * @throws RegraDeNegocioException se o número de tombamento já existir
      */
-    @CacheEvict(value = "bens", allEntries = true)
     public BemDTO criar(BemDTO bemDTO) {
         log.info("Criando novo bem com descrição: {}", bemDTO.getDescricao());
         
@@ -76,6 +98,7 @@ public class BemService {
         bem.setLocalizacaoAtual(buscarLocalizacao(bemDTO.getLocalizacaoAtualId()));
         
         Bem bemSalvo = bemRepository.save(bem);
+        bemCache.invalidar(bemCache.capturar(bemSalvo));
         log.info("Bem criado com sucesso. ID: {}", bemSalvo.getId());
         
         return patrimonioMapper.bemToBemDTO(bemSalvo);
@@ -88,7 +111,8 @@ public class BemService {
      * @return DTO do bem encontrado
      * @throws RecursoNaoEncontradoException se o bem não for encontrado
      */
-    @Cacheable(value = "bens", key = "#id")
+    @Cacheable(value = "bens", key = "T(com.manus.patrimonio.cache.BemCache).chaveId(#id)", sync = true)
+    @LeituraNoPrimario
     public BemDTO buscarPorId(Long id) {
         log.debug("Buscando bem por ID: {}", id);
         
@@ -106,7 +130,8 @@ public class BemService {
      * @return DTO do bem encontrado
      * @throws RecursoNaoEncontradoException se o bem não for encontrado
      */
-    @Cacheable(value = "bens", key = "#numeroSerie")
+    @Cacheable(value = "bens", key = "T(com.manus.patrimonio.cache.BemCache).chaveNumeroSerie(#numeroSerie)", sync = true)
+    @LeituraNoPrimario
     public BemDTO buscarPorNumeroSerie(String numeroSerie) {
         log.debug("Buscando bem por número de série: {}", numeroSerie);
         
@@ -123,12 +148,27 @@ public class BemService {
      * @param pageable Configuração de paginação
      * @return Página de bens
      */
-    @Cacheable(value = "bens", key = "'page_' + #pageable.pageNumber + '_' + #pageable.pageSize")
+    @Cacheable(value = "bens", key = "@chaveCache.chave('todos', @geracoesCache.atual('bens:todos', ''), #pageable)", sync = true)
+    @LeituraNoPrimario
     public Page<BemDTO> buscarTodos(Pageable pageable) {
         log.debug("Buscando todos os bens com paginação: {}", pageable);
         
         Page<Bem> bens = bemRepository.findAll(pageable);
-        return bens.map(patrimonioMapper::bemToBemDTO);
+        return PaginaCache.de(bens.map(patrimonioMapper::bemToBemDTO));
+    }
+
+    /**
+     * Lista os bens no formato enxuto da listagem, projetado direto pela consulta.
+     * Não passa pelo cache: a consulta já é barata e a linha é menor que a do {@link BemDTO}.
+     *
+     * @param pageable Configuração de paginação
+     * @return Página de resumos de bens
+     */
+    @Transactional(readOnly = true)
+    public Page<BemResumoDTO> buscarResumos(Pageable pageable) {
+        log.debug("Buscando resumos de bens com paginação: {}", pageable);
+
+        return bemRepository.listarResumos(pageable);
     }
 
     /**
@@ -140,7 +180,6 @@ public class BemService {
      * @throws RecursoNaoEncontradoException se o bem não for encontrado
      * @throws RegraDeNegocioException se o número de tombamento já existir
      */
-    @CacheEvict(value = "bens", allEntries = true)
     public BemDTO atualizar(Long id, BemDTO bemDTO) {
         log.info("Atualizando bem com ID: {}", id);
         
@@ -149,6 +188,7 @@ public class BemService {
                     String.format(BEM_NAO_ENCONTRADO, id)));
         
         validarBem(bemDTO);
+        BemCache.Estado estadoAnterior = bemCache.capturar(bemExistente);
         
         // Verificar se o número de série foi alterado e se já existe
         if (!Objects.equals(bemExistente.getNumeroSerie(), bemDTO.getNumeroSerie()) && 
@@ -182,6 +222,7 @@ public class BemService {
         bemExistente.setDepartamento(bemDTO.getDepartamentoResponsavel());
         
         Bem bemAtualizado = bemRepository.save(bemExistente);
+        bemCache.invalidar(estadoAnterior, bemCache.capturar(bemAtualizado));
         log.info("Bem atualizado com sucesso. ID: {}", bemAtualizado.getId());
         
         return patrimonioMapper.bemToBemDTO(bemAtualizado);
@@ -194,7 +235,6 @@ public class BemService {
      * @throws RecursoNaoEncontradoException se o bem não for encontrado
      * @throws RegraDeNegocioException se o bem não puder ser excluído
      */
-    @CacheEvict(value = "bens", allEntries = true)
     public void excluir(Long id) {
         log.info("Excluindo bem com ID: {}", id);
         
@@ -206,7 +246,9 @@ public class BemService {
             throw new RegraDeNegocioException("Bem não pode ser excluído no status atual");
         }
         
+        BemCache.Estado estado = bemCache.capturar(bem);
         bemRepository.delete(bem);
+        bemCache.invalidar(estado);
         log.info("Bem excluído com sucesso. ID: {}", id);
     }
 
@@ -217,7 +259,6 @@ public class BemService {
      * @return Bem ativado
      * @throws RecursoNaoEncontradoException se o bem não for encontrado
      */
-    @CacheEvict(value = "bens", allEntries = true)
     public BemDTO ativar(Long id) {
         log.info("Ativando bem com ID: {}", id);
         
@@ -225,10 +266,12 @@ public class BemService {
                 .orElseThrow(() -> new RecursoNaoEncontradoException(
                     String.format(BEM_NAO_ENCONTRADO, id)));
         
+        BemCache.Estado estadoAnterior = bemCache.capturar(bem);
         bem.setAtivo(true);
         bem.setStatus(StatusBem.ATIVO);
         
         Bem bemAtivado = bemRepository.save(bem);
+        bemCache.invalidar(estadoAnterior, bemCache.capturar(bemAtivado));
         log.info("Bem ativado com sucesso. ID: {}", bemAtivado.getId());
         
         return patrimonioMapper.bemToBemDTO(bemAtivado);
@@ -241,7 +284,6 @@ public class BemService {
      * @return Bem desativado
      * @throws RecursoNaoEncontradoException se o bem não for encontrado
      */
-    @CacheEvict(value = "bens", allEntries = true)
     public BemDTO desativar(Long id) {
         log.info("Desativando bem com ID: {}", id);
         
@@ -249,10 +291,12 @@ public class BemService {
                 .orElseThrow(() -> new RecursoNaoEncontradoException(
                     String.format(BEM_NAO_ENCONTRADO, id)));
         
+        BemCache.Estado estadoAnterior = bemCache.capturar(bem);
         bem.setAtivo(false);
         bem.setStatus(StatusBem.INATIVO);
         
         Bem bemDesativado = bemRepository.save(bem);
+        bemCache.invalidar(estadoAnterior, bemCache.capturar(bemDesativado));
         log.info("Bem desativado com sucesso. ID: {}", bemDesativado.getId());
         
         return patrimonioMapper.bemToBemDTO(bemDesativado);
@@ -266,7 +310,6 @@ public class BemService {
      * @return Bem com status alterado
      * @throws RecursoNaoEncontradoException se o bem não for encontrado
      */
-    @CacheEvict(value = "bens", allEntries = true)
     public BemDTO alterarStatus(Long id, StatusBem novoStatus) {
         log.info("Alterando status do bem {} para: {}", id, novoStatus);
         
@@ -274,9 +317,11 @@ public class BemService {
                 .orElseThrow(() -> new RecursoNaoEncontradoException(
                     String.format(BEM_NAO_ENCONTRADO, id)));
         
+        BemCache.Estado estadoAnterior = bemCache.capturar(bem);
         bem.setStatus(novoStatus);
         
         Bem bemAtualizado = bemRepository.save(bem);
+        bemCache.invalidar(estadoAnterior, bemCache.capturar(bemAtualizado));
         log.info("Status do bem alterado com sucesso. ID: {}, Novo status: {}", 
                 bemAtualizado.getId(), novoStatus);
         
@@ -291,7 +336,6 @@ public class BemService {
      * @return Bem com condição alterada
      * @throws RecursoNaoEncontradoException se o bem não for encontrado
      */
-    @CacheEvict(value = "bens", allEntries = true)
     public BemDTO alterarCondicao(Long id, CondicaoBem novaCondicao) {
         log.info("Alterando condição do bem {} para: {}", id, novaCondicao);
         
@@ -299,9 +343,11 @@ public class BemService {
                 .orElseThrow(() -> new RecursoNaoEncontradoException(
                     String.format(BEM_NAO_ENCONTRADO, id)));
         
+        BemCache.Estado estadoAnterior = bemCache.capturar(bem);
         bem.setCondicao(novaCondicao);
         
         Bem bemAtualizado = bemRepository.save(bem);
+        bemCache.invalidar(estadoAnterior, bemCache.capturar(bemAtualizado));
         log.info("Condição do bem alterada com sucesso. ID: {}, Nova condição: {}", 
                 bemAtualizado.getId(), novaCondicao);
         
@@ -309,27 +355,34 @@ public class BemService {
     }
 
     // Métodos de busca
+    @Cacheable(value = "bens", key = "@chaveCache.chave('categoria', #categoriaId, @geracoesCache.atual('bens:categoria', #categoriaId), #pageable)", sync = true)
+    @LeituraNoPrimario
     public Page<BemDTO> buscarPorCategoria(Long categoriaId, Pageable pageable) {
         log.debug("Buscando bens por categoria: {}", categoriaId);
         
         Page<Bem> bens = bemRepository.findByCategoriaId(categoriaId, pageable);
-        return bens.map(patrimonioMapper::bemToBemDTO);
+        return PaginaCache.de(bens.map(patrimonioMapper::bemToBemDTO));
     }
 
+    @Cacheable(value = "bens", key = "@chaveCache.chave('localizacao', #localizacaoId, @geracoesCache.atual('bens:localizacao', #localizacaoId), #pageable)", sync = true)
+    @LeituraNoPrimario
     public Page<BemDTO> buscarPorLocalizacao(Long localizacaoId, Pageable pageable) {
         log.debug("Buscando bens por localização: {}", localizacaoId);
         
         Page<Bem> bens = bemRepository.findByLocalizacaoAtualId(localizacaoId, pageable);
-        return bens.map(patrimonioMapper::bemToBemDTO);
+        return PaginaCache.de(bens.map(patrimonioMapper::bemToBemDTO));
     }
 
+    @Cacheable(value = "bens", key = "@chaveCache.chave('status', #status, @geracoesCache.atual('bens:status', #status), #pageable)", sync = true)
+    @LeituraNoPrimario
     public Page<BemDTO> buscarPorStatus(StatusBem status, Pageable pageable) {
         log.debug("Buscando bens por status: {}", status);
         
         Page<Bem> bens = bemRepository.findByStatus(status, pageable);
-        return bens.map(patrimonioMapper::bemToBemDTO);
+        return PaginaCache.de(bens.map(patrimonioMapper::bemToBemDTO));
     }
 
+    @Transactional(readOnly = true)
     public Page<BemDTO> buscarPorCondicao(CondicaoBem condicao, Pageable pageable) {
         log.debug("Buscando bens por condição: {}", condicao);
         
@@ -337,6 +390,7 @@ public class BemService {
         return bens.map(patrimonioMapper::bemToBemDTO);
     }
 
+    @Transactional(readOnly = true)
     public Page<BemDTO> buscarPorValorAquisicao(BigDecimal valorMinimo, BigDecimal valorMaximo, Pageable pageable) {
         log.debug("Buscando bens por valor de aquisição entre {} e {}", valorMinimo, valorMaximo);
         
@@ -344,6 +398,7 @@ public class BemService {
         return bens.map(patrimonioMapper::bemToBemDTO);
     }
 
+    @Transactional(readOnly = true)
     public Page<BemDTO> buscarPorDataAquisicao(LocalDate dataInicio, LocalDate dataFim, Pageable pageable) {
         log.debug("Buscando bens por data de aquisição entre {} e {}", dataInicio, dataFim);
         
@@ -351,36 +406,58 @@ public class BemService {
         return bens.map(patrimonioMapper::bemToBemDTO);
     }
 
+    /**
+     * Busca bens por texto no nome, número de série, descrição e observações.
+     * No PostgreSQL usa o índice de texto completo, com correspondência por prefixo
+     * e resultados ordenados por relevância (a ordenação do {@code pageable} é ignorada).
+     *
+     * @param termo Termo de busca
+     * @param pageable Configuração de paginação
+     * @return Página de bens encontrados
+     */
+    @Transactional(readOnly = true)
     public Page<BemDTO> buscarPorTexto(String termo, Pageable pageable) {
         log.debug("Buscando bens por texto: {}", termo);
         
-        Page<Bem> bens = bemRepository.buscarPorTexto(termo, pageable);
+        Page<Bem> bens;
+        if (buscaProperties.isTextoCompleto()) {
+            String consulta = TermoBusca.paraTsQuery(termo);
+            if (consulta == null) {
+                return Page.empty(pageable);
+            }
+            bens = bemRepository.buscarPorTextoCompleto(consulta, TermoBusca.porRelevancia(pageable));
+        } else {
+            bens = bemRepository.buscarPorTexto(termo, pageable);
+        }
         return bens.map(patrimonioMapper::bemToBemDTO);
     }
 
     /**
      * Busca bens com múltiplos filtros.
+     * Apenas os filtros informados são aplicados na consulta; a ordenação segue o {@code pageable}.
      *
-     * @param categoriaId ID da categoria (opcional)
+     * @param categoriaIds IDs das categorias (opcional, combinados com IN)
      * @param localizacaoId ID da localização (opcional)
-     * @param status Status do bem (opcional)
+     * @param status Status do bem (opcional, combinados com IN)
      * @param condicao Condição do bem (opcional)
      * @param valorMinimo Valor mínimo de aquisição (opcional)
      * @param valorMaximo Valor máximo de aquisição (opcional)
      * @param dataInicio Data de início de aquisição (opcional)
      * @param dataFim Data de fim de aquisição (opcional)
-     * @param pageable Configuração de paginação
+     * @param pageable Configuração de paginação e ordenação
      * @return Página de bens filtrados
      */
-    public Page<BemDTO> buscarComFiltros(Long categoriaId, Long localizacaoId, StatusBem status,
+    @Transactional(readOnly = true)
+    public Page<BemDTO> buscarComFiltros(List<Long> categoriaIds, Long localizacaoId, List<StatusBem> status,
                                         CondicaoBem condicao, BigDecimal valorMinimo, BigDecimal valorMaximo,
                                         LocalDate dataInicio, LocalDate dataFim, Pageable pageable) {
-        log.debug("Buscando bens com filtros: categoriaId={}, localizacaoId={}, status={}, condicao={}, " +
+        log.debug("Buscando bens com filtros: categoriaIds={}, localizacaoId={}, status={}, condicao={}, " +
                  "valorMinimo={}, valorMaximo={}, dataInicio={}, dataFim={}", 
-                 categoriaId, localizacaoId, status, condicao, valorMinimo, valorMaximo, dataInicio, dataFim);
+                 categoriaIds, localizacaoId, status, condicao, valorMinimo, valorMaximo, dataInicio, dataFim);
         
-        Page<Bem> bens = bemRepository.buscarComFiltros(categoriaId, localizacaoId, status, condicao,
-                                                       valorMinimo, valorMaximo, dataInicio, dataFim, pageable);
+        Specification<Bem> filtros = BemSpecifications.comFiltros(categoriaIds, localizacaoId, status, condicao,
+                                                                  valorMinimo, valorMaximo, dataInicio, dataFim);
+        Page<Bem> bens = bemRepository.findAll(filtros, pageable);
         return bens.map(patrimonioMapper::bemToBemDTO);
     }
 
@@ -392,6 +469,7 @@ public class BemService {
      * @param pageable Configuração de paginação
      * @return Página de bens
      */
+    @Transactional(readOnly = true)
     public Page<BemDTO> buscarPorFaixaValor(BigDecimal valorMinimo, BigDecimal valorMaximo, Pageable pageable) {
         log.debug("Buscando bens por faixa de valor entre {} e {}", valorMinimo, valorMaximo);
         
@@ -407,6 +485,7 @@ public class BemService {
      * @param pageable Configuração de paginação
      * @return Página de bens
      */
+    @Transactional(readOnly = true)
     public Page<BemDTO> buscarPorFaixaData(LocalDate dataInicio, LocalDate dataFim, Pageable pageable) {
         log.debug("Buscando bens por faixa de data entre {} e {}", dataInicio, dataFim);
         
@@ -414,6 +493,137 @@ public class BemService {
         return bens.map(patrimonioMapper::bemToBemDTO);
     }
 
+    // Paginação por cursor (keyset)
+
+    /**
+     * Lista bens paginando por cursor, ordenados por nome e ID.
+     * Evita OFFSET e só executa COUNT quando {@code incluirTotal} for verdadeiro.
+     *
+     * @param after Cursor opaco da página anterior (nulo para a primeira página)
+     * @param tamanho Quantidade de registros por página
+     * @param incluirTotal Se o total de registros deve ser calculado
+     * @return Página de bens com o cursor da próxima página
+     * @throws RegraDeNegocioException se o cursor for inválido
+     */
+    @Transactional(readOnly = true)
+    public PaginaCursorDTO<BemDTO> buscarTodosPorCursor(String after, int tamanho, boolean incluirTotal) {
+        log.debug("Buscando bens por cursor: after={}, tamanho={}", after, tamanho);
+
+        CursorCodec.Posicao posicao = CursorCodec.decodificar(after);
+        Slice<Bem> bens = bemRepository.buscarAposCursor(
+                posicao.getNome(), posicao.getId(), limitarTamanho(tamanho));
+        return montarPaginaCursor(bens, incluirTotal ? bemRepository.count() : null);
+    }
+
+    /**
+     * Busca bens por status paginando por cursor.
+     *
+     * @param status Status do bem
+     * @param after Cursor opaco da página anterior (nulo para a primeira página)
+     * @param tamanho Quantidade de registros por página
+     * @param incluirTotal Se o total de registros deve ser calculado
+     * @return Página de bens com o cursor da próxima página
+     * @throws RegraDeNegocioException se o cursor for inválido
+     */
+    @Transactional(readOnly = true)
+    public PaginaCursorDTO<BemDTO> buscarPorStatusPorCursor(StatusBem status, String after, int tamanho,
+                                                           boolean incluirTotal) {
+        log.debug("Buscando bens por status {} com cursor: after={}, tamanho={}", status, after, tamanho);
+
+        CursorCodec.Posicao posicao = CursorCodec.decodificar(after);
+        Slice<Bem> bens = bemRepository.buscarPorStatusAposCursor(
+                status, posicao.getNome(), posicao.getId(), limitarTamanho(tamanho));
+        return montarPaginaCursor(bens, incluirTotal ? bemRepository.countByStatus(status) : null);
+    }
+
+    /**
+     * Busca bens por categoria paginando por cursor.
+     *
+     * @param categoriaId ID da categoria
+     * @param after Cursor opaco da página anterior (nulo para a primeira página)
+     * @param tamanho Quantidade de registros por página
+     * @param incluirTotal Se o total de registros deve ser calculado
+     * @return Página de bens com o cursor da próxima página
+     * @throws RegraDeNegocioException se o cursor for inválido
+     */
+    @Transactional(readOnly = true)
+    public PaginaCursorDTO<BemDTO> buscarPorCategoriaPorCursor(Long categoriaId, String after, int tamanho,
+                                                              boolean incluirTotal) {
+        log.debug("Buscando bens por categoria {} com cursor: after={}, tamanho={}", categoriaId, after, tamanho);
+
+        CursorCodec.Posicao posicao = CursorCodec.decodificar(after);
+        Slice<Bem> bens = bemRepository.buscarPorCategoriaAposCursor(
+                categoriaId, posicao.getNome(), posicao.getId(), limitarTamanho(tamanho));
+        return montarPaginaCursor(bens, incluirTotal ? bemRepository.countByCategoriaId(categoriaId) : null);
+    }
+
+    /**
+     * Busca bens por localização paginando por cursor.
+     *
+     * @param localizacaoId ID da localização
+     * @param after Cursor opaco da página anterior (nulo para a primeira página)
+     * @param tamanho Quantidade de registros por página
+     * @param incluirTotal Se o total de registros deve ser calculado
+     * @return Página de bens com o cursor da próxima página
+     * @throws RegraDeNegocioException se o cursor for inválido
+     */
+    @Transactional(readOnly = true)
+    public PaginaCursorDTO<BemDTO> buscarPorLocalizacaoPorCursor(Long localizacaoId, String after, int tamanho,
+                                                                boolean incluirTotal) {
+        log.debug("Buscando bens por localização {} com cursor: after={}, tamanho={}", localizacaoId, after, tamanho);
+
+        CursorCodec.Posicao posicao = CursorCodec.decodificar(after);
+        Slice<Bem> bens = bemRepository.buscarPorLocalizacaoAposCursor(
+                localizacaoId, posicao.getNome(), posicao.getId(), limitarTamanho(tamanho));
+        return montarPaginaCursor(bens,
+                incluirTotal ? bemRepository.countByLocalizacaoAtualId(localizacaoId) : null);
+    }
+
+    /**
+     * Busca bens com múltiplos filtros paginando por cursor.
+     *
+     * @param categoriaIds IDs das categorias (opcional, combinados com IN)
+     * @param localizacaoId ID da localização (opcional)
+     * @param status Status do bem (opcional, combinados com IN)
+     * @param condicao Condição do bem (opcional)
+     * @param valorMinimo Valor mínimo de aquisição (opcional)
+     * @param valorMaximo Valor máximo de aquisição (opcional)
+     * @param dataInicio Data de início de aquisição (opcional)
+     * @param dataFim Data de fim de aquisição (opcional)
+     * @param after Cursor opaco da página anterior (nulo para a primeira página)
+     * @param tamanho Quantidade de registros por página
+     * @param incluirTotal Se o total de registros deve ser calculado
+     * @return Página de bens filtrados com o cursor da próxima página
+     * @throws RegraDeNegocioException se o cursor for inválido
+     */
+    @Transactional(readOnly = true)
+    public PaginaCursorDTO<BemDTO> buscarComFiltrosPorCursor(List<Long> categoriaIds, Long localizacaoId,
+                                                            List<StatusBem> status, CondicaoBem condicao,
+                                                            BigDecimal valorMinimo, BigDecimal valorMaximo,
+                                                            LocalDate dataInicio, LocalDate dataFim,
+                                                            String after, int tamanho, boolean incluirTotal) {
+        log.debug("Buscando bens com filtros por cursor: categoriaIds={}, localizacaoId={}, status={}, condicao={}, " +
+                 "valorMinimo={}, valorMaximo={}, dataInicio={}, dataFim={}, after={}, tamanho={}",
+                 categoriaIds, localizacaoId, status, condicao, valorMinimo, valorMaximo, dataInicio, dataFim,
+                 after, tamanho);
+
+        CursorCodec.Posicao posicao = CursorCodec.decodificar(after);
+        Pageable pagina = limitarTamanho(tamanho);
+        Specification<Bem> filtros = BemSpecifications.comFiltros(categoriaIds, localizacaoId, status, condicao,
+                                                                  valorMinimo, valorMaximo, dataInicio, dataFim);
+
+        // Busca um registro a mais para saber se existe próxima página sem executar COUNT
+        List<Bem> encontrados = bemRepository.findBy(
+                filtros.and(BemSpecifications.aposPosicao(posicao.getNome(), posicao.getId())),
+                consulta -> consulta.project("categoria", "localizacaoAtual")
+                        .sortBy(Sort.by("nome", "id")).limit(tamanho + 1).all());
+        boolean temProximo = encontrados.size() > tamanho;
+        Slice<Bem> bens = new SliceImpl<>(temProximo ? encontrados.subList(0, tamanho) : encontrados,
+                                          pagina, temProximo);
+
+        return montarPaginaCursor(bens, incluirTotal ? bemRepository.count(filtros) : null);
+    }
+
     /**
      * Atualiza o status de um bem.
      *
@@ -422,7 +632,6 @@ public class BemService {
      * @return Bem com status atualizado
      * @throws RecursoNaoEncontradoException se o bem não for encontrado
      */
-    @CacheEvict(value = "bens", allEntries = true)
     public BemDTO atualizarStatus(Long id, StatusBem status) {
         log.info("Atualizando status do bem {} para: {}", id, status);
         
@@ -430,9 +639,11 @@ public class BemService {
                 .orElseThrow(() -> new RecursoNaoEncontradoException(
                     String.format(BEM_NAO_ENCONTRADO, id)));
         
+        BemCache.Estado estadoAnterior = bemCache.capturar(bem);
         bem.setStatus(status);
         
         Bem bemAtualizado = bemRepository.save(bem);
+        bemCache.invalidar(estadoAnterior, bemCache.capturar(bemAtualizado));
         log.info("Status do bem atualizado com sucesso. ID: {}, Novo status: {}", 
                 bemAtualizado.getId(), status);
         
@@ -444,6 +655,7 @@ public class BemService {
      *
      * @return Lista de arrays com status e contagem
      */
+    @Transactional(readOnly = true)
     public List<Object[]> contarBensPorStatus() {
         log.debug("Contando bens por status");
         return bemRepository.contarBensPorStatus();
@@ -454,6 +666,7 @@ public class BemService {
      *
      * @return Lista de arrays com condição e contagem
      */
+    @Transactional(readOnly = true)
     public List<Object[]> contarBensPorCondicao() {
         log.debug("Contando bens por condição");
         return bemRepository.contarBensPorCondicao();
@@ -464,16 +677,34 @@ public class BemService {
      *
      * @return Lista de arrays com status e soma de valores
      */
+    @Transactional(readOnly = true)
     public List<Object[]> somarValorPorStatus() {
         log.debug("Somando valor dos bens por status");
         return bemRepository.somarValorPorStatus();
     }
 
+    /**
+     * Monta o dashboard de bens a partir da tabela de agregados, mantida pelos triggers
+     * de {@code bens}: quatro consultas sobre poucas linhas, sem varrer os bens.
+     *
+     * @return Totais gerais e por status, condição, categoria e localização
+     */
+    @Transactional(readOnly = true)
+    public DashboardBensDTO buscarDashboard() {
+        log.debug("Montando dashboard de bens");
+        return new DashboardBensDTO(
+                bemAgregadoRepository.totalizarPorStatus(),
+                bemAgregadoRepository.totalizarPorCondicao(),
+                bemAgregadoRepository.totalizarPorCategoria(),
+                bemAgregadoRepository.totalizarPorLocalizacao());
+    }
+
     /**
      * Busca os 10 bens mais recentemente adquiridos.
      *
      * @return Lista de bens recentes
      */
+    @Transactional(readOnly = true)
     public List<BemDTO> buscarBensRecentes() {
         log.debug("Buscando bens mais recentes");
         List<Bem> bens = bemRepository.findTop10ByOrderByDataAquisicaoDesc();
@@ -485,6 +716,7 @@ public class BemService {
      *
      * @return Lista de bens sem movimentação
      */
+    @Transactional(readOnly = true)
     public List<BemDTO> buscarBensSemMovimentacao() {
         log.debug("Buscando bens sem movimentação");
         List<Bem> bens = bemRepository.buscarBensSemMovimentacao();
@@ -498,6 +730,7 @@ public class BemService {
      * @param status Status do bem
      * @return Lista de bens
      */
+    @Transactional(readOnly = true)
     public List<BemDTO> buscarPorCategoriaEStatus(Long categoriaId, StatusBem status) {
         log.debug("Buscando bens por categoria {} e status {}", categoriaId, status);
         List<Bem> bens = bemRepository.findByCategoriaIdAndStatus(categoriaId, status);
@@ -511,6 +744,7 @@ public class BemService {
      * @param condicao Condição do bem
      * @return Lista de bens
      */
+    @Transactional(readOnly = true)
     public List<BemDTO> buscarPorLocalizacaoECondicao(Long localizacaoId, CondicaoBem condicao) {
         log.debug("Buscando bens por localização {} e condição {}", localizacaoId, condicao);
         List<Bem> bens = bemRepository.findByLocalizacaoAtualIdAndCondicao(localizacaoId, condicao);
@@ -523,6 +757,7 @@ public class BemService {
      * @param valorLimite Valor limite
      * @return Lista de bens
      */
+    @Transactional(readOnly = true)
     public List<BemDTO> buscarBensComValorAcimaDe(BigDecimal valorLimite) {
         log.debug("Buscando bens com valor acima de {}", valorLimite);
         List<Bem> bens = bemRepository.findByValorAquisicaoGreaterThan(valorLimite);
@@ -531,7 +766,8 @@ public class BemService {
 
 
     // Métodos auxiliares privados
-    private void validarBem(BemDTO bemDTO) {
+    // Visível no pacote: a importação em massa aplica as mesmas regras linha a linha
+    void validarBem(BemDTO bemDTO) {
         if (bemDTO.getDataAquisicao() != null && bemDTO.getDataAquisicao().isAfter(LocalDate.now())) {
             throw new RegraDeNegocioException("Data de aquisição não pode ser futura");
         }
@@ -561,6 +797,30 @@ public class BemService {
         }
     }
 
+    private Pageable limitarTamanho(int tamanho) {
+        if (tamanho < 1 || tamanho > TAMANHO_MAXIMO_CURSOR) {
+            throw new RegraDeNegocioException(
+                "Tamanho da página deve estar entre 1 e " + TAMANHO_MAXIMO_CURSOR);
+        }
+        // A ordenação (nome, id) já está fixada na consulta keyset
+        return PageRequest.of(0, tamanho);
+    }
+
+    private PaginaCursorDTO<BemDTO> montarPaginaCursor(Slice<Bem> bens, Long total) {
+        List<Bem> conteudo = bens.getContent();
+        String proximoCursor = null;
+        if (bens.hasNext() && !conteudo.isEmpty()) {
+            Bem ultimo = conteudo.get(conteudo.size() - 1);
+            proximoCursor = CursorCodec.codificar(ultimo.getNome(), ultimo.getId());
+        }
+
+        PaginaCursorDTO<BemDTO> pagina = new PaginaCursorDTO<>(
+                conteudo.stream().map(patrimonioMapper::bemToBemDTO).toList(),
+                conteudo.size(), bens.hasNext(), proximoCursor);
+        pagina.setTotalElementos(total);
+        return pagina;
+    }
+
     private Categoria buscarCategoria(Long categoriaId) {
         return categoriaRepository.findById(categoriaId)
                 .orElseThrow(() -> new RecursoNaoEncontradoException(
@@ -4,7 +4,10 @@ import com.manus.patrimonio.dto.CategoriaDTO;
 import com.manus.patrimonio.exception.RecursoNaoEncontradoException;
 import com.manus.patrimonio.exception.RegraDeNegocioException;
 import com.manus.patrimonio.model.Categoria;
+import com.manus.patrimonio.repository.BemRepository;
 import com.manus.patrimonio.repository.CategoriaRepository;
+import com.manus.patrimonio.util.BuscaProperties;
+import com.manus.patrimonio.util.TermoBusca;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -12,6 +15,8 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 @Service
 @Transactional
@@ -20,13 +25,18 @@ public class CategoriaService {
     @Autowired
     private CategoriaRepository categoriaRepository;
 
+    @Autowired
+    private BemRepository bemRepository;
+
+    @Autowired
+    private BuscaProperties buscaProperties;
+
     /**
      * Busca todas as categorias com paginação
      */
     @Transactional(readOnly = true)
     public Page<CategoriaDTO> buscarTodas(Pageable pageable) {
-        return categoriaRepository.findAll(pageable)
-                .map(this::converterParaDTO);
+        return converterPagina(categoriaRepository.findAll(pageable));
     }
 
     /**
@@ -54,8 +64,16 @@ public class CategoriaService {
      */
     @Transactional(readOnly = true)
     public Page<CategoriaDTO> buscarPorTexto(String termo, Pageable pageable) {
-        return categoriaRepository.buscarPorNomeOuDescricao(termo, pageable)
-                .map(this::converterParaDTO);
+        if (!buscaProperties.isTextoCompleto()) {
+            return converterPagina(categoriaRepository.buscarPorNomeOuDescricao(termo, pageable));
+        }
+        String consulta = TermoBusca.paraTsQuery(termo);
+        if (consulta == null) {
+            return Page.empty(pageable);
+        }
+        // Resultados ordenados por relevância
+        return converterPagina(categoriaRepository.buscarPorTextoCompleto(consulta,
+                        TermoBusca.porRelevancia(pageable)));
     }
 
     /**
@@ -63,10 +81,7 @@ public class CategoriaService {
      */
     @Transactional(readOnly = true)
     public List<CategoriaDTO> buscarTodasOrdenadas() {
-        return categoriaRepository.findAllByOrderByNomeAsc()
-                .stream()
-                .map(this::converterParaDTO)
-                .toList();
+        return converterLista(categoriaRepository.findAllByOrderByNomeAsc());
     }
 
     /**
@@ -103,7 +118,7 @@ public class CategoriaService {
         Categoria categoria = categoriaRepository.findById(id)
                 .orElseThrow(() -> RecursoNaoEncontradoException.porId("Categoria", id));
 
-        if (!categoria.getBens().isEmpty()) {
+        if (bemRepository.existsByCategoriaId(id)) {
             throw RegraDeNegocioException.operacaoInvalida(
                 "excluir categoria", 
                 "existem bens associados a esta categoria"
@@ -126,10 +141,7 @@ public class CategoriaService {
      */
     @Transactional(readOnly = true)
     public List<CategoriaDTO> buscarCategoriasComBens() {
-        return categoriaRepository.buscarCategoriasComBens()
-                .stream()
-                .map(this::converterParaDTO)
-                .toList();
+        return converterLista(categoriaRepository.buscarCategoriasComBens());
     }
 
     /**
@@ -137,10 +149,7 @@ public class CategoriaService {
      */
     @Transactional(readOnly = true)
     public List<CategoriaDTO> buscarCategoriasSemBens() {
-        return categoriaRepository.buscarCategoriasSemBens()
-                .stream()
-                .map(this::converterParaDTO)
-                .toList();
+        return converterLista(categoriaRepository.buscarCategoriasSemBens());
     }
 
     // Métodos auxiliares
@@ -155,13 +164,42 @@ public class CategoriaService {
     }
 
     private CategoriaDTO converterParaDTO(Categoria categoria) {
+        return converterParaDTO(categoria, bemRepository.countByCategoriaId(categoria.getId()));
+    }
+
+    private Page<CategoriaDTO> converterPagina(Page<Categoria> pagina) {
+        Map<Long, Long> quantidades = contarBens(pagina.getContent());
+        return pagina.map(categoria -> converterParaDTO(categoria, quantidades.getOrDefault(categoria.getId(), 0L)));
+    }
+
+    private List<CategoriaDTO> converterLista(List<Categoria> categorias) {
+        Map<Long, Long> quantidades = contarBens(categorias);
+        return categorias.stream()
+                .map(categoria -> converterParaDTO(categoria, quantidades.getOrDefault(categoria.getId(), 0L)))
+                .toList();
+    }
+
+    /**
+     * Quantidade de bens de cada categoria numa única consulta agrupada, em vez de inicializar
+     * a coleção de bens de cada uma.
+     */
+    private Map<Long, Long> contarBens(List<Categoria> categorias) {
+        if (categorias.isEmpty()) {
+            return Map.of();
+        }
+        List<Long> ids = categorias.stream().map(Categoria::getId).toList();
+        return bemRepository.contarPorCategorias(ids).stream()
+                .collect(Collectors.toMap(linha -> (Long) linha[0], linha -> (Long) linha[1]));
+    }
+
+    private CategoriaDTO converterParaDTO(Categoria categoria, long quantidadeBens) {
         CategoriaDTO dto = new CategoriaDTO();
         dto.setId(categoria.getId());
         dto.setNome(categoria.getNome());
         dto.setDescricao(categoria.getDescricao());
         dto.setDataCriacao(categoria.getDataCriacao());
         dto.setDataAtualizacao(categoria.getDataAtualizacao());
-        dto.setQuantidadeBens((long) categoria.getBens().size());
+        dto.setQuantidadeBens(quantidadeBens);
         return dto;
     }
 
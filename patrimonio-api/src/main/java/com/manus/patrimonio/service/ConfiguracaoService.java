@@ -1,10 +1,12 @@
 package com.manus.patrimonio.service;
 
+import com.manus.patrimonio.cache.PaginaCache;
 import com.manus.patrimonio.dto.ConfiguracaoDTO;
 import com.manus.patrimonio.exception.RecursoNaoEncontradoException;
 import com.manus.patrimonio.exception.RegraDeNegocioException;
 import com.manus.patrimonio.mapper.PatrimonioMapper;
 import com.manus.patrimonio.model.Configuracao;
+import com.manus.patrimonio.replica.LeituraNoPrimario;
 import com.manus.patrimonio.repository.ConfiguracaoRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.cache.annotation.CacheEvict;
@@ -41,7 +43,8 @@ public class ConfiguracaoService {
         return patrimonioMapper.configuracaoToConfiguracaoDTO(configuracaoSalva);
     }
 
-    @Cacheable(value = "configuracoes", key = "#id")
+    @Cacheable(value = "configuracoes", key = "'id:' + #id", sync = true)
+    @LeituraNoPrimario
     public ConfiguracaoDTO buscarPorId(Long id) {
         Configuracao configuracao = configuracaoRepository.findById(id)
                 .orElseThrow(() -> new RecursoNaoEncontradoException("Configuração não encontrada"));
@@ -49,7 +52,8 @@ public class ConfiguracaoService {
         return patrimonioMapper.configuracaoToConfiguracaoDTO(configuracao);
     }
 
-    @Cacheable(value = "configuracoes", key = "#chave")
+    @Cacheable(value = "configuracoes", key = "'chave:' + #chave", sync = true)
+    @LeituraNoPrimario
     public ConfiguracaoDTO buscarPorChave(String chave) {
         Configuracao configuracao = configuracaoRepository.findByChave(chave)
                 .orElseThrow(() -> new RecursoNaoEncontradoException("Configuração não encontrada"));
@@ -57,10 +61,11 @@ public class ConfiguracaoService {
         return patrimonioMapper.configuracaoToConfiguracaoDTO(configuracao);
     }
 
-    @Cacheable(value = "configuracoes", key = "'page_' + #pageable.pageNumber + '_' + #pageable.pageSize")
+    @Cacheable(value = "configuracoes", keyGenerator = "chaveCache", sync = true)
+    @LeituraNoPrimario
     public Page<ConfiguracaoDTO> buscarTodas(Pageable pageable) {
         Page<Configuracao> configuracoes = configuracaoRepository.findAll(pageable);
-        return configuracoes.map(patrimonioMapper::configuracaoToConfiguracaoDTO);
+        return PaginaCache.de(configuracoes.map(patrimonioMapper::configuracaoToConfiguracaoDTO));
     }
 
     @CacheEvict(value = "configuracoes", allEntries = true)
@@ -134,45 +139,53 @@ public class ConfiguracaoService {
     }
 
     // Search Operations
+    @Transactional(readOnly = true)
     public Page<ConfiguracaoDTO> buscarPorChave(String chave, Pageable pageable) {
         Page<Configuracao> configuracoes = configuracaoRepository.findByChaveContainingIgnoreCase(chave, pageable);
         return configuracoes.map(patrimonioMapper::configuracaoToConfiguracaoDTO);
     }
 
+    @Transactional(readOnly = true)
     public Page<ConfiguracaoDTO> buscarPorTipo(String tipo, Pageable pageable) {
         Page<Configuracao> configuracoes = configuracaoRepository.findByTipo(tipo, pageable);
         return configuracoes.map(patrimonioMapper::configuracaoToConfiguracaoDTO);
     }
 
+    @Transactional(readOnly = true)
     public Page<ConfiguracaoDTO> buscarPorEditavel(Boolean editavel, Pageable pageable) {
         Page<Configuracao> configuracoes = configuracaoRepository.findByEditavel(editavel, pageable);
         return configuracoes.map(patrimonioMapper::configuracaoToConfiguracaoDTO);
     }
 
+    @Transactional(readOnly = true)
     public Page<ConfiguracaoDTO> buscarPorDescricao(String descricao, Pageable pageable) {
         Page<Configuracao> configuracoes = configuracaoRepository.findByDescricaoContainingIgnoreCase(descricao, pageable);
         return configuracoes.map(patrimonioMapper::configuracaoToConfiguracaoDTO);
     }
 
     // Statistics and Reports
+    @Transactional(readOnly = true)
     public Long contarConfiguracoesPorTipo(String tipo) {
         return configuracaoRepository.countByTipo(tipo);
     }
 
+    @Transactional(readOnly = true)
     public Long contarConfiguracoesEditaveis() {
         return configuracaoRepository.countByEditavelTrue();
     }
 
+    @Transactional(readOnly = true)
     public Long contarConfiguracoesNaoEditaveis() {
-        List<Configuracao> configuracoes = configuracaoRepository.findByEditavelOrderByChave(false);
-        return (long) configuracoes.size();
+        return configuracaoRepository.countByEditavelFalse();
     }
 
+    @Transactional(readOnly = true)
     public List<ConfiguracaoDTO> buscarConfiguracoesDoSistema() {
         List<Configuracao> configuracoes = configuracaoRepository.findByEditavelOrderByChave(false);
         return patrimonioMapper.configuracoesToConfiguracaoDTOs(configuracoes);
     }
 
+    @Transactional(readOnly = true)
     public List<ConfiguracaoDTO> buscarConfiguracoesEditaveis() {
         List<Configuracao> configuracoes = configuracaoRepository.findByEditavelOrderByChave(true);
         return patrimonioMapper.configuracoesToConfiguracaoDTOs(configuracoes);
@@ -0,0 +1,322 @@
+package com.manus.patrimonio.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.manus.patrimonio.dto.AuditoriaDTO;
+import com.manus.patrimonio.dto.BaixaDTO;
+import com.manus.patrimonio.dto.BemDTO;
+import com.manus.patrimonio.dto.DepreciacaoBemDTO;
+import com.manus.patrimonio.dto.EstatisticaDTO;
+import com.manus.patrimonio.dto.MovimentacaoDTO;
+import com.manus.patrimonio.exportacao.ColunaExportacao;
+import com.manus.patrimonio.exportacao.EscritorCsv;
+import com.manus.patrimonio.exportacao.EscritorExportacao;
+import com.manus.patrimonio.exportacao.EscritorNdjson;
+import com.manus.patrimonio.exportacao.EscritorXlsx;
+import com.manus.patrimonio.exportacao.FormatoExportacao;
+import com.manus.patrimonio.mapper.PatrimonioMapper;
+import com.manus.patrimonio.model.Auditoria;
+import com.manus.patrimonio.model.Baixa;
+import com.manus.patrimonio.model.Bem;
+import com.manus.patrimonio.model.Movimentacao;
+import com.manus.patrimonio.repository.AuditoriaRepository;
+import com.manus.patrimonio.repository.BaixaRepository;
+import com.manus.patrimonio.repository.BemRepository;
+import com.manus.patrimonio.repository.LocalizacaoRepository;
+import com.manus.patrimonio.repository.MovimentacaoRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Exportação completa de bens, depreciação, movimentações, baixas, estatísticas e trilha de auditoria em CSV, NDJSON
+ * ou XLSX. Os registros são lidos por cursor (fetch size das consultas
+ * {@code stream...ParaExportacao}) e escritos direto na resposta ou, no XLSX, numa
+ * planilha com janela fixa em memória, então o consumo de heap não depende do total exportado.
+ */
+@Service
+public class ExportacaoService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ExportacaoService.class);
+
+    // Mesmo valor do fetch size das consultas: a cada lote lido, o contexto é limpo e a saída enviada
+    static final int TAMANHO_LOTE = 500;
+
+    private static final List<ColunaExportacao<BemDTO>> COLUNAS_BEM = List.of(
+            ColunaExportacao.de("id", BemDTO::getId),
+            ColunaExportacao.de("numero_patrimonio", BemDTO::getNumeroPatrimonio),
+            ColunaExportacao.de("nome", BemDTO::getNome),
+            ColunaExportacao.de("numero_serie", BemDTO::getNumeroSerie),
+            ColunaExportacao.de("status", BemDTO::getStatus),
+            ColunaExportacao.de("condicao", BemDTO::getCondicao),
+            ColunaExportacao.de("categoria", BemDTO::getCategoriaNome),
+            ColunaExportacao.de("localizacao", BemDTO::getLocalizacaoAtualNome),
+            ColunaExportacao.de("data_aquisicao", BemDTO::getDataAquisicao),
+            ColunaExportacao.de("valor_aquisicao", BemDTO::getValorAquisicao),
+            ColunaExportacao.de("valor_atual", BemDTO::getValorAtual),
+            ColunaExportacao.de("fabricante", BemDTO::getFabricante),
+            ColunaExportacao.de("modelo", BemDTO::getModelo),
+            ColunaExportacao.de("responsavel", BemDTO::getResponsavelAtual),
+            ColunaExportacao.de("departamento", BemDTO::getDepartamentoResponsavel),
+            ColunaExportacao.de("centro_custo", BemDTO::getCentroCusto));
+
+    private static final List<ColunaExportacao<AuditoriaDTO>> COLUNAS_AUDITORIA = List.of(
+            ColunaExportacao.de("id", AuditoriaDTO::getId),
+            ColunaExportacao.de("data_acao", AuditoriaDTO::getDataAcao),
+            ColunaExportacao.de("entidade", AuditoriaDTO::getEntidade),
+            ColunaExportacao.de("entidade_id", AuditoriaDTO::getEntidadeId),
+            ColunaExportacao.de("acao", AuditoriaDTO::getAcao),
+            ColunaExportacao.de("usuario_id", AuditoriaDTO::getUsuarioId),
+            ColunaExportacao.de("ip_address", AuditoriaDTO::getIpAddress),
+            ColunaExportacao.de("dados_anteriores", AuditoriaDTO::getDadosAnteriores),
+            ColunaExportacao.de("dados_novos", AuditoriaDTO::getDadosNovos));
+
+    private static final List<ColunaExportacao<DepreciacaoBemDTO>> COLUNAS_DEPRECIACAO = List.of(
+            ColunaExportacao.de("bem_id", DepreciacaoBemDTO::getBemId),
+            ColunaExportacao.de("numero_patrimonio", DepreciacaoBemDTO::getNumeroPatrimonio),
+            ColunaExportacao.de("nome", DepreciacaoBemDTO::getNome),
+            ColunaExportacao.de("categoria", DepreciacaoBemDTO::getCategoriaNome),
+            ColunaExportacao.de("data_aquisicao", DepreciacaoBemDTO::getDataAquisicao),
+            ColunaExportacao.de("valor_aquisicao", DepreciacaoBemDTO::getValorAquisicao),
+            ColunaExportacao.de("taxa_anual", DepreciacaoBemDTO::getTaxaAnual),
+            ColunaExportacao.de("vida_util_anos", DepreciacaoBemDTO::getVidaUtilAnos),
+            ColunaExportacao.de("meses_decorridos", DepreciacaoBemDTO::getMesesDecorridos),
+            ColunaExportacao.de("depreciacao_acumulada", DepreciacaoBemDTO::getDepreciacaoAcumulada),
+            ColunaExportacao.de("valor_contabil", DepreciacaoBemDTO::getValorContabil));
+
+    private static final List<ColunaExportacao<EstatisticaDTO>> COLUNAS_ESTATISTICA = List.of(
+            ColunaExportacao.de("grupo", EstatisticaDTO::getGrupo),
+            ColunaExportacao.de("chave", EstatisticaDTO::getChave),
+            ColunaExportacao.de("valor", EstatisticaDTO::getValor));
+
+    private static final List<ColunaExportacao<BaixaDTO>> COLUNAS_BAIXA = List.of(
+            ColunaExportacao.de("id", BaixaDTO::getId),
+            ColunaExportacao.de("bem_id", BaixaDTO::getBemId),
+            ColunaExportacao.de("bem", BaixaDTO::getBemNome),
+            ColunaExportacao.de("data_baixa", BaixaDTO::getDataBaixa),
+            ColunaExportacao.de("motivo", BaixaDTO::getMotivo),
+            ColunaExportacao.de("responsavel", BaixaDTO::getResponsavel),
+            ColunaExportacao.de("processo_administrativo", BaixaDTO::getProcessoAdministrativo),
+            ColunaExportacao.de("valor_residual", BaixaDTO::getValorResidual),
+            ColunaExportacao.de("data_aprovacao", BaixaDTO::getDataAprovacao),
+            ColunaExportacao.de("aprovado_por", BaixaDTO::getAprovadoPor),
+            ColunaExportacao.de("destino_final", BaixaDTO::getDestinoFinal),
+            ColunaExportacao.de("valor_venda", BaixaDTO::getValorVenda),
+            ColunaExportacao.de("data_venda", BaixaDTO::getDataVenda),
+            ColunaExportacao.de("comprador", BaixaDTO::getComprador));
+
+    private static final List<ColunaExportacao<MovimentacaoDTO>> COLUNAS_MOVIMENTACAO = List.of(
+            ColunaExportacao.de("id", MovimentacaoDTO::getId),
+            ColunaExportacao.de("bem_id", MovimentacaoDTO::getBemId),
+            ColunaExportacao.de("bem", MovimentacaoDTO::getBemNome),
+            ColunaExportacao.de("data_movimentacao", MovimentacaoDTO::getDataMovimentacao),
+            ColunaExportacao.de("tipo", MovimentacaoDTO::getTipoMovimentacao),
+            ColunaExportacao.de("origem_id", MovimentacaoDTO::getLocalizacaoOrigemId),
+            ColunaExportacao.de("origem", MovimentacaoDTO::getLocalizacaoOrigemNome),
+            ColunaExportacao.de("destino_id", MovimentacaoDTO::getLocalizacaoDestinoId),
+            ColunaExportacao.de("destino", MovimentacaoDTO::getLocalizacaoDestinoNome),
+            ColunaExportacao.de("responsavel", MovimentacaoDTO::getResponsavelMovimentacao),
+            ColunaExportacao.de("observacoes", MovimentacaoDTO::getObservacoes));
+
+    @Autowired
+    private BemRepository bemRepository;
+
+    @Autowired
+    private MovimentacaoRepository movimentacaoRepository;
+
+    @Autowired
+    private AuditoriaRepository auditoriaRepository;
+
+    @Autowired
+    private BaixaRepository baixaRepository;
+
+    @Autowired
+    private LocalizacaoRepository localizacaoRepository;
+
+    @Autowired
+    private PatrimonioMapper patrimonioMapper;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Escreve todos os bens em {@code saida}.
+     *
+     * @return quantidade de bens exportados
+     */
+    @Transactional(readOnly = true)
+    public long exportarBens(FormatoExportacao formato, OutputStream saida) throws IOException {
+        try (Stream<Bem> bens = bemRepository.streamTodosParaExportacao();
+             EscritorExportacao<BemDTO> escritor = escritor(formato, saida, BemDTO.class, COLUNAS_BEM, "Bens")) {
+            return exportar("bens", bens, patrimonioMapper::bemToBemDTO, escritor);
+        }
+    }
+
+    /**
+     * Escreve em {@code saida} a depreciação linear acumulada de cada bem até hoje.
+     *
+     * @return quantidade de bens exportados
+     */
+    @Transactional(readOnly = true)
+    public long exportarDepreciacao(FormatoExportacao formato, OutputStream saida) throws IOException {
+        LocalDate referencia = LocalDate.now();
+        try (Stream<Bem> bens = bemRepository.streamTodosParaExportacao();
+             EscritorExportacao<DepreciacaoBemDTO> escritor =
+                     escritor(formato, saida, DepreciacaoBemDTO.class, COLUNAS_DEPRECIACAO, "Depreciação")) {
+            return exportar("depreciação", bens, bem -> calcularDepreciacao(bem, referencia), escritor);
+        }
+    }
+
+    /**
+     * Escreve em {@code saida} todas as movimentações, em ordem de data.
+     *
+     * @return quantidade de movimentações exportadas
+     */
+    @Transactional(readOnly = true)
+    public long exportarMovimentacoes(FormatoExportacao formato, OutputStream saida) throws IOException {
+        try (Stream<Movimentacao> movimentacoes = movimentacaoRepository.streamTodasParaExportacao();
+             EscritorExportacao<MovimentacaoDTO> escritor =
+                     escritor(formato, saida, MovimentacaoDTO.class, COLUNAS_MOVIMENTACAO, "Movimentações")) {
+            return exportar("movimentações", movimentacoes, patrimonioMapper::movimentacaoToMovimentacaoDTO, escritor);
+        }
+    }
+
+    /**
+     * Escreve em {@code saida} todas as baixas, em ordem de data.
+     *
+     * @return quantidade de baixas exportadas
+     */
+    @Transactional(readOnly = true)
+    public long exportarBaixas(FormatoExportacao formato, OutputStream saida) throws IOException {
+        try (Stream<Baixa> baixas = baixaRepository.streamTodasParaExportacao();
+             EscritorExportacao<BaixaDTO> escritor = escritor(formato, saida, BaixaDTO.class, COLUNAS_BAIXA, "Baixas")) {
+            return exportar("baixas", baixas, patrimonioMapper::baixaToBaixaDTO, escritor);
+        }
+    }
+
+    /**
+     * Escreve em {@code saida} os totais de bens por status, condição e localização e o
+     * valor de aquisição por status.
+     *
+     * @return quantidade de linhas exportadas
+     */
+    @Transactional(readOnly = true)
+    public long exportarEstatisticas(FormatoExportacao formato, OutputStream saida) throws IOException {
+        List<EstatisticaDTO> estatisticas = new ArrayList<>();
+        adicionarEstatisticas(estatisticas, "bens_por_status", bemRepository.contarBensPorStatus());
+        adicionarEstatisticas(estatisticas, "bens_por_condicao", bemRepository.contarBensPorCondicao());
+        adicionarEstatisticas(estatisticas, "valor_por_status", bemRepository.somarValorPorStatus());
+        adicionarEstatisticas(estatisticas, "bens_por_localizacao", localizacaoRepository.contarBensPorLocalizacao());
+        try (EscritorExportacao<EstatisticaDTO> escritor =
+                     escritor(formato, saida, EstatisticaDTO.class, COLUNAS_ESTATISTICA, "Estatísticas")) {
+            return exportar("estatísticas", estatisticas.stream(), Function.identity(), escritor);
+        }
+    }
+
+    /**
+     * Escreve em {@code saida} as auditorias do período, em ordem cronológica.
+     *
+     * @return quantidade de registros exportados
+     */
+    @Transactional(readOnly = true)
+    public long exportarAuditoria(FormatoExportacao formato, LocalDateTime dataInicio, LocalDateTime dataFim,
+                                  OutputStream saida) throws IOException {
+        try (Stream<Auditoria> auditorias = auditoriaRepository.streamPorPeriodoParaExportacao(dataInicio, dataFim);
+             EscritorExportacao<AuditoriaDTO> escritor =
+                     escritor(formato, saida, AuditoriaDTO.class, COLUNAS_AUDITORIA, "Auditoria")) {
+            return exportar("auditoria", auditorias, patrimonioMapper::auditoriaToAuditoriaDTO, escritor);
+        }
+    }
+
+    private static void adicionarEstatisticas(List<EstatisticaDTO> estatisticas, String grupo, List<Object[]> linhas) {
+        for (Object[] linha : linhas) {
+            BigDecimal valor = linha[1] == null ? BigDecimal.ZERO : new BigDecimal(linha[1].toString());
+            estatisticas.add(new EstatisticaDTO(grupo, String.valueOf(linha[0]), valor));
+        }
+    }
+
+    /**
+     * Depreciação linear mensal pela taxa anual do bem ou, sem taxa, por 100% / vida útil.
+     * O valor acumulado nunca passa do valor de aquisição.
+     */
+    static DepreciacaoBemDTO calcularDepreciacao(Bem bem, LocalDate referencia) {
+        DepreciacaoBemDTO dto = new DepreciacaoBemDTO();
+        dto.setBemId(bem.getId());
+        dto.setNumeroPatrimonio(bem.getNumeroTombamento());
+        dto.setNome(bem.getNome());
+        dto.setCategoriaNome(bem.getCategoria() != null ? bem.getCategoria().getNome() : null);
+        dto.setDataAquisicao(bem.getDataAquisicao());
+        dto.setValorAquisicao(bem.getValorAquisicao());
+        dto.setVidaUtilAnos(bem.getVidaUtilAnos());
+
+        BigDecimal taxa = bem.getTaxaDepreciacao();
+        if (taxa == null && bem.getVidaUtilAnos() != null) {
+            taxa = BigDecimal.valueOf(100).divide(BigDecimal.valueOf(bem.getVidaUtilAnos()), 2, RoundingMode.HALF_UP);
+        }
+        dto.setTaxaAnual(taxa);
+
+        BigDecimal valor = bem.getValorAquisicao();
+        if (valor == null || taxa == null || bem.getDataAquisicao() == null) {
+            dto.setValorContabil(valor);
+            return dto;
+        }
+        long meses = Math.max(0, ChronoUnit.MONTHS.between(bem.getDataAquisicao(), referencia));
+        BigDecimal acumulada = valor.multiply(taxa)
+                .multiply(BigDecimal.valueOf(meses))
+                .divide(BigDecimal.valueOf(1200), 2, RoundingMode.HALF_UP)
+                .min(valor);
+        dto.setMesesDecorridos(meses);
+        dto.setDepreciacaoAcumulada(acumulada);
+        dto.setValorContabil(valor.subtract(acumulada));
+        return dto;
+    }
+
+    private <E, D> long exportar(String nome, Stream<E> entidades, Function<E, D> conversor,
+                                 EscritorExportacao<D> escritor) throws IOException {
+        long inicio = System.nanoTime();
+        long total = 0;
+        // O cabeçalho sai antes da primeira linha: o cliente começa a receber de imediato
+        escritor.descarregar();
+        Iterator<E> iterador = entidades.iterator();
+        while (iterador.hasNext()) {
+            escritor.escrever(conversor.apply(iterador.next()));
+            if (++total % TAMANHO_LOTE == 0) {
+                // Nada é alterado na exportação: limpar só descarta as entidades já escritas
+                entityManager.clear();
+                escritor.descarregar();
+            }
+        }
+        escritor.finalizar();
+        logger.info("Exportação de {} concluída: {} registros em {} ms", nome, total,
+                (System.nanoTime() - inicio) / 1_000_000);
+        return total;
+    }
+
+    private <D> EscritorExportacao<D> escritor(FormatoExportacao formato, OutputStream saida, Class<D> tipo,
+                                               List<ColunaExportacao<D>> colunas, String titulo) throws IOException {
+        return switch (formato) {
+            case CSV -> new EscritorCsv<>(saida, colunas);
+            case NDJSON -> new EscritorNdjson<>(saida, objectMapper, tipo);
+            case XLSX -> new EscritorXlsx<>(saida, colunas, titulo);
+        };
+    }
+}
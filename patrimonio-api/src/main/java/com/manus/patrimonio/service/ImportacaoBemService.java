@@ -0,0 +1,408 @@
+package com.manus.patrimonio.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.manus.patrimonio.auditoria.BufferAuditoria;
+import com.manus.patrimonio.auditoria.RegistroAuditoria;
+import com.manus.patrimonio.cache.BemCache;
+import com.manus.patrimonio.dto.BemDTO;
+import com.manus.patrimonio.dto.ErroImportacaoDTO;
+import com.manus.patrimonio.dto.ResultadoImportacaoDTO;
+import com.manus.patrimonio.enums.CondicaoBem;
+import com.manus.patrimonio.enums.StatusBem;
+import com.manus.patrimonio.exception.RegraDeNegocioException;
+import com.manus.patrimonio.importacao.LeitorImportacao;
+import com.manus.patrimonio.model.Categoria;
+import com.manus.patrimonio.model.Localizacao;
+import com.manus.patrimonio.repository.BemRepository;
+import com.manus.patrimonio.repository.CategoriaRepository;
+import com.manus.patrimonio.repository.LocalizacaoRepository;
+import com.manus.patrimonio.util.ReservaIds;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Importação em massa de bens a partir de CSV ou XLSX. Em vez das ~4 idas ao banco por
+ * bem do {@code BemService.criar}, as linhas são validadas em lotes de {@link #TAMANHO_LOTE}:
+ * categorias e localizações vêm de mapas carregados uma vez, a unicidade é verificada
+ * com uma consulta por lote e os bens válidos são gravados num único batch JDBC, em
+ * transação própria. Linhas inválidas não interrompem a importação e são devolvidas
+ * com o motivo no resultado.
+ */
+@Service
+public class ImportacaoBemService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ImportacaoBemService.class);
+
+    static final int TAMANHO_LOTE = 1000;
+
+    // Limita o tamanho da resposta; o total de rejeitados continua exato
+    static final int LIMITE_ERROS = 1000;
+
+    // ID da mesma sequência usada pela entidade Bem (ver SequenciaPorTabelaNamingStrategy)
+    private static final String SQL_INSERIR = "INSERT INTO bens (id, numero_tombamento, nome, descricao, numero_serie, "
+            + "status, condicao, categoria_id, localizacao_atual_id, data_aquisicao, valor_aquisicao, valor_atual, "
+            + "fornecedor, fabricante, modelo, garantia_ate, responsavel, departamento, centro_custo, "
+            + "vida_util_anos, taxa_depreciacao, observacoes, ativo, data_criacao, data_atualizacao, versao) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, TRUE, ?, ?, 1)";
+
+    private static final DateTimeFormatter DATA_BRASILEIRA = DateTimeFormatter.ofPattern("dd/MM/uuuu");
+
+    @Autowired
+    private BemRepository bemRepository;
+
+    @Autowired
+    private CategoriaRepository categoriaRepository;
+
+    @Autowired
+    private LocalizacaoRepository localizacaoRepository;
+
+    @Autowired
+    private BemService bemService;
+
+    @Autowired
+    private Validator validator;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private BemCache bemCache;
+
+    @Autowired
+    private ObjectProvider<BufferAuditoria> bufferAuditoria;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    /**
+     * Importa os bens do arquivo. As colunas seguem as da exportação de bens
+     * ({@code numero_patrimonio}, {@code nome}, {@code categoria}, {@code localizacao}, ...);
+     * categoria e localização aceitam o ID ou o nome.
+     *
+     * @param simular só valida, sem gravar
+     */
+    public ResultadoImportacaoDTO importar(String nomeArquivo, InputStream entrada, boolean simular, String usuario)
+            throws IOException {
+        LeitorImportacao leitor = LeitorImportacao.para(nomeArquivo);
+        long inicio = System.nanoTime();
+
+        Importacao importacao = new Importacao(simular);
+        leitor.ler(entrada, importacao::aceitar);
+        importacao.gravarLote();
+
+        ResultadoImportacaoDTO resultado = importacao.resultado;
+        resultado.setTempoMs((System.nanoTime() - inicio) / 1_000_000);
+        logger.info("Importação de bens de {} {}: {} linhas, {} importados, {} rejeitados em {} ms", nomeArquivo,
+                simular ? "(simulação)" : "concluída", resultado.getLinhas(), resultado.getImportados(),
+                resultado.getRejeitados(), resultado.getTempoMs());
+        if (resultado.getImportados() > 0) {
+            auditar(nomeArquivo, resultado, usuario);
+        }
+        return resultado;
+    }
+
+    /**
+     * Estado de uma importação: mapas de referência, identificadores já vistos no arquivo e o lote corrente.
+     */
+    private class Importacao {
+
+        private final boolean simular;
+        private final Map<String, Long> categorias;
+        private final Map<String, Long> localizacoes;
+        private final Set<String> numerosNoArquivo = new HashSet<>();
+        private final Set<String> seriesNoArquivo = new HashSet<>();
+        private final List<LinhaBem> lote = new ArrayList<>(TAMANHO_LOTE);
+        private final ResultadoImportacaoDTO resultado = new ResultadoImportacaoDTO();
+
+        Importacao(boolean simular) {
+            this.simular = simular;
+            this.resultado.setSimulacao(simular);
+            this.categorias = indexar(categoriaRepository.findAll().stream()
+                    .collect(Collectors.toMap(Categoria::getId, Categoria::getNome)));
+            this.localizacoes = indexar(localizacaoRepository.findAll().stream()
+                    .collect(Collectors.toMap(Localizacao::getId, Localizacao::getNome)));
+        }
+
+        void aceitar(long numeroLinha, Map<String, String> valores) {
+            resultado.setLinhas(resultado.getLinhas() + 1);
+            BemDTO bem;
+            try {
+                bem = converter(valores);
+                validar(bem);
+            } catch (RegraDeNegocioException e) {
+                rejeitar(numeroLinha, e.getMessage());
+                return;
+            }
+            // Só depois de válida a linha reserva seus identificadores
+            if (!numerosNoArquivo.add(bem.getNumeroPatrimonio())) {
+                rejeitar(numeroLinha, "Número de patrimônio repetido no arquivo: " + bem.getNumeroPatrimonio());
+                return;
+            }
+            if (bem.getNumeroSerie() != null && !seriesNoArquivo.add(bem.getNumeroSerie())) {
+                rejeitar(numeroLinha, "Número de série repetido no arquivo: " + bem.getNumeroSerie());
+                return;
+            }
+            lote.add(new LinhaBem(numeroLinha, bem));
+            if (lote.size() == TAMANHO_LOTE) {
+                gravarLote();
+            }
+        }
+
+        void gravarLote() {
+            if (lote.isEmpty()) {
+                return;
+            }
+            Set<String> numeros = new HashSet<>();
+            Set<String> series = new HashSet<>();
+            for (LinhaBem linha : lote) {
+                numeros.add(linha.bem().getNumeroPatrimonio());
+                if (linha.bem().getNumeroSerie() != null) {
+                    series.add(linha.bem().getNumeroSerie());
+                }
+            }
+            Set<String> numerosExistentes = new HashSet<>();
+            Set<String> seriesExistentes = new HashSet<>();
+            for (Object[] existente : bemRepository.findIdentificadoresExistentes(numeros, series)) {
+                numerosExistentes.add((String) existente[0]);
+                if (existente[1] != null) {
+                    seriesExistentes.add((String) existente[1]);
+                }
+            }
+
+            List<LinhaBem> validas = new ArrayList<>(lote.size());
+            for (LinhaBem linha : lote) {
+                BemDTO bem = linha.bem();
+                if (numerosExistentes.contains(bem.getNumeroPatrimonio())) {
+                    rejeitar(linha.numero(), "Número de patrimônio já cadastrado: " + bem.getNumeroPatrimonio());
+                } else if (bem.getNumeroSerie() != null && seriesExistentes.contains(bem.getNumeroSerie())) {
+                    rejeitar(linha.numero(), "Número de série já cadastrado: " + bem.getNumeroSerie());
+                } else {
+                    validas.add(linha);
+                }
+            }
+            lote.clear();
+
+            if (simular || validas.isEmpty()) {
+                resultado.setImportados(resultado.getImportados() + (simular ? validas.size() : 0));
+                return;
+            }
+            try {
+                inserir(validas);
+                resultado.setImportados(resultado.getImportados() + validas.size());
+            } catch (DataAccessException e) {
+                // Ex.: o mesmo número cadastrado por outra requisição entre a verificação e o insert
+                String motivo = "Falha ao gravar o lote: " + NestedExceptionUtils.getMostSpecificCause(e).getMessage();
+                logger.warn("Importação de bens: {}", motivo);
+                validas.forEach(linha -> rejeitar(linha.numero(), motivo));
+            }
+        }
+
+        private void inserir(List<LinhaBem> linhas) {
+            LocalDateTime agora = LocalDateTime.now();
+            long[] ids = ReservaIds.reservar(jdbcTemplate, "bens_id_seq", linhas.size());
+            List<Object[]> parametros = new ArrayList<>(linhas.size());
+            Set<StatusBem> status = new HashSet<>();
+            Set<Long> categoriaIds = new HashSet<>();
+            Set<Long> localizacaoIds = new HashSet<>();
+            for (int i = 0; i < linhas.size(); i++) {
+                BemDTO bem = linhas.get(i).bem();
+                parametros.add(new Object[] {
+                    ids[i], bem.getNumeroPatrimonio(), bem.getNome(), bem.getDescricao(), bem.getNumeroSerie(),
+                    bem.getStatus().name(), bem.getCondicao().name(), bem.getCategoriaId(), bem.getLocalizacaoAtualId(),
+                    bem.getDataAquisicao(), bem.getValorAquisicao(), bem.getValorAtual(),
+                    bem.getFornecedor(), bem.getFabricante(), bem.getModelo(), bem.getGarantiaAte(),
+                    bem.getResponsavelAtual(), bem.getDepartamentoResponsavel(), bem.getCentroCusto(),
+                    bem.getVidaUtilAnos(), bem.getTaxaDepreciacao(), bem.getObservacoes(), agora, agora
+                });
+                status.add(bem.getStatus());
+                categoriaIds.add(bem.getCategoriaId());
+                localizacaoIds.add(bem.getLocalizacaoAtualId());
+            }
+            transactionTemplate.executeWithoutResult(transacao -> {
+                jdbcTemplate.batchUpdate(SQL_INSERIR, parametros);
+                bemCache.invalidarInclusao(status, categoriaIds, localizacaoIds);
+            });
+        }
+
+        private BemDTO converter(Map<String, String> valores) {
+            BemDTO bem = new BemDTO();
+            bem.setNumeroPatrimonio(texto(valores, "numero_patrimonio"));
+            bem.setNome(texto(valores, "nome"));
+            String descricao = texto(valores, "descricao");
+            bem.setDescricao(descricao != null ? descricao : bem.getNome());
+            bem.setNumeroSerie(texto(valores, "numero_serie"));
+            bem.setStatus(enumeracao(StatusBem.class, valores, "status", StatusBem.ATIVO));
+            bem.setCondicao(enumeracao(CondicaoBem.class, valores, "condicao", CondicaoBem.BOM));
+            bem.setCategoriaId(referencia(categorias, valores, "categoria", "Categoria"));
+            bem.setLocalizacaoAtualId(referencia(localizacoes, valores, "localizacao", "Localização"));
+            bem.setDataAquisicao(data(valores, "data_aquisicao"));
+            bem.setValorAquisicao(decimal(valores, "valor_aquisicao"));
+            bem.setValorAtual(decimal(valores, "valor_atual"));
+            bem.setFornecedor(texto(valores, "fornecedor"));
+            bem.setFabricante(texto(valores, "fabricante"));
+            bem.setModelo(texto(valores, "modelo"));
+            bem.setGarantiaAte(data(valores, "garantia_ate"));
+            bem.setResponsavelAtual(texto(valores, "responsavel"));
+            bem.setDepartamentoResponsavel(texto(valores, "departamento"));
+            bem.setCentroCusto(texto(valores, "centro_custo"));
+            BigDecimal vidaUtil = decimal(valores, "vida_util_anos");
+            bem.setVidaUtilAnos(vidaUtil != null ? vidaUtil.intValue() : null);
+            bem.setTaxaDepreciacao(decimal(valores, "taxa_depreciacao"));
+            bem.setObservacoes(texto(valores, "observacoes"));
+            return bem;
+        }
+
+        private void validar(BemDTO bem) {
+            if (bem.getNumeroPatrimonio() == null) {
+                throw new RegraDeNegocioException("Número de patrimônio é obrigatório");
+            }
+            Set<ConstraintViolation<BemDTO>> violacoes = validator.validate(bem);
+            if (!violacoes.isEmpty()) {
+                throw new RegraDeNegocioException(violacoes.stream()
+                        .map(ConstraintViolation::getMessage)
+                        .sorted()
+                        .collect(Collectors.joining("; ")));
+            }
+            bemService.validarBem(bem);
+        }
+
+        private void rejeitar(long numeroLinha, String mensagem) {
+            resultado.setRejeitados(resultado.getRejeitados() + 1);
+            if (resultado.getErros().size() < LIMITE_ERROS) {
+                resultado.getErros().add(new ErroImportacaoDTO(numeroLinha, mensagem));
+            }
+        }
+    }
+
+    private record LinhaBem(long numero, BemDTO bem) {}
+
+    /**
+     * Chaves por ID e por nome (sem diferenciar maiúsculas) para resolver a coluna sem consultar o banco.
+     */
+    private static Map<String, Long> indexar(Map<Long, String> nomesPorId) {
+        Map<String, Long> indice = new HashMap<>(nomesPorId.size() * 4);
+        nomesPorId.forEach((id, nome) -> {
+            if (nome != null) {
+                indice.putIfAbsent(nome.strip().toLowerCase(Locale.ROOT), id);
+            }
+        });
+        nomesPorId.keySet().forEach(id -> indice.put(id.toString(), id));
+        return indice;
+    }
+
+    private static String texto(Map<String, String> valores, String coluna) {
+        String valor = valores.get(coluna);
+        if (valor == null || valor.isBlank()) {
+            return null;
+        }
+        return valor.strip();
+    }
+
+    private static Long referencia(Map<String, Long> indice, Map<String, String> valores, String coluna, String rotulo) {
+        String valor = texto(valores, coluna);
+        if (valor == null) {
+            return null;
+        }
+        Long id = indice.get(valor.toLowerCase(Locale.ROOT));
+        if (id == null) {
+            throw new RegraDeNegocioException(rotulo + " não encontrada: " + valor);
+        }
+        return id;
+    }
+
+    private static <E extends Enum<E>> E enumeracao(Class<E> tipo, Map<String, String> valores, String coluna,
+                                                    E padrao) {
+        String valor = texto(valores, coluna);
+        if (valor == null) {
+            return padrao;
+        }
+        try {
+            return Enum.valueOf(tipo, valor.toUpperCase(Locale.ROOT).replace(' ', '_'));
+        } catch (IllegalArgumentException e) {
+            throw new RegraDeNegocioException("Valor inválido para " + coluna + ": " + valor);
+        }
+    }
+
+    private static LocalDate data(Map<String, String> valores, String coluna) {
+        String valor = texto(valores, coluna);
+        if (valor == null) {
+            return null;
+        }
+        try {
+            return valor.indexOf('/') > 0
+                    ? LocalDate.parse(valor, DATA_BRASILEIRA)
+                    : LocalDate.parse(valor.length() > 10 ? valor.substring(0, 10) : valor);
+        } catch (DateTimeParseException e) {
+            throw new RegraDeNegocioException("Data inválida em " + coluna + ": " + valor
+                    + " (use aaaa-mm-dd ou dd/mm/aaaa)");
+        }
+    }
+
+    /**
+     * Aceita "1234.56" e o formato brasileiro "1.234,56".
+     */
+    private static BigDecimal decimal(Map<String, String> valores, String coluna) {
+        String valor = texto(valores, coluna);
+        if (valor == null) {
+            return null;
+        }
+        String normalizado = valor.indexOf(',') >= 0 ? valor.replace(".", "").replace(',', '.') : valor;
+        try {
+            return new BigDecimal(normalizado);
+        } catch (NumberFormatException e) {
+            throw new RegraDeNegocioException("Número inválido em " + coluna + ": " + valor);
+        }
+    }
+
+    private void auditar(String nomeArquivo, ResultadoImportacaoDTO resultado, String usuario) {
+        BufferAuditoria buffer = bufferAuditoria.getIfAvailable();
+        if (buffer == null) {
+            return;
+        }
+        // Os inserts via JDBC não passam pelos listeners do Hibernate: um registro resume a importação.
+        // entidade_id é obrigatório e o resumo não se refere a um bem específico, daí o 0
+        RegistroAuditoria registro = new RegistroAuditoria("Bem", 0L, "IMPORTACAO");
+        registro.setUsername(usuario);
+        Map<String, Object> dados = new LinkedHashMap<>();
+        dados.put("arquivo", nomeArquivo);
+        dados.put("linhas", resultado.getLinhas());
+        dados.put("importados", resultado.getImportados());
+        dados.put("rejeitados", resultado.getRejeitados());
+        try {
+            registro.setDadosNovos(objectMapper.writeValueAsString(dados));
+        } catch (JsonProcessingException e) {
+            registro.setDadosNovos(dados.toString());
+        }
+        buffer.registrar(registro);
+    }
+}
@@ -27,6 +27,7 @@ public class InventarioService {
     /**
      * Busca todos os inventários com paginação
      */
+    @Transactional(readOnly = true)
     public Page<InventarioDTO> buscarTodos(Pageable pageable) {
         Page<Inventario> inventarios = inventarioRepository.findAll(pageable);
         return inventarios.map(patrimonioMapper::inventarioToInventarioDTO);
@@ -35,6 +36,7 @@ public class InventarioService {
     /**
      * Busca um inventário por ID
      */
+    @Transactional(readOnly = true)
     public InventarioDTO buscarPorId(Long id) {
         Inventario inventario = inventarioRepository.findById(id)
                 .orElseThrow(() -> new RecursoNaoEncontradoException("Inventário não encontrado com ID: " + id));
@@ -77,6 +79,7 @@ public class InventarioService {
     /**
      * Busca inventários por status
      */
+    @Transactional(readOnly = true)
     public List<InventarioDTO> buscarPorStatus(StatusInventario status) {
         List<Inventario> inventarios = inventarioRepository.findByStatusOrderByDataInicioDesc(status);
         return patrimonioMapper.inventariosToInventarioDTOs(inventarios);
@@ -85,6 +88,7 @@ public class InventarioService {
     /**
      * Busca inventários por responsável
      */
+    @Transactional(readOnly = true)
     public List<InventarioDTO> buscarPorResponsavel(String responsavel) {
         List<Inventario> inventarios = inventarioRepository.findByResponsavelContainingIgnoreCase(responsavel, Pageable.unpaged()).getContent();
         return patrimonioMapper.inventariosToInventarioDTOs(inventarios);
@@ -93,6 +97,7 @@ public class InventarioService {
     /**
      * Busca inventários em andamento
      */
+    @Transactional(readOnly = true)
     public List<InventarioDTO> buscarEmAndamento() {
         List<Inventario> inventarios = inventarioRepository.findByStatusOrderByDataInicioDesc(StatusInventario.EM_ANDAMENTO);
         return patrimonioMapper.inventariosToInventarioDTOs(inventarios);
@@ -4,7 +4,10 @@ import com.manus.patrimonio.dto.LocalizacaoDTO;
 import com.manus.patrimonio.exception.RecursoNaoEncontradoException;
 import com.manus.patrimonio.exception.RegraDeNegocioException;
 import com.manus.patrimonio.model.Localizacao;
+import com.manus.patrimonio.repository.BemRepository;
 import com.manus.patrimonio.repository.LocalizacaoRepository;
+import com.manus.patrimonio.util.BuscaProperties;
+import com.manus.patrimonio.util.TermoBusca;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -12,6 +15,8 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 @Service
 @Transactional
@@ -20,13 +25,18 @@ public class LocalizacaoService {
     @Autowired
     private LocalizacaoRepository localizacaoRepository;
 
+    @Autowired
+    private BemRepository bemRepository;
+
+    @Autowired
+    private BuscaProperties buscaProperties;
+
     /**
      * Busca todas as localizações com paginação
      */
     @Transactional(readOnly = true)
     public Page<LocalizacaoDTO> buscarTodas(Pageable pageable) {
-        return localizacaoRepository.findAll(pageable)
-                .map(this::converterParaDTO);
+        return converterPagina(localizacaoRepository.findAll(pageable));
     }
 
     /**
@@ -54,8 +64,16 @@ public class LocalizacaoService {
      */
     @Transactional(readOnly = true)
     public Page<LocalizacaoDTO> buscarPorTexto(String termo, Pageable pageable) {
-        return localizacaoRepository.buscarPorTexto(termo, pageable)
-                .map(this::converterParaDTO);
+        if (!buscaProperties.isTextoCompleto()) {
+            return converterPagina(localizacaoRepository.buscarPorTexto(termo, pageable));
+        }
+        String consulta = TermoBusca.paraTsQuery(termo);
+        if (consulta == null) {
+            return Page.empty(pageable);
+        }
+        // Resultados ordenados por relevância
+        return converterPagina(localizacaoRepository.buscarPorTextoCompleto(consulta,
+                        TermoBusca.porRelevancia(pageable)));
     }
 
     /**
@@ -63,10 +81,7 @@ public class LocalizacaoService {
      */
     @Transactional(readOnly = true)
     public List<LocalizacaoDTO> buscarTodasOrdenadas() {
-        return localizacaoRepository.findAllByOrderByNomeAsc()
-                .stream()
-                .map(this::converterParaDTO)
-                .toList();
+        return converterLista(localizacaoRepository.findAllByOrderByNomeAsc());
     }
 
     /**
@@ -74,10 +89,7 @@ public class LocalizacaoService {
      */
     @Transactional(readOnly = true)
     public List<LocalizacaoDTO> buscarPorResponsavel(String responsavel) {
-        return localizacaoRepository.findByResponsavelContainingIgnoreCase(responsavel)
-                .stream()
-                .map(this::converterParaDTO)
-                .toList();
+        return converterLista(localizacaoRepository.findByResponsavelContainingIgnoreCase(responsavel));
     }
 
     /**
@@ -85,10 +97,7 @@ public class LocalizacaoService {
      */
     @Transactional(readOnly = true)
     public List<LocalizacaoDTO> buscarPorEndereco(String endereco) {
-        return localizacaoRepository.findByEnderecoContainingIgnoreCase(endereco)
-                .stream()
-                .map(this::converterParaDTO)
-                .toList();
+        return converterLista(localizacaoRepository.findByEnderecoContainingIgnoreCase(endereco));
     }
 
     /**
@@ -128,7 +137,7 @@ public class LocalizacaoService {
         Localizacao localizacao = localizacaoRepository.findById(id)
                 .orElseThrow(() -> RecursoNaoEncontradoException.porId("Localização", id));
 
-        if (!localizacao.getBensAtuais().isEmpty()) {
+        if (bemRepository.existsByLocalizacaoAtualId(id)) {
             throw RegraDeNegocioException.operacaoInvalida(
                 "excluir localização", 
                 "existem bens atualmente nesta localização"
@@ -151,10 +160,7 @@ public class LocalizacaoService {
      */
     @Transactional(readOnly = true)
     public List<LocalizacaoDTO> buscarLocalizacoesComBens() {
-        return localizacaoRepository.buscarLocalizacoesComBens()
-                .stream()
-                .map(this::converterParaDTO)
-                .toList();
+        return converterLista(localizacaoRepository.buscarLocalizacoesComBens());
     }
 
     /**
@@ -162,10 +168,7 @@ public class LocalizacaoService {
      */
     @Transactional(readOnly = true)
     public List<LocalizacaoDTO> buscarLocalizacoesSemBens() {
-        return localizacaoRepository.buscarLocalizacoesSemBens()
-                .stream()
-                .map(this::converterParaDTO)
-                .toList();
+        return converterLista(localizacaoRepository.buscarLocalizacoesSemBens());
     }
 
     // Métodos auxiliares
@@ -180,6 +183,35 @@ public class LocalizacaoService {
     }
 
     private LocalizacaoDTO converterParaDTO(Localizacao localizacao) {
+        return converterParaDTO(localizacao, bemRepository.countByLocalizacaoAtualId(localizacao.getId()));
+    }
+
+    private Page<LocalizacaoDTO> converterPagina(Page<Localizacao> pagina) {
+        Map<Long, Long> quantidades = contarBens(pagina.getContent());
+        return pagina.map(localizacao -> converterParaDTO(localizacao, quantidades.getOrDefault(localizacao.getId(), 0L)));
+    }
+
+    private List<LocalizacaoDTO> converterLista(List<Localizacao> localizacoes) {
+        Map<Long, Long> quantidades = contarBens(localizacoes);
+        return localizacoes.stream()
+                .map(localizacao -> converterParaDTO(localizacao, quantidades.getOrDefault(localizacao.getId(), 0L)))
+                .toList();
+    }
+
+    /**
+     * Quantidade de bens de cada localização numa única consulta agrupada, em vez de inicializar
+     * a coleção de bens de cada uma.
+     */
+    private Map<Long, Long> contarBens(List<Localizacao> localizacoes) {
+        if (localizacoes.isEmpty()) {
+            return Map.of();
+        }
+        List<Long> ids = localizacoes.stream().map(Localizacao::getId).toList();
+        return bemRepository.contarPorLocalizacoes(ids).stream()
+                .collect(Collectors.toMap(linha -> (Long) linha[0], linha -> (Long) linha[1]));
+    }
+
+    private LocalizacaoDTO converterParaDTO(Localizacao localizacao, long quantidadeBens) {
         LocalizacaoDTO dto = new LocalizacaoDTO();
         dto.setId(localizacao.getId());
         dto.setNome(localizacao.getNome());
@@ -189,7 +221,7 @@ public class LocalizacaoService {
         dto.setDescricao(localizacao.getDescricao());
         dto.setDataCriacao(localizacao.getDataCriacao());
         dto.setDataAtualizacao(localizacao.getDataAtualizacao());
-        dto.setQuantidadeBens((long) localizacao.getBensAtuais().size());
+        dto.setQuantidadeBens(quantidadeBens);
         return dto;
     }
 
@@ -1,5 +1,7 @@
 package com.manus.patrimonio.service;
 
+import com.manus.patrimonio.cache.BemCache;
+import com.manus.patrimonio.cache.PaginaCache;
 import com.manus.patrimonio.dto.ManutencaoDTO;
 import com.manus.patrimonio.enums.StatusManutencao;
 import com.manus.patrimonio.enums.TipoManutencao;
@@ -8,13 +10,13 @@ import com.manus.patrimonio.exception.RegraDeNegocioException;
 import com.manus.patrimonio.mapper.PatrimonioMapper;
 import com.manus.patrimonio.model.Bem;
 import com.manus.patrimonio.model.Manutencao;
+import com.manus.patrimonio.replica.LeituraNoPrimario;
 import com.manus.patrimonio.repository.BemRepository;
 import com.manus.patrimonio.repository.ManutencaoRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -33,6 +35,9 @@ public class ManutencaoService {
     @Autowired
     private BemRepository bemRepository;
 
+    @Autowired
+    private BemCache bemCache;
+
     @Autowired
     private PatrimonioMapper patrimonioMapper;
 
@@ -52,13 +57,15 @@ public class ManutencaoService {
         if (TipoManutencao.PREVENTIVA.equals(manutencao.getTipoManutencao())) {
             bem.setDataUltimaManutencao(manutencao.getDataInicio());
             bemRepository.save(bem);
+            bemCache.invalidar(bemCache.capturar(bem));
         }
         
         Manutencao manutencaoSalva = manutencaoRepository.save(manutencao);
         return patrimonioMapper.manutencaoToManutencaoDTO(manutencaoSalva);
     }
 
-    @Cacheable(value = "manutencoes", key = "#id")
+    @Cacheable(value = "manutencoes", key = "#id", sync = true)
+    @LeituraNoPrimario
     public ManutencaoDTO buscarPorId(Long id) {
         Manutencao manutencao = manutencaoRepository.findById(id)
                 .orElseThrow(() -> new RecursoNaoEncontradoException("Manutenção não encontrada"));
@@ -66,10 +73,11 @@ public class ManutencaoService {
         return patrimonioMapper.manutencaoToManutencaoDTO(manutencao);
     }
 
-    @Cacheable(value = "manutencoes", key = "'page_' + #pageable.pageNumber + '_' + #pageable.pageSize")
+    @Cacheable(value = "manutencoes", keyGenerator = "chaveCache", sync = true)
+    @LeituraNoPrimario
     public Page<ManutencaoDTO> buscarTodos(Pageable pageable) {
         Page<Manutencao> manutencoes = manutencaoRepository.findAll(pageable);
-        return manutencoes.map(patrimonioMapper::manutencaoToManutencaoDTO);
+        return PaginaCache.de(manutencoes.map(patrimonioMapper::manutencaoToManutencaoDTO));
     }
 
     @CacheEvict(value = "manutencoes", allEntries = true)
@@ -125,6 +133,7 @@ public class ManutencaoService {
             Bem bem = manutencao.getBem();
             bem.setDataUltimaManutencao(dataFim);
             bemRepository.save(bem);
+            bemCache.invalidar(bemCache.capturar(bem));
         }
         
         Manutencao manutencaoFinalizada = manutencaoRepository.save(manutencao);
@@ -156,74 +165,77 @@ public class ManutencaoService {
     }
 
     // Search Operations
+    @Transactional(readOnly = true)
     public Page<ManutencaoDTO> buscarPorBem(Long bemId, Pageable pageable) {
-        List<Manutencao> manutencoes = manutencaoRepository.findByBemIdOrderByDataInicioDesc(bemId);
-        // Converter para Page manualmente
-        int start = (int) pageable.getOffset();
-        int end = Math.min((start + pageable.getPageSize()), manutencoes.size());
-        List<Manutencao> pageContent = manutencoes.subList(start, end);
-        return new PageImpl<>(pageContent, pageable, manutencoes.size())
-                .map(patrimonioMapper::manutencaoToManutencaoDTO);
+        Page<Manutencao> manutencoes = manutencaoRepository.findByBemIdOrderByDataInicioDesc(bemId, pageable);
+        return manutencoes.map(patrimonioMapper::manutencaoToManutencaoDTO);
     }
 
+    @Transactional(readOnly = true)
     public Page<ManutencaoDTO> buscarPorStatus(StatusManutencao status, Pageable pageable) {
         Page<Manutencao> manutencoes = manutencaoRepository.findByStatus(status, pageable);
         return manutencoes.map(patrimonioMapper::manutencaoToManutencaoDTO);
     }
 
+    @Transactional(readOnly = true)
     public Page<ManutencaoDTO> buscarPorTipo(TipoManutencao tipo, Pageable pageable) {
         Page<Manutencao> manutencoes = manutencaoRepository.findByTipoManutencao(tipo, pageable);
         return manutencoes.map(patrimonioMapper::manutencaoToManutencaoDTO);
     }
 
+    @Transactional(readOnly = true)
     public Page<ManutencaoDTO> buscarPorFornecedor(String fornecedor, Pageable pageable) {
         Page<Manutencao> manutencoes = manutencaoRepository.findByFornecedorContainingIgnoreCase(fornecedor, pageable);
         return manutencoes.map(patrimonioMapper::manutencaoToManutencaoDTO);
     }
 
+    @Transactional(readOnly = true)
     public Page<ManutencaoDTO> buscarPorResponsavel(String responsavel, Pageable pageable) {
         Page<Manutencao> manutencoes = manutencaoRepository.findByResponsavelContainingIgnoreCase(responsavel, pageable);
         return manutencoes.map(patrimonioMapper::manutencaoToManutencaoDTO);
     }
 
+    @Transactional(readOnly = true)
     public Page<ManutencaoDTO> buscarPorPeriodo(LocalDate dataInicio, LocalDate dataFim, Pageable pageable) {
         Page<Manutencao> manutencoes = manutencaoRepository.findByDataInicioBetween(dataInicio, dataFim, pageable);
         return manutencoes.map(patrimonioMapper::manutencaoToManutencaoDTO);
     }
 
+    @Transactional(readOnly = true)
     public Page<ManutencaoDTO> buscarPorCustoMaximo(BigDecimal custoMaximo, Pageable pageable) {
-        List<Manutencao> manutencoes = manutencaoRepository.findManutencoesPorCustoMinimo(custoMaximo.doubleValue());
-        // Converter para Page manualmente
-        int start = (int) pageable.getOffset();
-        int end = Math.min((start + pageable.getPageSize()), manutencoes.size());
-        List<Manutencao> pageContent = manutencoes.subList(start, end);
-        return new PageImpl<>(pageContent, pageable, manutencoes.size())
-                .map(patrimonioMapper::manutencaoToManutencaoDTO);
+        Page<Manutencao> manutencoes = manutencaoRepository.findManutencoesPorCustoMinimo(custoMaximo.doubleValue(), pageable);
+        return manutencoes.map(patrimonioMapper::manutencaoToManutencaoDTO);
     }
 
+    @Transactional(readOnly = true)
     public Page<ManutencaoDTO> buscarPorLocalizacao(Long localizacaoId, Pageable pageable) {
         Page<Manutencao> manutencoes = manutencaoRepository.findManutencoesPorLocalizacao(localizacaoId, pageable);
         return manutencoes.map(patrimonioMapper::manutencaoToManutencaoDTO);
     }
 
     // Statistics and Reports
+    @Transactional(readOnly = true)
     public Long contarManutencoesPorStatus(StatusManutencao status) {
         return manutencaoRepository.countByStatus(status);
     }
 
+    @Transactional(readOnly = true)
     public Long contarManutencoesPorTipo(TipoManutencao tipo) {
         return manutencaoRepository.countByTipoManutencao(tipo);
     }
 
+    @Transactional(readOnly = true)
     public Long contarManutencoesPorBem(Long bemId) {
         return manutencaoRepository.countByBemId(bemId);
     }
 
+    @Transactional(readOnly = true)
     public List<ManutencaoDTO> buscarManutencoesAtrasadas() {
         List<Manutencao> manutencoes = manutencaoRepository.findManutencoesAtrasadas(LocalDate.now().minusDays(30));
         return patrimonioMapper.manutencoesToManutencaoDTOs(manutencoes);
     }
 
+    @Transactional(readOnly = true)
     public List<ManutencaoDTO> buscarManutencoesUrgentes() {
         List<Manutencao> manutencoes = manutencaoRepository.findManutencoesUrgentes();
         return patrimonioMapper.manutencoesToManutencaoDTOs(manutencoes);
@@ -1,40 +1,121 @@
 package com.manus.patrimonio.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.manus.patrimonio.auditoria.BufferAuditoria;
+import com.manus.patrimonio.auditoria.RegistroAuditoria;
+import com.manus.patrimonio.cache.BemCache;
+import com.manus.patrimonio.dto.ErroMovimentacaoDTO;
 import com.manus.patrimonio.dto.MovimentacaoDTO;
+import com.manus.patrimonio.dto.MovimentacaoResumoDTO;
+import com.manus.patrimonio.dto.MovimentacaoLoteDTO;
+import com.manus.patrimonio.dto.ResultadoMovimentacaoLoteDTO;
+import com.manus.patrimonio.enums.StatusBem;
 import com.manus.patrimonio.enums.TipoMovimentacao;
 import com.manus.patrimonio.exception.RecursoNaoEncontradoException;
+import com.manus.patrimonio.exception.RegraDeNegocioException;
 import com.manus.patrimonio.mapper.PatrimonioMapper;
+import com.manus.patrimonio.model.Localizacao;
 import com.manus.patrimonio.model.Movimentacao;
+import com.manus.patrimonio.repository.BemRepository;
+import com.manus.patrimonio.repository.LocalizacaoRepository;
 import com.manus.patrimonio.repository.MovimentacaoRepository;
+import com.manus.patrimonio.repository.specification.MovimentacaoSpecifications;
+import com.manus.patrimonio.util.BuscaProperties;
+import com.manus.patrimonio.util.ReservaIds;
+import com.manus.patrimonio.util.TermoBusca;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 
 @Service
 @Transactional
 public class MovimentacaoService {
 
+    private static final Logger logger = LoggerFactory.getLogger(MovimentacaoService.class);
+
+    // Tamanho dos blocos de IDs nas consultas IN, no UPDATE e nos lotes de INSERT
+    static final int TAMANHO_LOTE = 1000;
+
+    // Tudo roda numa transação só, com as linhas bloqueadas: o lote precisa de um teto
+    static final int LIMITE_BENS = 50_000;
+
+    // Limita o tamanho da resposta; o total de rejeitados continua exato
+    static final int LIMITE_ERROS = 1000;
+
+    // ID reservado na mesma sequência usada pela entidade Movimentacao (ver ReservaIds)
+    private static final String SQL_INSERIR = "INSERT INTO movimentacoes (id, bem_id, tipo_movimentacao, "
+            + "data_movimentacao, localizacao_origem_id, localizacao_destino_id, responsavel_movimentacao, "
+            + "observacoes, data_criacao, data_atualizacao, versao) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 1)";
+
     @Autowired
     private MovimentacaoRepository movimentacaoRepository;
 
     @Autowired
     private PatrimonioMapper patrimonioMapper;
 
+    @Autowired
+    private BemRepository bemRepository;
+
+    @Autowired
+    private LocalizacaoRepository localizacaoRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private BemCache bemCache;
+
+    @Autowired
+    private ObjectProvider<BufferAuditoria> bufferAuditoria;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private BuscaProperties buscaProperties;
+
     /**
      * Busca todas as movimentações com paginação
      */
+    @Transactional(readOnly = true)
     public Page<MovimentacaoDTO> buscarTodas(Pageable pageable) {
         Page<Movimentacao> movimentacoes = movimentacaoRepository.findAll(pageable);
         return movimentacoes.map(patrimonioMapper::movimentacaoToMovimentacaoDTO);
     }
 
+    /**
+     * Lista as movimentações no formato enxuto, projetado direto pela consulta
+     */
+    @Transactional(readOnly = true)
+    public Page<MovimentacaoResumoDTO> buscarResumos(Pageable pageable) {
+        return movimentacaoRepository.listarResumos(pageable);
+    }
+
     /**
      * Busca uma movimentação por ID
      */
+    @Transactional(readOnly = true)
     public MovimentacaoDTO buscarPorId(Long id) {
         Movimentacao movimentacao = movimentacaoRepository.findById(id)
                 .orElseThrow(() -> new RecursoNaoEncontradoException("Movimentação não encontrada com ID: " + id));
@@ -77,6 +158,7 @@ public class MovimentacaoService {
     /**
      * Busca movimentações por bem
      */
+    @Transactional(readOnly = true)
     public List<MovimentacaoDTO> buscarPorBem(Long bemId) {
         List<Movimentacao> movimentacoes = movimentacaoRepository.findByBemIdOrderByDataMovimentacaoDesc(bemId);
         return patrimonioMapper.movimentacoesToMovimentacaoDTOs(movimentacoes);
@@ -85,6 +167,7 @@ public class MovimentacaoService {
     /**
      * Busca movimentações por tipo
      */
+    @Transactional(readOnly = true)
     public List<MovimentacaoDTO> buscarPorTipo(TipoMovimentacao tipo) {
         List<Movimentacao> movimentacoes = movimentacaoRepository.findByTipoMovimentacao(tipo, Pageable.unpaged()).getContent();
         return patrimonioMapper.movimentacoesToMovimentacaoDTOs(movimentacoes);
@@ -93,8 +176,207 @@ public class MovimentacaoService {
     /**
      * Busca movimentações por responsável
      */
+    @Transactional(readOnly = true)
     public List<MovimentacaoDTO> buscarPorResponsavel(String responsavel) {
         List<Movimentacao> movimentacoes = movimentacaoRepository.findByResponsavelMovimentacaoContainingIgnoreCase(responsavel, Pageable.unpaged()).getContent();
         return patrimonioMapper.movimentacoesToMovimentacaoDTOs(movimentacoes);
     }
+
+    /**
+     * Busca movimentações com filtros múltiplos (apenas os filtros informados são aplicados)
+     */
+    @Transactional(readOnly = true)
+    public Page<MovimentacaoDTO> buscarComFiltros(Long bemId, List<TipoMovimentacao> tipos, Long localizacaoOrigemId,
+                                                  Long localizacaoDestinoId, LocalDateTime dataInicio,
+                                                  LocalDateTime dataFim, String responsavel, Pageable pageable) {
+        Page<Movimentacao> movimentacoes = movimentacaoRepository.findAll(
+                MovimentacaoSpecifications.comFiltros(bemId, tipos, localizacaoOrigemId, localizacaoDestinoId,
+                                                      dataInicio, dataFim, responsavel),
+                pageable);
+        return movimentacoes.map(patrimonioMapper::movimentacaoToMovimentacaoDTO);
+    }
+
+    /**
+     * Busca movimentações por texto (responsável ou observações), ordenadas por relevância
+     */
+    @Transactional(readOnly = true)
+    public Page<MovimentacaoDTO> buscarPorTexto(String termo, Pageable pageable) {
+        if (!buscaProperties.isTextoCompleto()) {
+            return movimentacaoRepository.buscarPorTexto(termo, pageable)
+                    .map(patrimonioMapper::movimentacaoToMovimentacaoDTO);
+        }
+        String consulta = TermoBusca.paraTsQuery(termo);
+        if (consulta == null) {
+            return Page.empty(pageable);
+        }
+        return movimentacaoRepository.buscarPorTextoCompleto(consulta,
+                        TermoBusca.porRelevancia(pageable))
+                .map(patrimonioMapper::movimentacaoToMovimentacaoDTO);
+    }
+
+    /**
+     * Move vários bens para uma localização numa única transação. Os bens que não podem
+     * ser movimentados são recusados e relatados; os demais têm a localização atualizada
+     * por um UPDATE em conjunto e ganham suas movimentações gravadas em lotes via JDBC.
+     */
+    public ResultadoMovimentacaoLoteDTO moverEmLote(MovimentacaoLoteDTO pedido, String usuario) {
+        long inicio = System.nanoTime();
+        boolean porIds = pedido.getBemIds() != null && !pedido.getBemIds().isEmpty();
+        if (porIds == (pedido.getLocalizacaoOrigemId() != null)) {
+            throw new RegraDeNegocioException("Informe os IDs dos bens ou a localização de origem, não ambos");
+        }
+        String responsavel = pedido.getResponsavelMovimentacao() != null
+                ? pedido.getResponsavelMovimentacao() : usuario;
+        if (responsavel == null || responsavel.isBlank()) {
+            throw new RegraDeNegocioException("Responsável pela movimentação é obrigatório");
+        }
+        Localizacao destino = localizacaoRepository.findById(pedido.getLocalizacaoDestinoId())
+                .orElseThrow(() -> new RecursoNaoEncontradoException(
+                        "Localização de destino não encontrada com ID: " + pedido.getLocalizacaoDestinoId()));
+
+        List<Object[]> candidatos;
+        Set<Long> solicitados = new LinkedHashSet<>();
+        if (porIds) {
+            pedido.getBemIds().stream().filter(Objects::nonNull).forEach(solicitados::add);
+            validarLimite(solicitados.size());
+            candidatos = new ArrayList<>(solicitados.size());
+            // Blocos em ordem crescente de ID: lotes concorrentes bloqueiam as linhas na mesma ordem
+            for (List<Long> bloco : blocos(solicitados.stream().sorted().toList())) {
+                candidatos.addAll(bemRepository.findParaMovimentacaoPorIds(bloco));
+            }
+        } else {
+            candidatos = bemRepository.findParaMovimentacaoPorLocalizacao(pedido.getLocalizacaoOrigemId());
+            validarLimite(candidatos.size());
+        }
+
+        ResultadoMovimentacaoLoteDTO resultado = new ResultadoMovimentacaoLoteDTO();
+        resultado.setLocalizacaoDestinoId(destino.getId());
+        resultado.setSolicitados(porIds ? solicitados.size() : candidatos.size());
+
+        // Mesma regra de Bem.podeSerMovimentado(), aplicada sobre as colunas já carregadas
+        List<Object[]> movimentaveis = new ArrayList<>(candidatos.size());
+        Set<Long> encontrados = new HashSet<>();
+        for (Object[] candidato : candidatos) {
+            Long id = (Long) candidato[0];
+            StatusBem status = (StatusBem) candidato[2];
+            encontrados.add(id);
+            if (status != StatusBem.ATIVO || !Boolean.TRUE.equals(candidato[3])) {
+                rejeitar(resultado, id, "Bem não pode ser movimentado no status " + status.getDescricao());
+            } else if (destino.getId().equals(candidato[5])) {
+                rejeitar(resultado, id, "Bem já está na localização de destino");
+            } else {
+                movimentaveis.add(candidato);
+            }
+        }
+        if (porIds) {
+            solicitados.stream().filter(id -> !encontrados.contains(id))
+                    .forEach(id -> rejeitar(resultado, id, "Bem não encontrado"));
+        }
+
+        if (!movimentaveis.isEmpty()) {
+            gravar(movimentaveis, destino, pedido, responsavel);
+        }
+        resultado.setMovimentados(movimentaveis.size());
+        resultado.setTempoMs((System.nanoTime() - inicio) / 1_000_000);
+        logger.info("Movimentação em lote para {} por {}: {} solicitados, {} movimentados, {} rejeitados em {} ms",
+                destino.getNome(), usuario, resultado.getSolicitados(), resultado.getMovimentados(),
+                resultado.getRejeitados(), resultado.getTempoMs());
+        auditar(resultado, usuario);
+        return resultado;
+    }
+
+    private void gravar(List<Object[]> movimentaveis, Localizacao destino, MovimentacaoLoteDTO pedido,
+                        String responsavel) {
+        List<Long> ids = new ArrayList<>(movimentaveis.size());
+        List<String> numerosSerie = new ArrayList<>();
+        Set<Long> categoriaIds = new HashSet<>();
+        Set<Long> localizacaoIds = new HashSet<>();
+        localizacaoIds.add(destino.getId());
+        for (Object[] bem : movimentaveis) {
+            ids.add((Long) bem[0]);
+            if (bem[1] != null) {
+                numerosSerie.add((String) bem[1]);
+            }
+            categoriaIds.add((Long) bem[4]);
+            localizacaoIds.add((Long) bem[5]);
+        }
+
+        LocalDateTime agora = LocalDateTime.now();
+        for (List<Long> bloco : blocos(ids)) {
+            bemRepository.atualizarLocalizacao(bloco, destino, agora);
+        }
+
+        TipoMovimentacao tipo = pedido.getTipoMovimentacao() != null
+                ? pedido.getTipoMovimentacao() : TipoMovimentacao.TRANSFERENCIA;
+        Timestamp momento = Timestamp.valueOf(agora);
+        long[] movimentacaoIds = ReservaIds.reservar(jdbcTemplate, "movimentacoes_id_seq", movimentaveis.size());
+        List<Object[]> parametros = new ArrayList<>(TAMANHO_LOTE);
+        for (int i = 0; i < movimentaveis.size(); i++) {
+            Object[] bem = movimentaveis.get(i);
+            parametros.add(new Object[] {movimentacaoIds[i], bem[0], tipo.name(), momento, bem[5], destino.getId(), responsavel,
+                    pedido.getObservacoes(), momento, momento});
+            if (parametros.size() == TAMANHO_LOTE) {
+                jdbcTemplate.batchUpdate(SQL_INSERIR, parametros);
+                parametros.clear();
+            }
+        }
+        if (!parametros.isEmpty()) {
+            jdbcTemplate.batchUpdate(SQL_INSERIR, parametros);
+        }
+
+        bemCache.invalidarEmMassa(ids, numerosSerie, Set.of(StatusBem.ATIVO), categoriaIds, localizacaoIds);
+    }
+
+    private static void validarLimite(int quantidade) {
+        if (quantidade > LIMITE_BENS) {
+            throw new RegraDeNegocioException("Movimentação em lote limitada a " + LIMITE_BENS
+                    + " bens; foram selecionados " + quantidade);
+        }
+    }
+
+    private static void rejeitar(ResultadoMovimentacaoLoteDTO resultado, Long bemId, String mensagem) {
+        resultado.setRejeitados(resultado.getRejeitados() + 1);
+        if (resultado.getErros().size() < LIMITE_ERROS) {
+            resultado.getErros().add(new ErroMovimentacaoDTO(bemId, mensagem));
+        }
+    }
+
+    private static <T> List<List<T>> blocos(List<T> itens) {
+        List<List<T>> blocos = new ArrayList<>();
+        for (int i = 0; i < itens.size(); i += TAMANHO_LOTE) {
+            blocos.add(itens.subList(i, Math.min(i + TAMANHO_LOTE, itens.size())));
+        }
+        return blocos;
+    }
+
+    private void auditar(ResultadoMovimentacaoLoteDTO resultado, String usuario) {
+        BufferAuditoria buffer = bufferAuditoria.getIfAvailable();
+        if (buffer == null || resultado.getMovimentados() == 0) {
+            return;
+        }
+        // Cada bem já ganha sua linha em movimentacoes; um registro resume o lote, na localização de destino
+        RegistroAuditoria registro = new RegistroAuditoria("Localizacao", resultado.getLocalizacaoDestinoId(),
+                "MOVIMENTACAO_LOTE");
+        registro.setUsername(usuario);
+        Map<String, Object> dados = new LinkedHashMap<>();
+        dados.put("solicitados", resultado.getSolicitados());
+        dados.put("movimentados", resultado.getMovimentados());
+        dados.put("rejeitados", resultado.getRejeitados());
+        try {
+            registro.setDadosNovos(objectMapper.writeValueAsString(dados));
+        } catch (JsonProcessingException e) {
+            registro.setDadosNovos(dados.toString());
+        }
+        // Só após o commit: um rollback não pode deixar registro de movimentação que não aconteceu
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    buffer.registrar(registro);
+                }
+            });
+        } else {
+            buffer.registrar(registro);
+        }
+    }
 }
@@ -1,11 +1,13 @@
 package com.manus.patrimonio.service;
 
+import com.manus.patrimonio.cache.PaginaCache;
 import com.manus.patrimonio.dto.NotificacaoDTO;
 import com.manus.patrimonio.exception.RecursoNaoEncontradoException;
 import com.manus.patrimonio.exception.RegraDeNegocioException;
 import com.manus.patrimonio.mapper.PatrimonioMapper;
 import com.manus.patrimonio.model.Notificacao;
 import com.manus.patrimonio.model.Usuario;
+import com.manus.patrimonio.replica.LeituraNoPrimario;
 import com.manus.patrimonio.repository.NotificacaoRepository;
 import com.manus.patrimonio.repository.UsuarioRepository;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -49,7 +51,8 @@ public class NotificacaoService {
         return patrimonioMapper.notificacaoToNotificacaoDTO(notificacaoSalva);
     }
 
-    @Cacheable(value = "notificacoes", key = "#id")
+    @Cacheable(value = "notificacoes", key = "#id", sync = true)
+    @LeituraNoPrimario
     public NotificacaoDTO buscarPorId(Long id) {
         Notificacao notificacao = notificacaoRepository.findById(id)
                 .orElseThrow(() -> new RecursoNaoEncontradoException("Notificação não encontrada"));
@@ -57,10 +60,11 @@ public class NotificacaoService {
         return patrimonioMapper.notificacaoToNotificacaoDTO(notificacao);
     }
 
-    @Cacheable(value = "notificacoes", key = "'page_' + #pageable.pageNumber + '_' + #pageable.pageSize")
+    @Cacheable(value = "notificacoes", keyGenerator = "chaveCache", sync = true)
+    @LeituraNoPrimario
     public Page<NotificacaoDTO> buscarTodas(Pageable pageable) {
         Page<Notificacao> notificacoes = notificacaoRepository.findAll(pageable);
-        return notificacoes.map(patrimonioMapper::notificacaoToNotificacaoDTO);
+        return PaginaCache.de(notificacoes.map(patrimonioMapper::notificacaoToNotificacaoDTO));
     }
 
     @CacheEvict(value = "notificacoes", allEntries = true)
@@ -129,101 +133,92 @@ public class NotificacaoService {
     }
 
     // Search Operations
+    @Transactional(readOnly = true)
     public Page<NotificacaoDTO> buscarPorUsuario(Long usuarioId, Pageable pageable) {
         Page<Notificacao> notificacoes = notificacaoRepository.findByUsuarioId(usuarioId, pageable);
         return notificacoes.map(patrimonioMapper::notificacaoToNotificacaoDTO);
     }
 
+    @Transactional(readOnly = true)
     public Page<NotificacaoDTO> buscarPorTipo(String tipo, Pageable pageable) {
         Page<Notificacao> notificacoes = notificacaoRepository.findByTipo(tipo, pageable);
         return notificacoes.map(patrimonioMapper::notificacaoToNotificacaoDTO);
     }
 
+    @Transactional(readOnly = true)
     public Page<NotificacaoDTO> buscarPorStatus(Boolean lida, Pageable pageable) {
         Page<Notificacao> notificacoes = notificacaoRepository.findByLida(lida, pageable);
         return notificacoes.map(patrimonioMapper::notificacaoToNotificacaoDTO);
     }
 
+    @Transactional(readOnly = true)
     public Page<NotificacaoDTO> buscarPorPrioridade(Integer prioridade, Pageable pageable) {
-        List<Notificacao> notificacoes = notificacaoRepository.findByPrioridadeGreaterThanEqualOrderByPrioridadeDesc(prioridade);
-        // Converter para Page manualmente
-        int start = (int) pageable.getOffset();
-        int end = Math.min((start + pageable.getPageSize()), notificacoes.size());
-        List<Notificacao> pageContent = notificacoes.subList(start, end);
-        return new org.springframework.data.domain.PageImpl<>(pageContent, pageable, notificacoes.size())
-                .map(patrimonioMapper::notificacaoToNotificacaoDTO);
+        Page<Notificacao> notificacoes = notificacaoRepository.findByPrioridadeGreaterThanEqualOrderByPrioridadeDesc(prioridade, pageable);
+        return notificacoes.map(patrimonioMapper::notificacaoToNotificacaoDTO);
     }
 
+    @Transactional(readOnly = true)
     public Page<NotificacaoDTO> buscarPorCategoria(String categoria, Pageable pageable) {
-        List<Notificacao> notificacoes = notificacaoRepository.findByCategoriaContainingIgnoreCaseOrderByDataEnvioDesc(categoria);
-        // Converter para Page manualmente
-        int start = (int) pageable.getOffset();
-        int end = Math.min((start + pageable.getPageSize()), notificacoes.size());
-        List<Notificacao> pageContent = notificacoes.subList(start, end);
-        return new org.springframework.data.domain.PageImpl<>(pageContent, pageable, notificacoes.size())
-                .map(patrimonioMapper::notificacaoToNotificacaoDTO);
+        Page<Notificacao> notificacoes = notificacaoRepository.findByCategoriaContainingIgnoreCaseOrderByDataEnvioDesc(categoria, pageable);
+        return notificacoes.map(patrimonioMapper::notificacaoToNotificacaoDTO);
     }
 
+    @Transactional(readOnly = true)
     public Page<NotificacaoDTO> buscarPorPeriodo(LocalDateTime dataInicio, LocalDateTime dataFim, Pageable pageable) {
-        List<Notificacao> notificacoes = notificacaoRepository.findByDataEnvioBetweenOrderByDataEnvioDesc(dataInicio, dataFim);
-        // Converter para Page manualmente
-        int start = (int) pageable.getOffset();
-        int end = Math.min((start + pageable.getPageSize()), notificacoes.size());
-        List<Notificacao> pageContent = notificacoes.subList(start, end);
-        return new org.springframework.data.domain.PageImpl<>(pageContent, pageable, notificacoes.size())
-                .map(patrimonioMapper::notificacaoToNotificacaoDTO);
+        Page<Notificacao> notificacoes = notificacaoRepository.findByDataEnvioBetweenOrderByDataEnvioDesc(dataInicio, dataFim, pageable);
+        return notificacoes.map(patrimonioMapper::notificacaoToNotificacaoDTO);
     }
 
+    @Transactional(readOnly = true)
     public Page<NotificacaoDTO> buscarPorTentativasEnvio(Integer tentativasMinimas, Pageable pageable) {
-        List<Notificacao> notificacoes = notificacaoRepository.findNotificacoesPorTentativasEnvio(tentativasMinimas);
-        // Converter para Page manualmente
-        int start = (int) pageable.getOffset();
-        int end = Math.min((start + pageable.getPageSize()), notificacoes.size());
-        List<Notificacao> pageContent = notificacoes.subList(start, end);
-        return new org.springframework.data.domain.PageImpl<>(pageContent, pageable, notificacoes.size())
-                .map(patrimonioMapper::notificacaoToNotificacaoDTO);
+        Page<Notificacao> notificacoes = notificacaoRepository.findNotificacoesPorTentativasEnvio(tentativasMinimas, pageable);
+        return notificacoes.map(patrimonioMapper::notificacaoToNotificacaoDTO);
     }
 
     // Statistics and Reports
+    @Transactional(readOnly = true)
     public Long contarNotificacoesPorUsuario(Long usuarioId) {
         return notificacaoRepository.countByUsuarioId(usuarioId);
     }
 
+    @Transactional(readOnly = true)
     public Long contarNotificacoesNaoLidasPorUsuario(Long usuarioId) {
-        List<Notificacao> notificacoes = notificacaoRepository.findNotificacoesNaoLidasPorUsuario(usuarioId);
-        return (long) notificacoes.size();
+        return notificacaoRepository.countNotificacoesNaoLidasPorUsuario(usuarioId);
     }
 
+    @Transactional(readOnly = true)
     public Long contarNotificacoesPorTipo(String tipo) {
-        List<Notificacao> notificacoes = notificacaoRepository.findByTipoOrderByDataEnvioDesc(tipo);
-        return (long) notificacoes.size();
+        return notificacaoRepository.countByTipo(tipo);
     }
 
+    @Transactional(readOnly = true)
     public Long contarNotificacoesPorStatus(Boolean lida) {
-        List<Notificacao> notificacoes = notificacaoRepository.findByLidaOrderByDataEnvioDesc(lida);
-        return (long) notificacoes.size();
+        return notificacaoRepository.countByLida(lida);
     }
 
+    @Transactional(readOnly = true)
     public Long contarNotificacoesPorPrioridade(Integer prioridade) {
-        List<Notificacao> notificacoes = notificacaoRepository.findByPrioridadeGreaterThanEqualOrderByPrioridadeDesc(prioridade);
-        return (long) notificacoes.size();
+        return notificacaoRepository.countByPrioridadeMinima(prioridade);
     }
 
+    @Transactional(readOnly = true)
     public Long contarNotificacoesPorCategoria(String categoria) {
-        List<Notificacao> notificacoes = notificacaoRepository.findByCategoriaContainingIgnoreCaseOrderByDataEnvioDesc(categoria);
-        return (long) notificacoes.size();
+        return notificacaoRepository.countByCategoriaContainingIgnoreCase(categoria);
     }
 
+    @Transactional(readOnly = true)
     public List<NotificacaoDTO> buscarNotificacoesExpiradas() {
         // Implementar lógica para notificações expiradas baseada em data de expiração
         return patrimonioMapper.notificacoesToNotificacaoDTOs(List.of());
     }
 
+    @Transactional(readOnly = true)
     public List<NotificacaoDTO> buscarNotificacoesUrgentes() {
         List<Notificacao> notificacoes = notificacaoRepository.findNotificacoesUrgentes();
         return patrimonioMapper.notificacoesToNotificacaoDTOs(notificacoes);
     }
 
+    @Transactional(readOnly = true)
     public List<NotificacaoDTO> buscarNotificacoesPendentesEnvio() {
         // Implementar lógica para notificações pendentes de envio
         return patrimonioMapper.notificacoesToNotificacaoDTOs(List.of());
@@ -232,12 +227,7 @@ public class NotificacaoService {
     // Bulk Operations
     @CacheEvict(value = "notificacoes", allEntries = true)
     public void marcarTodasComoLidas(Long usuarioId) {
-        List<Notificacao> notificacoes = notificacaoRepository.findNotificacoesNaoLidasPorUsuario(usuarioId);
-        for (Notificacao notificacao : notificacoes) {
-            notificacao.setLida(true);
-            notificacao.setDataLeitura(LocalDateTime.now());
-        }
-        notificacaoRepository.saveAll(notificacoes);
+        notificacaoRepository.marcarTodasComoLidas(usuarioId, LocalDateTime.now());
     }
 
     @CacheEvict(value = "notificacoes", allEntries = true)
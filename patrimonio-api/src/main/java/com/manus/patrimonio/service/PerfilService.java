@@ -1,11 +1,15 @@
 package com.manus.patrimonio.service;
 
+import com.manus.patrimonio.cache.PaginaCache;
 import com.manus.patrimonio.dto.PerfilDTO;
 import com.manus.patrimonio.exception.RecursoNaoEncontradoException;
 import com.manus.patrimonio.exception.RegraDeNegocioException;
 import com.manus.patrimonio.mapper.PatrimonioMapper;
 import com.manus.patrimonio.model.Perfil;
+import com.manus.patrimonio.replica.LeituraNoPrimario;
 import com.manus.patrimonio.repository.PerfilRepository;
+import com.manus.patrimonio.repository.UsuarioRepository;
+import com.manus.patrimonio.security.CachePrincipais;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
@@ -23,9 +27,15 @@ public class PerfilService {
     @Autowired
     private PerfilRepository perfilRepository;
 
+    @Autowired
+    private UsuarioRepository usuarioRepository;
+
     @Autowired
     private PatrimonioMapper patrimonioMapper;
 
+    @Autowired
+    private CachePrincipais cachePrincipais;
+
     // CRUD Operations
     public PerfilDTO criar(PerfilDTO perfilDTO) {
         validarPerfil(perfilDTO);
@@ -40,7 +50,8 @@ public class PerfilService {
         return patrimonioMapper.perfilToPerfilDTO(perfilSalvo);
     }
 
-    @Cacheable(value = "perfis", key = "#id")
+    @Cacheable(value = "perfis", key = "'id:' + #id", sync = true)
+    @LeituraNoPrimario
     public PerfilDTO buscarPorId(Long id) {
         Perfil perfil = perfilRepository.findById(id)
                 .orElseThrow(() -> new RecursoNaoEncontradoException("Perfil não encontrado"));
@@ -48,7 +59,8 @@ public class PerfilService {
         return patrimonioMapper.perfilToPerfilDTO(perfil);
     }
 
-    @Cacheable(value = "perfis", key = "#nome")
+    @Cacheable(value = "perfis", key = "'nome:' + #nome", sync = true)
+    @LeituraNoPrimario
     public PerfilDTO buscarPorNome(String nome) {
         Perfil perfil = perfilRepository.findByNome(nome)
                 .orElseThrow(() -> new RecursoNaoEncontradoException("Perfil não encontrado"));
@@ -56,10 +68,11 @@ public class PerfilService {
         return patrimonioMapper.perfilToPerfilDTO(perfil);
     }
 
-    @Cacheable(value = "perfis", key = "'page_' + #pageable.pageNumber + '_' + #pageable.pageSize")
+    @Cacheable(value = "perfis", keyGenerator = "chaveCache", sync = true)
+    @LeituraNoPrimario
     public Page<PerfilDTO> buscarTodos(Pageable pageable) {
         Page<Perfil> perfis = perfilRepository.findAll(pageable);
-        return perfis.map(patrimonioMapper::perfilToPerfilDTO);
+        return PaginaCache.de(perfis.map(patrimonioMapper::perfilToPerfilDTO));
     }
 
     @CacheEvict(value = "perfis", allEntries = true)
@@ -91,6 +104,7 @@ public class PerfilService {
         perfilExistente.setAtivo(perfilDTO.getAtivo());
         
         Perfil perfilAtualizado = perfilRepository.save(perfilExistente);
+        invalidarPrincipais(id);
         return patrimonioMapper.perfilToPerfilDTO(perfilAtualizado);
     }
 
@@ -110,6 +124,7 @@ public class PerfilService {
         // Nota: Verificação de usuários associados removida devido à falta de relacionamento direto
         // entre Perfil e Usuario na entidade Perfil
         
+        invalidarPrincipais(id);
         perfilRepository.delete(perfil);
     }
 
@@ -140,58 +155,51 @@ public class PerfilService {
     }
 
     // Search Operations
+    @Transactional(readOnly = true)
     public Page<PerfilDTO> buscarPorNome(String nome, Pageable pageable) {
         Page<Perfil> perfis = perfilRepository.findByNomeContainingIgnoreCase(nome, pageable);
         return perfis.map(patrimonioMapper::perfilToPerfilDTO);
     }
 
+    @Transactional(readOnly = true)
     public Page<PerfilDTO> buscarPorStatus(Boolean ativo, Pageable pageable) {
-        List<Perfil> perfis = ativo ? 
-            perfilRepository.findByAtivoTrueOrderByNome() : 
-            perfilRepository.findByAtivoFalseOrderByNome();
-        // Converter para Page manualmente
-        int start = (int) pageable.getOffset();
-        int end = Math.min((start + pageable.getPageSize()), perfis.size());
-        List<Perfil> pageContent = perfis.subList(start, end);
-        return new org.springframework.data.domain.PageImpl<>(pageContent, pageable, perfis.size())
-                .map(patrimonioMapper::perfilToPerfilDTO);
+        Page<Perfil> perfis = ativo ? 
+            perfilRepository.findByAtivoTrueOrderByNome(pageable) : 
+            perfilRepository.findByAtivoFalseOrderByNome(pageable);
+        return perfis.map(patrimonioMapper::perfilToPerfilDTO);
     }
 
+    @Transactional(readOnly = true)
     public Page<PerfilDTO> buscarPorNivelAcesso(Integer nivelMinimo, Integer nivelMaximo, Pageable pageable) {
-        List<Perfil> perfis = perfilRepository.findPerfisPorNivelAcesso(nivelMinimo, nivelMaximo);
-        // Converter para Page manualmente
-        int start = (int) pageable.getOffset();
-        int end = Math.min((start + pageable.getPageSize()), perfis.size());
-        List<Perfil> pageContent = perfis.subList(start, end);
-        return new org.springframework.data.domain.PageImpl<>(pageContent, pageable, perfis.size())
-                .map(patrimonioMapper::perfilToPerfilDTO);
+        Page<Perfil> perfis = perfilRepository.findPerfisPorNivelAcesso(nivelMinimo, nivelMaximo, pageable);
+        return perfis.map(patrimonioMapper::perfilToPerfilDTO);
     }
 
+    @Transactional(readOnly = true)
     public Page<PerfilDTO> buscarPorPermissao(String permissao, Pageable pageable) {
-        List<Perfil> perfis = perfilRepository.findPerfisPorPermissao(permissao);
-        // Converter para Page manualmente
-        int start = (int) pageable.getOffset();
-        int end = Math.min((start + pageable.getPageSize()), perfis.size());
-        List<Perfil> pageContent = perfis.subList(start, end);
-        return new org.springframework.data.domain.PageImpl<>(pageContent, pageable, perfis.size())
-                .map(patrimonioMapper::perfilToPerfilDTO);
+        Page<Perfil> perfis = perfilRepository.findPerfisPorPermissao(permissao, pageable);
+        return perfis.map(patrimonioMapper::perfilToPerfilDTO);
     }
 
     // Statistics and Reports
+    @Transactional(readOnly = true)
     public Long contarPerfisAtivos() {
         return perfilRepository.countPerfisAtivos();
     }
 
+    @Transactional(readOnly = true)
     public Long contarPerfisInativos() {
         return perfilRepository.countPerfisInativos();
     }
 
+    @Transactional(readOnly = true)
     public Long contarUsuariosPorPerfil(Long perfilId) {
         // Nota: Não é possível contar usuários por perfil sem relacionamento direto
         // Retornando 0 como valor padrão
         return 0L;
     }
 
+    @Transactional(readOnly = true)
     public List<PerfilDTO> buscarPerfisDoSistema() {
         List<Perfil> perfis = perfilRepository.findPerfisAdministradores();
         perfis.addAll(perfilRepository.findPerfisGestores());
@@ -200,6 +208,7 @@ public class PerfilService {
         return patrimonioMapper.perfisToPerfilDTOs(perfis);
     }
 
+    @Transactional(readOnly = true)
     public List<PerfilDTO> buscarPerfisCustomizados() {
         // Buscar todos os perfis e remover os do sistema
         List<Perfil> todosPerfis = perfilRepository.findAll();
@@ -211,6 +220,11 @@ public class PerfilService {
         return patrimonioMapper.perfisToPerfilDTOs(todosPerfis);
     }
 
+    // Os perfis viram authorities ROLE_<nome> no principal e nas claims do JWT
+    private void invalidarPrincipais(Long perfilId) {
+        usuarioRepository.findUsernamesPorPerfil(perfilId).forEach(cachePrincipais::invalidar);
+    }
+
     // Validation
     private void validarPerfil(PerfilDTO perfilDTO) {
         if (perfilDTO.getNome() == null || perfilDTO.getNome().trim().length() < 2) {
@@ -0,0 +1,279 @@
+package com.manus.patrimonio.service;
+
+import com.manus.patrimonio.dto.SolicitacaoRelatorioDTO;
+import com.manus.patrimonio.enums.StatusRelatorio;
+import com.manus.patrimonio.enums.TipoRelatorio;
+import com.manus.patrimonio.exception.RecursoNaoEncontradoException;
+import com.manus.patrimonio.exception.RegraDeNegocioException;
+import com.manus.patrimonio.exportacao.FormatoExportacao;
+import com.manus.patrimonio.mapper.PatrimonioMapper;
+import com.manus.patrimonio.model.SolicitacaoRelatorio;
+import com.manus.patrimonio.relatorio.ArmazenamentoRelatorios;
+import com.manus.patrimonio.relatorio.GeracaoRelatorioJob;
+import com.manus.patrimonio.relatorio.RelatorioProperties;
+import com.manus.patrimonio.repository.SolicitacaoRelatorioRepository;
+import org.quartz.JobBuilder;
+import org.quartz.JobDetail;
+import org.quartz.JobKey;
+import org.quartz.Scheduler;
+import org.quartz.SchedulerException;
+import org.quartz.Trigger;
+import org.quartz.TriggerBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.Resource;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Relatórios gerados em segundo plano: a solicitação é gravada e vira um job do Quartz
+ * (JDBC job store, em cluster), e o arquivo gerado fica no {@link ArmazenamentoRelatorios}
+ * até vencer a retenção. Assim exportações longas não ocupam threads do Tomcat.
+ */
+@Service
+public class RelatorioService {
+
+    private static final Logger logger = LoggerFactory.getLogger(RelatorioService.class);
+
+    private static final int TAMANHO_MENSAGEM_ERRO = 1000;
+
+    private static final String PERFIL_ADMINISTRADOR = "ROLE_ADMIN";
+
+    @Autowired
+    private SolicitacaoRelatorioRepository solicitacaoRelatorioRepository;
+
+    @Autowired
+    private ExportacaoService exportacaoService;
+
+    @Autowired
+    private ArmazenamentoRelatorios armazenamentoRelatorios;
+
+    @Autowired
+    private Scheduler scheduler;
+
+    @Autowired
+    private PatrimonioMapper patrimonioMapper;
+
+    @Autowired
+    private RelatorioProperties relatorioProperties;
+
+    /**
+     * Registra a solicitação e agenda sua geração.
+     * Sem transação de propósito: o job roda em outra conexão (a do Quartz) e precisa
+     * encontrar a solicitação já gravada.
+     */
+    public SolicitacaoRelatorioDTO solicitar(TipoRelatorio tipo, FormatoExportacao formato,
+                                             LocalDateTime dataInicio, LocalDateTime dataFim, String usuario) {
+        if (tipo.isExigePeriodo()) {
+            if (dataInicio == null || dataFim == null) {
+                throw new RegraDeNegocioException("Relatório de " + tipo.getDescricao() + " exige data de início e de fim");
+            }
+            if (dataInicio.isAfter(dataFim)) {
+                throw new RegraDeNegocioException("Data de início não pode ser posterior à data de fim");
+            }
+        }
+
+        SolicitacaoRelatorio solicitacao = new SolicitacaoRelatorio(UUID.randomUUID().toString(), tipo, formato);
+        if (tipo.isExigePeriodo()) {
+            solicitacao.setDataInicioPeriodo(dataInicio);
+            solicitacao.setDataFimPeriodo(dataFim);
+        }
+        solicitacao.setSolicitadoPor(usuario);
+        solicitacao = solicitacaoRelatorioRepository.save(solicitacao);
+
+        try {
+            agendar(solicitacao);
+        } catch (SchedulerException e) {
+            falhar(solicitacao, "Não foi possível agendar o relatório: " + e.getMessage());
+            throw new IllegalStateException("Não foi possível agendar o relatório", e);
+        }
+        logger.info("Relatório {} de {} solicitado por {}", solicitacao.getCodigo(), tipo, usuario);
+        return converter(solicitacao);
+    }
+
+    /**
+     * Solicitação de {@code codigo}, visível só para quem a fez e para administradores.
+     */
+    public SolicitacaoRelatorioDTO buscarPorCodigo(String codigo, Authentication autenticacao) {
+        return converter(buscarSolicitacao(codigo, autenticacao));
+    }
+
+    public Page<SolicitacaoRelatorioDTO> buscarPorSolicitante(String usuario, Pageable pageable) {
+        return solicitacaoRelatorioRepository.findBySolicitadoPorOrderByDataSolicitacaoDesc(usuario, pageable)
+                .map(this::converter);
+    }
+
+    /**
+     * Arquivo de um relatório concluído, com a mesma restrição de {@link #buscarPorCodigo}.
+     */
+    public Resource abrirArquivo(String codigo, Authentication autenticacao) {
+        SolicitacaoRelatorio solicitacao = buscarSolicitacao(codigo, autenticacao);
+        if (solicitacao.getStatus() != StatusRelatorio.CONCLUIDO) {
+            throw new RegraDeNegocioException("Relatório " + codigo + " não está disponível: "
+                    + solicitacao.getStatus().getDescricao());
+        }
+        return armazenamentoRelatorios.abrir(solicitacao.getArquivo());
+    }
+
+    /**
+     * Gera o arquivo de uma solicitação. Chamado pelo {@link GeracaoRelatorioJob}; a falha
+     * fica registrada na solicitação, sem relançar, para o Quartz não repetir o job.
+     */
+    public void gerar(String codigo, String instancia) {
+        SolicitacaoRelatorio solicitacao = solicitacaoRelatorioRepository.findByCodigo(codigo).orElse(null);
+        if (solicitacao == null || solicitacao.getStatus().isFinalizado()) {
+            // Job recuperado após a conclusão, ou solicitação já removida pela retenção
+            logger.warn("Relatório {} ignorado: solicitação inexistente ou já finalizada", codigo);
+            return;
+        }
+        solicitacao.setStatus(StatusRelatorio.EM_EXECUCAO);
+        solicitacao.setDataInicioExecucao(LocalDateTime.now());
+        solicitacao.setNoExecucao(instancia);
+        solicitacao = solicitacaoRelatorioRepository.save(solicitacao);
+
+        String arquivo = codigo + "." + solicitacao.getFormato().getExtensao();
+        try {
+            long registros;
+            try (OutputStream saida = armazenamentoRelatorios.criar(arquivo)) {
+                registros = exportar(solicitacao, saida);
+            }
+            solicitacao.setTamanhoBytes(armazenamentoRelatorios.publicar(arquivo));
+            solicitacao.setRegistros(registros);
+            solicitacao.setArquivo(arquivo);
+            solicitacao.setStatus(StatusRelatorio.CONCLUIDO);
+            solicitacao.setDataConclusao(LocalDateTime.now());
+            solicitacaoRelatorioRepository.save(solicitacao);
+            logger.info("Relatório {} concluído: {} registros, {} bytes", codigo, registros, solicitacao.getTamanhoBytes());
+        } catch (IOException | RuntimeException e) {
+            logger.error("Falha ao gerar o relatório {}: {}", codigo, e.getMessage(), e);
+            armazenamentoRelatorios.remover(arquivo);
+            falhar(solicitacao, e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName());
+        }
+    }
+
+    /**
+     * Na subida do nó, reconcilia as solicitações em aberto com o job store: uma solicitação
+     * pendente ou em execução sem job no Quartz (job store recriado ou limpo à mão) nunca
+     * terminaria. As pendentes são reagendadas; as em execução tiveram a geração interrompida
+     * e são marcadas como falha, para o usuário solicitar de novo. Solicitações do último
+     * minuto ficam de fora: podem ainda estar sendo agendadas por outro nó.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void recuperarSolicitacoesOrfas() {
+        List<SolicitacaoRelatorio> abertas = solicitacaoRelatorioRepository.findByStatusInAndDataSolicitacaoBefore(
+                List.of(StatusRelatorio.PENDENTE, StatusRelatorio.EM_EXECUCAO), LocalDateTime.now().minusMinutes(1));
+        int reagendadas = 0;
+        int interrompidas = 0;
+        for (SolicitacaoRelatorio solicitacao : abertas) {
+            try {
+                if (scheduler.checkExists(JobKey.jobKey(solicitacao.getCodigo(), GeracaoRelatorioJob.GRUPO))) {
+                    continue;
+                }
+                if (solicitacao.getStatus() == StatusRelatorio.PENDENTE) {
+                    agendar(solicitacao);
+                    reagendadas++;
+                } else {
+                    falhar(solicitacao, "Geração interrompida antes de concluir; solicite o relatório novamente");
+                    interrompidas++;
+                }
+            } catch (SchedulerException e) {
+                // Outro nó subindo ao mesmo tempo pode ter reagendado primeiro
+                logger.warn("Não foi possível recuperar o relatório {}: {}", solicitacao.getCodigo(), e.getMessage());
+            }
+        }
+        if (reagendadas > 0 || interrompidas > 0) {
+            logger.info("Relatórios sem job no Quartz: {} reagendados, {} marcados como falha", reagendadas, interrompidas);
+        }
+    }
+
+    /**
+     * Remove arquivos e solicitações concluídos há mais que a retenção configurada.
+     *
+     * @return quantidade de relatórios removidos
+     */
+    public int removerExpirados() {
+        LocalDateTime limite = LocalDateTime.now().minus(relatorioProperties.getRetencao());
+        List<SolicitacaoRelatorio> expiradas = solicitacaoRelatorioRepository.findByDataConclusaoBefore(limite);
+        for (SolicitacaoRelatorio solicitacao : expiradas) {
+            if (solicitacao.getArquivo() != null) {
+                armazenamentoRelatorios.remover(solicitacao.getArquivo());
+            }
+            solicitacaoRelatorioRepository.delete(solicitacao);
+        }
+        if (!expiradas.isEmpty()) {
+            logger.info("{} relatórios removidos pela retenção", expiradas.size());
+        }
+        return expiradas.size();
+    }
+
+    private long exportar(SolicitacaoRelatorio solicitacao, OutputStream saida) throws IOException {
+        FormatoExportacao formato = solicitacao.getFormato();
+        return switch (solicitacao.getTipo()) {
+            case BENS -> exportacaoService.exportarBens(formato, saida);
+            case DEPRECIACAO -> exportacaoService.exportarDepreciacao(formato, saida);
+            case BAIXAS -> exportacaoService.exportarBaixas(formato, saida);
+            case AUDITORIA -> exportacaoService.exportarAuditoria(formato, solicitacao.getDataInicioPeriodo(),
+                    solicitacao.getDataFimPeriodo(), saida);
+            case ESTATISTICAS -> exportacaoService.exportarEstatisticas(formato, saida);
+        };
+    }
+
+    private void agendar(SolicitacaoRelatorio solicitacao) throws SchedulerException {
+        // requestRecovery: se o nó cair no meio da geração, outro nó do cluster a refaz
+        JobDetail job = JobBuilder.newJob(GeracaoRelatorioJob.class)
+                .withIdentity(solicitacao.getCodigo(), GeracaoRelatorioJob.GRUPO)
+                .usingJobData(GeracaoRelatorioJob.CODIGO, solicitacao.getCodigo())
+                .requestRecovery()
+                .build();
+        Trigger trigger = TriggerBuilder.newTrigger()
+                .withIdentity(solicitacao.getCodigo(), GeracaoRelatorioJob.GRUPO)
+                .startNow()
+                .build();
+        scheduler.scheduleJob(job, trigger);
+    }
+
+    private void falhar(SolicitacaoRelatorio solicitacao, String mensagem) {
+        solicitacao.setStatus(StatusRelatorio.FALHOU);
+        solicitacao.setDataConclusao(LocalDateTime.now());
+        solicitacao.setMensagemErro(mensagem.length() > TAMANHO_MENSAGEM_ERRO
+                ? mensagem.substring(0, TAMANHO_MENSAGEM_ERRO) : mensagem);
+        solicitacaoRelatorioRepository.save(solicitacao);
+    }
+
+    // O relatório de outro usuário responde como inexistente, sem confirmar que o código existe
+    private SolicitacaoRelatorio buscarSolicitacao(String codigo, Authentication autenticacao) {
+        return solicitacaoRelatorioRepository.findByCodigo(codigo)
+                .filter(solicitacao -> podeAcessar(solicitacao, autenticacao))
+                .orElseThrow(() -> new RecursoNaoEncontradoException("Relatório não encontrado: " + codigo));
+    }
+
+    private static boolean podeAcessar(SolicitacaoRelatorio solicitacao, Authentication autenticacao) {
+        if (autenticacao == null) {
+            return false;
+        }
+        if (autenticacao.getName().equals(solicitacao.getSolicitadoPor())) {
+            return true;
+        }
+        return autenticacao.getAuthorities().stream()
+                .anyMatch(autoridade -> PERFIL_ADMINISTRADOR.equals(autoridade.getAuthority()));
+    }
+
+    private SolicitacaoRelatorioDTO converter(SolicitacaoRelatorio solicitacao) {
+        SolicitacaoRelatorioDTO dto = patrimonioMapper.solicitacaoRelatorioToSolicitacaoRelatorioDTO(solicitacao);
+        if (solicitacao.getStatus() == StatusRelatorio.CONCLUIDO) {
+            dto.setUrlDownload("/api/relatorios/" + solicitacao.getCodigo() + "/arquivo");
+        }
+        return dto;
+    }
+}
@@ -1,6 +1,7 @@
 package com.manus.patrimonio.service;
 
 import com.manus.patrimonio.model.Usuario;
+import com.manus.patrimonio.replica.LeituraNoPrimario;
 import com.manus.patrimonio.repository.UsuarioRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -20,6 +21,7 @@ public class UserDetailsServiceImpl implements UserDetailsService {
     private UsuarioRepository usuarioRepository;
 
     @Override
+    @LeituraNoPrimario
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
         Usuario usuario = usuarioRepository.findByUsername(username)
                 .orElseThrow(() -> new UsernameNotFoundException("Usuário não encontrado: " + username));
@@ -43,7 +45,7 @@ public class UserDetailsServiceImpl implements UserDetailsService {
                 .password(usuario.getSenhaHash())
                 .authorities(authorities)
                 .accountExpired(false)
-                .accountLocked(false)
+                .accountLocked(usuario.isBloqueado())
                 .credentialsExpired(false)
                 .disabled(!usuario.isAtivo())
                 .build();
@@ -1,23 +1,29 @@
 package com.manus.patrimonio.service;
 
+import com.manus.patrimonio.cache.PaginaCache;
 import com.manus.patrimonio.dto.UsuarioDTO;
 import com.manus.patrimonio.exception.RecursoNaoEncontradoException;
 import com.manus.patrimonio.exception.RegraDeNegocioException;
 import com.manus.patrimonio.mapper.PatrimonioMapper;
 import com.manus.patrimonio.model.Perfil;
 import com.manus.patrimonio.model.Usuario;
+import com.manus.patrimonio.replica.LeituraNoPrimario;
 import com.manus.patrimonio.repository.PerfilRepository;
 import com.manus.patrimonio.repository.UsuarioRepository;
+import com.manus.patrimonio.security.CachePrincipais;
+import com.manus.patrimonio.security.ContadorFalhasLogin;
+import com.manus.patrimonio.security.TentativasLoginProperties;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
@@ -38,6 +44,15 @@ public class UsuarioService {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private CachePrincipais cachePrincipais;
+
+    @Autowired
+    private ContadorFalhasLogin contadorFalhasLogin;
+
+    @Autowired
+    private TentativasLoginProperties tentativasLoginProperties;
+
     // CRUD Operations
     public UsuarioDTO criar(UsuarioDTO usuarioDTO) {
         validarUsuario(usuarioDTO);
@@ -66,7 +81,8 @@ public class UsuarioService {
         return patrimonioMapper.usuarioToUsuarioDTO(usuarioSalvo);
     }
 
-    @Cacheable(value = "usuarios", key = "#id")
+    @Cacheable(value = "usuarios", key = "'id:' + #id", sync = true)
+    @LeituraNoPrimario
     public UsuarioDTO buscarPorId(Long id) {
         Usuario usuario = usuarioRepository.findById(id)
                 .orElseThrow(() -> new RecursoNaoEncontradoException("Usuário não encontrado"));
@@ -74,7 +90,8 @@ public class UsuarioService {
         return patrimonioMapper.usuarioToUsuarioDTO(usuario);
     }
 
-    @Cacheable(value = "usuarios", key = "#username")
+    @Cacheable(value = "usuarios", key = "'username:' + #username", sync = true)
+    @LeituraNoPrimario
     public UsuarioDTO buscarPorUsername(String username) {
         Usuario usuario = usuarioRepository.findByUsername(username)
                 .orElseThrow(() -> new RecursoNaoEncontradoException("Usuário não encontrado"));
@@ -82,7 +99,8 @@ public class UsuarioService {
         return patrimonioMapper.usuarioToUsuarioDTO(usuario);
     }
 
-    @Cacheable(value = "usuarios", key = "#email")
+    @Cacheable(value = "usuarios", key = "'email:' + #email", sync = true)
+    @LeituraNoPrimario
     public UsuarioDTO buscarPorEmail(String email) {
         Usuario usuario = usuarioRepository.findByEmail(email)
                 .orElseThrow(() -> new RecursoNaoEncontradoException("Usuário não encontrado"));
@@ -90,10 +108,11 @@ public class UsuarioService {
         return patrimonioMapper.usuarioToUsuarioDTO(usuario);
     }
 
-    @Cacheable(value = "usuarios", key = "'page_' + #pageable.pageNumber + '_' + #pageable.pageSize")
+    @Cacheable(value = "usuarios", keyGenerator = "chaveCache", sync = true)
+    @LeituraNoPrimario
     public Page<UsuarioDTO> buscarTodos(Pageable pageable) {
         Page<Usuario> usuarios = usuarioRepository.findAll(pageable);
-        return usuarios.map(patrimonioMapper::usuarioToUsuarioDTO);
+        return PaginaCache.de(usuarios.map(patrimonioMapper::usuarioToUsuarioDTO));
     }
 
     @CacheEvict(value = "usuarios", allEntries = true)
@@ -115,6 +134,9 @@ public class UsuarioService {
             throw new RegraDeNegocioException("Email já existe");
         }
         
+        // Tokens emitidos com o username ou os dados anteriores voltam a ser conferidos no banco
+        cachePrincipais.invalidar(usuarioExistente.getUsername());
+
         // Atualizar campos
         usuarioExistente.setUsername(usuarioDTO.getUsername());
         usuarioExistente.setEmail(usuarioDTO.getEmail());
@@ -149,6 +171,7 @@ public class UsuarioService {
             throw new RegraDeNegocioException("Não é possível excluir um usuário administrador");
         }
         
+        cachePrincipais.invalidar(usuario.getUsername());
         usuarioRepository.delete(usuario);
     }
 
@@ -160,6 +183,8 @@ public class UsuarioService {
         
         usuario.ativar();
         Usuario usuarioAtivado = usuarioRepository.save(usuario);
+        cachePrincipais.invalidar(usuario.getUsername());
+        contadorFalhasLogin.limpar(usuario.getUsername());
         return patrimonioMapper.usuarioToUsuarioDTO(usuarioAtivado);
     }
 
@@ -174,6 +199,7 @@ public class UsuarioService {
         
         usuario.desativar();
         Usuario usuarioDesativado = usuarioRepository.save(usuario);
+        cachePrincipais.invalidar(usuario.getUsername());
         return patrimonioMapper.usuarioToUsuarioDTO(usuarioDesativado);
     }
 
@@ -184,6 +210,8 @@ public class UsuarioService {
         
         usuario.desbloquear();
         Usuario usuarioDesbloqueado = usuarioRepository.save(usuario);
+        cachePrincipais.invalidar(usuario.getUsername());
+        contadorFalhasLogin.limpar(usuario.getUsername());
         return patrimonioMapper.usuarioToUsuarioDTO(usuarioDesbloqueado);
     }
 
@@ -206,6 +234,7 @@ public class UsuarioService {
         usuario.setSenhaHash(passwordEncoder.encode(novaSenha));
         
         Usuario usuarioAtualizado = usuarioRepository.save(usuario);
+        cachePrincipais.invalidar(usuario.getUsername());
         return patrimonioMapper.usuarioToUsuarioDTO(usuarioAtualizado);
     }
 
@@ -219,6 +248,7 @@ public class UsuarioService {
         
         usuario.adicionarPerfil(perfil);
         Usuario usuarioAtualizado = usuarioRepository.save(usuario);
+        cachePrincipais.invalidar(usuario.getUsername());
         return patrimonioMapper.usuarioToUsuarioDTO(usuarioAtualizado);
     }
 
@@ -236,86 +266,89 @@ public class UsuarioService {
         
         usuario.removerPerfil(perfil);
         Usuario usuarioAtualizado = usuarioRepository.save(usuario);
+        cachePrincipais.invalidar(usuario.getUsername());
         return patrimonioMapper.usuarioToUsuarioDTO(usuarioAtualizado);
     }
 
     // Search Operations
+    @Transactional(readOnly = true)
     public Page<UsuarioDTO> buscarPorNome(String nome, Pageable pageable) {
         Page<Usuario> usuarios = usuarioRepository.findByNomeCompletoContainingIgnoreCase(nome, pageable);
         return usuarios.map(patrimonioMapper::usuarioToUsuarioDTO);
     }
 
+    @Transactional(readOnly = true)
     public Page<UsuarioDTO> buscarPorDepartamento(String departamento, Pageable pageable) {
         Page<Usuario> usuarios = usuarioRepository.findByDepartamentoContainingIgnoreCase(departamento, pageable);
         return usuarios.map(patrimonioMapper::usuarioToUsuarioDTO);
     }
 
+    @Transactional(readOnly = true)
     public Page<UsuarioDTO> buscarPorCargo(String cargo, Pageable pageable) {
         Page<Usuario> usuarios = usuarioRepository.findByCargoContainingIgnoreCase(cargo, pageable);
         return usuarios.map(patrimonioMapper::usuarioToUsuarioDTO);
     }
 
+    @Transactional(readOnly = true)
     public Page<UsuarioDTO> buscarPorStatus(Boolean ativo, Pageable pageable) {
-        List<Usuario> usuarios = ativo ? 
-            usuarioRepository.findByAtivoTrueOrderByNomeCompleto() : 
-            usuarioRepository.findByAtivoFalseOrderByNomeCompleto();
-        // Converter para Page manualmente
-        int start = (int) pageable.getOffset();
-        int end = Math.min((start + pageable.getPageSize()), usuarios.size());
-        List<Usuario> pageContent = usuarios.subList(start, end);
-        return new PageImpl<>(pageContent, pageable, usuarios.size())
-                .map(patrimonioMapper::usuarioToUsuarioDTO);
+        Page<Usuario> usuarios = ativo ? 
+            usuarioRepository.findByAtivoTrueOrderByNomeCompleto(pageable) : 
+            usuarioRepository.findByAtivoFalseOrderByNomeCompleto(pageable);
+        return usuarios.map(patrimonioMapper::usuarioToUsuarioDTO);
     }
 
+    @Transactional(readOnly = true)
     public Page<UsuarioDTO> buscarPorPerfil(String nomePerfil, Pageable pageable) {
-        List<Usuario> usuarios = usuarioRepository.findUsuariosPorNomePerfil(nomePerfil);
-        // Converter para Page manualmente
-        int start = (int) pageable.getOffset();
-        int end = Math.min((start + pageable.getPageSize()), usuarios.size());
-        List<Usuario> pageContent = usuarios.subList(start, end);
-        return new PageImpl<>(pageContent, pageable, usuarios.size())
-                .map(patrimonioMapper::usuarioToUsuarioDTO);
+        Page<Usuario> usuarios = usuarioRepository.findUsuariosPorNomePerfil(nomePerfil, pageable);
+        return usuarios.map(patrimonioMapper::usuarioToUsuarioDTO);
     }
 
+    @Transactional(readOnly = true)
     public Page<UsuarioDTO> buscarPorCidade(String cidade, Pageable pageable) {
         Page<Usuario> usuarios = usuarioRepository.findByCidadeContainingIgnoreCase(cidade, pageable);
         return usuarios.map(patrimonioMapper::usuarioToUsuarioDTO);
     }
 
+    @Transactional(readOnly = true)
     public Page<UsuarioDTO> buscarPorEstado(String estado, Pageable pageable) {
         Page<Usuario> usuarios = usuarioRepository.findByEstadoContainingIgnoreCase(estado, pageable);
         return usuarios.map(patrimonioMapper::usuarioToUsuarioDTO);
     }
 
+    @Transactional(readOnly = true)
     public Page<UsuarioDTO> buscarUsuariosConsulta(Pageable pageable) {
         Page<Usuario> usuarios = usuarioRepository.findUsuariosConsulta(pageable);
         return usuarios.map(patrimonioMapper::usuarioToUsuarioDTO);
     }
 
     // Statistics and Reports
+    @Transactional(readOnly = true)
     public Long contarUsuariosAtivos() {
         return usuarioRepository.countUsuariosAtivos();
     }
 
+    @Transactional(readOnly = true)
     public Long contarUsuariosInativos() {
         return usuarioRepository.countUsuariosInativos();
     }
 
+    @Transactional(readOnly = true)
     public Long contarUsuariosPorDepartamento(String departamento) {
-        List<Usuario> usuarios = usuarioRepository.findByDepartamentoContainingIgnoreCaseOrderByNomeCompleto(departamento);
-        return (long) usuarios.size();
+        return usuarioRepository.countByDepartamentoContainingIgnoreCase(departamento);
     }
 
+    @Transactional(readOnly = true)
     public Long contarUsuariosPorPerfil(String nomePerfil) {
-        List<Usuario> usuarios = usuarioRepository.findUsuariosPorNomePerfil(nomePerfil);
-        return (long) usuarios.size();
+        return usuarioRepository.countUsuariosPorNomePerfil(nomePerfil);
     }
 
+    @Transactional(readOnly = true)
     public List<UsuarioDTO> buscarUsuariosBloqueados() {
         List<Usuario> usuarios = usuarioRepository.findUsuariosBloqueados();
         return patrimonioMapper.usuariosToUsuarioDTOs(usuarios);
     }
 
+    @Transactional(readOnly = true)
     public List<UsuarioDTO> buscarUsuariosComSenhaExpirada() {
         List<Usuario> usuarios = usuarioRepository.findUsuariosComSenhaExpirada(LocalDateTime.now());
         return patrimonioMapper.usuariosToUsuarioDTOs(usuarios);
@@ -337,20 +370,25 @@ public class UsuarioService {
     }
 
     public void registrarLoginSucesso(String username) {
-        Optional<Usuario> usuarioOpt = usuarioRepository.findByUsername(username);
-        if (usuarioOpt.isPresent()) {
-            Usuario usuario = usuarioOpt.get();
-            usuario.registrarLoginSucesso();
-            usuarioRepository.save(usuario);
-        }
+        contadorFalhasLogin.limpar(username);
+        usuarioRepository.registrarLogin(username, LocalDateTime.now());
     }
 
     public void registrarLoginFalha(String username) {
-        Optional<Usuario> usuarioOpt = usuarioRepository.findByUsername(username);
-        if (usuarioOpt.isPresent()) {
-            Usuario usuario = usuarioOpt.get();
-            usuario.registrarLoginFalha();
-            usuarioRepository.save(usuario);
+        registrarLoginFalha(username, null);
+    }
+
+    /**
+     * Conta a falha em memória; a linha do usuário só é alterada quando a falha leva ao
+     * bloqueio. Sem transação própria: a maioria das falhas não acessa o banco.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public void registrarLoginFalha(String username, String ip) {
+        if (contadorFalhasLogin.registrarFalha(username, ip)) {
+            LocalDateTime agora = LocalDateTime.now();
+            Duration duracao = tentativasLoginProperties.getDuracaoBloqueio();
+            LocalDateTime fim = duracao == null || duracao.isZero() ? null : agora.plus(duracao);
+            usuarioRepository.bloquearPorFalhas(username, tentativasLoginProperties.getLimiteUsuario(), agora, fim);
         }
     }
 
@@ -0,0 +1,25 @@
+package com.manus.patrimonio.util;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuração da busca textual ({@code patrimonio.busca}).
+ */
+@ConfigurationProperties(prefix = "patrimonio.busca")
+public class BuscaProperties {
+
+    /**
+     * Busca via tsvector/GIN do PostgreSQL, ordenada por relevância. Desligar em bancos
+     * sem suporte, como o H2: a busca passa a usar LIKE e respeita a ordenação pedida.
+     */
+    private boolean textoCompleto = true;
+
+    // Getters e Setters
+    public boolean isTextoCompleto() {
+        return textoCompleto;
+    }
+
+    public void setTextoCompleto(boolean textoCompleto) {
+        this.textoCompleto = textoCompleto;
+    }
+}
@@ -0,0 +1,72 @@
+package com.manus.patrimonio.util;
+
+import com.manus.patrimonio.exception.RegraDeNegocioException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Codifica e decodifica o cursor opaco usado na paginação keyset.
+ * O cursor carrega a chave de ordenação (nome) e o ID do último registro
+ * retornado, permitindo que a próxima página seja buscada com
+ * {@code (nome, id) > (:nome, :id)} em vez de OFFSET.
+ */
+public final class CursorCodec {
+
+    private static final char SEPARADOR = '|';
+
+    private CursorCodec() {}
+
+    public static String codificar(String nome, Long id) {
+        String bruto = id + String.valueOf(SEPARADOR) + nome;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(bruto.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodifica o cursor. Um cursor nulo ou vazio representa a primeira página.
+     *
+     * @throws RegraDeNegocioException se o cursor estiver malformado
+     */
+    public static Posicao decodificar(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return Posicao.INICIO;
+        }
+        try {
+            String bruto = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separador = bruto.indexOf(SEPARADOR);
+            if (separador <= 0) {
+                throw new RegraDeNegocioException("Cursor de paginação inválido");
+            }
+            Long id = Long.valueOf(bruto.substring(0, separador));
+            return new Posicao(bruto.substring(separador + 1), id);
+        } catch (IllegalArgumentException e) {
+            throw new RegraDeNegocioException("Cursor de paginação inválido", e);
+        }
+    }
+
+    /**
+     * Posição na ordenação (nome, id) a partir da qual a próxima página começa.
+     */
+    public static final class Posicao {
+
+        // Nome é NOT NULL e IDs começam em 1, então ('', 0) precede qualquer registro
+        public static final Posicao INICIO = new Posicao("", 0L);
+
+        private final String nome;
+        private final Long id;
+
+        public Posicao(String nome, Long id) {
+            this.nome = nome;
+            this.id = id;
+        }
+
+        public String getNome() {
+            return nome;
+        }
+
+        public Long getId() {
+            return id;
+        }
+    }
+}
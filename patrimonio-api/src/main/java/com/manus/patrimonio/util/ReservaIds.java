@@ -0,0 +1,36 @@
+package com.manus.patrimonio.util;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Reserva IDs para os INSERTs feitos direto via JDBC nas sequências {@code <tabela>_id_seq},
+ * que avançam de 50 em 50 (V18). Como no otimizador pooled-lo do Hibernate, cada
+ * {@code nextval} devolve o início de um bloco de 50 IDs exclusivo de quem o chamou;
+ * um {@code nextval} por linha usaria só o primeiro ID de cada bloco.
+ */
+public final class ReservaIds {
+
+    // INCREMENT BY das sequências e allocationSize padrão das entidades
+    public static final int TAMANHO_BLOCO = 50;
+
+    private ReservaIds() {}
+
+    /**
+     * @param sequencia nome fixo da sequência (não vem de entrada do usuário)
+     * @return {@code quantidade} IDs livres, um {@code nextval} a cada 50
+     */
+    public static long[] reservar(JdbcTemplate jdbcTemplate, String sequencia, int quantidade) {
+        String sql = "SELECT nextval('" + sequencia + "')";
+        long[] ids = new long[quantidade];
+        for (int i = 0; i < quantidade; i += TAMANHO_BLOCO) {
+            Long inicio = jdbcTemplate.queryForObject(sql, Long.class);
+            if (inicio == null) {
+                throw new IllegalStateException("A sequência " + sequencia + " não devolveu valor");
+            }
+            for (int j = i; j < Math.min(i + TAMANHO_BLOCO, quantidade); j++) {
+                ids[j] = inicio + (j - i);
+            }
+        }
+        return ids;
+    }
+}
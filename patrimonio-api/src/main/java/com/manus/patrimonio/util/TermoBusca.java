@@ -0,0 +1,42 @@
+package com.manus.patrimonio.util;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+/**
+ * Converte o termo digitado pelo usuário em uma expressão {@code tsquery}
+ * com correspondência por prefixo em todas as palavras.
+ * Ex.: "note dell" vira {@code note:* & dell:*}.
+ */
+public final class TermoBusca {
+
+    private TermoBusca() {}
+
+    /**
+     * @return expressão tsquery, ou {@code null} se o termo não tiver palavras pesquisáveis
+     */
+    public static String paraTsQuery(String termo) {
+        if (termo == null) {
+            return null;
+        }
+        // Descarta operadores do tsquery (&, |, !, :, parênteses) mantendo apenas letras e dígitos
+        String consulta = Arrays.stream(termo.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+"))
+                .filter(palavra -> !palavra.isEmpty())
+                .map(palavra -> palavra + ":*")
+                .collect(Collectors.joining(" & "));
+        return consulta.isEmpty() ? null : consulta;
+    }
+
+    /**
+     * Página para as consultas de texto completo, que ordenam por relevância ({@code ts_rank})
+     * e desempate por id: a ordenação pedida pelo chamador é descartada, só a página e o
+     * tamanho valem.
+     */
+    public static Pageable porRelevancia(Pageable pageable) {
+        return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize());
+    }
+}
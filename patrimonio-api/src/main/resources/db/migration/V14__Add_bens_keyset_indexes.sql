@@ -0,0 +1,7 @@
+-- V14__Add_bens_keyset_indexes.sql
+-- Índices compostos (filtro, nome, id) para a paginação por cursor dos bens
+
+CREATE INDEX IF NOT EXISTS idx_bens_nome_id ON bens(nome, id);
+CREATE INDEX IF NOT EXISTS idx_bens_status_nome_id ON bens(status, nome, id);
+CREATE INDEX IF NOT EXISTS idx_bens_categoria_nome_id ON bens(categoria_id, nome, id);
+CREATE INDEX IF NOT EXISTS idx_bens_localizacao_nome_id ON bens(localizacao_atual_id, nome, id);
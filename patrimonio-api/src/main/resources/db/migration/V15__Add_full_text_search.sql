@@ -0,0 +1,42 @@
+-- V15__Add_full_text_search.sql
+-- Colunas tsvector geradas e índices GIN para a busca textual com ranking e prefixo
+
+-- Bens: nome e número de série pesam mais que descrição e observações
+ALTER TABLE bens
+ADD COLUMN IF NOT EXISTS busca_texto tsvector GENERATED ALWAYS AS (
+    setweight(to_tsvector('simple', coalesce(nome, '')), 'A') ||
+    setweight(to_tsvector('simple', coalesce(numero_serie, '')), 'A') ||
+    setweight(to_tsvector('simple', coalesce(descricao, '')), 'B') ||
+    setweight(to_tsvector('simple', coalesce(observacoes, '')), 'C')
+) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_bens_busca_texto ON bens USING GIN (busca_texto);
+
+-- Movimentações
+ALTER TABLE movimentacoes
+ADD COLUMN IF NOT EXISTS busca_texto tsvector GENERATED ALWAYS AS (
+    setweight(to_tsvector('simple', coalesce(responsavel_movimentacao, '')), 'A') ||
+    setweight(to_tsvector('simple', coalesce(observacoes, '')), 'B')
+) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_movimentacoes_busca_texto ON movimentacoes USING GIN (busca_texto);
+
+-- Localizações
+ALTER TABLE localizacoes
+ADD COLUMN IF NOT EXISTS busca_texto tsvector GENERATED ALWAYS AS (
+    setweight(to_tsvector('simple', coalesce(nome, '')), 'A') ||
+    setweight(to_tsvector('simple', coalesce(responsavel, '')), 'B') ||
+    setweight(to_tsvector('simple', coalesce(endereco, '')), 'C') ||
+    setweight(to_tsvector('simple', coalesce(descricao, '')), 'C')
+) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_localizacoes_busca_texto ON localizacoes USING GIN (busca_texto);
+
+-- Categorias
+ALTER TABLE categorias
+ADD COLUMN IF NOT EXISTS busca_texto tsvector GENERATED ALWAYS AS (
+    setweight(to_tsvector('simple', coalesce(nome, '')), 'A') ||
+    setweight(to_tsvector('simple', coalesce(descricao, '')), 'B')
+) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_categorias_busca_texto ON categorias USING GIN (busca_texto);
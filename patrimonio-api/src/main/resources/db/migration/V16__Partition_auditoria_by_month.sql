@@ -0,0 +1,93 @@
+-- V16__Partition_auditoria_by_month.sql
+-- Particionamento mensal da auditoria por data_acao: as consultas por período
+-- leem só os meses envolvidos e a retenção remove partições inteiras, sem DELETE
+
+-- Tabela atual vira legado; a sequência do ID continua a mesma
+ALTER SEQUENCE auditoria_id_seq OWNED BY NONE;
+ALTER TABLE auditoria RENAME TO auditoria_legado;
+ALTER TABLE auditoria_legado RENAME CONSTRAINT auditoria_pkey TO auditoria_legado_pkey;
+DROP INDEX IF EXISTS idx_auditoria_entidade;
+DROP INDEX IF EXISTS idx_auditoria_data;
+
+-- A chave do particionamento precisa fazer parte da chave primária
+CREATE TABLE auditoria (
+    id BIGINT NOT NULL DEFAULT nextval('auditoria_id_seq'),
+    entidade VARCHAR(100) NOT NULL,
+    entidade_id BIGINT NOT NULL,
+    acao VARCHAR(50) NOT NULL,
+    usuario_id BIGINT REFERENCES usuarios(id),
+    dados_anteriores JSONB,
+    dados_novos JSONB,
+    ip_address VARCHAR(45),
+    user_agent TEXT,
+    data_acao TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    data_criacao TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    data_atualizacao TIMESTAMP,
+    versao BIGINT DEFAULT 0,
+    sessao_id VARCHAR(255),
+    metodo_http VARCHAR(10),
+    url_requisicao TEXT,
+    parametros_requisicao TEXT,
+    resultado_acao TEXT,
+    tempo_execucao_ms BIGINT,
+    erro_ocorrido TEXT,
+    CONSTRAINT auditoria_pkey PRIMARY KEY (id, data_acao)
+) PARTITION BY RANGE (data_acao);
+
+ALTER SEQUENCE auditoria_id_seq OWNED BY auditoria.id;
+
+-- Índices no pai são criados em cada partição, atual e futura
+CREATE INDEX idx_auditoria_entidade ON auditoria(entidade, entidade_id, data_acao);
+CREATE INDEX idx_auditoria_data ON auditoria(data_acao);
+CREATE INDEX idx_auditoria_usuario ON auditoria(usuario_id, data_acao);
+CREATE INDEX idx_auditoria_acao ON auditoria(acao, data_acao);
+
+-- Rede de segurança: registros fora das partições mensais não são perdidos
+CREATE TABLE auditoria_padrao PARTITION OF auditoria DEFAULT;
+
+-- Partições retiradas pela retenção no modo ARQUIVAR ficam neste schema
+CREATE SCHEMA IF NOT EXISTS auditoria_arquivo;
+
+-- Cria (se ainda não existir) a partição do mês que contém a data informada.
+-- Usada aqui e pela manutenção agendada da aplicação (ParticoesAuditoria).
+CREATE OR REPLACE FUNCTION criar_particao_auditoria(mes DATE)
+RETURNS TEXT AS $$
+DECLARE
+    inicio DATE := date_trunc('month', mes)::DATE;
+    fim DATE := (date_trunc('month', mes) + INTERVAL '1 month')::DATE;
+    nome TEXT := 'auditoria_p' || to_char(inicio, 'YYYYMM');
+BEGIN
+    IF to_regclass(nome) IS NULL THEN
+        EXECUTE format('CREATE TABLE %I PARTITION OF auditoria FOR VALUES FROM (%L) TO (%L)',
+                       nome, inicio, fim);
+    END IF;
+    RETURN nome;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Partições para todo o histórico existente e para os próximos três meses
+DO $$
+DECLARE
+    mes DATE;
+BEGIN
+    SELECT date_trunc('month', COALESCE(MIN(data_acao), CURRENT_TIMESTAMP))::DATE
+      INTO mes
+      FROM auditoria_legado;
+    WHILE mes <= (date_trunc('month', CURRENT_TIMESTAMP) + INTERVAL '3 months')::DATE LOOP
+        PERFORM criar_particao_auditoria(mes);
+        mes := (mes + INTERVAL '1 month')::DATE;
+    END LOOP;
+END;
+$$;
+
+INSERT INTO auditoria (id, entidade, entidade_id, acao, usuario_id, dados_anteriores, dados_novos,
+                       ip_address, user_agent, data_acao, data_criacao, data_atualizacao, versao,
+                       sessao_id, metodo_http, url_requisicao, parametros_requisicao, resultado_acao,
+                       tempo_execucao_ms, erro_ocorrido)
+SELECT id, entidade, entidade_id, acao, usuario_id, dados_anteriores, dados_novos,
+       ip_address, user_agent, data_acao, data_criacao, data_atualizacao, versao,
+       sessao_id, metodo_http, url_requisicao, parametros_requisicao, resultado_acao,
+       tempo_execucao_ms, erro_ocorrido
+  FROM auditoria_legado;
+
+DROP TABLE auditoria_legado;
@@ -0,0 +1,26 @@
+-- Relatórios gerados em segundo plano por jobs do Quartz.
+-- O código (UUID) é o identificador público usado para consultar o status e baixar o arquivo.
+CREATE TABLE solicitacoes_relatorio (
+    id BIGSERIAL PRIMARY KEY,
+    codigo VARCHAR(36) NOT NULL UNIQUE,
+    tipo VARCHAR(30) NOT NULL,
+    formato VARCHAR(10) NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    data_inicio_periodo TIMESTAMP,
+    data_fim_periodo TIMESTAMP,
+    solicitado_por VARCHAR(100),
+    data_solicitacao TIMESTAMP NOT NULL,
+    data_inicio_execucao TIMESTAMP,
+    data_conclusao TIMESTAMP,
+    no_execucao VARCHAR(100),
+    registros BIGINT,
+    tamanho_bytes BIGINT,
+    arquivo VARCHAR(255),
+    mensagem_erro VARCHAR(1000),
+    data_criacao TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    data_atualizacao TIMESTAMP,
+    versao BIGINT NOT NULL DEFAULT 1
+);
+
+CREATE INDEX idx_solicitacoes_relatorio_solicitante ON solicitacoes_relatorio(solicitado_por, data_solicitacao);
+CREATE INDEX idx_solicitacoes_relatorio_conclusao ON solicitacoes_relatorio(data_conclusao);
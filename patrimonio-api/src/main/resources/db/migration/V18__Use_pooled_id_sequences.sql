@@ -0,0 +1,27 @@
+-- V18__Use_pooled_id_sequences.sql
+-- IDs passam a vir de sequências com otimizador pooled-lo: o Hibernate reserva
+-- 50 valores por chamada e consegue agrupar os INSERTs em lotes (jdbc.batch_size).
+-- As sequências são as mesmas criadas pelo BIGSERIAL, então o DEFAULT das colunas
+-- continua válido para os INSERTs feitos direto via JDBC (auditoria, importação).
+
+DO $$
+DECLARE
+    tabela TEXT;
+    sequencia TEXT;
+    ultimo BIGINT;
+BEGIN
+    FOREACH tabela IN ARRAY ARRAY[
+        'auditoria', 'baixas', 'bens', 'categorias', 'configuracoes', 'inventarios',
+        'localizacoes', 'manutencoes', 'movimentacoes', 'notificacoes', 'perfis',
+        'solicitacoes_relatorio', 'usuarios'
+    ] LOOP
+        sequencia := tabela || '_id_seq';
+        EXECUTE format('SELECT GREATEST((SELECT COALESCE(MAX(id), 0) FROM %I), (SELECT last_value FROM %I))',
+                       tabela, sequencia)
+           INTO ultimo;
+        EXECUTE format('ALTER SEQUENCE %I INCREMENT BY 50', sequencia);
+        -- O próximo nextval devolve ultimo + 1, início do primeiro bloco reservado
+        PERFORM setval(sequencia, ultimo + 1, false);
+    END LOOP;
+END;
+$$;
@@ -0,0 +1,110 @@
+-- V19__Create_bens_agregados.sql
+-- Totais de bens por status × condição × categoria × localização, mantidos por trigger
+-- a cada escrita em bens para o dashboard não agrupar a tabela inteira a cada consulta
+
+CREATE TABLE IF NOT EXISTS bens_agregados (
+    status VARCHAR(50) NOT NULL,
+    condicao VARCHAR(50) NOT NULL,
+    categoria_id BIGINT NOT NULL,
+    localizacao_atual_id BIGINT NOT NULL,
+    quantidade BIGINT NOT NULL,
+    valor_aquisicao_total NUMERIC(19,2) NOT NULL,
+    valor_atual_total NUMERIC(19,2) NOT NULL,
+    PRIMARY KEY (status, condicao, categoria_id, localizacao_atual_id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_bens_agregados_categoria ON bens_agregados (categoria_id);
+CREATE INDEX IF NOT EXISTS idx_bens_agregados_localizacao ON bens_agregados (localizacao_atual_id);
+
+-- Um disparo por statement: importações em lote e UPDATEs em massa somam as diferenças
+-- de todas as linhas antes de tocar o agregado. As linhas do agregado são atualizadas na
+-- ordem da chave para transações concorrentes não se bloquearem em ordens diferentes.
+CREATE OR REPLACE FUNCTION atualizar_bens_agregados() RETURNS trigger AS $$
+BEGIN
+    IF TG_OP = 'INSERT' THEN
+        INSERT INTO bens_agregados AS a (status, condicao, categoria_id, localizacao_atual_id,
+                                         quantidade, valor_aquisicao_total, valor_atual_total)
+        SELECT status, condicao, categoria_id, localizacao_atual_id,
+               COUNT(*), SUM(valor_aquisicao), COALESCE(SUM(valor_atual), 0)
+        FROM novos
+        GROUP BY status, condicao, categoria_id, localizacao_atual_id
+        ORDER BY status, condicao, categoria_id, localizacao_atual_id
+        ON CONFLICT (status, condicao, categoria_id, localizacao_atual_id) DO UPDATE
+        SET quantidade = a.quantidade + EXCLUDED.quantidade,
+            valor_aquisicao_total = a.valor_aquisicao_total + EXCLUDED.valor_aquisicao_total,
+            valor_atual_total = a.valor_atual_total + EXCLUDED.valor_atual_total;
+        RETURN NULL;
+    END IF;
+
+    IF TG_OP = 'UPDATE' THEN
+        INSERT INTO bens_agregados AS a (status, condicao, categoria_id, localizacao_atual_id,
+                                         quantidade, valor_aquisicao_total, valor_atual_total)
+        SELECT status, condicao, categoria_id, localizacao_atual_id,
+               SUM(quantidade), SUM(valor_aquisicao), SUM(valor_atual)
+        FROM (
+            SELECT status, condicao, categoria_id, localizacao_atual_id,
+                   1 AS quantidade, valor_aquisicao, COALESCE(valor_atual, 0) AS valor_atual
+            FROM novos
+            UNION ALL
+            SELECT status, condicao, categoria_id, localizacao_atual_id,
+                   -1, -valor_aquisicao, -COALESCE(valor_atual, 0)
+            FROM antigos
+        ) diferencas
+        GROUP BY status, condicao, categoria_id, localizacao_atual_id
+        -- Atualizações que não mexem em chave nem em valores não tocam o agregado
+        HAVING SUM(quantidade) <> 0 OR SUM(valor_aquisicao) <> 0 OR SUM(valor_atual) <> 0
+        ORDER BY status, condicao, categoria_id, localizacao_atual_id
+        ON CONFLICT (status, condicao, categoria_id, localizacao_atual_id) DO UPDATE
+        SET quantidade = a.quantidade + EXCLUDED.quantidade,
+            valor_aquisicao_total = a.valor_aquisicao_total + EXCLUDED.valor_aquisicao_total,
+            valor_atual_total = a.valor_atual_total + EXCLUDED.valor_atual_total;
+    ELSE
+        UPDATE bens_agregados a
+        SET quantidade = a.quantidade - d.quantidade,
+            valor_aquisicao_total = a.valor_aquisicao_total - d.valor_aquisicao,
+            valor_atual_total = a.valor_atual_total - d.valor_atual
+        FROM (
+            SELECT status, condicao, categoria_id, localizacao_atual_id,
+                   COUNT(*) AS quantidade, SUM(valor_aquisicao) AS valor_aquisicao,
+                   COALESCE(SUM(valor_atual), 0) AS valor_atual
+            FROM antigos
+            GROUP BY status, condicao, categoria_id, localizacao_atual_id
+        ) d
+        WHERE a.status = d.status
+          AND a.condicao = d.condicao
+          AND a.categoria_id = d.categoria_id
+          AND a.localizacao_atual_id = d.localizacao_atual_id;
+    END IF;
+
+    DELETE FROM bens_agregados WHERE quantidade = 0;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Tabelas de transição só podem ser declaradas em triggers de um único evento
+DROP TRIGGER IF EXISTS trg_bens_agregados_insert ON bens;
+CREATE TRIGGER trg_bens_agregados_insert
+    AFTER INSERT ON bens
+    REFERENCING NEW TABLE AS novos
+    FOR EACH STATEMENT EXECUTE FUNCTION atualizar_bens_agregados();
+
+DROP TRIGGER IF EXISTS trg_bens_agregados_update ON bens;
+CREATE TRIGGER trg_bens_agregados_update
+    AFTER UPDATE ON bens
+    REFERENCING OLD TABLE AS antigos NEW TABLE AS novos
+    FOR EACH STATEMENT EXECUTE FUNCTION atualizar_bens_agregados();
+
+DROP TRIGGER IF EXISTS trg_bens_agregados_delete ON bens;
+CREATE TRIGGER trg_bens_agregados_delete
+    AFTER DELETE ON bens
+    REFERENCING OLD TABLE AS antigos
+    FOR EACH STATEMENT EXECUTE FUNCTION atualizar_bens_agregados();
+
+-- Carga inicial a partir dos bens existentes
+DELETE FROM bens_agregados;
+INSERT INTO bens_agregados (status, condicao, categoria_id, localizacao_atual_id,
+                            quantidade, valor_aquisicao_total, valor_atual_total)
+SELECT status, condicao, categoria_id, localizacao_atual_id,
+       COUNT(*), SUM(valor_aquisicao), COALESCE(SUM(valor_atual), 0)
+FROM bens
+GROUP BY status, condicao, categoria_id, localizacao_atual_id;
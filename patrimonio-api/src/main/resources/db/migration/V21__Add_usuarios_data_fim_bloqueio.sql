@@ -0,0 +1,5 @@
+-- V21__Add_usuarios_data_fim_bloqueio.sql
+-- Fim do bloqueio por falhas de login: ao vencer, o login volta a ser aceito sem
+-- depender de um administrador. Nulo mantém o bloqueio até o desbloqueio manual.
+
+ALTER TABLE usuarios ADD COLUMN IF NOT EXISTS data_fim_bloqueio TIMESTAMP;
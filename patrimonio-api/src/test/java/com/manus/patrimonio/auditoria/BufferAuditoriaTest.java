@@ -0,0 +1,102 @@
+package com.manus.patrimonio.auditoria;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Testes do BufferAuditoria")
+class BufferAuditoriaTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("Deve descartar o registro novo quando cheio e contabilizar o descarte")
+    void deveDescartarNovo() {
+        // Arrange
+        BufferAuditoria buffer = novoBuffer(AuditoriaProperties.Politica.DESCARTAR_NOVO);
+        buffer.registrar(registro(1L));
+        buffer.registrar(registro(2L));
+
+        // Act
+        boolean aceito = buffer.registrar(registro(3L));
+
+        // Assert
+        assertFalse(aceito);
+        assertEquals(List.of(1L, 2L), ids(buffer));
+        assertEquals(1.0, meterRegistry.get("patrimonio.auditoria.descartados").counter().count());
+    }
+
+    @Test
+    @DisplayName("Deve descartar o registro mais antigo quando cheio")
+    void deveDescartarAntigo() {
+        // Arrange
+        BufferAuditoria buffer = novoBuffer(AuditoriaProperties.Politica.DESCARTAR_ANTIGO);
+        buffer.registrar(registro(1L));
+        buffer.registrar(registro(2L));
+
+        // Act
+        boolean aceito = buffer.registrar(registro(3L));
+
+        // Assert
+        assertTrue(aceito);
+        assertEquals(List.of(2L, 3L), ids(buffer));
+        assertEquals(1.0, meterRegistry.get("patrimonio.auditoria.descartados").counter().count());
+    }
+
+    @Test
+    @DisplayName("Deve esperar no máximo o timeout de bloqueio antes de descartar")
+    void deveBloquearAteTimeout() {
+        // Arrange
+        BufferAuditoria buffer = novoBuffer(AuditoriaProperties.Politica.BLOQUEAR);
+        buffer.registrar(registro(1L));
+        buffer.registrar(registro(2L));
+
+        // Act
+        long inicio = System.nanoTime();
+        boolean aceito = buffer.registrar(registro(3L));
+        long decorridoMs = (System.nanoTime() - inicio) / 1_000_000;
+
+        // Assert
+        assertFalse(aceito);
+        assertTrue(decorridoMs >= 20, "Deveria ter esperado pelo timeout de bloqueio");
+        assertEquals(1.0, meterRegistry.get("patrimonio.auditoria.descartados").counter().count());
+    }
+
+    @Test
+    @DisplayName("Deve expor a profundidade da fila como gauge")
+    void deveExporProfundidade() throws InterruptedException {
+        // Arrange
+        BufferAuditoria buffer = novoBuffer(AuditoriaProperties.Politica.DESCARTAR_NOVO);
+        buffer.registrar(registro(1L));
+        buffer.registrar(registro(2L));
+
+        // Act + Assert
+        assertEquals(2.0, meterRegistry.get("patrimonio.auditoria.fila").gauge().value());
+        buffer.drenar(new ArrayList<>(), 10, Duration.ZERO);
+        assertEquals(0.0, meterRegistry.get("patrimonio.auditoria.fila").gauge().value());
+    }
+
+    private BufferAuditoria novoBuffer(AuditoriaProperties.Politica politica) {
+        AuditoriaProperties properties = new AuditoriaProperties();
+        properties.getBuffer().setCapacidade(2);
+        properties.getBuffer().setPolitica(politica);
+        properties.getBuffer().setTimeoutBloqueio(Duration.ofMillis(30));
+        return new BufferAuditoria(properties, meterRegistry);
+    }
+
+    private static RegistroAuditoria registro(Long id) {
+        return new RegistroAuditoria("Bem", id, "UPDATE");
+    }
+
+    private static List<Long> ids(BufferAuditoria buffer) {
+        List<RegistroAuditoria> registros = new ArrayList<>();
+        buffer.drenarDisponiveis(registros, Integer.MAX_VALUE);
+        return registros.stream().map(RegistroAuditoria::getEntidadeId).toList();
+    }
+}
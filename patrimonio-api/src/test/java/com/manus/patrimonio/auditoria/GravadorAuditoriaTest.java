@@ -0,0 +1,170 @@
+package com.manus.patrimonio.auditoria;
+
+import com.manus.patrimonio.cache.GeracoesCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes do GravadorAuditoria")
+class GravadorAuditoriaTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private GeracoesCache geracoesCache;
+
+    private SimpleMeterRegistry meterRegistry;
+    private BufferAuditoria buffer;
+    private GravadorAuditoria gravador;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        AuditoriaProperties properties = new AuditoriaProperties();
+        properties.getBuffer().setTamanhoLote(3);
+        properties.getBuffer().setIntervaloFlush(Duration.ofMillis(20));
+        buffer = new BufferAuditoria(properties, meterRegistry);
+        gravador = new GravadorAuditoria(jdbcTemplate, buffer, properties, geracoesCache, meterRegistry);
+        lenient().when(jdbcTemplate.queryForObject("SELECT nextval('auditoria_id_seq')", Long.class)).thenReturn(101L);
+    }
+
+    @Test
+    @DisplayName("Deve gravar o lote com um único INSERT de várias linhas")
+    void deveGravarLoteEmUmInsert() {
+        // Arrange
+        List<RegistroAuditoria> lote = List.of(registro(1L), registro(2L));
+
+        // Act
+        gravador.gravar(lote);
+
+        // Assert
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<Object[]> parametros = ArgumentCaptor.forClass(Object[].class);
+        verify(jdbcTemplate).update(sql.capture(), parametros.capture());
+        assertEquals(GravadorAuditoria.INSERT + GravadorAuditoria.LINHA + ", " + GravadorAuditoria.LINHA,
+                sql.getValue());
+        assertEquals(28, parametros.getValue().length);
+        assertEquals(101L, parametros.getValue()[0]);
+        assertEquals("joao", parametros.getValue()[4]);
+        assertEquals(102L, parametros.getValue()[14]);
+        assertEquals(2L, parametros.getValue()[16]);
+        // Um nextval reserva o bloco de 50 IDs para o lote inteiro
+        verify(jdbcTemplate).queryForObject("SELECT nextval('auditoria_id_seq')", Long.class);
+        assertEquals(2.0, meterRegistry.get("patrimonio.auditoria.gravados").counter().count());
+        verify(geracoesCache).avancar(GravadorAuditoria.DIMENSAO_AUDITORIAS, "");
+    }
+
+    @Test
+    @DisplayName("Deve esvaziar o buffer em lotes ao parar")
+    void deveDescarregarAoParar() {
+        // Arrange
+        for (long id = 1; id <= 7; id++) {
+            buffer.registrar(registro(id));
+        }
+
+        // Act
+        gravador.stop();
+
+        // Assert
+        verify(jdbcTemplate, times(3)).update(anyString(), any(Object[].class));
+        assertEquals(0, buffer.tamanho());
+        assertEquals(7.0, meterRegistry.get("patrimonio.auditoria.gravados").counter().count());
+    }
+
+    @Test
+    @DisplayName("Deve gravar em segundo plano o que chega ao buffer")
+    void deveGravarEmSegundoPlano() {
+        // Arrange
+        gravador.start();
+
+        // Act
+        buffer.registrar(registro(1L));
+
+        // Assert
+        verify(jdbcTemplate, timeout(2000)).update(anyString(), any(Object[].class));
+        gravador.stop();
+        assertFalse(gravador.isRunning());
+    }
+
+    @Test
+    @DisplayName("Deve contabilizar a falha e seguir adiante quando o banco recusa o lote")
+    void deveContabilizarFalha() {
+        // Arrange
+        when(jdbcTemplate.update(anyString(), any(Object[].class)))
+                .thenThrow(new DataAccessResourceFailureException("sem conexão"));
+
+        // Act
+        gravador.gravar(List.of(registro(1L), registro(2L)));
+
+        // Assert
+        assertEquals(2.0, meterRegistry.get("patrimonio.auditoria.falhas").counter().count());
+        verifyNoInteractions(geracoesCache);
+    }
+
+    @Test
+    @DisplayName("Deve regravar um a um o lote recusado, perdendo só o registro inválido")
+    void deveRegravarUmAUmQuandoOLoteERecusado() {
+        // Arrange
+        String umaLinha = GravadorAuditoria.INSERT + GravadorAuditoria.LINHA;
+        when(jdbcTemplate.update(eq(GravadorAuditoria.INSERT + GravadorAuditoria.LINHA + ", "
+                + GravadorAuditoria.LINHA + ", " + GravadorAuditoria.LINHA), any(Object[].class)))
+                .thenThrow(new DataIntegrityViolationException("valor longo demais"));
+        when(jdbcTemplate.update(eq(umaLinha), any(Object[].class)))
+                .thenReturn(1)
+                .thenThrow(new DataIntegrityViolationException("valor longo demais"))
+                .thenReturn(1);
+
+        // Act
+        gravador.gravar(List.of(registro(1L), registro(2L), registro(3L)));
+
+        // Assert
+        verify(jdbcTemplate, times(3)).update(eq(umaLinha), any(Object[].class));
+        assertEquals(2.0, meterRegistry.get("patrimonio.auditoria.gravados").counter().count());
+        assertEquals(1.0, meterRegistry.get("patrimonio.auditoria.falhas").counter().count());
+        verify(geracoesCache).avancar(GravadorAuditoria.DIMENSAO_AUDITORIAS, "");
+    }
+
+    @Test
+    @DisplayName("Deve cortar os textos vindos da requisição no tamanho das colunas")
+    void deveTruncarNoTamanhoDasColunas() {
+        // Arrange
+        RegistroAuditoria registro = registro(1L);
+        registro.setIpAddress("1".repeat(100));
+        registro.setSessaoId("s".repeat(1000));
+
+        // Act
+        gravador.gravar(List.of(registro));
+
+        // Assert
+        ArgumentCaptor<Object[]> parametros = ArgumentCaptor.forClass(Object[].class);
+        verify(jdbcTemplate).update(anyString(), parametros.capture());
+        assertEquals(45, ((String) parametros.getValue()[7]).length());
+        assertEquals(255, ((String) parametros.getValue()[10]).length());
+    }
+
+    private static RegistroAuditoria registro(Long id) {
+        RegistroAuditoria registro = new RegistroAuditoria("Bem", id, "UPDATE");
+        registro.setUsername("joao");
+        registro.setDadosAnteriores("{\"status\":\"ATIVO\"}");
+        registro.setDadosNovos("{\"status\":\"INATIVO\"}");
+        return registro;
+    }
+}
@@ -0,0 +1,100 @@
+package com.manus.patrimonio.auditoria;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes do ParticoesAuditoria")
+class ParticoesAuditoriaTest {
+
+    private static final LocalDate HOJE = LocalDate.of(2024, 3, 15);
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private AuditoriaProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private ParticoesAuditoria particoes;
+
+    @BeforeEach
+    void setUp() {
+        properties = new AuditoriaProperties();
+        properties.setRetentionDays(60);
+        properties.getParticoes().setMesesAFrente(2);
+        meterRegistry = new SimpleMeterRegistry();
+        particoes = new ParticoesAuditoria(jdbcTemplate, properties, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Deve criar a partição do mês atual e dos meses à frente")
+    void deveCriarParticoesFuturas() {
+        // Act
+        particoes.criarParticoesFuturas(HOJE);
+
+        // Assert
+        ArgumentCaptor<Object> mes = ArgumentCaptor.forClass(Object.class);
+        verify(jdbcTemplate, times(3)).queryForObject(eq("SELECT criar_particao_auditoria(?)"),
+                eq(String.class), mes.capture());
+        assertEquals(List.of(Date.valueOf("2024-03-01"), Date.valueOf("2024-04-01"), Date.valueOf("2024-05-01")),
+                mes.getAllValues());
+    }
+
+    @Test
+    @DisplayName("Deve arquivar apenas as partições cujo mês inteiro passou da retenção")
+    void deveArquivarParticoesVencidas() {
+        // Arrange: limite em 2024-01-15, então só dezembro e antes vencem
+        when(jdbcTemplate.queryForList(ParticoesAuditoria.LISTAR_PARTICOES, String.class)).thenReturn(List.of(
+                "auditoria_p202311", "auditoria_p202312", "auditoria_p202401", "auditoria_p202403", "auditoria_padrao"));
+
+        // Act
+        List<String> retiradas = particoes.aplicarRetencao(HOJE);
+
+        // Assert
+        assertEquals(List.of("auditoria_p202311", "auditoria_p202312"), retiradas);
+        verify(jdbcTemplate).execute("ALTER TABLE auditoria DETACH PARTITION auditoria_p202312");
+        verify(jdbcTemplate).execute("ALTER TABLE auditoria_p202312 SET SCHEMA auditoria_arquivo");
+        verify(jdbcTemplate, never()).execute("ALTER TABLE auditoria DETACH PARTITION auditoria_p202401");
+        verify(jdbcTemplate, never()).execute("ALTER TABLE auditoria DETACH PARTITION auditoria_padrao");
+        assertEquals(2.0, meterRegistry.get("patrimonio.auditoria.particoes.retiradas")
+                .tag("modo", "ARQUIVAR").counter().count());
+    }
+
+    @Test
+    @DisplayName("Deve apagar a partição vencida no modo REMOVER")
+    void deveRemoverParticaoVencida() {
+        // Arrange
+        properties.getParticoes().setModoRetencao(AuditoriaProperties.ModoRetencao.REMOVER);
+        when(jdbcTemplate.queryForList(ParticoesAuditoria.LISTAR_PARTICOES, String.class))
+                .thenReturn(List.of("auditoria_p202312"));
+
+        // Act
+        particoes.aplicarRetencao(HOJE);
+
+        // Assert
+        verify(jdbcTemplate).execute("ALTER TABLE auditoria DETACH PARTITION auditoria_p202312");
+        verify(jdbcTemplate).execute("DROP TABLE auditoria_p202312");
+    }
+
+    @Test
+    @DisplayName("Deve reconhecer apenas partições mensais pelo nome")
+    void deveReconhecerMesDaParticao() {
+        assertEquals(YearMonth.of(2024, 1), ParticoesAuditoria.mesDaParticao("auditoria_p202401"));
+        assertNull(ParticoesAuditoria.mesDaParticao("auditoria_padrao"));
+    }
+}
@@ -0,0 +1,83 @@
+package com.manus.patrimonio.cache;
+
+import com.manus.patrimonio.enums.StatusBem;
+import com.manus.patrimonio.model.Bem;
+import com.manus.patrimonio.model.Categoria;
+import com.manus.patrimonio.model.Localizacao;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Testes do BemCache")
+class BemCacheTest {
+
+    private ConcurrentMapCacheManager cacheManager;
+    private SimpleMeterRegistry meterRegistry;
+    private GeracoesCache geracoesCache;
+    private BemCache bemCache;
+    private Bem bem;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager = new ConcurrentMapCacheManager();
+        meterRegistry = new SimpleMeterRegistry();
+        geracoesCache = new GeracoesCache(new ContadoresGeracaoLocal(), new CacheDoisNiveisProperties(), null,
+                meterRegistry);
+        bemCache = new BemCache(cacheManager, geracoesCache, meterRegistry);
+
+        Categoria categoria = new Categoria("Equipamentos", "Equipamentos de informática");
+        categoria.setId(1L);
+        Localizacao localizacao = new Localizacao("Sala 101", "Rua A, 123", "João Silva", "joao@empresa.com", "Sala de TI");
+        localizacao.setId(1L);
+        bem = new Bem("Computador Dell", "BEM001", "Computador Dell", categoria, localizacao,
+                      LocalDate.now(), new BigDecimal("5000.00"));
+        bem.setId(10L);
+        bem.setNumeroSerie("SN-10");
+        bem.setStatus(StatusBem.ATIVO);
+    }
+
+    @Test
+    @DisplayName("Deve remover apenas as entradas do bem alterado")
+    void deveRemoverApenasEntradasDoBem() {
+        // Arrange
+        Cache cache = cacheManager.getCache(BemCache.CACHE_BENS);
+        cache.put(BemCache.chaveId(10L), "bem 10");
+        cache.put(BemCache.chaveNumeroSerie("SN-10"), "bem 10");
+        cache.put(BemCache.chaveId(11L), "bem 11");
+
+        // Act
+        bemCache.invalidar(bemCache.capturar(bem));
+
+        // Assert
+        assertNull(cache.get(BemCache.chaveId(10L)));
+        assertNull(cache.get(BemCache.chaveNumeroSerie("SN-10")));
+        assertNotNull(cache.get(BemCache.chaveId(11L)));
+        assertEquals(2.0, meterRegistry.get("patrimonio.cache.evictions").counter().count());
+    }
+
+    @Test
+    @DisplayName("Deve avançar as gerações do status anterior e do novo")
+    void deveAvancarGeracoesDosDoisStatus() {
+        // Arrange
+        BemCache.Estado anterior = bemCache.capturar(bem);
+        bem.setStatus(StatusBem.INATIVO);
+
+        // Act
+        bemCache.invalidar(anterior, bemCache.capturar(bem));
+
+        // Assert
+        assertEquals(1L, geracoesCache.atual(BemCache.DIMENSAO_STATUS, StatusBem.ATIVO));
+        assertEquals(1L, geracoesCache.atual(BemCache.DIMENSAO_STATUS, StatusBem.INATIVO));
+        assertEquals(0L, geracoesCache.atual(BemCache.DIMENSAO_STATUS, StatusBem.BAIXADO));
+        assertEquals(1L, geracoesCache.atual(BemCache.DIMENSAO_CATEGORIA, 1L));
+        assertEquals(1L, geracoesCache.atual(BemCache.DIMENSAO_TODOS, ""));
+    }
+}
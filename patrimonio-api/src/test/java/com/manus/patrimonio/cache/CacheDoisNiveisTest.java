@@ -0,0 +1,463 @@
+package com.manus.patrimonio.cache;
+
+import com.manus.patrimonio.config.CacheConfig;
+import com.manus.patrimonio.dto.ConfiguracaoDTO;
+import com.manus.patrimonio.dto.PerfilDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.type.filter.AnnotationTypeFilter;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+import org.springframework.stereotype.Service;
+
+import java.io.File;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Simula dois nós da aplicação compartilhando um "Redis" em memória: o L2 guarda
+ * os bytes produzidos pelo serializador real do cache e as invalidações trafegam
+ * por um barramento que, como o pub/sub, entrega a mensagem aos demais nós.
+ */
+@DisplayName("Testes do CacheDoisNiveis")
+class CacheDoisNiveisTest {
+
+    private static final String CACHE = "configuracoes";
+
+    private RedisEmMemoria redis;
+    private CacheDoisNiveisManager noA;
+    private CacheDoisNiveisManager noB;
+
+    @BeforeEach
+    void setUp() {
+        redis = new RedisEmMemoria();
+        CacheDoisNiveisProperties properties = new CacheDoisNiveisProperties();
+        noA = new CacheDoisNiveisManager(redis, properties, redis.novoCanal(), false, List.of(CACHE));
+        noB = new CacheDoisNiveisManager(redis, properties, redis.novoCanal(), false, List.of(CACHE));
+    }
+
+    @Test
+    @DisplayName("Deve promover para o L1 o valor lido do L2")
+    void devePromoverValorDoRemoto() {
+        // Arrange
+        noA.getCache(CACHE).put("chave", configuracao("valor"));
+        CacheDoisNiveis cacheB = (CacheDoisNiveis) noB.getCache(CACHE);
+        assertNull(cacheB.getLocal().getIfPresent("chave"));
+
+        // Act
+        ConfiguracaoDTO lido = cacheB.get("chave", ConfiguracaoDTO.class);
+
+        // Assert
+        assertEquals("valor", lido.getValor());
+        assertEquals(LocalDateTime.of(2024, 1, 10, 8, 30), lido.getDataCriacao());
+        assertNotNull(cacheB.getLocal().getIfPresent("chave"));
+        assertEquals(1, redis.leituras.get());
+    }
+
+    @Test
+    @DisplayName("Deve servir do L1 sem consultar o L2")
+    void deveServirDoLocal() {
+        // Arrange
+        Cache cacheA = noA.getCache(CACHE);
+        cacheA.put("chave", configuracao("valor"));
+
+        // Act
+        cacheA.get("chave");
+        cacheA.get("chave");
+
+        // Assert
+        assertEquals(0, redis.leituras.get());
+    }
+
+    @Test
+    @DisplayName("Deve invalidar o L1 dos outros nós quando um nó sobrescreve a chave")
+    void deveInvalidarLocalDosOutrosNosNaEscrita() {
+        // Arrange
+        noA.getCache(CACHE).put("chave", configuracao("antigo"));
+        Cache cacheB = noB.getCache(CACHE);
+        assertEquals("antigo", cacheB.get("chave", ConfiguracaoDTO.class).getValor());
+
+        // Act
+        noA.getCache(CACHE).put("chave", configuracao("novo"));
+
+        // Assert
+        assertEquals("novo", cacheB.get("chave", ConfiguracaoDTO.class).getValor());
+    }
+
+    @Test
+    @DisplayName("Deve propagar remoções e limpezas para o L1 dos outros nós")
+    void devePropagarRemocaoELimpeza() {
+        // Arrange
+        Cache cacheA = noA.getCache(CACHE);
+        Cache cacheB = noB.getCache(CACHE);
+        cacheA.put(1L, configuracao("um"));
+        cacheA.put("1", configuracao("texto"));
+        cacheB.get(1L);
+        cacheB.get("1");
+
+        // Act + Assert
+        cacheA.evict(1L);
+        assertNull(cacheB.get(1L));
+        assertNotNull(cacheB.get("1"), "Chaves Long e String não podem colidir na invalidação");
+
+        cacheA.clear();
+        assertNull(cacheB.get("1"));
+    }
+
+    @Test
+    @DisplayName("Deve carregar o valor uma única vez e publicá-lo no L2")
+    void deveCarregarUmaVez() {
+        // Arrange
+        AtomicInteger chamadas = new AtomicInteger();
+        Callable<ConfiguracaoDTO> carregar = () -> {
+            chamadas.incrementAndGet();
+            return configuracao("carregado");
+        };
+
+        // Act
+        noA.getCache(CACHE).get("chave", carregar);
+        ConfiguracaoDTO noOutroNo = noB.getCache(CACHE).get("chave", carregar);
+
+        // Assert
+        assertEquals(1, chamadas.get());
+        assertEquals("carregado", noOutroNo.getValor());
+    }
+
+    @Test
+    @DisplayName("Não deve gravar o valor carregado quando a chave é invalidada durante a carga")
+    void naoDeveGravarCargaInvalidadaNoMeio() {
+        // Arrange
+        CacheDoisNiveis cacheA = (CacheDoisNiveis) noA.getCache(CACHE);
+        Cache cacheB = noB.getCache(CACHE);
+        Callable<ConfiguracaoDTO> carregar = () -> {
+            // Outro nó grava e invalida depois de esta carga ler o valor anterior
+            cacheB.evict("chave");
+            return configuracao("anterior");
+        };
+
+        // Act
+        ConfiguracaoDTO lido = cacheA.get("chave", carregar);
+
+        // Assert
+        assertEquals("anterior", lido.getValor());
+        assertNull(cacheA.getLocal().getIfPresent("chave"));
+        assertNull(cacheB.get("chave"));
+    }
+
+    @Test
+    @DisplayName("Deve preencher o miss de um @Cacheable sem publicar invalidação e sem gravar carga invalidada")
+    void devePreencherMissDoCacheableComVersao() {
+        // Arrange
+        try (AnnotationConfigApplicationContext contexto = new AnnotationConfigApplicationContext()) {
+            contexto.registerBean("cacheManager", CacheManager.class, () -> noA);
+            contexto.register(CacheTeste.class, ServicoCacheado.class);
+            contexto.refresh();
+            ServicoCacheado servico = contexto.getBean(ServicoCacheado.class);
+            CacheDoisNiveis cacheA = (CacheDoisNiveis) noA.getCache(CACHE);
+            Cache cacheB = noB.getCache(CACHE);
+
+            // Act: miss comum
+            servico.definirCarga(() -> configuracao("carregado"));
+            servico.buscar("comum");
+            servico.buscar("comum");
+
+            // Act: outro nó grava e invalida depois de a carga ler o valor anterior
+            servico.definirCarga(() -> {
+                cacheB.evict("disputada");
+                return configuracao("anterior");
+            });
+            ConfiguracaoDTO lido = servico.buscar("disputada");
+
+            // Assert
+            assertEquals(2, servico.chamadas());
+            assertNotNull(cacheA.getLocal().getIfPresent("comum"));
+            assertEquals("carregado", cacheB.get("comum", ConfiguracaoDTO.class).getValor());
+            assertEquals(1, redis.publicacoes.get(), "Só a remoção do outro nó publica invalidação");
+            assertEquals("anterior", lido.getValor());
+            assertNull(cacheA.getLocal().getIfPresent("disputada"));
+            assertNull(cacheB.get("disputada"));
+        }
+    }
+
+    @Test
+    @DisplayName("Deve completar a configuração específica com os valores padrão")
+    void deveMesclarConfiguracao() {
+        // Arrange
+        CacheDoisNiveisProperties properties = new CacheDoisNiveisProperties();
+        CacheDoisNiveisProperties.Nivel bens = new CacheDoisNiveisProperties.Nivel();
+        bens.setTtlRemoto(Duration.ofMinutes(5));
+        properties.getCaches().put("bens", bens);
+
+        // Act
+        CacheDoisNiveisProperties.Nivel efetiva = properties.configuracao("bens");
+
+        // Assert
+        assertEquals(Duration.ofMinutes(5), efetiva.getTtlRemoto());
+        assertEquals(properties.getPadrao().getTamanhoMaximo(), efetiva.getTamanhoMaximo());
+        assertEquals(properties.getPadrao().getTtlLocal(), efetiva.getTtlLocal());
+    }
+
+    @Test
+    @DisplayName("Deve ignorar no canal Redis as mensagens publicadas pelo próprio nó")
+    @SuppressWarnings("unchecked")
+    void deveIgnorarMensagemPropria() {
+        // Arrange
+        RedisSerializer<Object> serializer = CacheConfig.serializadorCache();
+        RedisTemplate<String, Object> template = mock(RedisTemplate.class);
+        doReturn(serializer).when(template).getValueSerializer();
+        CanalInvalidacaoRedis canalA = new CanalInvalidacaoRedis(template, "canal");
+        CanalInvalidacaoRedis canalB = new CanalInvalidacaoRedis(template, "canal");
+        List<InvalidacaoCache> recebidasA = new ArrayList<>();
+        List<InvalidacaoCache> recebidasB = new ArrayList<>();
+        canalA.assinar(recebidasA::add);
+        canalB.assinar(recebidasB::add);
+
+        canalA.publicar(CACHE, 42L);
+        ArgumentCaptor<Object> mensagem = ArgumentCaptor.forClass(Object.class);
+        verify(template).convertAndSend(anyString(), mensagem.capture());
+        DefaultMessage recebida = new DefaultMessage(
+                "canal".getBytes(StandardCharsets.UTF_8), serializer.serialize(mensagem.getValue()));
+
+        // Act
+        canalA.onMessage(recebida, null);
+        canalB.onMessage(recebida, null);
+
+        // Assert
+        assertTrue(recebidasA.isEmpty());
+        assertEquals(1, recebidasB.size());
+        assertEquals(42L, recebidasB.get(0).getChave());
+    }
+
+    @Test
+    @DisplayName("Deve recusar na leitura tipos embutidos fora da lista permitida")
+    void deveRecusarTiposNaoPermitidos() {
+        // Arrange
+        RedisSerializer<Object> serializer = CacheConfig.serializadorCache();
+        byte[] valor = serializer.serialize(new File("/tmp/patrimonio"));
+        byte[] mensagem = serializer.serialize(new InvalidacaoCache("outro", CACHE, new File("/tmp/patrimonio")));
+
+        // Act & Assert
+        assertThrows(SerializationException.class, () -> serializer.deserialize(valor));
+        assertThrows(SerializationException.class, () -> serializer.deserialize(mensagem));
+        List<?> lista = (List<?>) serializer.deserialize(serializer.serialize(new ArrayList<>(List.of(configuracao("valor")))));
+        assertEquals("valor", ((ConfiguracaoDTO) lista.get(0)).getValor());
+        PerfilDTO perfil = new PerfilDTO();
+        perfil.setPermissoes(List.of("LER", "ESCREVER"));
+        assertEquals(List.of("LER", "ESCREVER"),
+                ((PerfilDTO) serializer.deserialize(serializer.serialize(perfil))).getPermissoes());
+    }
+
+    @Test
+    @DisplayName("Deve recusar na leitura coleções que o cache não grava")
+    void deveRecusarColecoesNaoPermitidas() {
+        // Arrange
+        RedisSerializer<Object> serializer = CacheConfig.serializadorCache();
+        byte[] conjunto = serializer.serialize(new TreeSet<>(Set.of("a", "b")));
+        byte[] outraLista = serializer.serialize(new CopyOnWriteArrayList<>(List.of("a")));
+        byte[] mapa = serializer.serialize(new TreeMap<>(Map.of("a", 1L)));
+
+        // Act & Assert
+        assertThrows(SerializationException.class, () -> serializer.deserialize(conjunto));
+        assertThrows(SerializationException.class, () -> serializer.deserialize(outraLista));
+        assertThrows(SerializationException.class, () -> serializer.deserialize(mapa));
+    }
+
+    @Test
+    @DisplayName("Os @Cacheable dos serviços devem usar sync = true para a carga conferir a versão")
+    void cacheablesDosServicosUsamSync() throws ClassNotFoundException {
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false);
+        scanner.addIncludeFilter(new AnnotationTypeFilter(Service.class));
+        List<String> semSync = new ArrayList<>();
+        int cacheables = 0;
+        for (BeanDefinition definicao : scanner.findCandidateComponents("com.manus.patrimonio.service")) {
+            for (Method metodo : Class.forName(definicao.getBeanClassName()).getDeclaredMethods()) {
+                Cacheable cacheable = metodo.getAnnotation(Cacheable.class);
+                if (cacheable != null) {
+                    cacheables++;
+                    if (!cacheable.sync()) {
+                        semSync.add(metodo.getDeclaringClass().getSimpleName() + "." + metodo.getName());
+                    }
+                }
+            }
+        }
+
+        assertTrue(cacheables > 0, "Nenhum @Cacheable encontrado nos serviços");
+        assertTrue(semSync.isEmpty(), "@Cacheable sem sync = true: " + semSync);
+    }
+
+    @Configuration
+    @EnableCaching
+    static class CacheTeste {
+    }
+
+    // Estado acessado por métodos: os campos do proxy não são os do serviço
+    static class ServicoCacheado {
+
+        private final AtomicInteger chamadas = new AtomicInteger();
+        private volatile Supplier<ConfiguracaoDTO> carga;
+
+        @Cacheable(value = CACHE, key = "#chave", sync = true)
+        public ConfiguracaoDTO buscar(String chave) {
+            chamadas.incrementAndGet();
+            return carga.get();
+        }
+
+        public void definirCarga(Supplier<ConfiguracaoDTO> carga) {
+            this.carga = carga;
+        }
+
+        public int chamadas() {
+            return chamadas.get();
+        }
+    }
+
+    private static ConfiguracaoDTO configuracao(String valor) {
+        ConfiguracaoDTO dto = new ConfiguracaoDTO();
+        dto.setId(1L);
+        dto.setChave("sistema.nome");
+        dto.setValor(valor);
+        dto.setDataCriacao(LocalDateTime.of(2024, 1, 10, 8, 30));
+        return dto;
+    }
+
+    /**
+     * Substituto do Redis: armazena os valores já serializados e repassa as
+     * invalidações, via serializador, aos canais dos outros nós.
+     */
+    private static class RedisEmMemoria implements CacheManager {
+
+        private final RedisSerializer<Object> serializer = CacheConfig.serializadorCache();
+        private final Map<String, Cache> caches = new ConcurrentHashMap<>();
+        private final List<CanalMemoria> canais = new CopyOnWriteArrayList<>();
+        private final AtomicInteger leituras = new AtomicInteger();
+        private final AtomicInteger publicacoes = new AtomicInteger();
+
+        CanalInvalidacaoCache novoCanal() {
+            CanalMemoria canal = new CanalMemoria();
+            canais.add(canal);
+            return canal;
+        }
+
+        @Override
+        public Cache getCache(String name) {
+            return caches.computeIfAbsent(name, CacheBytes::new);
+        }
+
+        @Override
+        public List<String> getCacheNames() {
+            return List.copyOf(caches.keySet());
+        }
+
+        private class CacheBytes extends AbstractValueAdaptingCache {
+
+            private final String nome;
+            private final Map<Object, byte[]> dados = new ConcurrentHashMap<>();
+
+            CacheBytes(String nome) {
+                super(false);
+                this.nome = nome;
+            }
+
+            @Override
+            public String getName() {
+                return nome;
+            }
+
+            @Override
+            public Object getNativeCache() {
+                return dados;
+            }
+
+            @Override
+            protected Object lookup(Object key) {
+                leituras.incrementAndGet();
+                byte[] bytes = dados.get(key);
+                return bytes != null ? serializer.deserialize(bytes) : null;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public <T> T get(Object key, Callable<T> valueLoader) {
+                Object valor = lookup(key);
+                if (valor != null) {
+                    return (T) valor;
+                }
+                try {
+                    T carregado = valueLoader.call();
+                    put(key, carregado);
+                    return carregado;
+                } catch (Exception e) {
+                    throw new ValueRetrievalException(key, valueLoader, e);
+                }
+            }
+
+            @Override
+            public void put(Object key, Object value) {
+                dados.put(key, serializer.serialize(value));
+            }
+
+            @Override
+            public void evict(Object key) {
+                dados.remove(key);
+            }
+
+            @Override
+            public void clear() {
+                dados.clear();
+            }
+        }
+
+        private class CanalMemoria implements CanalInvalidacaoCache {
+
+            private final List<Consumer<InvalidacaoCache>> ouvintes = new CopyOnWriteArrayList<>();
+
+            @Override
+            public void publicar(String cache, Object chave) {
+                publicacoes.incrementAndGet();
+                byte[] corpo = serializer.serialize(new InvalidacaoCache(toString(), cache, chave));
+                for (CanalMemoria canal : canais) {
+                    if (canal != this) {
+                        InvalidacaoCache recebida = (InvalidacaoCache) serializer.deserialize(corpo);
+                        canal.ouvintes.forEach(ouvinte -> ouvinte.accept(recebida));
+                    }
+                }
+            }
+
+            @Override
+            public void assinar(Consumer<InvalidacaoCache> ouvinte) {
+                ouvintes.add(ouvinte);
+            }
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.manus.patrimonio.cache;
+
+import com.manus.patrimonio.enums.StatusBem;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Testes do ChaveCacheKeyGenerator")
+class ChaveCacheKeyGeneratorTest {
+
+    private final ChaveCacheKeyGenerator gerador = new ChaveCacheKeyGenerator();
+
+    @Test
+    @DisplayName("Deve gerar a mesma chave para os mesmos parâmetros")
+    void deveSerDeterministica() {
+        // Arrange
+        PageRequest pagina = PageRequest.of(2, 20, Sort.by("nome"));
+
+        // Act + Assert
+        assertEquals(gerador.chave("status", StatusBem.ATIVO, 3L, pagina),
+                gerador.chave("status", StatusBem.ATIVO, 3L, PageRequest.of(2, 20, Sort.by("nome"))));
+    }
+
+    @Test
+    @DisplayName("Deve diferenciar páginas com a mesma posição e ordenações diferentes")
+    void deveConsiderarOrdenacao() {
+        // Arrange
+        PageRequest porNome = PageRequest.of(0, 20, Sort.by("nome"));
+        PageRequest porNomeDesc = PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "nome"));
+        PageRequest porValor = PageRequest.of(0, 20, Sort.by("valorAquisicao"));
+        PageRequest semOrdem = PageRequest.of(0, 20);
+
+        // Act
+        List<String> chaves = List.of(
+                gerador.chave("todos", porNome),
+                gerador.chave("todos", porNomeDesc),
+                gerador.chave("todos", porValor),
+                gerador.chave("todos", semOrdem));
+
+        // Assert
+        assertEquals(4, chaves.stream().distinct().count());
+    }
+
+    @Test
+    @DisplayName("Deve diferenciar parâmetros de tipos diferentes com o mesmo texto")
+    void deveConsiderarTipoDoParametro() {
+        assertNotEquals(gerador.chave("categoria", 1L), gerador.chave("categoria", "1"));
+        assertNotEquals(gerador.chave("filtros", List.of(1L, 2L)), gerador.chave("filtros", List.of(12L)));
+    }
+
+    @Test
+    @DisplayName("Deve usar o nome do método como prefixo no uso via keyGenerator")
+    void deveUsarNomeDoMetodo() throws NoSuchMethodException {
+        // Arrange
+        PageRequest pagina = PageRequest.of(1, 10);
+
+        // Act
+        Object chave = gerador.generate(this, getClass().getDeclaredMethod("deveUsarNomeDoMetodo"), pagina);
+
+        // Assert
+        assertEquals(gerador.chave("deveUsarNomeDoMetodo", pagina), chave);
+        assertTrue(chave.toString().startsWith("deveUsarNomeDoMetodo:"));
+    }
+}
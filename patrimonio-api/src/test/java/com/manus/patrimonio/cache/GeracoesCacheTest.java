@@ -0,0 +1,99 @@
+package com.manus.patrimonio.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Dois nós com os mesmos contadores (como no Redis) e um barramento que entrega
+ * os avisos de avanço ao outro nó, como o pub/sub.
+ */
+@DisplayName("Testes do GeracoesCache")
+class GeracoesCacheTest {
+
+    private ContadoresGeracaoLocal contadores;
+    private GeracoesCache noA;
+    private GeracoesCache noB;
+
+    @BeforeEach
+    void setUp() {
+        contadores = new ContadoresGeracaoLocal();
+        List<Consumer<InvalidacaoCache>> ouvintesA = new CopyOnWriteArrayList<>();
+        List<Consumer<InvalidacaoCache>> ouvintesB = new CopyOnWriteArrayList<>();
+        CacheDoisNiveisProperties properties = new CacheDoisNiveisProperties();
+        noA = new GeracoesCache(contadores, properties, canal(ouvintesA, ouvintesB), new SimpleMeterRegistry());
+        noB = new GeracoesCache(contadores, properties, canal(ouvintesB, ouvintesA), new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("Não deve perder avanços simultâneos")
+    void naoDevePerderAvancosSimultaneos() throws InterruptedException {
+        // Arrange
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // Act
+        for (int i = 0; i < 2000; i++) {
+            GeracoesCache no = i % 2 == 0 ? noA : noB;
+            executor.execute(() -> no.avancar(BemCache.DIMENSAO_STATUS, "ATIVO"));
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        // Assert
+        assertEquals(2000L, noA.atual(BemCache.DIMENSAO_STATUS, "ATIVO"));
+        assertEquals(2000L, noB.atual(BemCache.DIMENSAO_STATUS, "ATIVO"));
+    }
+
+    @Test
+    @DisplayName("Deve atualizar a cópia local do outro nó ao avançar")
+    void deveAtualizarCopiaDoOutroNo() {
+        // Arrange
+        assertEquals(0L, noB.atual(BemCache.DIMENSAO_CATEGORIA, 1L));
+
+        // Act
+        noA.avancar(BemCache.DIMENSAO_CATEGORIA, 1L);
+
+        // Assert
+        assertEquals(1L, noB.atual(BemCache.DIMENSAO_CATEGORIA, 1L));
+        assertEquals(0L, noB.atual(BemCache.DIMENSAO_CATEGORIA, 2L));
+    }
+
+    @Test
+    @DisplayName("Não deve voltar a geração quando a cópia local expira")
+    void naoDeveVoltarGeracaoAposExpirar() {
+        // Arrange
+        CacheDoisNiveisProperties properties = new CacheDoisNiveisProperties();
+        properties.getGeracoes().setTamanhoMaximo(0L);
+        GeracoesCache semCopia = new GeracoesCache(contadores, properties, null, new SimpleMeterRegistry());
+        semCopia.avancar(BemCache.DIMENSAO_TODOS, "");
+        semCopia.avancar(BemCache.DIMENSAO_TODOS, "");
+
+        // Act & Assert
+        assertEquals(2L, semCopia.atual(BemCache.DIMENSAO_TODOS, ""));
+    }
+
+    private static CanalInvalidacaoCache canal(List<Consumer<InvalidacaoCache>> proprios,
+                                               List<Consumer<InvalidacaoCache>> outroNo) {
+        return new CanalInvalidacaoCache() {
+            @Override
+            public void publicar(String cache, Object chave) {
+                outroNo.forEach(ouvinte -> ouvinte.accept(new InvalidacaoCache("outro", cache, chave)));
+            }
+
+            @Override
+            public void assinar(Consumer<InvalidacaoCache> ouvinte) {
+                proprios.add(ouvinte);
+            }
+        };
+    }
+}
@@ -0,0 +1,89 @@
+package com.manus.patrimonio.cache;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.manus.patrimonio.config.CacheConfig;
+import com.manus.patrimonio.dto.ConfiguracaoDTO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Testes da PaginaCache")
+class PaginaCacheTest {
+
+    private final PageRequest pageable = PageRequest.of(1, 2,
+            Sort.by(Sort.Order.desc("chave").ignoreCase(), Sort.Order.asc("id")));
+
+    @Test
+    @DisplayName("Deve sobreviver à serialização do cache mantendo conteúdo, posição e ordenação")
+    @SuppressWarnings("unchecked")
+    void deveSerializarIdaEVolta() {
+        // Arrange
+        RedisSerializer<Object> serializer = CacheConfig.serializadorCache();
+        Page<ConfiguracaoDTO> original = PaginaCache.de(
+                new PageImpl<>(List.of(configuracao(3L), configuracao(4L)), pageable, 5));
+
+        // Act
+        Page<ConfiguracaoDTO> lida = (Page<ConfiguracaoDTO>) serializer.deserialize(serializer.serialize(original));
+
+        // Assert
+        assertInstanceOf(PaginaCache.class, lida);
+        assertEquals(2, lida.getContent().size());
+        assertEquals(4L, lida.getContent().get(1).getId());
+        assertEquals(5, lida.getTotalElements());
+        assertEquals(3, lida.getTotalPages());
+        assertEquals(pageable, lida.getPageable());
+        assertTrue(lida.hasNext());
+        assertTrue(lida.hasPrevious());
+    }
+
+    @Test
+    @DisplayName("Deve manter na API a mesma representação JSON do PageImpl")
+    void deveManterRepresentacaoDaApi() {
+        // Arrange
+        ObjectMapper mapper = new ObjectMapper().findAndRegisterModules();
+        List<ConfiguracaoDTO> conteudo = List.of(configuracao(3L), configuracao(4L));
+        PageImpl<ConfiguracaoDTO> pageImpl = new PageImpl<>(conteudo, pageable, 5);
+
+        // Act
+        JsonNode esperado = mapper.valueToTree(pageImpl);
+        JsonNode obtido = mapper.valueToTree(PaginaCache.de(pageImpl));
+
+        // Assert
+        assertEquals(esperado, obtido);
+    }
+
+    @Test
+    @DisplayName("Deve reproduzir os metadados de uma página sem paginação")
+    void deveTratarPaginaSemPaginacao() {
+        // Arrange
+        PageImpl<String> pageImpl = new PageImpl<>(List.of("a", "b", "c"));
+
+        // Act
+        Page<String> pagina = PaginaCache.de(pageImpl);
+
+        // Assert
+        assertTrue(pagina.getPageable().isUnpaged());
+        assertEquals(pageImpl.getSize(), pagina.getSize());
+        assertEquals(pageImpl.getTotalPages(), pagina.getTotalPages());
+        assertFalse(pagina.hasNext());
+        assertEquals(Pageable.unpaged(), pagina.nextPageable());
+    }
+
+    private static ConfiguracaoDTO configuracao(Long id) {
+        ConfiguracaoDTO dto = new ConfiguracaoDTO();
+        dto.setId(id);
+        dto.setChave("chave." + id);
+        dto.setValor("valor " + id);
+        return dto;
+    }
+}
@@ -0,0 +1,132 @@
+package com.manus.patrimonio.exportacao;
+
+import com.manus.patrimonio.mapper.PatrimonioMapperImpl;
+import com.manus.patrimonio.model.Bem;
+import com.manus.patrimonio.model.Categoria;
+import com.manus.patrimonio.model.Localizacao;
+import com.manus.patrimonio.repository.BemRepository;
+import com.manus.patrimonio.service.ExportacaoService;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Gera a planilha de bens com {@code benchmark.linhas} registros (padrão 1 milhão) e
+ * registra vazão e pico de heap. Roda só com {@code mvn test -Pbenchmark}; para medir o
+ * teto de memória de verdade, limite o heap: {@code -DargLine=-Xmx256m}.
+ */
+@Tag("benchmark")
+@DisplayName("Benchmark da exportação XLSX")
+class EscritorXlsxBenchmarkTest {
+
+    private static final long LINHAS = Long.getLong("benchmark.linhas", 1_000_000L);
+
+    // Folga generosa: sem streaming, 1M linhas em XSSF passariam de 1 GB
+    private static final long TETO_HEAP_MB = Long.getLong("benchmark.tetoHeapMb", 512L);
+
+    @Test
+    @DisplayName("Deve gerar a planilha de bens com heap limitado")
+    void deveGerarPlanilhaComHeapLimitado() throws Exception {
+        BemRepository bemRepository = mock(BemRepository.class);
+        Categoria categoria = new Categoria();
+        categoria.setNome("Mobiliário");
+        Localizacao localizacao = new Localizacao();
+        localizacao.setNome("Almoxarifado central");
+        // Entidades criadas sob demanda, como um cursor do banco faria
+        when(bemRepository.streamTodosParaExportacao()).thenAnswer(invocacao -> LongStream.rangeClosed(1, LINHAS)
+                .mapToObj(i -> bem(i, categoria, localizacao)));
+
+        ExportacaoService exportacaoService = new ExportacaoService();
+        ReflectionTestUtils.setField(exportacaoService, "bemRepository", bemRepository);
+        ReflectionTestUtils.setField(exportacaoService, "patrimonioMapper", new PatrimonioMapperImpl());
+        ReflectionTestUtils.setField(exportacaoService, "entityManager", mock(EntityManager.class));
+
+        MemoryMXBean memoria = ManagementFactory.getMemoryMXBean();
+        System.gc();
+        long heapInicial = memoria.getHeapMemoryUsage().getUsed();
+        AtomicLong picoHeap = new AtomicLong(heapInicial);
+        AtomicBoolean medindo = new AtomicBoolean(true);
+        Thread amostrador = new Thread(() -> {
+            while (medindo.get()) {
+                picoHeap.accumulateAndGet(memoria.getHeapMemoryUsage().getUsed(), Math::max);
+                try {
+                    Thread.sleep(10);
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+        }, "amostrador-heap");
+        amostrador.setDaemon(true);
+        amostrador.start();
+
+        ContadorBytes saida = new ContadorBytes();
+        long inicio = System.nanoTime();
+        long exportados;
+        try {
+            exportados = exportacaoService.exportarBens(FormatoExportacao.XLSX, saida);
+        } finally {
+            medindo.set(false);
+            amostrador.join();
+        }
+        double segundos = (System.nanoTime() - inicio) / 1e9;
+
+        long picoMb = picoHeap.get() / (1024 * 1024);
+        System.out.printf("BENCHMARK_XLSX linhas=%d tempo=%.1fs linhas/s=%.0f arquivo=%dMB heapInicial=%dMB picoHeap=%dMB xmx=%dMB%n",
+                exportados, segundos, exportados / segundos, saida.total / (1024 * 1024),
+                heapInicial / (1024 * 1024), picoMb, Runtime.getRuntime().maxMemory() / (1024 * 1024));
+
+        assertEquals(LINHAS, exportados);
+        assertTrue(saida.total > 0);
+        assertTrue(picoMb < TETO_HEAP_MB, "Pico de heap de " + picoMb + " MB acima do teto de " + TETO_HEAP_MB + " MB");
+    }
+
+    private static Bem bem(long i, Categoria categoria, Localizacao localizacao) {
+        Bem bem = new Bem();
+        bem.setId(i);
+        bem.setNumeroTombamento(String.format("PAT-%08d", i));
+        bem.setNome("Cadeira giratória " + i);
+        bem.setNumeroSerie("SN" + i);
+        bem.setCategoria(categoria);
+        bem.setLocalizacaoAtual(localizacao);
+        bem.setDataAquisicao(LocalDate.of(2020, 1, 1).plusDays(i % 1500));
+        bem.setValorAquisicao(BigDecimal.valueOf(150000 + i % 10000, 2));
+        bem.setValorAtual(BigDecimal.valueOf(90000 + i % 10000, 2));
+        bem.setFabricante("Fabricante " + i % 50);
+        bem.setModelo("Modelo " + i % 200);
+        bem.setResponsavel("Responsável " + i % 300);
+        bem.setDepartamento("Departamento " + i % 20);
+        bem.setCentroCusto("CC-" + i % 100);
+        return bem;
+    }
+
+    /** Descarta o conteúdo, contando só os bytes recebidos. */
+    private static class ContadorBytes extends OutputStream {
+
+        private long total;
+
+        @Override
+        public void write(int b) {
+            total++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            total += len;
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.manus.patrimonio.exportacao;
+
+import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Testes do EscritorXlsx")
+class EscritorXlsxTest {
+
+    record Linha(Long id, String nome, BigDecimal valor, LocalDate data) {}
+
+    private static final List<ColunaExportacao<Linha>> COLUNAS = List.of(
+            ColunaExportacao.de("id", Linha::id),
+            ColunaExportacao.de("nome", Linha::nome),
+            ColunaExportacao.de("valor", Linha::valor),
+            ColunaExportacao.de("data", Linha::data));
+
+    @Test
+    @DisplayName("Deve gravar células tipadas e continuar em nova planilha ao atingir o limite de linhas")
+    void deveGravarCelulasTipadasEDividirPlanilhas() throws IOException {
+        // Arrange
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
+        LocalDate data = LocalDate.of(2024, 3, 15);
+
+        // Act: limite de 4 linhas = cabeçalho + 3 registros por planilha
+        try (EscritorXlsx<Linha> escritor = new EscritorXlsx<>(saida, COLUNAS, "Bens", 4)) {
+            for (long i = 1; i <= 7; i++) {
+                escritor.escrever(new Linha(i, i == 2 ? null : "Bem " + i, new BigDecimal("1234.50"), data));
+            }
+            escritor.finalizar();
+            assertEquals(3, escritor.getPlanilhas());
+        }
+
+        // Assert
+        try (XSSFWorkbook workbook = new XSSFWorkbook(new ByteArrayInputStream(saida.toByteArray()))) {
+            assertEquals(3, workbook.getNumberOfSheets());
+            assertEquals("Bens", workbook.getSheetName(0));
+            assertEquals("Bens (2)", workbook.getSheetName(1));
+            assertEquals("Bens (3)", workbook.getSheetName(2));
+
+            Sheet primeira = workbook.getSheetAt(0);
+            assertEquals("nome", primeira.getRow(0).getCell(1).getStringCellValue());
+            assertEquals(3, primeira.getLastRowNum());
+
+            Row linha = primeira.getRow(1);
+            assertEquals(CellType.NUMERIC, linha.getCell(0).getCellType());
+            assertEquals(1.0, linha.getCell(0).getNumericCellValue());
+            assertEquals("Bem 1", linha.getCell(1).getStringCellValue());
+            assertEquals(1234.5, linha.getCell(2).getNumericCellValue());
+            assertTrue(DateUtil.isCellDateFormatted(linha.getCell(3)));
+            assertEquals(data, linha.getCell(3).getLocalDateTimeCellValue().toLocalDate());
+            assertNull(primeira.getRow(2).getCell(1), "Valores nulos devem deixar a célula vazia");
+
+            Sheet ultima = workbook.getSheetAt(2);
+            assertEquals(1, ultima.getLastRowNum());
+            assertEquals(7.0, ultima.getRow(1).getCell(0).getNumericCellValue());
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.manus.patrimonio.importacao;
+
+import com.manus.patrimonio.exception.RegraDeNegocioException;
+import com.manus.patrimonio.exportacao.ColunaExportacao;
+import com.manus.patrimonio.exportacao.EscritorXlsx;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Testes dos leitores de importação")
+class LeitorImportacaoTest {
+
+    record Linha(long numero, Map<String, String> valores) {}
+
+    @Test
+    @DisplayName("Deve ler CSV com aspas, separador e quebra de linha dentro do campo")
+    void deveLerCsv() throws IOException {
+        // Arrange
+        String csv = "\uFEFFNumero_Patrimonio;Nome;Observacoes\r\n"
+                + "PAT-1;\"Mesa; grande\";\"linha 1\r\nlinha \"\"2\"\"\"\r\n"
+                + "\r\n"
+                + "PAT-2;Cadeira;\r\n";
+
+        // Act
+        List<Linha> linhas = ler(new LeitorCsv(), csv.getBytes(StandardCharsets.UTF_8));
+
+        // Assert
+        assertEquals(2, linhas.size());
+        assertEquals(2, linhas.get(0).numero());
+        assertEquals("Mesa; grande", linhas.get(0).valores().get("nome"));
+        assertEquals("linha 1\nlinha \"2\"", linhas.get(0).valores().get("observacoes"));
+        assertEquals(5, linhas.get(1).numero(), "Linhas físicas contam, inclusive as do campo entre aspas");
+        assertEquals("PAT-2", linhas.get(1).valores().get("numero_patrimonio"));
+    }
+
+    @Test
+    @DisplayName("Deve ler XLSX com datas em ISO e números sem formatação")
+    void deveLerXlsx() throws IOException {
+        // Arrange: planilha gerada pela própria exportação, com células tipadas e formatadas
+        record Bem(String numero, LocalDate data, BigDecimal valor) {}
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
+        try (EscritorXlsx<Bem> escritor = new EscritorXlsx<>(saida, List.of(
+                ColunaExportacao.de("numero_patrimonio", Bem::numero),
+                ColunaExportacao.de("data_aquisicao", Bem::data),
+                ColunaExportacao.de("valor_aquisicao", Bem::valor)), "Bens")) {
+            escritor.escrever(new Bem("PAT-1", LocalDate.of(2024, 3, 15), new BigDecimal("1234.50")));
+            escritor.escrever(new Bem("PAT-2", null, new BigDecimal("10")));
+            escritor.finalizar();
+        }
+
+        // Act
+        List<Linha> linhas = ler(new LeitorXlsx(), saida.toByteArray());
+
+        // Assert
+        assertEquals(2, linhas.size());
+        assertEquals(Map.of("numero_patrimonio", "PAT-1", "data_aquisicao", "2024-03-15", "valor_aquisicao", "1234.5"),
+                linhas.get(0).valores());
+        assertEquals(3, linhas.get(1).numero());
+        assertNull(linhas.get(1).valores().get("data_aquisicao"));
+        assertEquals("10", linhas.get(1).valores().get("valor_aquisicao"));
+    }
+
+    @Test
+    @DisplayName("Deve recusar extensões não suportadas")
+    void deveRecusarExtensaoNaoSuportada() {
+        assertInstanceOf(LeitorXlsx.class, LeitorImportacao.para("BENS.XLSX"));
+        assertThrows(RegraDeNegocioException.class, () -> LeitorImportacao.para("bens.xls"));
+    }
+
+    private static List<Linha> ler(LeitorImportacao leitor, byte[] conteudo) throws IOException {
+        List<Linha> linhas = new ArrayList<>();
+        leitor.ler(new ByteArrayInputStream(conteudo), (numero, valores) -> linhas.add(new Linha(numero, valores)));
+        return linhas;
+    }
+}
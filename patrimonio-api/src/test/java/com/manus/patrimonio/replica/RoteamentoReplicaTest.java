@@ -0,0 +1,135 @@
+package com.manus.patrimonio.replica;
+
+import com.manus.patrimonio.config.ReplicaDataSourceConfig;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Roteamento das transações JPA entre primário e réplica, com dois bancos H2 em memória
+ * no papel de cada um. A tabela {@code origem} tem conteúdo diferente em cada banco, e a
+ * tabela {@code replica_status} da réplica simula o atraso de replicação.
+ */
+@DataJpaTest(properties = {
+    "spring.flyway.enabled=false",
+    "spring.jpa.hibernate.ddl-auto=none",
+    "spring.datasource.url=jdbc:h2:mem:primario;DB_CLOSE_DELAY=-1",
+    "spring.datasource.driver-class-name=org.h2.Driver",
+    "spring.datasource.username=sa",
+    "spring.datasource.password=",
+    "patrimonio.datasource.replica.url=jdbc:h2:mem:replica;DB_CLOSE_DELAY=-1",
+    "patrimonio.datasource.replica.username=sa",
+    "patrimonio.datasource.replica.password=",
+    "patrimonio.datasource.replica.atraso-maximo=5s",
+    "patrimonio.datasource.replica.intervalo-verificacao=1h",
+    "patrimonio.datasource.replica.consulta-atraso=SELECT atraso FROM replica_status"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ReplicaDataSourceConfig.class, RoteamentoReplicaTest.Metricas.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("Testes do roteamento de leituras para a réplica")
+class RoteamentoReplicaTest {
+
+    @TestConfiguration
+    static class Metricas {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MonitorReplica monitorReplica;
+
+    @Autowired
+    @Qualifier("dataSourcePrimario")
+    private DataSource primario;
+
+    private JdbcTemplate jdbcReplica;
+
+    @BeforeEach
+    void prepararBancos() {
+        JdbcTemplate jdbcPrimario = new JdbcTemplate(primario);
+        jdbcPrimario.execute("CREATE TABLE IF NOT EXISTS origem (nome VARCHAR(20))");
+        jdbcPrimario.execute("DELETE FROM origem");
+        jdbcPrimario.update("INSERT INTO origem VALUES ('primario')");
+
+        // O pool da réplica é somente leitura; a preparação usa uma conexão direta
+        jdbcReplica = new JdbcTemplate(new DriverManagerDataSource(
+                "jdbc:h2:mem:replica;DB_CLOSE_DELAY=-1", "sa", ""));
+        jdbcReplica.execute("CREATE TABLE IF NOT EXISTS origem (nome VARCHAR(20))");
+        jdbcReplica.execute("CREATE TABLE IF NOT EXISTS replica_status (atraso NUMERIC)");
+        jdbcReplica.execute("DELETE FROM origem");
+        jdbcReplica.execute("DELETE FROM replica_status");
+        jdbcReplica.update("INSERT INTO origem VALUES ('replica')");
+        jdbcReplica.update("INSERT INTO replica_status VALUES (0)");
+        monitorReplica.verificar();
+    }
+
+    @Test
+    @DisplayName("Deve enviar transações somente leitura à réplica e as demais ao primário")
+    void deveRotearPeloFlagSomenteLeitura() {
+        assertTrue(monitorReplica.isDisponivel());
+        assertEquals("replica", consultarOrigem(true));
+        assertEquals("primario", consultarOrigem(false));
+    }
+
+    @Test
+    @DisplayName("Deve voltar ao primário quando a réplica estiver atrasada")
+    void deveVoltarAoPrimarioComReplicaAtrasada() {
+        jdbcReplica.update("UPDATE replica_status SET atraso = 30");
+        monitorReplica.verificar();
+
+        assertFalse(monitorReplica.isDisponivel());
+        assertEquals("primario", consultarOrigem(true));
+
+        jdbcReplica.update("UPDATE replica_status SET atraso = 1");
+        monitorReplica.verificar();
+
+        assertEquals("replica", consultarOrigem(true));
+    }
+
+    @Test
+    @DisplayName("Deve manter no primário a leitura que entra numa transação de escrita")
+    void deveManterLeituraAninhadaNoPrimario() {
+        TransactionTemplate escrita = new TransactionTemplate(transactionManager);
+
+        String origem = escrita.execute(status -> consultarOrigem(true));
+
+        assertEquals("primario", origem);
+    }
+
+    private String consultarOrigem(boolean somenteLeitura) {
+        TransactionTemplate transacao = new TransactionTemplate(transactionManager);
+        transacao.setReadOnly(somenteLeitura);
+        return transacao.execute(status ->
+                (String) entityManager.createNativeQuery("SELECT nome FROM origem").getSingleResult());
+    }
+}
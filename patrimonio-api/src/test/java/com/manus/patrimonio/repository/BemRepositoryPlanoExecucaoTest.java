@@ -0,0 +1,157 @@
+package com.manus.patrimonio.repository;
+
+import com.manus.patrimonio.enums.StatusBem;
+import com.manus.patrimonio.model.Bem;
+import com.manus.patrimonio.repository.specification.BemSpecifications;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Verifica, via EXPLAIN (GENERIC_PLAN), que as consultas geradas pelas
+ * {@link BemSpecifications} usam índices nas combinações de filtros mais comuns.
+ * O plano genérico é o que o PostgreSQL reaproveita para statements preparados,
+ * justamente o cenário em que o antigo padrão {@code (:x IS NULL OR ...)} caía em Seq Scan.
+ * Requer Docker; é ignorado quando indisponível.
+ */
+@DataJpaTest(properties = {
+    "spring.jpa.hibernate.ddl-auto=none",
+    "spring.jpa.properties.hibernate.session_factory.statement_inspector=" +
+        "com.manus.patrimonio.repository.BemRepositoryPlanoExecucaoTest$CapturaSql"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("Testes de plano de execução das consultas de bens")
+class BemRepositoryPlanoExecucaoTest {
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void configurarBanco(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @Autowired
+    private BemRepository bemRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void popularDados() {
+        // Cada teste roda em transação revertida ao final; o ANALYZE vale dentro dela
+        jdbcTemplate.execute("INSERT INTO categorias (nome) SELECT 'Categoria Teste ' || g FROM generate_series(1, 50) g");
+        jdbcTemplate.execute("INSERT INTO localizacoes (nome) SELECT 'Local Teste ' || g FROM generate_series(1, 200) g");
+        jdbcTemplate.execute(
+            "INSERT INTO bens (nome, numero_tombamento, data_aquisicao, valor_aquisicao, status, condicao, " +
+            "categoria_id, localizacao_atual_id) " +
+            "SELECT 'Bem ' || md5(g::text), 'TMB' || g, DATE '2020-01-01' + (g % 1500), 100 + (g % 10000), " +
+            "(ARRAY['ATIVO','INATIVO','EM_MANUTENCAO','EM_TRANSITO','RESERVA','BAIXADO','EXTRAVIADO'," +
+            "'ROUBADO','DANIFICADO','OBSOLETO'])[1 + g % 10], 'BOM', " +
+            "(SELECT MIN(id) FROM categorias) + g % 50, (SELECT MIN(id) FROM localizacoes) + g % 200 " +
+            "FROM generate_series(1, 100000) g");
+        jdbcTemplate.execute("ANALYZE bens");
+    }
+
+    @Test
+    @DisplayName("Filtro por status usa índice")
+    void filtroPorStatusUsaIndice() {
+        String plano = explicar(BemSpecifications.comFiltros(null, null, List.of(StatusBem.ATIVO),
+                null, null, null, null, null));
+
+        assertUsaIndice(plano);
+    }
+
+    @Test
+    @DisplayName("Filtro por categorias (IN) e status usa índice")
+    void filtroPorCategoriasEStatusUsaIndice() {
+        String plano = explicar(BemSpecifications.comFiltros(List.of(1L, 2L), null,
+                List.of(StatusBem.ATIVO), null, null, null, null, null));
+
+        assertUsaIndice(plano);
+    }
+
+    @Test
+    @DisplayName("Filtro por localização e período usa índice")
+    void filtroPorLocalizacaoEPeriodoUsaIndice() {
+        String plano = explicar(BemSpecifications.comFiltros(null, 1L, null, null, null, null,
+                LocalDate.of(2021, 1, 1), LocalDate.of(2021, 12, 31)));
+
+        assertUsaIndice(plano);
+    }
+
+    private String explicar(Specification<Bem> filtros) {
+        CapturaSql.limpar();
+        bemRepository.findAll(filtros, PageRequest.of(0, 20, Sort.by("nome")));
+        String sql = CapturaSql.consultaPrincipal();
+        assertNotNull(sql, "Consulta de bens não capturada");
+
+        List<String> linhas = jdbcTemplate.queryForList(
+                "EXPLAIN (GENERIC_PLAN) " + comParametrosNumerados(sql), String.class);
+        return String.join("\n", linhas);
+    }
+
+    private static String comParametrosNumerados(String sql) {
+        StringBuilder resultado = new StringBuilder();
+        int indice = 0;
+        for (char c : sql.toCharArray()) {
+            if (c == '?') {
+                resultado.append('$').append(++indice);
+            } else {
+                resultado.append(c);
+            }
+        }
+        return resultado.toString();
+    }
+
+    private static void assertUsaIndice(String plano) {
+        assertFalse(plano.contains("Seq Scan on bens"), () -> "Plano com Seq Scan:\n" + plano);
+        assertTrue(plano.contains("Index"), () -> "Plano sem uso de índice:\n" + plano);
+    }
+
+    /**
+     * Captura o SQL gerado pelo Hibernate para que possa ser submetido ao EXPLAIN.
+     */
+    public static class CapturaSql implements StatementInspector {
+
+        private static final List<String> SQLS = new java.util.concurrent.CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            SQLS.add(sql);
+            return sql;
+        }
+
+        static void limpar() {
+            SQLS.clear();
+        }
+
+        static String consultaPrincipal() {
+            return SQLS.stream()
+                    .filter(sql -> sql.contains("from") && sql.contains("bens") && !sql.contains("count("))
+                    .findFirst()
+                    .orElse(null);
+        }
+    }
+}
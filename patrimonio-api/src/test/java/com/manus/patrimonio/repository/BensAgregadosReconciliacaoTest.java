@@ -0,0 +1,173 @@
+package com.manus.patrimonio.repository;
+
+import com.manus.patrimonio.dto.TotalBensDTO;
+import com.manus.patrimonio.enums.StatusBem;
+import com.manus.patrimonio.model.Bem;
+import com.manus.patrimonio.model.Localizacao;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Confere {@code bens_agregados} contra um GROUP BY direto em {@code bens} depois de
+ * escritas pelos caminhos que a aplicação usa: INSERT em lote por JDBC (importação),
+ * UPDATE pelo JPA, UPDATE em massa por JPQL (movimentação em lote) e DELETE.
+ * Requer Docker; sem ele o teste é ignorado.
+ */
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=none")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("Testes de reconciliação dos agregados de bens")
+class BensAgregadosReconciliacaoTest {
+
+    // Linhas de um lado que não aparecem do outro, nos dois sentidos
+    private static final String DIVERGENCIAS =
+            "SELECT COUNT(*) FROM (" +
+            " (SELECT status, condicao, categoria_id, localizacao_atual_id, COUNT(*) AS quantidade," +
+            "         SUM(valor_aquisicao) AS valor_aquisicao, COALESCE(SUM(valor_atual), 0) AS valor_atual" +
+            "  FROM bens GROUP BY status, condicao, categoria_id, localizacao_atual_id" +
+            "  EXCEPT" +
+            "  SELECT status, condicao, categoria_id, localizacao_atual_id, quantidade," +
+            "         valor_aquisicao_total, valor_atual_total FROM bens_agregados)" +
+            " UNION ALL" +
+            " (SELECT status, condicao, categoria_id, localizacao_atual_id, quantidade," +
+            "         valor_aquisicao_total, valor_atual_total FROM bens_agregados" +
+            "  EXCEPT" +
+            "  SELECT status, condicao, categoria_id, localizacao_atual_id, COUNT(*)," +
+            "         SUM(valor_aquisicao), COALESCE(SUM(valor_atual), 0)" +
+            "  FROM bens GROUP BY status, condicao, categoria_id, localizacao_atual_id)" +
+            ") divergencias";
+
+    private static final AtomicInteger EXECUCOES = new AtomicInteger();
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void configurarBanco(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @Autowired
+    private BemRepository bemRepository;
+
+    @Autowired
+    private BemAgregadoRepository bemAgregadoRepository;
+
+    @Autowired
+    private LocalizacaoRepository localizacaoRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // Os dados iniciais da V2 continuam na base; os bens de cada teste usam um prefixo próprio
+    private String prefixo;
+    private Long localizacaoId;
+
+    @BeforeEach
+    void popular() {
+        prefixo = "REC" + EXECUCOES.incrementAndGet() + "-";
+        Long categoriaA = jdbcTemplate.queryForObject(
+                "INSERT INTO categorias (nome) VALUES (?) RETURNING id", Long.class, prefixo + "Informática");
+        Long categoriaB = jdbcTemplate.queryForObject(
+                "INSERT INTO categorias (nome) VALUES (?) RETURNING id", Long.class, prefixo + "Mobiliário");
+        localizacaoId = jdbcTemplate.queryForObject(
+                "INSERT INTO localizacoes (nome) VALUES (?) RETURNING id", Long.class, prefixo + "Almoxarifado");
+        jdbcTemplate.update(
+                "INSERT INTO bens (id, nome, numero_tombamento, data_aquisicao, valor_aquisicao, valor_atual, " +
+                "status, condicao, categoria_id, localizacao_atual_id) " +
+                "SELECT nextval('bens_id_seq'), 'Bem ' || g, ? || g, DATE '2020-01-01', 100 + g, " +
+                "CASE WHEN g % 3 = 0 THEN NULL ELSE 50 + g END, " +
+                "CASE WHEN g % 4 = 0 THEN 'EM_MANUTENCAO' ELSE 'ATIVO' END, " +
+                "CASE WHEN g % 5 = 0 THEN 'REGULAR' ELSE 'BOM' END, " +
+                "CASE WHEN g % 2 = 0 THEN ? ELSE ? END, ? " +
+                "FROM generate_series(1, 200) g", prefixo, categoriaA, categoriaB, localizacaoId);
+    }
+
+    @Test
+    @DisplayName("Deve manter os agregados iguais ao agrupamento da tabela de bens")
+    void deveReconciliarAposEscritas() {
+        assertEquals(0, divergencias());
+
+        // UPDATE pelo JPA: status e valor atual
+        TransactionTemplate transacao = new TransactionTemplate(transactionManager);
+        Long bemId = jdbcTemplate.queryForObject(
+                "SELECT id FROM bens WHERE numero_tombamento = ?", Long.class, prefixo + 7);
+        transacao.executeWithoutResult(status -> {
+            Bem bem = bemRepository.findById(bemId).orElseThrow();
+            bem.setStatus(StatusBem.BAIXADO);
+            bem.setValorAtual(BigDecimal.ONE);
+        });
+        assertEquals(0, divergencias());
+
+        // UPDATE em massa da movimentação em lote
+        Long destinoId = jdbcTemplate.queryForObject(
+                "INSERT INTO localizacoes (nome) VALUES (?) RETURNING id", Long.class, prefixo + "Sala 12");
+        List<Long> ids = jdbcTemplate.queryForList(
+                "SELECT id FROM bens WHERE numero_tombamento IN (?, ?, ?, ?)", Long.class,
+                prefixo + 1, prefixo + 2, prefixo + 3, prefixo + 4);
+        transacao.executeWithoutResult(status -> {
+            Localizacao destino = localizacaoRepository.findById(destinoId).orElseThrow();
+            bemRepository.atualizarLocalizacao(ids, destino, LocalDateTime.now());
+        });
+        assertEquals(0, divergencias());
+
+        // UPDATE que não muda chave nem valores não altera o agregado
+        jdbcTemplate.update("UPDATE bens SET observacoes = 'conferido'");
+        assertEquals(0, divergencias());
+
+        // DELETE esvazia os grupos que ficam sem bens
+        jdbcTemplate.update("DELETE FROM bens WHERE status = 'EM_MANUTENCAO' AND numero_tombamento LIKE ?",
+                prefixo + "%");
+        assertEquals(0, divergencias());
+        assertEquals(0, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM bens_agregados WHERE quantidade = 0", Long.class));
+    }
+
+    @Test
+    @DisplayName("Deve totalizar o dashboard com os mesmos números da tabela de bens")
+    void deveTotalizarDashboard() {
+        List<TotalBensDTO> porStatus = bemAgregadoRepository.totalizarPorStatus();
+        List<TotalBensDTO> porLocalizacao = bemAgregadoRepository.totalizarPorLocalizacao();
+
+        assertEquals(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM bens", Long.class),
+                porStatus.stream().mapToLong(TotalBensDTO::getQuantidade).sum());
+        assertEquals(0, jdbcTemplate.queryForObject("SELECT SUM(valor_aquisicao) FROM bens", BigDecimal.class)
+                .compareTo(porStatus.stream().map(TotalBensDTO::getValorAquisicao)
+                        .reduce(BigDecimal.ZERO, BigDecimal::add)));
+        assertEquals(200, porLocalizacao.stream()
+                .filter(total -> total.getId().equals(localizacaoId))
+                .mapToLong(TotalBensDTO::getQuantidade).sum());
+        assertTrue(bemAgregadoRepository.totalizarPorCategoria().size() >= 2);
+    }
+
+    private long divergencias() {
+        return jdbcTemplate.queryForObject(DIVERGENCIAS, Long.class);
+    }
+}
@@ -0,0 +1,212 @@
+package com.manus.patrimonio.repository;
+
+import com.manus.patrimonio.dto.BemResumoDTO;
+import com.manus.patrimonio.dto.MovimentacaoResumoDTO;
+import com.manus.patrimonio.enums.CondicaoBem;
+import com.manus.patrimonio.enums.StatusBem;
+import com.manus.patrimonio.enums.StatusManutencao;
+import com.manus.patrimonio.enums.TipoManutencao;
+import com.manus.patrimonio.enums.TipoMovimentacao;
+import com.manus.patrimonio.mapper.PatrimonioMapper;
+import com.manus.patrimonio.mapper.PatrimonioMapperImpl;
+import com.manus.patrimonio.model.*;
+import com.manus.patrimonio.repository.specification.BemSpecifications;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Garante que as listagens convertidas pelo {@link PatrimonioMapper} executam um número
+ * fixo de statements por página, independente da quantidade de linhas: cada registro
+ * aponta para associações distintas, então um N+1 apareceria como uma consulta por linha.
+ */
+@DataJpaTest(properties = {
+    "spring.flyway.enabled=false",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+    "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Import(PatrimonioMapperImpl.class)
+@DisplayName("Testes de statements por página das listagens")
+class ConsultasListagemTest {
+
+    private static final int TOTAL = 10;
+
+    // SELECT da página mais o COUNT do Page
+    private static final long STATEMENTS_PAGINA = 2;
+
+    private static final Pageable PAGINA = PageRequest.of(0, TOTAL, Sort.by("id"));
+
+    @Autowired
+    private BemRepository bemRepository;
+
+    @Autowired
+    private MovimentacaoRepository movimentacaoRepository;
+
+    @Autowired
+    private ManutencaoRepository manutencaoRepository;
+
+    @Autowired
+    private BaixaRepository baixaRepository;
+
+    @Autowired
+    private NotificacaoRepository notificacaoRepository;
+
+    @Autowired
+    private LocalizacaoRepository localizacaoRepository;
+
+    @Autowired
+    private PatrimonioMapper patrimonioMapper;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics estatisticas;
+
+    @BeforeEach
+    void popular() {
+        Perfil perfil = new Perfil("LEITOR", "Somente leitura");
+        entityManager.persist(perfil);
+        for (int i = 0; i < TOTAL; i++) {
+            Categoria categoria = new Categoria("Categoria " + i, null);
+            Localizacao origem = new Localizacao("Origem " + i, null, null, null, null);
+            Localizacao destino = new Localizacao("Destino " + i, null, null, null, null);
+            entityManager.persist(categoria);
+            entityManager.persist(origem);
+            entityManager.persist(destino);
+
+            Bem bem = new Bem("Bem " + i, "TMB-" + i, "Descrição do bem " + i, categoria, origem,
+                    LocalDate.of(2020, 1, 1), BigDecimal.TEN);
+            bem.setStatus(StatusBem.ATIVO);
+            bem.setCondicao(CondicaoBem.BOM);
+            entityManager.persist(bem);
+
+            entityManager.persist(new Movimentacao(bem, LocalDateTime.now(), TipoMovimentacao.TRANSFERENCIA,
+                    origem, destino, "Responsável " + i));
+            entityManager.persist(new Manutencao(bem, TipoManutencao.PREVENTIVA, "Revisão periódica " + i,
+                    LocalDate.now(), StatusManutencao.AGENDADA, "Responsável " + i));
+            entityManager.persist(new Baixa(bem, "Obsolescência", LocalDate.now(), "Responsável " + i));
+
+            Usuario usuario = new Usuario("usuario" + i, "usuario" + i + "@teste.com", "Usuário " + i, "senha-hash");
+            usuario.getPerfis().add(perfil);
+            entityManager.persist(usuario);
+            entityManager.persist(new Notificacao(usuario, "Aviso " + i, "Mensagem de teste " + i, "INFO"));
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        estatisticas = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        estatisticas.clear();
+    }
+
+    @Test
+    @DisplayName("Deve listar bens com categoria e localização sem N+1")
+    void deveListarBens() {
+        assertStatements(STATEMENTS_PAGINA, () -> bemRepository.findAll(PAGINA)
+                .map(patrimonioMapper::bemToBemDTO).getContent());
+    }
+
+    @Test
+    @DisplayName("Deve filtrar bens por Specification sem N+1")
+    void deveFiltrarBens() {
+        assertStatements(STATEMENTS_PAGINA, () -> bemRepository.findAll(
+                BemSpecifications.comFiltros(null, null, List.of(StatusBem.ATIVO), null, null, null, null, null), PAGINA)
+                .map(patrimonioMapper::bemToBemDTO).getContent());
+    }
+
+    @Test
+    @DisplayName("Deve paginar bens por cursor sem N+1")
+    void devePaginarBensPorCursor() {
+        // Slice não executa COUNT
+        assertStatements(1, () -> bemRepository.findBy(BemSpecifications.aposPosicao("", 0L),
+                consulta -> consulta.project("categoria", "localizacaoAtual")
+                        .sortBy(Sort.by("nome", "id")).limit(TOTAL).all())
+                .stream().map(patrimonioMapper::bemToBemDTO).toList());
+    }
+
+    @Test
+    @DisplayName("Deve listar movimentações com bem e localizações sem N+1")
+    void deveListarMovimentacoes() {
+        assertStatements(STATEMENTS_PAGINA, () -> movimentacaoRepository.findAll(PAGINA)
+                .map(patrimonioMapper::movimentacaoToMovimentacaoDTO).getContent());
+    }
+
+    @Test
+    @DisplayName("Deve listar manutenções com bem sem N+1")
+    void deveListarManutencoes() {
+        assertStatements(STATEMENTS_PAGINA, () -> manutencaoRepository.findAll(PAGINA)
+                .map(patrimonioMapper::manutencaoToManutencaoDTO).getContent());
+    }
+
+    @Test
+    @DisplayName("Deve listar baixas com bem sem N+1")
+    void deveListarBaixas() {
+        assertStatements(STATEMENTS_PAGINA, () -> baixaRepository.findAll(PAGINA)
+                .map(patrimonioMapper::baixaToBaixaDTO).getContent());
+    }
+
+    @Test
+    @DisplayName("Deve listar notificações com usuário sem N+1")
+    void deveListarNotificacoes() {
+        // Os perfis do usuário são EAGER: vêm num único lote pelo default_batch_fetch_size
+        assertStatements(STATEMENTS_PAGINA + 1, () -> notificacaoRepository.findAll(PAGINA)
+                .map(patrimonioMapper::notificacaoToNotificacaoDTO).getContent());
+    }
+
+    @Test
+    @DisplayName("Deve projetar os resumos sem hidratar entidades")
+    void deveProjetarResumos() {
+        List<BemResumoDTO> bens = bemRepository.listarResumos(PAGINA).getContent();
+        List<MovimentacaoResumoDTO> movimentacoes = movimentacaoRepository.listarResumos(PAGINA).getContent();
+
+        assertEquals(0, estatisticas.getEntityLoadCount());
+        assertEquals(2 * STATEMENTS_PAGINA, estatisticas.getPrepareStatementCount());
+        assertEquals(TOTAL, bens.size());
+        assertEquals("Categoria 0", bens.get(0).getCategoriaNome());
+        assertEquals("Origem 0", bens.get(0).getLocalizacaoAtualNome());
+        assertEquals(TOTAL, movimentacoes.size());
+        assertEquals("Destino 0", movimentacoes.get(0).getLocalizacaoDestinoNome());
+    }
+
+    @Test
+    @DisplayName("Deve separar localizações com e sem bens e contá-los sem carregar os bens")
+    void deveContarBensDasLocalizacoes() {
+        List<Localizacao> comBens = localizacaoRepository.buscarLocalizacoesComBens();
+        List<Localizacao> semBens = localizacaoRepository.buscarLocalizacoesSemBens();
+        List<Object[]> quantidades = bemRepository.contarPorLocalizacoes(
+                comBens.stream().map(Localizacao::getId).toList());
+
+        assertEquals(3, estatisticas.getPrepareStatementCount());
+        assertEquals(0, estatisticas.getCollectionLoadCount());
+        assertEquals(TOTAL, comBens.size());
+        assertTrue(comBens.stream().allMatch(localizacao -> localizacao.getNome().startsWith("Origem")));
+        assertEquals(TOTAL, semBens.size());
+        assertEquals(TOTAL, quantidades.size());
+        assertTrue(quantidades.stream().allMatch(linha -> ((Long) linha[1]) == 1L));
+    }
+
+    private void assertStatements(long maximo, Supplier<List<?>> consulta) {
+        List<?> dtos = consulta.get();
+
+        assertEquals(TOTAL, dtos.size());
+        assertTrue(estatisticas.getPrepareStatementCount() <= maximo,
+                () -> "Statements preparados: " + estatisticas.getPrepareStatementCount() + ", esperado até " + maximo);
+    }
+}
@@ -0,0 +1,133 @@
+package com.manus.patrimonio.repository;
+
+import com.manus.patrimonio.mapper.PatrimonioMapper;
+import com.manus.patrimonio.mapper.PatrimonioMapperImpl;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Compara latência e alocação por página da listagem de bens em três caminhos:
+ * entidade + mapper em transação de escrita, o mesmo em transação {@code readOnly}
+ * (sem snapshots de dirty checking nem flush) e a projeção {@code listarResumos}.
+ * Roda só com {@code mvn test -Pbenchmark} e requer Docker.
+ */
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=none")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(PatrimonioMapperImpl.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Testcontainers(disabledWithoutDocker = true)
+@Tag("benchmark")
+@DisplayName("Benchmark da listagem por projeção")
+class ListagemProjecaoBenchmarkTest {
+
+    private static final int BENS = Integer.getInteger("benchmark.bens", 20_000);
+    private static final int TAMANHO_PAGINA = 100;
+    private static final int AQUECIMENTO = 50;
+    private static final int ITERACOES = Integer.getInteger("benchmark.iteracoes", 200);
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void configurarBanco(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @Autowired
+    private BemRepository bemRepository;
+
+    @Autowired
+    private PatrimonioMapper patrimonioMapper;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private int paginaAtual;
+
+    @Test
+    @DisplayName("Deve listar por projeção alocando menos que pela entidade")
+    void deveCompararCaminhos() {
+        // Arrange
+        Long categoriaId = jdbcTemplate.queryForObject(
+                "INSERT INTO categorias (nome) VALUES ('Mobiliário') RETURNING id", Long.class);
+        Long localizacaoId = jdbcTemplate.queryForObject(
+                "INSERT INTO localizacoes (nome) VALUES ('Andar 3') RETURNING id", Long.class);
+        jdbcTemplate.update(
+                "INSERT INTO bens (nome, numero_tombamento, descricao, data_aquisicao, valor_aquisicao, status, " +
+                "condicao, categoria_id, localizacao_atual_id) " +
+                "SELECT 'Bem ' || g, 'TMB' || g, 'Descrição do bem ' || g, DATE '2020-01-01', 100, 'ATIVO', 'BOM', ?, ? " +
+                "FROM generate_series(1, ?) g", categoriaId, localizacaoId, BENS);
+
+        TransactionTemplate escrita = new TransactionTemplate(transactionManager);
+        TransactionTemplate leitura = new TransactionTemplate(transactionManager);
+        leitura.setReadOnly(true);
+
+        // Act
+        Medicao entidade = medir(() -> escrita.execute(status ->
+                bemRepository.findAll(pagina()).map(patrimonioMapper::bemToBemDTO).getContent()));
+        Medicao entidadeSomenteLeitura = medir(() -> leitura.execute(status ->
+                bemRepository.findAll(pagina()).map(patrimonioMapper::bemToBemDTO).getContent()));
+        Medicao projecao = medir(() -> leitura.execute(status ->
+                bemRepository.listarResumos(pagina()).getContent()));
+
+        // Assert
+        System.out.printf("BENCHMARK_LISTAGEM pagina=%d | entidade: %.2fms %dKB | entidade readOnly: %.2fms %dKB | " +
+                          "projecao: %.2fms %dKB%n", TAMANHO_PAGINA,
+                entidade.milissegundos(), entidade.kilobytes(),
+                entidadeSomenteLeitura.milissegundos(), entidadeSomenteLeitura.kilobytes(),
+                projecao.milissegundos(), projecao.kilobytes());
+
+        assertTrue(projecao.kilobytes() < entidade.kilobytes());
+    }
+
+    // Percorre páginas diferentes para não medir sempre o mesmo trecho do índice
+    private Pageable pagina() {
+        paginaAtual = (paginaAtual + 1) % (BENS / TAMANHO_PAGINA);
+        return PageRequest.of(paginaAtual, TAMANHO_PAGINA, Sort.by("nome"));
+    }
+
+    private Medicao medir(Supplier<List<?>> listagem) {
+        for (int i = 0; i < AQUECIMENTO; i++) {
+            listagem.get();
+        }
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long alocadoAntes = threads.getCurrentThreadAllocatedBytes();
+        long inicio = System.nanoTime();
+        for (int i = 0; i < ITERACOES; i++) {
+            assertEquals(TAMANHO_PAGINA, listagem.get().size());
+        }
+        return new Medicao((System.nanoTime() - inicio) / 1e6 / ITERACOES,
+                (threads.getCurrentThreadAllocatedBytes() - alocadoAntes) / 1024 / ITERACOES);
+    }
+
+    private record Medicao(double milissegundos, long kilobytes) {}
+}
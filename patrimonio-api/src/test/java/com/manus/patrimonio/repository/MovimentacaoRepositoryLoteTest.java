@@ -0,0 +1,110 @@
+package com.manus.patrimonio.repository;
+
+import com.manus.patrimonio.enums.TipoMovimentacao;
+import com.manus.patrimonio.model.Bem;
+import com.manus.patrimonio.model.Localizacao;
+import com.manus.patrimonio.model.Movimentacao;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Verifica que, com IDs vindos de sequência pooled-lo, o Hibernate agrupa os
+ * INSERTs em lotes de {@code jdbc.batch_size} em vez de executar um por entidade.
+ * Roda sobre o schema das migrações do Flyway. Requer Docker; é ignorado quando indisponível.
+ */
+@DataJpaTest(properties = {
+    "spring.jpa.hibernate.ddl-auto=none",
+    "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("Testes de gravação em lote das movimentações")
+class MovimentacaoRepositoryLoteTest {
+
+    private static final int TOTAL = 1000;
+    private static final int TAMANHO_LOTE = 20;
+    private static final int BLOCO_SEQUENCIA = 50;
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void configurarBanco(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @Autowired
+    private MovimentacaoRepository movimentacaoRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("Deve inserir 1000 movimentações em lotes")
+    void deveInserirEmLotes() {
+        // Arrange
+        Long categoriaId = jdbcTemplate.queryForObject(
+                "INSERT INTO categorias (nome) VALUES ('Categoria Lote') RETURNING id", Long.class);
+        Long localizacaoId = jdbcTemplate.queryForObject(
+                "INSERT INTO localizacoes (nome) VALUES ('Local Lote') RETURNING id", Long.class);
+        Long bemId = jdbcTemplate.queryForObject(
+                "INSERT INTO bens (nome, numero_tombamento, data_aquisicao, valor_aquisicao, status, condicao, " +
+                "categoria_id, localizacao_atual_id) VALUES ('Bem Lote', 'TMB-LOTE', CURRENT_DATE, 100, " +
+                "'ATIVO', 'BOM', ?, ?) RETURNING id", Long.class, categoriaId, localizacaoId);
+        Bem bem = entityManager.getReference(Bem.class, bemId);
+        Localizacao localizacao = entityManager.getReference(Localizacao.class, localizacaoId);
+
+        List<Movimentacao> movimentacoes = new ArrayList<>();
+        for (int i = 0; i < TOTAL; i++) {
+            movimentacoes.add(new Movimentacao(bem, LocalDateTime.now(), TipoMovimentacao.INVENTARIO,
+                    localizacao, localizacao, "usuario" + i));
+        }
+
+        Statistics estatisticas = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        estatisticas.clear();
+
+        // Act
+        List<Movimentacao> salvas = movimentacaoRepository.saveAll(movimentacoes);
+        entityManager.flush();
+
+        // Assert
+        assertEquals(TOTAL, estatisticas.getEntityInsertCount());
+        // Um statement por lote de INSERTs mais uma chamada à sequência a cada bloco de IDs;
+        // com IDENTITY seriam ao menos 1000
+        long esperado = TOTAL / TAMANHO_LOTE + TOTAL / BLOCO_SEQUENCIA;
+        assertTrue(estatisticas.getPrepareStatementCount() <= esperado,
+                () -> "Statements preparados: " + estatisticas.getPrepareStatementCount() + ", esperado até " + esperado);
+
+        Set<Long> ids = new HashSet<>();
+        salvas.forEach(movimentacao -> ids.add(movimentacao.getId()));
+        assertEquals(TOTAL, ids.size());
+        assertEquals((long) BLOCO_SEQUENCIA, jdbcTemplate.queryForObject(
+                "SELECT increment_by FROM pg_sequences WHERE sequencename = 'movimentacoes_id_seq'", Long.class));
+    }
+}
@@ -0,0 +1,203 @@
+package com.manus.patrimonio.security;
+
+import com.manus.patrimonio.cache.CanalInvalidacaoCache;
+import com.manus.patrimonio.cache.InvalidacaoCache;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Testes do CachePrincipais")
+class CachePrincipaisTest {
+
+    private static final long VALIDADE_TOKEN = Duration.ofHours(24).toMillis();
+
+    private RelogioManual relogio;
+    private CanalEmMemoria canal;
+    private CachePrincipais cachePrincipais;
+    private AtomicInteger carregamentos;
+    private Function<String, UserDetails> carregar;
+
+    @BeforeEach
+    void setUp() {
+        relogio = new RelogioManual(Instant.parse("2024-06-01T12:00:00Z"));
+        canal = new CanalEmMemoria();
+        cachePrincipais = new CachePrincipais(new CachePrincipaisProperties(), VALIDADE_TOKEN, canal,
+                new SimpleMeterRegistry(), relogio);
+        carregamentos = new AtomicInteger();
+        carregar = username -> {
+            carregamentos.incrementAndGet();
+            return User.withUsername(username).password("hash").authorities("ROLE_USER").build();
+        };
+    }
+
+    @Test
+    @DisplayName("Deve montar o principal pelos perfis do token sem carregar o usuário")
+    void deveResolverPeloToken() {
+        relogio.avancar(Duration.ofMinutes(1));
+
+        UserDetails principal = cachePrincipais.resolver(claims("ana", List.of("ROLE_ADMIN")), carregar);
+
+        assertEquals("ana", principal.getUsername());
+        assertEquals(List.of("ROLE_ADMIN"), perfis(principal));
+        assertEquals(0, carregamentos.get());
+    }
+
+    @Test
+    @DisplayName("Deve carregar uma vez e reaproveitar o principal de tokens sem perfis ou anteriores à subida")
+    void deveCarregarTokensNaoConfiaveis() {
+        Claims anteriorASubida = claims("ana", List.of("ROLE_ADMIN"));
+        relogio.avancar(Duration.ofMinutes(1));
+        Claims semPerfis = claims("ana", null);
+
+        cachePrincipais.resolver(anteriorASubida, carregar);
+        UserDetails principal = cachePrincipais.resolver(semPerfis, carregar);
+
+        assertEquals(1, carregamentos.get());
+        assertEquals(List.of("ROLE_USER"), perfis(principal));
+    }
+
+    @Test
+    @DisplayName("Deve conferir no banco os tokens emitidos antes de uma alteração do usuário")
+    void deveRevogarTokensAnterioresAAlteracao() {
+        relogio.avancar(Duration.ofMinutes(1));
+        Claims anterior = claims("ana", List.of("ROLE_ADMIN"));
+        cachePrincipais.resolver(claims("ana", null), carregar);
+        relogio.avancar(Duration.ofMinutes(1));
+
+        cachePrincipais.invalidar("ana");
+        UserDetails principal = cachePrincipais.resolver(anterior, carregar);
+        relogio.avancar(Duration.ofSeconds(1));
+        UserDetails novoLogin = cachePrincipais.resolver(claims("ana", List.of("ROLE_USER")), carregar);
+
+        assertEquals(2, carregamentos.get());
+        assertEquals(List.of("ROLE_USER"), perfis(principal));
+        assertEquals(List.of("ROLE_USER"), perfis(novoLogin));
+        assertEquals(List.of("ana"), canal.publicadas);
+    }
+
+    @Test
+    @DisplayName("Deve aplicar as alterações recebidas de outros nós")
+    void deveReceberAlteracaoDeOutroNo() {
+        relogio.avancar(Duration.ofMinutes(1));
+        Claims anterior = claims("ana", List.of("ROLE_ADMIN"));
+        relogio.avancar(Duration.ofMinutes(1));
+
+        canal.entregar(new InvalidacaoCache("outro-no", CachePrincipais.CACHE_PRINCIPAIS, "ana"));
+        cachePrincipais.resolver(anterior, carregar);
+        cachePrincipais.resolver(claims("bruno", List.of("ROLE_USER")), carregar);
+
+        assertEquals(1, carregamentos.get());
+    }
+
+    @Test
+    @DisplayName("Deve carregar o principal sem prender a thread virtual à carrier")
+    void deveCarregarSemPrenderThreadVirtual() throws Exception {
+        Path arquivo = Files.createTempFile("pinning", ".jfr");
+        try (Recording gravacao = new Recording()) {
+            gravacao.enable("jdk.VirtualThreadPinned").withThreshold(Duration.ofMillis(10));
+            gravacao.start();
+
+            Thread thread = Thread.ofVirtual().start(() -> cachePrincipais.resolver(claims("ana", null), username -> {
+                try {
+                    // Consulta ao banco
+                    Thread.sleep(50);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return carregar.apply(username);
+            }));
+            thread.join();
+
+            gravacao.stop();
+            gravacao.dump(arquivo);
+            assertEquals(1, carregamentos.get());
+            assertTrue(RecordingFile.readAllEvents(arquivo).isEmpty());
+        } finally {
+            Files.deleteIfExists(arquivo);
+        }
+    }
+
+    private Claims claims(String username, List<String> perfis) {
+        var builder = Jwts.claims().subject(username).issuedAt(Date.from(relogio.instant()));
+        if (perfis != null) {
+            builder.add(JwtTokenProvider.CLAIM_PERFIS, perfis);
+        }
+        return builder.build();
+    }
+
+    private static List<String> perfis(UserDetails principal) {
+        return principal.getAuthorities().stream().map(GrantedAuthority::getAuthority).toList();
+    }
+
+    private static class RelogioManual extends Clock {
+
+        private Instant agora;
+
+        RelogioManual(Instant agora) {
+            this.agora = agora;
+        }
+
+        void avancar(Duration duracao) {
+            agora = agora.plus(duracao);
+        }
+
+        @Override
+        public Instant instant() {
+            return agora;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+    }
+
+    private static class CanalEmMemoria implements CanalInvalidacaoCache {
+
+        private final List<Object> publicadas = new ArrayList<>();
+        private Consumer<InvalidacaoCache> ouvinte;
+
+        @Override
+        public void publicar(String cache, Object chave) {
+            publicadas.add(chave);
+        }
+
+        @Override
+        public void assinar(Consumer<InvalidacaoCache> ouvinte) {
+            this.ouvinte = ouvinte;
+        }
+
+        void entregar(InvalidacaoCache invalidacao) {
+            ouvinte.accept(invalidacao);
+        }
+    }
+}
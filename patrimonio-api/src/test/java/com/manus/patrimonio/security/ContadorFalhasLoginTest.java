@@ -0,0 +1,119 @@
+package com.manus.patrimonio.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Testes do ContadorFalhasLogin")
+class ContadorFalhasLoginTest {
+
+    private RelogioManual relogio;
+    private SimpleMeterRegistry meterRegistry;
+    private ContadorFalhasLogin contador;
+
+    @BeforeEach
+    void setUp() {
+        TentativasLoginProperties properties = new TentativasLoginProperties();
+        properties.setJanela(Duration.ofMinutes(15));
+        properties.setLimiteUsuario(3);
+        properties.setLimiteIp(5);
+        relogio = new RelogioManual(Instant.parse("2024-06-01T08:00:00Z"));
+        meterRegistry = new SimpleMeterRegistry();
+        contador = new ContadorFalhasLogin(properties, meterRegistry, relogio);
+    }
+
+    @Test
+    @DisplayName("Deve sinalizar o bloqueio só na falha que atinge o limite dentro da janela")
+    void deveSinalizarBloqueioUmaVez() {
+        assertFalse(contador.registrarFalha("ana", null));
+        relogio.avancar(Duration.ofMinutes(10));
+        assertFalse(contador.registrarFalha("ana", null));
+        relogio.avancar(Duration.ofMinutes(6));
+        // A primeira falha saiu da janela
+        assertFalse(contador.registrarFalha("ana", null));
+
+        assertTrue(contador.registrarFalha("ana", null));
+        assertFalse(contador.registrarFalha("ana", null));
+        assertEquals(1.0, meterRegistry.get("patrimonio.security.login.bloqueios").counter().count());
+    }
+
+    @Test
+    @DisplayName("Deve recomeçar a contagem depois do desbloqueio")
+    void deveRecomecarAposLimpar() {
+        contador.registrarFalha("ana", null);
+        contador.registrarFalha("ana", null);
+        assertTrue(contador.registrarFalha("ana", null));
+
+        contador.limpar("ana");
+
+        assertFalse(contador.registrarFalha("ana", null));
+        assertFalse(contador.registrarFalha("ana", null));
+        assertTrue(contador.registrarFalha("ana", null));
+    }
+
+    @Test
+    @DisplayName("Deve exigir o limite inteiro de novo para bloquear depois que o bloqueio vence")
+    void deveBloquearDeNovoAposVencimento() {
+        contador.registrarFalha("ana", null);
+        contador.registrarFalha("ana", null);
+        assertTrue(contador.registrarFalha("ana", null));
+
+        // Bloqueio gravado venceu antes de as falhas saírem da janela
+        relogio.avancar(Duration.ofMinutes(5));
+
+        assertFalse(contador.registrarFalha("ana", null));
+        assertFalse(contador.registrarFalha("ana", null));
+        assertTrue(contador.registrarFalha("ana", null));
+    }
+
+    @Test
+    @DisplayName("Deve recusar o IP com falhas em vários usuários até a janela passar")
+    void deveBloquearIpAteAJanelaPassar() {
+        for (int i = 0; i < 5; i++) {
+            contador.registrarFalha("usuario" + i, "10.0.0.7");
+        }
+
+        assertTrue(contador.ipBloqueado("10.0.0.7"));
+        assertFalse(contador.ipBloqueado("10.0.0.8"));
+        relogio.avancar(Duration.ofMinutes(16));
+        assertFalse(contador.ipBloqueado("10.0.0.7"));
+        assertEquals(1.0, meterRegistry.get("patrimonio.security.login.recusadas").tag("motivo", "ip").counter().count());
+    }
+
+    private static class RelogioManual extends Clock {
+
+        private Instant agora;
+
+        RelogioManual(Instant agora) {
+            this.agora = agora;
+        }
+
+        void avancar(Duration duracao) {
+            agora = agora.plus(duracao);
+        }
+
+        @Override
+        public Instant instant() {
+            return agora;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.manus.patrimonio.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Vazão de emissão e validação de tokens em JMH, com a rotação de chaves configurada
+ * (o {@code kid} do cabeçalho escolhe a chave). Roda só com {@code mvn test -Pbenchmark};
+ * {@code -Dbenchmark.threads=N} mede a validação concorrente.
+ */
+@Tag("benchmark")
+@DisplayName("Benchmark do JwtTokenProvider")
+public class JwtTokenProviderBenchmarkTest {
+
+    private static final int THREADS = Integer.getInteger("benchmark.threads", 4);
+
+    @Test
+    @DisplayName("Deve medir a emissão e a validação de tokens")
+    void deveMedirEmissaoEValidacao() throws Exception {
+        Options opcoes = new OptionsBuilder()
+                .include(JwtTokenProviderBenchmarkTest.class.getSimpleName())
+                .forks(0)
+                .threads(THREADS)
+                .warmupIterations(3)
+                .warmupTime(TimeValue.seconds(1))
+                .measurementIterations(5)
+                .measurementTime(TimeValue.seconds(1))
+                .build();
+
+        Collection<RunResult> resultados = new Runner(opcoes).run();
+
+        for (RunResult resultado : resultados) {
+            System.out.printf("BENCHMARK_JWT %s threads=%d ops/ms=%.1f%n",
+                    resultado.getParams().getBenchmark(), THREADS, resultado.getPrimaryResult().getScore());
+            assertTrue(resultado.getPrimaryResult().getScore() > 0);
+        }
+        assertEquals(2, resultados.size());
+    }
+
+    @State(Scope.Benchmark)
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public static class Medicao {
+
+        private JwtTokenProvider provider;
+        private Authentication autenticacao;
+        private String token;
+
+        @Setup
+        public void preparar() {
+            JwtProperties properties = new JwtProperties();
+            properties.setSecret("segredo-legado-com-pelo-menos-256-bits-para-hs256");
+            properties.setChaves(Map.of(
+                    "2024-01", "segredo-anterior-com-pelo-menos-256-bits-para-hs256",
+                    "2024-06", "segredo-atual-com-pelo-menos-256-bits-para-hs256"));
+            properties.setChaveAtual("2024-06");
+            provider = new JwtTokenProvider(properties);
+
+            UserDetails usuario = User.withUsername("ana").password("").authorities("ROLE_ADMIN", "ROLE_USER").build();
+            autenticacao = new UsernamePasswordAuthenticationToken(usuario, null, usuario.getAuthorities());
+            token = provider.generateToken(autenticacao);
+        }
+
+        @Benchmark
+        public String emitir() {
+            return provider.generateToken(autenticacao);
+        }
+
+        @Benchmark
+        public void validar(Blackhole blackhole) {
+            blackhole.consume(provider.lerClaims(token).orElseThrow());
+        }
+    }
+}
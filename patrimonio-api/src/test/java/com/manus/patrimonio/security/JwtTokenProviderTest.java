@@ -0,0 +1,56 @@
+package com.manus.patrimonio.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Testes do JwtTokenProvider")
+class JwtTokenProviderTest {
+
+    private static final String LEGADO = "segredo-legado-com-pelo-menos-256-bits-para-hs256";
+    private static final String ANTERIOR = "segredo-anterior-com-pelo-menos-256-bits-para-hs256";
+    private static final String ATUAL = "segredo-atual-com-pelo-menos-256-bits-para-hs256";
+
+    @Test
+    @DisplayName("Deve validar tokens da chave anterior e sem kid depois da rotação")
+    void deveValidarTokensAnterioresARotacao() {
+        String semKid = provider(LEGADO, null, Map.of()).generateTokenFromUsername("ana");
+        String daAnterior = provider(LEGADO, "2024-01", Map.of("2024-01", ANTERIOR))
+                .generateTokenFromUsername("bruno");
+
+        JwtTokenProvider rotacionado = provider(LEGADO, "2024-06", Map.of("2024-01", ANTERIOR, "2024-06", ATUAL));
+        String daAtual = rotacionado.generateTokenFromUsername("carla");
+
+        assertEquals("ana", rotacionado.getUsernameFromJWT(semKid));
+        assertEquals("bruno", rotacionado.getUsernameFromJWT(daAnterior));
+        assertEquals("carla", rotacionado.getUsernameFromJWT(daAtual));
+    }
+
+    @Test
+    @DisplayName("Deve recusar token de chave retirada do chaveiro")
+    void deveRecusarChaveRetirada() {
+        String daAnterior = provider(null, "2024-01", Map.of("2024-01", ANTERIOR)).generateTokenFromUsername("ana");
+
+        JwtTokenProvider semAnterior = provider(null, "2024-06", Map.of("2024-06", ATUAL));
+
+        assertTrue(semAnterior.lerClaims(daAnterior).isEmpty());
+        assertFalse(semAnterior.validateToken(daAnterior));
+    }
+
+    @Test
+    @DisplayName("Deve falhar na criação se a chave atual não estiver no chaveiro")
+    void deveExigirChaveAtualNoChaveiro() {
+        assertThrows(IllegalStateException.class, () -> provider(LEGADO, "2024-06", Map.of("2024-01", ANTERIOR)));
+    }
+
+    private static JwtTokenProvider provider(String secret, String chaveAtual, Map<String, String> chaves) {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecret(secret);
+        properties.setChaveAtual(chaveAtual);
+        properties.setChaves(chaves);
+        return new JwtTokenProvider(properties);
+    }
+}
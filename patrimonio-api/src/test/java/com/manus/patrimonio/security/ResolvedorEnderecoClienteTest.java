@@ -0,0 +1,62 @@
+package com.manus.patrimonio.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Testes do ResolvedorEnderecoCliente")
+class ResolvedorEnderecoClienteTest {
+
+    @Test
+    @DisplayName("Deve ignorar o X-Forwarded-For quando não há proxies configurados")
+    void deveIgnorarCabecalhoSemProxies() {
+        ResolvedorEnderecoCliente resolvedor = resolvedor();
+
+        assertEquals("203.0.113.9", resolvedor.resolver(requisicao("203.0.113.9", "10.0.0.1")));
+    }
+
+    @Test
+    @DisplayName("Deve ignorar o X-Forwarded-For de uma conexão que não vem de um proxy confiável")
+    void deveIgnorarCabecalhoDeConexaoDireta() {
+        ResolvedorEnderecoCliente resolvedor = resolvedor("10.0.0.0/8");
+
+        assertEquals("203.0.113.9", resolvedor.resolver(requisicao("203.0.113.9", "10.0.0.1")));
+    }
+
+    @Test
+    @DisplayName("Deve ficar com o primeiro endereço da direita que não é de um proxy confiável")
+    void deveResolverDaDireitaParaAEsquerda() {
+        ResolvedorEnderecoCliente resolvedor = resolvedor("10.0.0.0/8");
+
+        // O cliente forjou a primeira entrada; o nginx acrescentou o endereço real
+        MockHttpServletRequest request = requisicao("10.0.0.2", "1.2.3.4, 198.51.100.7, 10.0.0.5");
+
+        assertEquals("198.51.100.7", resolvedor.resolver(request));
+    }
+
+    @Test
+    @DisplayName("Deve parar na entrada malformada e não aceitar valores fora do formato de IP")
+    void deveRecusarEntradaMalformada() {
+        ResolvedorEnderecoCliente resolvedor = resolvedor("10.0.0.0/8");
+
+        assertEquals("10.0.0.2", resolvedor.resolver(requisicao("10.0.0.2", "x".repeat(500))));
+        assertEquals("10.0.0.5", resolvedor.resolver(requisicao("10.0.0.2", "exemplo.com, 10.0.0.5")));
+    }
+
+    private static ResolvedorEnderecoCliente resolvedor(String... proxies) {
+        EnderecoClienteProperties properties = new EnderecoClienteProperties();
+        properties.setProxiesConfiaveis(List.of(proxies));
+        return new ResolvedorEnderecoCliente(properties);
+    }
+
+    private static MockHttpServletRequest requisicao(String remoto, String encaminhado) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRemoteAddr(remoto);
+        request.addHeader("X-Forwarded-For", encaminhado);
+        return request;
+    }
+}
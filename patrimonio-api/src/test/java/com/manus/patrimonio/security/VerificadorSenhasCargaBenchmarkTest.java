@@ -0,0 +1,108 @@
+package com.manus.patrimonio.security;
+
+import com.manus.patrimonio.config.PasswordConfig;
+import com.manus.patrimonio.exception.RegraDeNegocioException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Carga de login sobre um pool do tamanho do Tomcat (200 threads): mede o p99 de
+ * requisições comuns da API sozinhas e durante uma rajada de {@code benchmark.loginsPorSegundo}
+ * logins (padrão 500/s) verificados pelo {@link VerificadorSenhas}. Roda só com
+ * {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+@DisplayName("Benchmark de carga de login")
+class VerificadorSenhasCargaBenchmarkTest {
+
+    private static final int LOGINS_POR_SEGUNDO = Integer.getInteger("benchmark.loginsPorSegundo", 500);
+    private static final int API_POR_SEGUNDO = 200;
+    private static final long SEGUNDOS = Long.getLong("benchmark.segundos", 5L);
+
+    @Test
+    @DisplayName("Deve manter o p99 da API estável durante uma rajada de logins")
+    void deveManterP99DaApiDuranteRajada() throws Exception {
+        SenhaProperties properties = new SenhaProperties();
+        properties.getVerificacao().setThreads(Math.max(1, Runtime.getRuntime().availableProcessors() / 2));
+        PasswordEncoder encoder = new PasswordConfig().passwordEncoder(properties);
+        VerificadorSenhas verificador = new VerificadorSenhas(encoder, properties, new SimpleMeterRegistry());
+        String hash = encoder.encode("segredo123");
+
+        ExecutorService tomcat = Executors.newFixedThreadPool(200);
+        try {
+            long[] sozinha = medirApi(tomcat, null);
+
+            AtomicLong aceitos = new AtomicLong();
+            AtomicLong recusados = new AtomicLong();
+            Runnable login = () -> {
+                try {
+                    if (verificador.verificar("segredo123", hash).confere()) {
+                        aceitos.incrementAndGet();
+                    }
+                } catch (RegraDeNegocioException e) {
+                    recusados.incrementAndGet();
+                }
+            };
+            long[] comRajada = medirApi(tomcat, () -> tomcat.execute(login));
+
+            long p99Sozinha = p99(sozinha);
+            long p99ComRajada = p99(comRajada);
+            System.out.printf("BENCHMARK_LOGIN logins/s=%d aceitos=%d recusados=%d p99ApiSozinha=%.1fms p99ApiComRajada=%.1fms%n",
+                    LOGINS_POR_SEGUNDO, aceitos.get(), recusados.get(), p99Sozinha / 1e6, p99ComRajada / 1e6);
+
+            assertTrue(aceitos.get() > 0);
+            assertTrue(p99ComRajada <= Math.max(3 * p99Sozinha, p99Sozinha + TimeUnit.MILLISECONDS.toNanos(50)),
+                    "p99 da API subiu de " + p99Sozinha / 1_000_000 + " ms para " + p99ComRajada / 1_000_000 + " ms");
+        } finally {
+            tomcat.shutdownNow();
+            verificador.encerrar();
+        }
+    }
+
+    /**
+     * Dispara requisições da API (2 ms de espera, como uma consulta curta) no pool e devolve
+     * a latência de cada uma desde a chegada, incluindo a espera por thread livre.
+     */
+    private static long[] medirApi(ExecutorService tomcat, Runnable login) throws InterruptedException {
+        ScheduledExecutorService gerador = Executors.newScheduledThreadPool(2);
+        ConcurrentLinkedQueue<Long> latencias = new ConcurrentLinkedQueue<>();
+        gerador.scheduleAtFixedRate(() -> {
+            long chegada = System.nanoTime();
+            tomcat.execute(() -> {
+                try {
+                    Thread.sleep(2);
+                } catch (InterruptedException e) {
+                    return;
+                }
+                latencias.add(System.nanoTime() - chegada);
+            });
+        }, 0, 1_000_000 / API_POR_SEGUNDO, TimeUnit.MICROSECONDS);
+        if (login != null) {
+            gerador.scheduleAtFixedRate(login, 0, 1_000_000 / LOGINS_POR_SEGUNDO, TimeUnit.MICROSECONDS);
+        }
+
+        Thread.sleep(TimeUnit.SECONDS.toMillis(SEGUNDOS));
+        gerador.shutdownNow();
+        gerador.awaitTermination(1, TimeUnit.SECONDS);
+        return latencias.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    private static long p99(long[] latencias) {
+        long[] ordenadas = latencias.clone();
+        Arrays.sort(ordenadas);
+        return ordenadas[(int) Math.ceil(ordenadas.length * 0.99) - 1];
+    }
+}
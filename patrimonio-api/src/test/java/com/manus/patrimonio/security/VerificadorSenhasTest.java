@@ -0,0 +1,87 @@
+package com.manus.patrimonio.security;
+
+import com.manus.patrimonio.config.PasswordConfig;
+import com.manus.patrimonio.exception.RegraDeNegocioException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@DisplayName("Testes do VerificadorSenhas")
+class VerificadorSenhasTest {
+
+    private final List<VerificadorSenhas> verificadores = new ArrayList<>();
+
+    @AfterEach
+    void encerrar() {
+        verificadores.forEach(VerificadorSenhas::encerrar);
+    }
+
+    @Test
+    @DisplayName("Deve aceitar hash bcrypt sem prefixo e devolver o hash novo no algoritmo atual")
+    void deveRegravarHashLegado() {
+        SenhaProperties properties = properties(1, 10);
+        PasswordEncoder encoder = new PasswordConfig().passwordEncoder(properties);
+        VerificadorSenhas verificador = verificador(encoder, properties);
+        String legado = new BCryptPasswordEncoder(4).encode("segredo123");
+
+        VerificadorSenhas.Resultado resultado = verificador.verificar("segredo123", legado);
+
+        assertTrue(resultado.confere());
+        assertTrue(resultado.novoHash().startsWith("{bcrypt}$2a$10$"));
+        assertTrue(encoder.matches("segredo123", resultado.novoHash()));
+        assertNull(verificador.verificar("segredo123", resultado.novoHash()).novoHash());
+        assertFalse(verificador.verificar("outra", legado).confere());
+    }
+
+    @Test
+    @DisplayName("Deve recusar na hora quando as threads e a fila estão ocupadas")
+    void deveRecusarComFilaCheia() throws Exception {
+        CountDownLatch liberar = new CountDownLatch(1);
+        PasswordEncoder encoder = mock(PasswordEncoder.class);
+        when(encoder.matches(anyString(), anyString())).thenAnswer(invocacao -> {
+            liberar.await();
+            return true;
+        });
+        VerificadorSenhas verificador = verificador(encoder, properties(1, 1));
+
+        CompletableFuture<VerificadorSenhas.Resultado> emExecucao =
+                CompletableFuture.supplyAsync(() -> verificador.verificar("a", "hash"));
+        verify(encoder, timeout(1000)).matches("a", "hash");
+        CompletableFuture<VerificadorSenhas.Resultado> naFila =
+                CompletableFuture.supplyAsync(() -> verificador.verificar("b", "hash"));
+        Thread.sleep(200);
+
+        assertThrows(RegraDeNegocioException.class, () -> verificador.verificar("c", "hash"));
+
+        liberar.countDown();
+        assertTrue(emExecucao.get().confere());
+        assertTrue(naFila.get().confere());
+    }
+
+    private VerificadorSenhas verificador(PasswordEncoder encoder, SenhaProperties properties) {
+        VerificadorSenhas verificador = new VerificadorSenhas(encoder, properties, new SimpleMeterRegistry());
+        verificadores.add(verificador);
+        return verificador;
+    }
+
+    private static SenhaProperties properties(int threads, int fila) {
+        SenhaProperties properties = new SenhaProperties();
+        properties.getVerificacao().setThreads(threads);
+        properties.getVerificacao().setFila(fila);
+        properties.getVerificacao().setEspera(Duration.ofSeconds(5));
+        return properties;
+    }
+}
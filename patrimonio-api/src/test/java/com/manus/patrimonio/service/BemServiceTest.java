@@ -1,6 +1,8 @@
 package com.manus.patrimonio.service;
 
+import com.manus.patrimonio.cache.BemCache;
 import com.manus.patrimonio.dto.BemDTO;
+import com.manus.patrimonio.dto.PaginaCursorDTO;
 import com.manus.patrimonio.enums.CondicaoBem;
 import com.manus.patrimonio.enums.StatusBem;
 import com.manus.patrimonio.exception.RecursoNaoEncontradoException;
@@ -12,17 +14,22 @@ import com.manus.patrimonio.model.Localizacao;
 import com.manus.patrimonio.repository.BemRepository;
 import com.manus.patrimonio.repository.CategoriaRepository;
 import com.manus.patrimonio.repository.LocalizacaoRepository;
+import com.manus.patrimonio.util.BuscaProperties;
+import com.manus.patrimonio.util.CursorCodec;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -49,6 +56,12 @@ class BemServiceTest {
     @Mock
     private PatrimonioMapper patrimonioMapper;
 
+    @Mock
+    private BemCache bemCache;
+
+    @Spy
+    private BuscaProperties buscaProperties = new BuscaProperties();
+
     @InjectMocks
     private BemService bemService;
 
@@ -500,9 +513,10 @@ class BemServiceTest {
     }
 
     @Test
-    @DisplayName("Deve buscar bens por texto")
+    @DisplayName("Deve buscar bens por texto com LIKE quando o texto completo estiver desligado")
     void deveBuscarBensPorTexto() {
         // Arrange
+        buscaProperties.setTextoCompleto(false);
         Pageable pageable = PageRequest.of(0, 10);
         Page<Bem> bensPage = new PageImpl<>(List.of(bem));
         String termo = "computador";
@@ -517,4 +531,81 @@ class BemServiceTest {
         assertEquals(1, resultado.getTotalElements());
         verify(bemRepository).buscarPorTexto(termo, pageable);
     }
+
+    @Test
+    @DisplayName("Deve buscar primeira página por cursor sem contagem total")
+    void deveBuscarPrimeiraPaginaPorCursorSemContagem() {
+        // Arrange
+        when(bemRepository.buscarAposCursor("", 0L, PageRequest.of(0, 1)))
+                .thenReturn(new SliceImpl<>(List.of(bem), PageRequest.of(0, 1), true));
+        when(patrimonioMapper.bemToBemDTO(bem)).thenReturn(bemDTO);
+
+        // Act
+        PaginaCursorDTO<BemDTO> resultado = bemService.buscarTodosPorCursor(null, 1, false);
+
+        // Assert
+        assertEquals(1, resultado.getConteudo().size());
+        assertTrue(resultado.isTemProximo());
+        assertNull(resultado.getTotalElementos());
+        CursorCodec.Posicao proxima = CursorCodec.decodificar(resultado.getProximoCursor());
+        assertEquals("Computador Dell", proxima.getNome());
+        assertEquals(1L, proxima.getId());
+        verify(bemRepository, never()).count();
+    }
+
+    @Test
+    @DisplayName("Deve continuar a partir do cursor e incluir total quando solicitado")
+    void deveContinuarAPartirDoCursorComTotal() {
+        // Arrange
+        String cursor = CursorCodec.codificar("Computador Dell", 1L);
+        when(bemRepository.buscarPorStatusAposCursor(StatusBem.ATIVO, "Computador Dell", 1L, PageRequest.of(0, 20)))
+                .thenReturn(new SliceImpl<>(List.of(), PageRequest.of(0, 20), false));
+        when(bemRepository.countByStatus(StatusBem.ATIVO)).thenReturn(1L);
+
+        // Act
+        PaginaCursorDTO<BemDTO> resultado = bemService.buscarPorStatusPorCursor(StatusBem.ATIVO, cursor, 20, true);
+
+        // Assert
+        assertTrue(resultado.getConteudo().isEmpty());
+        assertFalse(resultado.isTemProximo());
+        assertNull(resultado.getProximoCursor());
+        assertEquals(1L, resultado.getTotalElementos());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar cursor inválido")
+    void deveRejeitarCursorInvalido() {
+        // Act & Assert
+        assertThrows(RegraDeNegocioException.class,
+                () -> bemService.buscarTodosPorCursor("cursor-invalido", 20, false));
+        verifyNoInteractions(bemRepository);
+    }
+
+    @Test
+    @DisplayName("Deve buscar bens por texto completo com prefixo e sem ordenação do pageable")
+    void deveBuscarBensPorTextoCompleto() {
+        // Arrange
+        Pageable pageable = PageRequest.of(0, 10, Sort.by("nome"));
+        when(bemRepository.buscarPorTextoCompleto("comp:* & dell:*", PageRequest.of(0, 10)))
+                .thenReturn(new PageImpl<>(List.of(bem)));
+        when(patrimonioMapper.bemToBemDTO(bem)).thenReturn(bemDTO);
+
+        // Act
+        Page<BemDTO> resultado = bemService.buscarPorTexto("Comp & Dell!", pageable);
+
+        // Assert
+        assertEquals(1, resultado.getTotalElements());
+        verify(bemRepository, never()).buscarPorTexto(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("Deve retornar página vazia quando o termo não tiver palavras pesquisáveis")
+    void deveRetornarVazioParaTermoSemPalavras() {
+        // Act
+        Page<BemDTO> resultado = bemService.buscarPorTexto(" &|! ", PageRequest.of(0, 10));
+
+        // Assert
+        assertTrue(resultado.isEmpty());
+        verifyNoInteractions(bemRepository);
+    }
 }
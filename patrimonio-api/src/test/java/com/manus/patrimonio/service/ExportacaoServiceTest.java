@@ -0,0 +1,157 @@
+package com.manus.patrimonio.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.manus.patrimonio.dto.AuditoriaDTO;
+import com.manus.patrimonio.dto.BemDTO;
+import com.manus.patrimonio.dto.MovimentacaoDTO;
+import com.manus.patrimonio.enums.TipoMovimentacao;
+import com.manus.patrimonio.exportacao.FormatoExportacao;
+import com.manus.patrimonio.mapper.PatrimonioMapper;
+import com.manus.patrimonio.model.Auditoria;
+import com.manus.patrimonio.model.Bem;
+import com.manus.patrimonio.model.Movimentacao;
+import com.manus.patrimonio.repository.AuditoriaRepository;
+import com.manus.patrimonio.repository.BemRepository;
+import com.manus.patrimonio.repository.MovimentacaoRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes do ExportacaoService")
+class ExportacaoServiceTest {
+
+    @Mock
+    private BemRepository bemRepository;
+
+    @Mock
+    private AuditoriaRepository auditoriaRepository;
+
+    @Mock
+    private MovimentacaoRepository movimentacaoRepository;
+
+    @Mock
+    private PatrimonioMapper patrimonioMapper;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    @InjectMocks
+    private ExportacaoService exportacaoService;
+
+    @Test
+    @DisplayName("Deve exportar bens em CSV limpando o contexto de persistência a cada lote")
+    void deveExportarBensEmCsv() throws IOException {
+        // Arrange
+        int total = ExportacaoService.TAMANHO_LOTE * 2 + 200;
+        AtomicBoolean fechado = new AtomicBoolean();
+        when(bemRepository.streamTodosParaExportacao()).thenReturn(
+                IntStream.rangeClosed(1, total).mapToObj(i -> new Bem()).onClose(() -> fechado.set(true)));
+        BemDTO dto = new BemDTO();
+        dto.setId(7L);
+        dto.setNome("Mesa \"executiva\", 2 gavetas");
+        when(patrimonioMapper.bemToBemDTO(any(Bem.class))).thenReturn(dto);
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
+
+        // Act
+        long exportados = exportacaoService.exportarBens(FormatoExportacao.CSV, saida);
+
+        // Assert
+        String[] linhas = saida.toString(StandardCharsets.UTF_8).split("\r\n");
+        assertEquals(total, exportados);
+        assertEquals(total + 1, linhas.length);
+        assertTrue(linhas[0].startsWith("id,numero_patrimonio,nome,"));
+        assertTrue(linhas[1].startsWith("7,,\"Mesa \"\"executiva\"\", 2 gavetas\","));
+        verify(entityManager, times(2)).clear();
+        assertTrue(fechado.get(), "O stream do repositório deve ser fechado");
+    }
+
+    @Test
+    @DisplayName("Deve exportar auditorias em NDJSON, um objeto por linha")
+    void deveExportarAuditoriaEmNdjson() throws IOException {
+        // Arrange
+        LocalDateTime inicio = LocalDateTime.of(2024, 1, 1, 0, 0);
+        LocalDateTime fim = LocalDateTime.of(2024, 1, 31, 23, 59);
+        when(auditoriaRepository.streamPorPeriodoParaExportacao(inicio, fim))
+                .thenReturn(Stream.of(new Auditoria(), new Auditoria(), new Auditoria()));
+        when(patrimonioMapper.auditoriaToAuditoriaDTO(any(Auditoria.class))).thenAnswer(invocacao -> {
+            AuditoriaDTO dto = new AuditoriaDTO();
+            dto.setEntidade("Bem");
+            dto.setDataAcao(inicio);
+            return dto;
+        });
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
+
+        // Act
+        long exportados = exportacaoService.exportarAuditoria(FormatoExportacao.NDJSON, inicio, fim, saida);
+
+        // Assert
+        String conteudo = saida.toString(StandardCharsets.UTF_8);
+        String[] linhas = conteudo.split("\n");
+        assertEquals(3, exportados);
+        assertEquals(3, linhas.length);
+        assertTrue(conteudo.endsWith("\n"));
+        for (String linha : linhas) {
+            JsonNode json = objectMapper.readTree(linha);
+            assertEquals("Bem", json.get("entidade").asText());
+            assertEquals("2024-01-01T00:00:00", json.get("dataAcao").asText());
+        }
+        verify(entityManager, never()).clear();
+    }
+
+    @Test
+    @DisplayName("Deve exportar movimentações em CSV com as localizações de origem e destino")
+    void deveExportarMovimentacoesEmCsv() throws IOException {
+        // Arrange
+        AtomicBoolean fechado = new AtomicBoolean();
+        when(movimentacaoRepository.streamTodasParaExportacao())
+                .thenReturn(Stream.of(new Movimentacao(), new Movimentacao()).onClose(() -> fechado.set(true)));
+        MovimentacaoDTO dto = new MovimentacaoDTO();
+        dto.setId(3L);
+        dto.setBemId(7L);
+        dto.setBemNome("Mesa");
+        dto.setDataMovimentacao(LocalDateTime.of(2024, 3, 1, 9, 30));
+        dto.setTipoMovimentacao(TipoMovimentacao.TRANSFERENCIA);
+        dto.setLocalizacaoOrigemNome("Andar 3");
+        dto.setLocalizacaoDestinoNome("Andar 7");
+        when(patrimonioMapper.movimentacaoToMovimentacaoDTO(any(Movimentacao.class))).thenReturn(dto);
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
+
+        // Act
+        long exportados = exportacaoService.exportarMovimentacoes(FormatoExportacao.CSV, saida);
+
+        // Assert
+        String[] linhas = saida.toString(StandardCharsets.UTF_8).split("\r\n");
+        assertEquals(2, exportados);
+        assertEquals(3, linhas.length);
+        assertEquals("id,bem_id,bem,data_movimentacao,tipo,origem_id,origem,destino_id,destino,responsavel,observacoes",
+                linhas[0]);
+        assertTrue(linhas[1].startsWith("3,7,Mesa,2024-03-01T09:30,TRANSFERENCIA,,Andar 3,,Andar 7,"));
+        assertTrue(fechado.get(), "O stream do repositório deve ser fechado");
+    }
+}
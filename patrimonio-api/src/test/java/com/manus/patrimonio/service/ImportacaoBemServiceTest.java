@@ -0,0 +1,174 @@
+package com.manus.patrimonio.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.manus.patrimonio.auditoria.BufferAuditoria;
+import com.manus.patrimonio.cache.BemCache;
+import com.manus.patrimonio.dto.ErroImportacaoDTO;
+import com.manus.patrimonio.dto.ResultadoImportacaoDTO;
+import com.manus.patrimonio.enums.StatusBem;
+import com.manus.patrimonio.model.Categoria;
+import com.manus.patrimonio.model.Localizacao;
+import com.manus.patrimonio.repository.BemRepository;
+import com.manus.patrimonio.repository.CategoriaRepository;
+import com.manus.patrimonio.repository.LocalizacaoRepository;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes do ImportacaoBemService")
+class ImportacaoBemServiceTest {
+
+    private static final String CABECALHO =
+            "numero_patrimonio,nome,numero_serie,status,categoria,localizacao,data_aquisicao,valor_aquisicao\n";
+
+    @Mock
+    private BemRepository bemRepository;
+
+    @Mock
+    private CategoriaRepository categoriaRepository;
+
+    @Mock
+    private LocalizacaoRepository localizacaoRepository;
+
+    @Mock
+    private BemService bemService;
+
+    @Spy
+    private Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private BemCache bemCache;
+
+    @Mock
+    private ObjectProvider<BufferAuditoria> bufferAuditoria;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+    @InjectMocks
+    private ImportacaoBemService importacaoBemService;
+
+    @BeforeEach
+    void setUp() {
+        Categoria categoria = new Categoria();
+        categoria.setId(1L);
+        categoria.setNome("Mobiliário");
+        Localizacao localizacao = new Localizacao();
+        localizacao.setId(2L);
+        localizacao.setNome("Sede");
+        when(categoriaRepository.findAll()).thenReturn(List.of(categoria));
+        when(localizacaoRepository.findAll()).thenReturn(List.of(localizacao));
+    }
+
+    @Test
+    @DisplayName("Deve importar as linhas válidas e relatar o motivo de cada linha rejeitada")
+    @SuppressWarnings("unchecked")
+    void deveImportarERelatarErrosPorLinha() throws IOException {
+        // Arrange
+        String csv = CABECALHO
+                + "PAT-1,Mesa,SN-1,ATIVO,Mobiliário,Sede,2024-01-10,\"1.500,00\"\n"
+                + "PAT-2,Cadeira,,,1,2,15/02/2024,300\n"
+                + "PAT-3,Armário,,,Eletrônicos,Sede,2024-01-10,100\n"
+                + "PAT-1,Mesa repetida,,,1,2,2024-01-10,100\n"
+                + "PAT-4,Estante,,,1,2,10-01-2024,100\n"
+                + "PAT-5,Arquivo,SN-9,,1,2,2024-01-10,100\n";
+        when(bemRepository.findIdentificadoresExistentes(anyCollection(), anyCollection()))
+                .thenReturn(List.<Object[]>of(new Object[] {"PAT-X", "SN-9"}));
+        doAnswer(invocacao -> {
+            invocacao.getArgument(0, Consumer.class).accept(mock(TransactionStatus.class));
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+        when(jdbcTemplate.queryForObject("SELECT nextval('bens_id_seq')", Long.class)).thenReturn(501L);
+
+        // Act
+        ResultadoImportacaoDTO resultado = importar(csv, false);
+
+        // Assert
+        assertEquals(6, resultado.getLinhas());
+        assertEquals(2, resultado.getImportados());
+        assertEquals(4, resultado.getRejeitados());
+        List<Long> linhasRejeitadas = resultado.getErros().stream().map(ErroImportacaoDTO::getLinha).toList();
+        assertEquals(List.of(4L, 5L, 6L, 7L), linhasRejeitadas.stream().sorted().toList());
+        assertTrue(mensagem(resultado, 4).contains("Categoria não encontrada: Eletrônicos"));
+        assertTrue(mensagem(resultado, 5).contains("repetido no arquivo"));
+        assertTrue(mensagem(resultado, 6).contains("Data inválida"));
+        assertTrue(mensagem(resultado, 7).contains("Número de série já cadastrado"));
+
+        ArgumentCaptor<List<Object[]>> parametros = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(anyString(), parametros.capture());
+        assertEquals(2, parametros.getValue().size());
+        Object[] primeira = parametros.getValue().get(0);
+        assertEquals(501L, primeira[0]);
+        assertEquals(502L, parametros.getValue().get(1)[0]);
+        assertEquals("PAT-1", primeira[1]);
+        assertEquals("ATIVO", primeira[5]);
+        assertEquals(1L, primeira[7]);
+        assertEquals(2L, primeira[8]);
+        assertEquals(0, new java.math.BigDecimal("1500.00").compareTo((java.math.BigDecimal) primeira[10]));
+        verify(bemCache).invalidarInclusao(Set.of(StatusBem.ATIVO), Set.of(1L), Set.of(2L));
+    }
+
+    @Test
+    @DisplayName("Deve consultar a unicidade e gravar uma vez por lote")
+    void deveProcessarEmLotes() throws IOException {
+        // Arrange
+        int total = ImportacaoBemService.TAMANHO_LOTE * 2 + 1;
+        String csv = CABECALHO + IntStream.rangeClosed(1, total)
+                .mapToObj(i -> "PAT-" + i + ",Bem " + i + ",SN-" + i + ",,1,2,2024-01-10,100\n")
+                .collect(Collectors.joining());
+        when(bemRepository.findIdentificadoresExistentes(anyCollection(), anyCollection())).thenReturn(List.of());
+
+        // Act
+        ResultadoImportacaoDTO resultado = importar(csv, true);
+
+        // Assert
+        assertEquals(total, resultado.getImportados());
+        assertEquals(0, resultado.getRejeitados());
+        assertTrue(resultado.isSimulacao());
+        verify(bemRepository, times(3)).findIdentificadoresExistentes(anyCollection(), anyCollection());
+        verify(categoriaRepository, times(1)).findAll();
+        verifyNoInteractions(jdbcTemplate, transactionTemplate);
+    }
+
+    private ResultadoImportacaoDTO importar(String csv, boolean simular) throws IOException {
+        return importacaoBemService.importar("bens.csv",
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), simular, "admin");
+    }
+
+    private static String mensagem(ResultadoImportacaoDTO resultado, long linha) {
+        return resultado.getErros().stream().filter(erro -> erro.getLinha() == linha)
+                .map(ErroImportacaoDTO::getMensagem).findFirst().orElse("");
+    }
+}
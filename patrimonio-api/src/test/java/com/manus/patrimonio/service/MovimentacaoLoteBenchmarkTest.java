@@ -0,0 +1,144 @@
+package com.manus.patrimonio.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.manus.patrimonio.cache.BemCache;
+import com.manus.patrimonio.config.BuscaConfig;
+import com.manus.patrimonio.dto.MovimentacaoLoteDTO;
+import com.manus.patrimonio.dto.ResultadoMovimentacaoLoteDTO;
+import com.manus.patrimonio.enums.TipoMovimentacao;
+import com.manus.patrimonio.mapper.PatrimonioMapper;
+import com.manus.patrimonio.model.Bem;
+import com.manus.patrimonio.model.Localizacao;
+import com.manus.patrimonio.model.Movimentacao;
+import com.manus.patrimonio.repository.BemRepository;
+import com.manus.patrimonio.repository.MovimentacaoRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Mede a vazão da movimentação em lote de {@code benchmark.bens} bens (padrão 20 mil)
+ * contra o caminho de um bem por vez via JPA, sobre o schema das migrações do Flyway.
+ * Roda só com {@code mvn test -Pbenchmark} e requer Docker.
+ */
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=none")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({MovimentacaoService.class, BuscaConfig.class})
+@Testcontainers(disabledWithoutDocker = true)
+@Tag("benchmark")
+@DisplayName("Benchmark da movimentação em lote")
+class MovimentacaoLoteBenchmarkTest {
+
+    private static final int BENS = Integer.getInteger("benchmark.bens", 20_000);
+
+    // O caminho item a item é lento demais para a mesma massa; a vazão é comparada por bem
+    private static final int BENS_INDIVIDUAL = Integer.getInteger("benchmark.bensIndividual", 1_000);
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void configurarBanco(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> POSTGRES.getJdbcUrl() + "&reWriteBatchedInserts=true");
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @MockBean
+    private BemCache bemCache;
+
+    @MockBean
+    private PatrimonioMapper patrimonioMapper;
+
+    @MockBean
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MovimentacaoService movimentacaoService;
+
+    @Autowired
+    private BemRepository bemRepository;
+
+    @Autowired
+    private MovimentacaoRepository movimentacaoRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("Deve mover um andar inteiro em lote")
+    void deveMoverEmLote() {
+        // Arrange
+        Long categoriaId = jdbcTemplate.queryForObject(
+                "INSERT INTO categorias (nome) VALUES ('Mobiliário') RETURNING id", Long.class);
+        Long origemId = jdbcTemplate.queryForObject(
+                "INSERT INTO localizacoes (nome) VALUES ('Andar 3') RETURNING id", Long.class);
+        Long destinoId = jdbcTemplate.queryForObject(
+                "INSERT INTO localizacoes (nome) VALUES ('Andar 7') RETURNING id", Long.class);
+        jdbcTemplate.update(
+                "INSERT INTO bens (nome, numero_tombamento, data_aquisicao, valor_aquisicao, status, condicao, " +
+                "categoria_id, localizacao_atual_id) " +
+                "SELECT 'Bem ' || g, 'TMB' || g, DATE '2020-01-01', 100, 'ATIVO', 'BOM', ?, ? " +
+                "FROM generate_series(1, ?) g", categoriaId, origemId, BENS + BENS_INDIVIDUAL);
+        List<Long> individuais = jdbcTemplate.queryForList(
+                "SELECT id FROM bens WHERE localizacao_atual_id = ? ORDER BY id DESC LIMIT ?",
+                Long.class, origemId, BENS_INDIVIDUAL);
+
+        // Caminho antigo: um bem por vez (carregar, alterar, registrar a movimentação)
+        long inicio = System.nanoTime();
+        Localizacao destino = entityManager.getReference(Localizacao.class, destinoId);
+        for (Long id : individuais) {
+            Bem bem = bemRepository.findById(id).orElseThrow();
+            Localizacao origem = bem.getLocalizacaoAtual();
+            bem.setLocalizacaoAtual(destino);
+            bemRepository.save(bem);
+            movimentacaoRepository.save(new Movimentacao(bem, LocalDateTime.now(), TipoMovimentacao.TRANSFERENCIA,
+                    origem, destino, "benchmark"));
+            entityManager.flush();
+        }
+        double segundosIndividual = (System.nanoTime() - inicio) / 1e9;
+        entityManager.clear();
+
+        MovimentacaoLoteDTO pedido = new MovimentacaoLoteDTO();
+        pedido.setLocalizacaoOrigemId(origemId);
+        pedido.setLocalizacaoDestinoId(destinoId);
+
+        // Act
+        inicio = System.nanoTime();
+        ResultadoMovimentacaoLoteDTO resultado = movimentacaoService.moverEmLote(pedido, "benchmark");
+        entityManager.flush();
+        double segundosLote = (System.nanoTime() - inicio) / 1e9;
+
+        // Assert
+        System.out.printf("BENCHMARK_MOVIMENTACAO lote: bens=%d tempo=%.2fs bens/s=%.0f | individual: bens=%d tempo=%.2fs bens/s=%.0f%n",
+                resultado.getMovimentados(), segundosLote, resultado.getMovimentados() / segundosLote,
+                individuais.size(), segundosIndividual, individuais.size() / segundosIndividual);
+
+        assertEquals(BENS, resultado.getMovimentados());
+        assertEquals(0, resultado.getRejeitados());
+        assertEquals(BENS + BENS_INDIVIDUAL, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM bens WHERE localizacao_atual_id = ?", Long.class, destinoId));
+        assertEquals(BENS + BENS_INDIVIDUAL, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM movimentacoes WHERE localizacao_destino_id = ?", Long.class, destinoId));
+    }
+}
@@ -0,0 +1,207 @@
+package com.manus.patrimonio.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.manus.patrimonio.auditoria.BufferAuditoria;
+import com.manus.patrimonio.auditoria.RegistroAuditoria;
+import com.manus.patrimonio.cache.BemCache;
+import com.manus.patrimonio.dto.ErroMovimentacaoDTO;
+import com.manus.patrimonio.dto.MovimentacaoLoteDTO;
+import com.manus.patrimonio.dto.ResultadoMovimentacaoLoteDTO;
+import com.manus.patrimonio.enums.StatusBem;
+import com.manus.patrimonio.exception.RegraDeNegocioException;
+import com.manus.patrimonio.model.Localizacao;
+import com.manus.patrimonio.repository.BemRepository;
+import com.manus.patrimonio.repository.LocalizacaoRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes da movimentação em lote do MovimentacaoService")
+class MovimentacaoServiceTest {
+
+    private static final long DESTINO = 9L;
+
+    @Mock
+    private BemRepository bemRepository;
+
+    @Mock
+    private LocalizacaoRepository localizacaoRepository;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private BemCache bemCache;
+
+    @Mock
+    private ObjectProvider<BufferAuditoria> bufferAuditoria;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+    @InjectMocks
+    private MovimentacaoService movimentacaoService;
+
+    @Test
+    @DisplayName("Deve mover os bens aptos e relatar o motivo de cada bem recusado")
+    @SuppressWarnings("unchecked")
+    void deveMoverERelatarRecusados() {
+        // Arrange
+        destino();
+        when(jdbcTemplate.queryForObject("SELECT nextval('movimentacoes_id_seq')", Long.class)).thenReturn(901L);
+        when(bemRepository.findParaMovimentacaoPorIds(anyCollection())).thenReturn(List.of(
+                bem(1L, "SN-1", StatusBem.ATIVO, true, 5L, 2L),
+                bem(2L, null, StatusBem.EM_MANUTENCAO, true, 5L, 2L),
+                bem(3L, null, StatusBem.ATIVO, true, 6L, DESTINO),
+                bem(4L, null, StatusBem.ATIVO, false, 5L, 2L),
+                bem(5L, null, StatusBem.ATIVO, true, 6L, 3L)));
+
+        // Act
+        ResultadoMovimentacaoLoteDTO resultado = movimentacaoService.moverEmLote(pedido(1L, 2L, 3L, 4L, 5L, 6L, 1L), "admin");
+
+        // Assert
+        assertEquals(6, resultado.getSolicitados());
+        assertEquals(2, resultado.getMovimentados());
+        assertEquals(4, resultado.getRejeitados());
+        assertTrue(mensagem(resultado, 2L).contains("Em Manutenção"));
+        assertTrue(mensagem(resultado, 3L).contains("já está na localização de destino"));
+        assertTrue(mensagem(resultado, 4L).contains("não pode ser movimentado"));
+        assertEquals("Bem não encontrado", mensagem(resultado, 6L));
+
+        verify(bemRepository).atualizarLocalizacao(eq(List.of(1L, 5L)), any(Localizacao.class), any());
+        ArgumentCaptor<List<Object[]>> parametros = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(anyString(), parametros.capture());
+        assertEquals(2, parametros.getValue().size());
+        Object[] primeira = parametros.getValue().get(0);
+        assertEquals(901L, primeira[0]);
+        assertEquals(902L, parametros.getValue().get(1)[0]);
+        assertEquals(1L, primeira[1]);
+        assertEquals("TRANSFERENCIA", primeira[2]);
+        assertEquals(2L, primeira[4]);
+        assertEquals(DESTINO, primeira[5]);
+        assertEquals("admin", primeira[6]);
+        verify(bemCache).invalidarEmMassa(List.of(1L, 5L), List.of("SN-1"), Set.of(StatusBem.ATIVO),
+                Set.of(5L, 6L), Set.of(2L, 3L, DESTINO));
+    }
+
+    @Test
+    @DisplayName("Deve consultar, atualizar e gravar em blocos")
+    @SuppressWarnings("unchecked")
+    void deveProcessarEmBlocos() {
+        // Arrange
+        destino();
+        when(jdbcTemplate.queryForObject("SELECT nextval('movimentacoes_id_seq')", Long.class)).thenReturn(1L);
+        int total = MovimentacaoService.TAMANHO_LOTE * 2 + 1;
+        when(bemRepository.findParaMovimentacaoPorIds(anyCollection())).thenAnswer(invocacao -> {
+            List<Object[]> linhas = new ArrayList<>();
+            for (Long id : (Collection<Long>) invocacao.getArgument(0)) {
+                linhas.add(bem(id, null, StatusBem.ATIVO, true, 5L, 2L));
+            }
+            return linhas;
+        });
+
+        // Act
+        ResultadoMovimentacaoLoteDTO resultado = movimentacaoService.moverEmLote(
+                pedido(LongStream.rangeClosed(1, total).toArray()), "admin");
+
+        // Assert
+        assertEquals(total, resultado.getMovimentados());
+        verify(bemRepository, times(3)).findParaMovimentacaoPorIds(anyCollection());
+        verify(bemRepository, times(3)).atualizarLocalizacao(anyCollection(), any(Localizacao.class), any());
+        verify(jdbcTemplate, times(3)).batchUpdate(anyString(), anyList());
+        // Um nextval por bloco de 50 movimentações
+        verify(jdbcTemplate, times(41)).queryForObject("SELECT nextval('movimentacoes_id_seq')", Long.class);
+    }
+
+    @Test
+    @DisplayName("Deve bloquear os bens em ordem crescente de ID e auditar o lote só após o commit")
+    @SuppressWarnings("unchecked")
+    void deveBloquearEmOrdemEAuditarAposCommit() {
+        // Arrange
+        destino();
+        BufferAuditoria buffer = mock(BufferAuditoria.class);
+        when(bufferAuditoria.getIfAvailable()).thenReturn(buffer);
+        when(jdbcTemplate.queryForObject("SELECT nextval('movimentacoes_id_seq')", Long.class)).thenReturn(1L);
+        int total = MovimentacaoService.TAMANHO_LOTE + 1;
+        List<List<Long>> consultados = new ArrayList<>();
+        when(bemRepository.findParaMovimentacaoPorIds(anyCollection())).thenAnswer(invocacao -> {
+            List<Long> bloco = new ArrayList<>((Collection<Long>) invocacao.getArgument(0));
+            consultados.add(bloco);
+            return bloco.stream().map(id -> bem(id, null, StatusBem.ATIVO, true, 5L, 2L)).toList();
+        });
+        long[] decrescentes = LongStream.rangeClosed(1, total).map(i -> total + 1 - i).toArray();
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // Act
+            movimentacaoService.moverEmLote(pedido(decrescentes), "admin");
+
+            // Assert
+            assertEquals(LongStream.rangeClosed(1, MovimentacaoService.TAMANHO_LOTE).boxed().toList(),
+                    consultados.get(0));
+            assertEquals(List.of((long) total), consultados.get(1));
+            verifyNoInteractions(buffer);
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            verify(buffer).registrar(any(RegistroAuditoria.class));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Deve exigir IDs ou localização de origem, mas não os dois")
+    void deveExigirUmCriterioDeSelecao() {
+        MovimentacaoLoteDTO ambos = pedido(1L);
+        ambos.setLocalizacaoOrigemId(2L);
+
+        assertThrows(RegraDeNegocioException.class, () -> movimentacaoService.moverEmLote(ambos, "admin"));
+        assertThrows(RegraDeNegocioException.class, () -> movimentacaoService.moverEmLote(pedido(), "admin"));
+        verifyNoInteractions(bemRepository, jdbcTemplate);
+    }
+
+    private void destino() {
+        Localizacao destino = new Localizacao();
+        destino.setId(DESTINO);
+        destino.setNome("Depósito");
+        when(localizacaoRepository.findById(DESTINO)).thenReturn(Optional.of(destino));
+    }
+
+    private static MovimentacaoLoteDTO pedido(long... ids) {
+        MovimentacaoLoteDTO pedido = new MovimentacaoLoteDTO();
+        pedido.setBemIds(LongStream.of(ids).boxed().toList());
+        pedido.setLocalizacaoDestinoId(DESTINO);
+        return pedido;
+    }
+
+    private static Object[] bem(Long id, String numeroSerie, StatusBem status, boolean ativo, Long categoriaId,
+                                Long localizacaoId) {
+        return new Object[] {id, numeroSerie, status, ativo, categoriaId, localizacaoId};
+    }
+
+    private static String mensagem(ResultadoMovimentacaoLoteDTO resultado, Long bemId) {
+        return resultado.getErros().stream().filter(erro -> bemId.equals(erro.getBemId()))
+                .map(ErroMovimentacaoDTO::getMensagem).findFirst().orElse("");
+    }
+}
@@ -0,0 +1,107 @@
+package com.manus.patrimonio.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.asm.ClassReader;
+import org.springframework.asm.ClassVisitor;
+import org.springframework.asm.MethodVisitor;
+import org.springframework.asm.Opcodes;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.type.filter.AnnotationTypeFilter;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Garante que os serviços não carregam resultados inteiros em memória: só métodos que
+ * devolvem {@code List} (as listagens sem paginação) podem chamar consultas de
+ * repositório que devolvem {@code List}; contagens e somas usam {@code COUNT}/{@code SUM}
+ * no banco. Métodos que recebem {@code Pageable} também não podem recortar listas com
+ * {@code subList}. A verificação é feita no bytecode dos serviços; as exceções ficam em
+ * {@link #PERMITIDOS}, cada uma com o motivo de a lista ser limitada.
+ */
+@DisplayName("Testes de paginação dos serviços")
+class PaginacaoServicosTest {
+
+    private static final String PAGEABLE = "Lorg/springframework/data/domain/Pageable;";
+    private static final String PACOTE_REPOSITORIOS = "com/manus/patrimonio/repository/";
+    private static final String LISTA = ")Ljava/util/List;";
+
+    private static final Set<String> PERMITIDOS = Set.of(
+            // GROUP BY: uma linha por status, condição, categoria ou localização
+            "BemService.buscarDashboard",
+            "CategoriaService.contarBens",
+            "LocalizacaoService.contarBens",
+            "ExportacaoService.exportarEstatisticas",
+            // Blocos de até 1000 IDs por consulta
+            "MovimentacaoService.moverEmLote",
+            // Só os usernames, para invalidar os principais em cache
+            "PerfilService.invalidarPrincipais",
+            // Solicitações órfãs ou vencidas, poucas por execução da limpeza
+            "RelatorioService.recuperarSolicitacoesOrfas",
+            "RelatorioService.removerExpirados");
+
+    @Test
+    @DisplayName("Métodos paginados, contagens e somas não devem materializar listas sem limite")
+    void metodosNaoMaterializamListas() throws IOException {
+        List<String> violacoes = new ArrayList<>();
+        for (String classe : classesDeServico()) {
+            verificar(classe, violacoes);
+        }
+
+        assertTrue(violacoes.isEmpty(), "Paginação em memória encontrada:\n" + String.join("\n", violacoes));
+    }
+
+    private static List<String> classesDeServico() {
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false);
+        scanner.addIncludeFilter(new AnnotationTypeFilter(Service.class));
+        List<String> classes = new ArrayList<>();
+        for (BeanDefinition definicao : scanner.findCandidateComponents("com.manus.patrimonio.service")) {
+            classes.add(definicao.getBeanClassName());
+        }
+        assertFalse(classes.isEmpty(), "Nenhum serviço encontrado no classpath");
+        return classes;
+    }
+
+    private static void verificar(String classe, List<String> violacoes) throws IOException {
+        String recurso = "/" + classe.replace('.', '/') + ".class";
+        try (InputStream bytecode = PaginacaoServicosTest.class.getResourceAsStream(recurso)) {
+            assertNotNull(bytecode, "Bytecode não encontrado: " + recurso);
+            new ClassReader(bytecode).accept(new ClassVisitor(Opcodes.ASM9) {
+                @Override
+                public MethodVisitor visitMethod(int acesso, String metodo, String descritor,
+                                                 String assinatura, String[] excecoes) {
+                    // Listagens devolvem a lista inteira por contrato; as expressões lambda são
+                    // conferidas pelo próprio descritor
+                    boolean paginado = descritor.contains(PAGEABLE);
+                    if (!paginado && descritor.endsWith(LISTA)) {
+                        return null;
+                    }
+                    String origem = classe.substring(classe.lastIndexOf('.') + 1) + "." + metodo;
+                    if (PERMITIDOS.contains(origem)) {
+                        return null;
+                    }
+                    return new MethodVisitor(Opcodes.ASM9) {
+                        @Override
+                        public void visitMethodInsn(int opcode, String dono, String nome,
+                                                    String descritorChamada, boolean interfaceChamada) {
+                            if (dono.startsWith(PACOTE_REPOSITORIOS) && descritorChamada.endsWith(LISTA)) {
+                                violacoes.add(origem + " chama " + dono.substring(PACOTE_REPOSITORIOS.length()) + "." + nome);
+                            }
+                            if (paginado && nome.equals("subList") && dono.startsWith("java/util/")) {
+                                violacoes.add(origem + " usa subList");
+                            }
+                        }
+                    };
+                }
+            }, ClassReader.SKIP_DEBUG | ClassReader.SKIP_FRAMES);
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package com.manus.patrimonio.service;
+
+import com.manus.patrimonio.dto.SolicitacaoRelatorioDTO;
+import com.manus.patrimonio.enums.StatusRelatorio;
+import com.manus.patrimonio.enums.TipoRelatorio;
+import com.manus.patrimonio.exception.RecursoNaoEncontradoException;
+import com.manus.patrimonio.exception.RegraDeNegocioException;
+import com.manus.patrimonio.exportacao.FormatoExportacao;
+import com.manus.patrimonio.mapper.PatrimonioMapper;
+import com.manus.patrimonio.model.SolicitacaoRelatorio;
+import com.manus.patrimonio.relatorio.ArmazenamentoRelatorios;
+import com.manus.patrimonio.relatorio.GeracaoRelatorioJob;
+import com.manus.patrimonio.relatorio.RelatorioProperties;
+import com.manus.patrimonio.repository.SolicitacaoRelatorioRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.quartz.JobDetail;
+import org.quartz.JobKey;
+import org.quartz.Scheduler;
+import org.quartz.Trigger;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes do RelatorioService")
+class RelatorioServiceTest {
+
+    @Mock
+    private SolicitacaoRelatorioRepository solicitacaoRelatorioRepository;
+
+    @Mock
+    private ExportacaoService exportacaoService;
+
+    @Mock
+    private Scheduler scheduler;
+
+    @Mock
+    private PatrimonioMapper patrimonioMapper;
+
+    @InjectMocks
+    private RelatorioService relatorioService;
+
+    @TempDir
+    Path diretorio;
+
+    @BeforeEach
+    void setUp() {
+        RelatorioProperties properties = new RelatorioProperties();
+        properties.setDiretorio(diretorio.toString());
+        ReflectionTestUtils.setField(relatorioService, "relatorioProperties", properties);
+        ReflectionTestUtils.setField(relatorioService, "armazenamentoRelatorios", new ArmazenamentoRelatorios(properties));
+    }
+
+    @Test
+    @DisplayName("Deve gravar a solicitação e agendar um job recuperável com o código")
+    void deveSolicitarEAgendarJob() throws Exception {
+        // Arrange
+        when(solicitacaoRelatorioRepository.save(any(SolicitacaoRelatorio.class))).thenAnswer(i -> i.getArgument(0));
+        when(patrimonioMapper.solicitacaoRelatorioToSolicitacaoRelatorioDTO(any())).thenReturn(new SolicitacaoRelatorioDTO());
+
+        // Act
+        relatorioService.solicitar(TipoRelatorio.BENS, FormatoExportacao.XLSX, null, null, "admin");
+
+        // Assert
+        ArgumentCaptor<SolicitacaoRelatorio> solicitacao = ArgumentCaptor.forClass(SolicitacaoRelatorio.class);
+        verify(solicitacaoRelatorioRepository).save(solicitacao.capture());
+        assertEquals(StatusRelatorio.PENDENTE, solicitacao.getValue().getStatus());
+        assertEquals("admin", solicitacao.getValue().getSolicitadoPor());
+
+        ArgumentCaptor<JobDetail> job = ArgumentCaptor.forClass(JobDetail.class);
+        verify(scheduler).scheduleJob(job.capture(), any(Trigger.class));
+        assertEquals(GeracaoRelatorioJob.class, job.getValue().getJobClass());
+        assertEquals(solicitacao.getValue().getCodigo(), job.getValue().getJobDataMap().getString(GeracaoRelatorioJob.CODIGO));
+        assertTrue(job.getValue().requestsRecovery());
+    }
+
+    @Test
+    @DisplayName("Deve exigir período no relatório de auditoria")
+    void deveExigirPeriodoNaAuditoria() throws Exception {
+        assertThrows(RegraDeNegocioException.class, () ->
+                relatorioService.solicitar(TipoRelatorio.AUDITORIA, FormatoExportacao.CSV, LocalDateTime.now(), null, "admin"));
+        verifyNoInteractions(solicitacaoRelatorioRepository, scheduler);
+    }
+
+    @Test
+    @DisplayName("Deve gerar o arquivo e marcar a solicitação como concluída")
+    void deveGerarRelatorio() throws IOException {
+        // Arrange
+        SolicitacaoRelatorio solicitacao = new SolicitacaoRelatorio("abc", TipoRelatorio.BENS, FormatoExportacao.CSV);
+        solicitacao.setSolicitadoPor("ana");
+        when(solicitacaoRelatorioRepository.findByCodigo("abc")).thenReturn(Optional.of(solicitacao));
+        when(solicitacaoRelatorioRepository.save(any(SolicitacaoRelatorio.class))).thenAnswer(i -> i.getArgument(0));
+        when(exportacaoService.exportarBens(eq(FormatoExportacao.CSV), any(OutputStream.class))).thenAnswer(i -> {
+            i.getArgument(1, OutputStream.class).write("id\r\n1\r\n".getBytes(StandardCharsets.UTF_8));
+            return 1L;
+        });
+
+        // Act
+        relatorioService.gerar("abc", "no-1");
+
+        // Assert
+        assertEquals(StatusRelatorio.CONCLUIDO, solicitacao.getStatus());
+        assertEquals(1L, solicitacao.getRegistros());
+        assertEquals(7L, solicitacao.getTamanhoBytes());
+        assertEquals("no-1", solicitacao.getNoExecucao());
+        assertEquals("abc.csv", solicitacao.getArquivo());
+        assertEquals("id\r\n1\r\n", Files.readString(diretorio.resolve("abc.csv")));
+        assertNotNull(relatorioService.abrirArquivo("abc", usuario("ana")));
+    }
+
+    @Test
+    @DisplayName("Deve registrar a falha sem deixar arquivo parcial")
+    void deveRegistrarFalha() throws IOException {
+        // Arrange
+        SolicitacaoRelatorio solicitacao = new SolicitacaoRelatorio("abc", TipoRelatorio.BAIXAS, FormatoExportacao.XLSX);
+        solicitacao.setSolicitadoPor("ana");
+        when(solicitacaoRelatorioRepository.findByCodigo("abc")).thenReturn(Optional.of(solicitacao));
+        when(solicitacaoRelatorioRepository.save(any(SolicitacaoRelatorio.class))).thenAnswer(i -> i.getArgument(0));
+        when(exportacaoService.exportarBaixas(eq(FormatoExportacao.XLSX), any(OutputStream.class)))
+                .thenThrow(new IllegalStateException("conexão encerrada"));
+
+        // Act
+        relatorioService.gerar("abc", "no-1");
+
+        // Assert
+        assertEquals(StatusRelatorio.FALHOU, solicitacao.getStatus());
+        assertEquals("conexão encerrada", solicitacao.getMensagemErro());
+        try (var arquivos = Files.list(diretorio)) {
+            assertEquals(0, arquivos.count());
+        }
+        assertThrows(RegraDeNegocioException.class, () -> relatorioService.abrirArquivo("abc", usuario("ana")));
+    }
+
+    @Test
+    @DisplayName("Deve esconder o relatório de outro usuário, exceto de administradores")
+    void deveRestringirAoSolicitante() {
+        // Arrange
+        SolicitacaoRelatorio solicitacao = new SolicitacaoRelatorio("abc", TipoRelatorio.BENS, FormatoExportacao.CSV);
+        solicitacao.setSolicitadoPor("ana");
+        when(solicitacaoRelatorioRepository.findByCodigo("abc")).thenReturn(Optional.of(solicitacao));
+        when(patrimonioMapper.solicitacaoRelatorioToSolicitacaoRelatorioDTO(solicitacao))
+                .thenReturn(new SolicitacaoRelatorioDTO());
+
+        // Act & Assert
+        assertNotNull(relatorioService.buscarPorCodigo("abc", usuario("ana")));
+        assertNotNull(relatorioService.buscarPorCodigo("abc", usuario("chefe", "ROLE_ADMIN")));
+        assertThrows(RecursoNaoEncontradoException.class,
+                () -> relatorioService.buscarPorCodigo("abc", usuario("bruno", "ROLE_USER")));
+        assertThrows(RecursoNaoEncontradoException.class, () -> relatorioService.abrirArquivo("abc", usuario("bruno")));
+    }
+
+    @Test
+    @DisplayName("Deve reagendar as pendentes e encerrar as interrompidas que perderam o job no Quartz")
+    void deveRecuperarSolicitacoesOrfas() throws Exception {
+        // Arrange
+        SolicitacaoRelatorio pendente = new SolicitacaoRelatorio("pendente", TipoRelatorio.BENS, FormatoExportacao.CSV);
+        SolicitacaoRelatorio interrompida = new SolicitacaoRelatorio("interrompida", TipoRelatorio.BENS, FormatoExportacao.CSV);
+        interrompida.setStatus(StatusRelatorio.EM_EXECUCAO);
+        SolicitacaoRelatorio agendada = new SolicitacaoRelatorio("agendada", TipoRelatorio.BENS, FormatoExportacao.CSV);
+        when(solicitacaoRelatorioRepository.findByStatusInAndDataSolicitacaoBefore(any(), any(LocalDateTime.class)))
+                .thenReturn(List.of(pendente, interrompida, agendada));
+        when(scheduler.checkExists(any(JobKey.class))).thenAnswer(i ->
+                i.getArgument(0, JobKey.class).getName().equals("agendada"));
+
+        // Act
+        relatorioService.recuperarSolicitacoesOrfas();
+
+        // Assert
+        ArgumentCaptor<JobDetail> job = ArgumentCaptor.forClass(JobDetail.class);
+        verify(scheduler).scheduleJob(job.capture(), any(Trigger.class));
+        assertEquals("pendente", job.getValue().getKey().getName());
+        assertEquals(StatusRelatorio.PENDENTE, pendente.getStatus());
+        assertEquals(StatusRelatorio.FALHOU, interrompida.getStatus());
+        assertEquals(StatusRelatorio.PENDENTE, agendada.getStatus());
+        verify(solicitacaoRelatorioRepository).save(interrompida);
+    }
+
+    private static Authentication usuario(String nome, String... perfis) {
+        return new UsernamePasswordAuthenticationToken(nome, null,
+                Arrays.stream(perfis).map(SimpleGrantedAuthority::new).toList());
+    }
+}
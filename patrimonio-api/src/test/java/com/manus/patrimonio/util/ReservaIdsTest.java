@@ -0,0 +1,29 @@
+package com.manus.patrimonio.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("Testes do ReservaIds")
+class ReservaIdsTest {
+
+    @Test
+    @DisplayName("Deve usar cada bloco de 50 IDs inteiro antes de chamar o próximo nextval")
+    void deveReservarEmBlocos() {
+        // Arrange
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        when(jdbcTemplate.queryForObject("SELECT nextval('bens_id_seq')", Long.class)).thenReturn(1L, 51L, 101L);
+
+        // Act
+        long[] ids = ReservaIds.reservar(jdbcTemplate, "bens_id_seq", 120);
+
+        // Assert
+        verify(jdbcTemplate, times(3)).queryForObject("SELECT nextval('bens_id_seq')", Long.class);
+        for (int i = 0; i < ids.length; i++) {
+            assertEquals(i + 1L, ids[i]);
+        }
+    }
+}